@@ -0,0 +1,91 @@
+package com.urbainski.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.CompiledSelect;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.ConstainsDBTypes;
+import com.urbainski.sql.db.types.OrderByDBTypes;
+
+/**
+ * Benchmark que compara a geração do sql com os valores como literais
+ * percorrendo os objetos do builder com a escrita especializada de um
+ * {@link CompiledSelect}.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledRenderBenchmark {
+
+	/**
+	 * Consulta usada no benchmark.
+	 */
+	private SelectBuilder query;
+
+	/**
+	 * Consulta compilada.
+	 */
+	private CompiledSelect compiled;
+
+	/**
+	 * Buffer reaproveitado entre as chamadas.
+	 */
+	private StringBuilder buffer;
+
+	@Setup
+	public void setup() {
+		query = new SelectBuilder(Livro.class);
+		query.fromAlias("l0");
+		query.where(ConditionBuilder.newCondition(ConditionDBTypes.AND,
+				ConditionBuilder.newCondition(Livro.class, "l0", ConditionDBTypes.EQUALS, "autor", 7),
+				ConditionBuilder.newCondition(Livro.class, "l0", ConstainsDBTypes.ANY,
+						ConditionDBTypes.LIKE, "nome", "Senhor"),
+				ConditionBuilder.newCondition(Livro.class, "l0", ConditionDBTypes.BETWEEN,
+						"anoPublicacao", 1990, 2000)));
+		query.orderBy(OrderByDBTypes.DESC).addField("anoPublicacao");
+		query.limit(20);
+
+		compiled = query.compile();
+		buffer = new StringBuilder(512);
+	}
+
+	@Benchmark
+	public String interpretedBuildSQL() {
+		return query.buildSQL();
+	}
+
+	@Benchmark
+	public String compiledRender() {
+		return compiled.render(7, "%Senhor%", 1990, 2000, 20);
+	}
+
+	@Benchmark
+	public int compiledAppendTo() {
+		buffer.setLength(0);
+		compiled.appendTo(buffer, 7, "%Senhor%", 1990, 2000, 20);
+		return buffer.length();
+	}
+
+}
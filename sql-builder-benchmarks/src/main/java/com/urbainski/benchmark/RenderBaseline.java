@@ -0,0 +1,48 @@
+package com.urbainski.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Classe que executa o {@link RenderShapesBenchmark} com o profiler de gc
+ * e grava o resultado em json, para ser guardado como linha de base e
+ * comparado antes e depois de cada alteração na geração do sql.
+ * 
+ * <p>Uso: <code>java -cp target/benchmarks.jar com.urbainski.benchmark.RenderBaseline [arquivo]</code>,
+ * por padrão o resultado é gravado em {@value #DEFAULT_RESULT}.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class RenderBaseline {
+	
+	/**
+	 * Arquivo padrão do resultado.
+	 */
+	public static final String DEFAULT_RESULT = "target/render-baseline.json";
+	
+	/**
+	 * Construtor privado, classe apenas com o método main.
+	 */
+	private RenderBaseline() {
+		
+	}
+	
+	public static void main(String[] args) throws RunnerException {
+		final Options options = new OptionsBuilder()
+			.include(RenderShapesBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.resultFormat(ResultFormatType.JSON)
+			.result(args.length > 0 ? args[0] : DEFAULT_RESULT)
+			.build();
+		
+		new Runner(options).run();
+	}
+	
+}
@@ -0,0 +1,153 @@
+package com.urbainski.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.ConstainsDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+import com.urbainski.sql.db.types.UnionDBTypes;
+import com.urbainski.sql.join.Join;
+
+/**
+ * Benchmark do {@link SelectBuilder#buildSQL()} com as formas de consulta
+ * usadas nos testes unitários: select simples, joins, subselect, group by,
+ * union e where.
+ * 
+ * <p>Mede vazão e tempo médio. Para medir a alocação por operação use o
+ * profiler de gc do JMH (<code>-prof gc</code>) ou o {@link RenderBaseline}.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderShapesBenchmark {
+
+	/**
+	 * Select simples com todos os campos, como no <code>SimpleSelectTest</code>.
+	 */
+	private SelectBuilder simple;
+	
+	/**
+	 * Select com dois joins e condição no join, como no <code>SelectJoinTest</code>.
+	 */
+	private SelectBuilder join;
+	
+	/**
+	 * Select com subselect no campo e na condição, como no <code>SubselectTest</code>.
+	 */
+	private SelectBuilder subselect;
+	
+	/**
+	 * Select com group by e order by, como no <code>SelectGroupByTest</code>.
+	 */
+	private SelectBuilder groupBy;
+	
+	/**
+	 * Select com union, como no <code>SelectUnionTest</code>.
+	 */
+	private SelectBuilder union;
+	
+	/**
+	 * Select com várias condições no where, como no <code>SelectWhereTeste</code>.
+	 */
+	private SelectBuilder where;
+	
+	@Setup
+	public void setup() {
+		simple = new SelectBuilder(Livro.class);
+		
+		join = new SelectBuilder(Livro.class);
+		join.fromAlias("l0");
+		final Join joinAutor = join.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		joinAutor.addCondition(ConditionBuilder.newCondition(
+				Autor.class, "a0", ConstainsDBTypes.IN_FINISH, ConditionDBTypes.LIKE, "nome", "Cristian"));
+		
+		final SelectBuilder nomeAutor = new SelectBuilder(Autor.class);
+		nomeAutor.select().addField("nome");
+		nomeAutor.fromAlias("a1");
+		final SelectBuilder idsAutor = new SelectBuilder(Autor.class);
+		idsAutor.select().addField("id");
+		idsAutor.where(ConstainsDBTypes.IN_FINISH, ConditionDBTypes.LIKE, "nome", "Cristian");
+		subselect = new SelectBuilder(Livro.class);
+		subselect.select().addField("nome");
+		subselect.select().addField(nomeAutor);
+		subselect.where(ConditionDBTypes.IN, "autor", idsAutor);
+		
+		groupBy = new SelectBuilder(Livro.class);
+		groupBy.addJoin(Autor.class, "autor");
+		groupBy.orderBy().addField(Autor.class, "nome");
+		groupBy.groupBy().addField(Autor.class, "nome");
+		groupBy.groupBy().addField("anoPublicacao");
+		
+		final SelectBuilder unionAutor = new SelectBuilder(Autor.class);
+		unionAutor.select().addField("id", "id");
+		unionAutor.select().addField("nome", "nome");
+		unionAutor.fromAlias("a0");
+		union = new SelectBuilder(Livro.class);
+		union.select().addField("id", "id");
+		union.select().addField("nome", "nome");
+		union.union(unionAutor, UnionDBTypes.UNION_ALL);
+		union.fromAlias("l0");
+		
+		where = new SelectBuilder(Livro.class);
+		where.where(ConditionBuilder.newCondition(ConditionDBTypes.AND,
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, "nome", "Senhor dos Aneis"),
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.IN, "id", Arrays.asList(3, 4, 5)),
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.BETWEEN, "anoPublicacao", 1990, 2000),
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.DIFFERENT, "autor", 0)));
+	}
+	
+	@Benchmark
+	public String simple() {
+		return simple.buildSQL();
+	}
+	
+	@Benchmark
+	public String join() {
+		return join.buildSQL();
+	}
+	
+	@Benchmark
+	public String subselect() {
+		return subselect.buildSQL();
+	}
+	
+	@Benchmark
+	public String groupBy() {
+		return groupBy.buildSQL();
+	}
+	
+	@Benchmark
+	public String union() {
+		return union.buildSQL();
+	}
+	
+	@Benchmark
+	public String where() {
+		return where.buildSQL();
+	}
+	
+}
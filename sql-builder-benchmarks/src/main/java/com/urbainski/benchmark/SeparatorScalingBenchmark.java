@@ -0,0 +1,107 @@
+package com.urbainski.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+
+/**
+ * Benchmark que mede como a geração do sql escala com a quantidade de
+ * elementos separados por vírgula ou operador: valores do <code>in</code>,
+ * campos do select e condições de um <code>or</code>.
+ * 
+ * <p>Com os separadores gerados em tempo linear o tempo por elemento deve
+ * ficar constante de 10 até 100.000 elementos.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeparatorScalingBenchmark {
+
+	/**
+	 * Quantidade de elementos da lista.
+	 */
+	@Param({ "10", "100", "1000", "10000", "100000" })
+	public int size;
+	
+	/**
+	 * Consulta com <code>in</code> de {@link #size} valores.
+	 */
+	private SelectBuilder inList;
+	
+	/**
+	 * Consulta com {@link #size} campos no select.
+	 */
+	private SelectBuilder projection;
+	
+	/**
+	 * Consulta com {@link #size} condições em um <code>or</code>.
+	 */
+	private SelectBuilder orConditions;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		final List<Integer> ids = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			ids.add(i);
+		}
+		inList = new SelectBuilder(Livro.class);
+		inList.where(ConditionDBTypes.IN, "id", ids);
+		
+		projection = new SelectBuilder(Livro.class);
+		for (int i = 0; i < size; i++) {
+			projection.select().addField("nome", "nome" + i);
+		}
+		
+		final Condition[] conditions = new Condition[size];
+		for (int i = 0; i < size; i++) {
+			conditions[i] = ConditionBuilder.newCondition(
+					Livro.class, ConditionDBTypes.EQUALS, "id", i);
+		}
+		orConditions = new SelectBuilder(Livro.class);
+		orConditions.select().addField("id");
+		orConditions.where(ConditionBuilder.newCondition(ConditionDBTypes.OR, conditions));
+	}
+	
+	@Benchmark
+	public String inList() {
+		return inList.buildSQL();
+	}
+	
+	@Benchmark
+	public String projection() {
+		return projection.buildSQL();
+	}
+	
+	@Benchmark
+	public String orConditions() {
+		return orConditions.buildSQL();
+	}
+	
+}
@@ -0,0 +1,55 @@
+package com.urbainski.entidade;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Entidade autor usada nos benchmarks.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@Entity
+@Table(name = "autor")
+public class Autor implements Serializable {
+
+	/**
+	 * SerialVersion.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Identificador do autor.
+	 */
+	@Id
+	private Integer id;
+	
+	/**
+	 * Nome do autor.
+	 */
+	@Column(name = "ds_nome")
+	private String nome;
+	
+	public Integer getId() {
+		return id;
+	}
+	
+	public void setId(Integer id) {
+		this.id = id;
+	}
+	
+	public String getNome() {
+		return nome;
+	}
+	
+	public void setNome(String nome) {
+		this.nome = nome;
+	}
+	
+}
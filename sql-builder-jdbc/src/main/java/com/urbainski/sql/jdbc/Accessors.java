@@ -0,0 +1,301 @@
+package com.urbainski.sql.jdbc;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Classe que cria os acessos aos construtores e setters dos dtos usados pelos
+ * conversores gerados do {@link DtoRowMapperFactory}.
+ *
+ * <p>Os acessos são gerados pelo {@link LambdaMetafactory}, ficando com o mesmo custo
+ * de uma chamada direta ao método depois de compilados pela jvm. Os setters de
+ * <code>int</code>, <code>long</code> e <code>double</code> recebem o valor primitivo,
+ * sem criar o wrapper. Quando a classe do dto não é visível pelo class loader desta
+ * biblioteca, o acesso é feito por {@link MethodHandle}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+final class Accessors {
+
+	/**
+	 * Lookup usado na geração dos acessos.
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * Construtor privado, classe apenas com métodos estáticos.
+	 */
+	private Accessors() {
+	}
+
+	/**
+	 * Método que cria o acesso ao construtor sem parametros do dto.
+	 *
+	 * @param constructor - construtor sem parametros
+	 *
+	 * @return {@link Supplier} que cria uma nova instância
+	 */
+	@SuppressWarnings("unchecked")
+	static Supplier<Object> constructor(Constructor<?> constructor) {
+		final MethodHandle handle = unreflect(constructor);
+		final Class<?> type = constructor.getDeclaringClass();
+		if (isVisible(type)) {
+			return (Supplier<Object>) metafactory(Supplier.class, "get", MethodType.methodType(Object.class),
+					handle, MethodType.methodType(type));
+		}
+
+		final MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+		return new Supplier<Object>() {
+
+			@Override
+			public Object get() {
+				try {
+					return generic.invokeExact();
+				} catch (Throwable e) {
+					throw rethrow(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Método que cria o acesso a um setter de <code>int</code>.
+	 *
+	 * @param setter - setter com um parametro <code>int</code>
+	 *
+	 * @return {@link ObjIntConsumer} que chama o setter
+	 */
+	@SuppressWarnings("unchecked")
+	static ObjIntConsumer<Object> intSetter(Method setter) {
+		final MethodHandle handle = unreflect(setter);
+		if (isVisible(setter.getDeclaringClass())) {
+			return (ObjIntConsumer<Object>) metafactory(ObjIntConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, int.class), handle,
+					MethodType.methodType(void.class, setter.getDeclaringClass(), int.class));
+		}
+
+		final MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, int.class));
+		return new ObjIntConsumer<Object>() {
+
+			@Override
+			public void accept(Object target, int value) {
+				try {
+					generic.invokeExact(target, value);
+				} catch (Throwable e) {
+					throw rethrow(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Método que cria o acesso a um setter de <code>long</code>.
+	 *
+	 * @param setter - setter com um parametro <code>long</code>
+	 *
+	 * @return {@link ObjLongConsumer} que chama o setter
+	 */
+	@SuppressWarnings("unchecked")
+	static ObjLongConsumer<Object> longSetter(Method setter) {
+		final MethodHandle handle = unreflect(setter);
+		if (isVisible(setter.getDeclaringClass())) {
+			return (ObjLongConsumer<Object>) metafactory(ObjLongConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, long.class), handle,
+					MethodType.methodType(void.class, setter.getDeclaringClass(), long.class));
+		}
+
+		final MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, long.class));
+		return new ObjLongConsumer<Object>() {
+
+			@Override
+			public void accept(Object target, long value) {
+				try {
+					generic.invokeExact(target, value);
+				} catch (Throwable e) {
+					throw rethrow(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Método que cria o acesso a um setter de <code>double</code>.
+	 *
+	 * @param setter - setter com um parametro <code>double</code>
+	 *
+	 * @return {@link ObjDoubleConsumer} que chama o setter
+	 */
+	@SuppressWarnings("unchecked")
+	static ObjDoubleConsumer<Object> doubleSetter(Method setter) {
+		final MethodHandle handle = unreflect(setter);
+		if (isVisible(setter.getDeclaringClass())) {
+			return (ObjDoubleConsumer<Object>) metafactory(ObjDoubleConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, double.class), handle,
+					MethodType.methodType(void.class, setter.getDeclaringClass(), double.class));
+		}
+
+		final MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, double.class));
+		return new ObjDoubleConsumer<Object>() {
+
+			@Override
+			public void accept(Object target, double value) {
+				try {
+					generic.invokeExact(target, value);
+				} catch (Throwable e) {
+					throw rethrow(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Método que cria o acesso a um setter de qualquer tipo. Os parametros primitivos
+	 * recebem o valor do wrapper.
+	 *
+	 * @param setter - setter com um parametro
+	 *
+	 * @return {@link BiConsumer} que chama o setter
+	 */
+	@SuppressWarnings("unchecked")
+	static BiConsumer<Object, Object> setter(Method setter) {
+		final MethodHandle handle = unreflect(setter);
+		final Class<?> parameter = ValueConverter.wrap(setter.getParameterTypes()[0]);
+		if (isVisible(setter.getDeclaringClass()) && isVisible(parameter)) {
+			return (BiConsumer<Object, Object>) metafactory(BiConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, Object.class), handle,
+					MethodType.methodType(void.class, setter.getDeclaringClass(), parameter));
+		}
+
+		final MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		return new BiConsumer<Object, Object>() {
+
+			@Override
+			public void accept(Object target, Object value) {
+				try {
+					generic.invokeExact(target, value);
+				} catch (Throwable e) {
+					throw rethrow(e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Método que cria o acesso a um construtor com parametros, recebendo os valores em um array.
+	 *
+	 * @param constructor - construtor
+	 *
+	 * @return {@link MethodHandle} do tipo <code>(Object[])Object</code>
+	 */
+	static MethodHandle spreadConstructor(Constructor<?> constructor) {
+		final int count = constructor.getParameterTypes().length;
+		return unreflect(constructor)
+				.asType(MethodType.genericMethodType(count))
+				.asSpreader(Object[].class, count);
+	}
+
+	/**
+	 * Método que converte um erro lançado por um acesso em erro não verificado.
+	 *
+	 * @param e - erro lançado
+	 *
+	 * @return erro não verificado a ser lançado
+	 */
+	static RuntimeException rethrow(Throwable e) {
+		if (e instanceof RuntimeException) {
+			return (RuntimeException) e;
+		} else if (e instanceof Error) {
+			throw (Error) e;
+		}
+		return new IllegalStateException("Erro ao chamar o acesso do dto", e);
+	}
+
+	/**
+	 * Método que gera a implementação da interface funcional que chama o método.
+	 *
+	 * @param functionalInterface - interface funcional
+	 * @param name - nome do método da interface
+	 * @param samType - assinatura do método da interface
+	 * @param handle - método chamado
+	 * @param instantiatedType - assinatura do método da interface com os tipos do dto
+	 *
+	 * @return implementação da interface
+	 */
+	private static Object metafactory(Class<?> functionalInterface, String name, MethodType samType,
+			MethodHandle handle, MethodType instantiatedType) {
+		try {
+			final CallSite site = LambdaMetafactory.metafactory(LOOKUP, name,
+					MethodType.methodType(functionalInterface), samType, handle, instantiatedType);
+			return site.getTarget().invoke();
+		} catch (LambdaConversionException e) {
+			throw new IllegalStateException("Erro ao gerar o acesso: " + handle, e);
+		} catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	/**
+	 * Método que retorna o {@link MethodHandle} de um método.
+	 *
+	 * @param method - método público
+	 *
+	 * @return {@link MethodHandle}
+	 */
+	private static MethodHandle unreflect(Method method) {
+		try {
+			return LOOKUP.unreflect(method);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Método não acessível: " + method, e);
+		}
+	}
+
+	/**
+	 * Método que retorna o {@link MethodHandle} de um construtor.
+	 *
+	 * @param constructor - construtor público
+	 *
+	 * @return {@link MethodHandle}
+	 */
+	private static MethodHandle unreflect(Constructor<?> constructor) {
+		try {
+			return LOOKUP.unreflectConstructor(constructor);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Construtor não acessível: " + constructor, e);
+		}
+	}
+
+	/**
+	 * Método que verifica se a classe pode ser usada pelas classes geradas, que são
+	 * carregadas pelo class loader desta biblioteca.
+	 *
+	 * @param type - classe
+	 *
+	 * @return <code>true</code> se a classe for visível caso contrário <code>false</code>
+	 */
+	private static boolean isVisible(Class<?> type) {
+		if (type.isPrimitive()) {
+			return true;
+		}
+
+		try {
+			return Class.forName(type.getName(), false, Accessors.class.getClassLoader()) == type;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.urbainski.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Classe que converte cada linha do resultado em um array com o valor de todas
+ * as colunas, no mesmo formato do <code>getResultList()</code> das consultas
+ * nativas da jpa.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class ArrayRowMapper implements RowMapper<Object[]> {
+
+	/**
+	 * Instância única, a classe não possui estado.
+	 */
+	public static final ArrayRowMapper INSTANCE = new ArrayRowMapper();
+
+	/**
+	 * Construtor privado, use {@link #INSTANCE}.
+	 */
+	private ArrayRowMapper() {
+	}
+
+	@Override
+	public Object[] mapRow(ResultSet rs, int rowNum) throws SQLException {
+		final Object[] row = new Object[rs.getMetaData().getColumnCount()];
+		for (int i = 0; i < row.length; i++) {
+			row[i] = rs.getObject(i + 1);
+		}
+		return row;
+	}
+
+}
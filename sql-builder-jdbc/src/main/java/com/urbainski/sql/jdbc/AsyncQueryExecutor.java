@@ -0,0 +1,454 @@
+package com.urbainski.sql.jdbc;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.SQL;
+
+/**
+ * Classe que executa as consultas do {@link QueryExecutor} em outras threads,
+ * retornando um {@link CompletableFuture} com o resultado de cada consulta.
+ *
+ * <p>Consultas independentes, como as consultas de um painel, podem ser executadas
+ * ao mesmo tempo, cada uma com a sua conexão, e o tempo de resposta passa a ser o
+ * da consulta mais lenta e não a soma de todas:</p>
+ *
+ * <pre>
+ * CompletableFuture&lt;List&lt;DtoMidia&gt;&gt; midias = async.query(porTipo, midiaMapper);
+ * CompletableFuture&lt;List&lt;DtoLocacaoCliente&gt;&gt; clientes = async.query(topClientes, clienteMapper, 2, TimeUnit.SECONDS);
+ * CompletableFuture.allOf(midias, clientes).join();
+ * </pre>
+ *
+ * <p>O sql de cada consulta é gerado na thread que chama o método, pois o
+ * {@link com.urbainski.sql.builder.SelectBuilder} não pode ser compartilhado entre
+ * threads; a consulta pode ser alterada logo depois da chamada.</p>
+ *
+ * <p>Cancelar o future, ou o tempo limite da consulta terminar, cancela a
+ * {@link QuerySession} da consulta: o cancelamento é pedido ao banco de dados e a
+ * conversão das linhas é interrompida. Uma consulta cancelada antes de começar não
+ * chega a abrir a conexão.</p>
+ *
+ * <p>Sem um {@link Executor} informado as consultas usam uma thread virtual cada,
+ * quando a jvm possui threads virtuais, ou um pool de threads criado sob demanda.
+ * O número de consultas ao mesmo tempo fica limitado pelas conexões do
+ * {@link javax.sql.DataSource}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class AsyncQueryExecutor implements Closeable {
+
+	/**
+	 * Agenda dos tempos limites das consultas, compartilhada por todos os executores.
+	 */
+	private static final ScheduledThreadPoolExecutor TIMEOUTS = newTimeoutScheduler();
+
+	/**
+	 * Executor das consultas.
+	 */
+	private final QueryExecutor queryExecutor;
+
+	/**
+	 * Executor das threads das consultas.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Indica se o executor das threads foi criado por esta classe e deve ser finalizado no {@link #close()}.
+	 */
+	private final boolean ownsExecutor;
+
+	/**
+	 * Construtor com o executor padrão das threads, finalizado no {@link #close()}.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 *
+	 * @see #newDefaultExecutor()
+	 */
+	public AsyncQueryExecutor(QueryExecutor queryExecutor) {
+		this(queryExecutor, newDefaultExecutor(), true);
+	}
+
+	/**
+	 * Construtor padrão. O executor das threads informado não é finalizado no {@link #close()}.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param executor - executor das threads das consultas
+	 */
+	public AsyncQueryExecutor(QueryExecutor queryExecutor, Executor executor) {
+		this(queryExecutor, executor, false);
+	}
+
+	/**
+	 * Construtor interno.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param executor - executor das threads das consultas
+	 * @param ownsExecutor - se o executor das threads deve ser finalizado no {@link #close()}
+	 */
+	private AsyncQueryExecutor(QueryExecutor queryExecutor, Executor executor, boolean ownsExecutor) {
+		if (queryExecutor == null || executor == null) {
+			throw new IllegalArgumentException("Executor das consultas e das threads devem ser informados");
+		}
+
+		this.queryExecutor = queryExecutor;
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	public QueryExecutor getQueryExecutor() {
+		return queryExecutor;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Método que cria o executor padrão das threads: uma thread virtual por consulta
+	 * quando a jvm possui threads virtuais, caso contrário um pool de threads daemon
+	 * criadas sob demanda.
+	 *
+	 * @return {@link ExecutorService}
+	 */
+	public static ExecutorService newDefaultExecutor() {
+		try {
+			final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			// jvm sem threads virtuais
+		} catch (UnsupportedOperationException e) {
+			// threads virtuais em preview não habilitado
+		}
+		return Executors.newCachedThreadPool(new DaemonThreadFactory("sql-builder-async-"));
+	}
+
+	/**
+	 * Método que executa a consulta em outra thread e converte todas as linhas do resultado.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return {@link CompletableFuture} com os objetos das linhas, na ordem do resultado
+	 */
+	public <T> CompletableFuture<List<T>> query(SQL sql, RowMapper<T> mapper) {
+		return query(sql, mapper, 0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Método que executa a consulta em outra thread e converte todas as linhas do resultado,
+	 * cancelando a consulta se ela não terminar no tempo limite.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 * @param timeout - tempo limite da consulta, zero para não limitar
+	 * @param unit - unidade do tempo limite
+	 *
+	 * @return {@link CompletableFuture} com os objetos das linhas, na ordem do resultado,
+	 * 		ou finalizado com {@link TimeoutException} quando o tempo limite terminar
+	 */
+	public <T> CompletableFuture<List<T>> query(SQL sql, RowMapper<T> mapper, long timeout, TimeUnit unit) {
+		return query(queryExecutor.getTemplates().buildBoundSQL(sql), mapper, timeout, unit);
+	}
+
+	/**
+	 * Método que executa o sql com parametros em outra thread e converte todas as linhas do resultado.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return {@link CompletableFuture} com os objetos das linhas, na ordem do resultado
+	 */
+	public <T> CompletableFuture<List<T>> query(BoundSql boundSql, RowMapper<T> mapper) {
+		return query(boundSql, mapper, 0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Método que executa o sql com parametros em outra thread e converte todas as linhas
+	 * do resultado, cancelando a consulta se ela não terminar no tempo limite.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 * @param timeout - tempo limite da consulta, zero para não limitar
+	 * @param unit - unidade do tempo limite
+	 *
+	 * @return {@link CompletableFuture} com os objetos das linhas, na ordem do resultado,
+	 * 		ou finalizado com {@link TimeoutException} quando o tempo limite terminar
+	 */
+	public <T> CompletableFuture<List<T>> query(final BoundSql boundSql, final RowMapper<T> mapper,
+			long timeout, TimeUnit unit) {
+		return submit(new SessionCall<List<T>>() {
+
+			@Override
+			public List<T> call(QuerySession session) {
+				return session.query(boundSql, mapper);
+			}
+		}, timeout, unit);
+	}
+
+	/**
+	 * Método que executa a consulta em outra thread e converte apenas a primeira linha do resultado.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor da linha
+	 *
+	 * @return {@link CompletableFuture} com o objeto da primeira linha ou <code>null</code>
+	 * 		se o resultado for vazio
+	 */
+	public <T> CompletableFuture<T> queryForObject(SQL sql, RowMapper<T> mapper) {
+		return queryForObject(sql, mapper, 0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Método que executa a consulta em outra thread e converte apenas a primeira linha do
+	 * resultado, cancelando a consulta se ela não terminar no tempo limite.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor da linha
+	 * @param timeout - tempo limite da consulta, zero para não limitar
+	 * @param unit - unidade do tempo limite
+	 *
+	 * @return {@link CompletableFuture} com o objeto da primeira linha ou <code>null</code>
+	 * 		se o resultado for vazio
+	 */
+	public <T> CompletableFuture<T> queryForObject(SQL sql, RowMapper<T> mapper, long timeout, TimeUnit unit) {
+		return queryForObject(queryExecutor.getTemplates().buildBoundSQL(sql), mapper, timeout, unit);
+	}
+
+	/**
+	 * Método que executa o sql com parametros em outra thread e converte apenas a primeira
+	 * linha do resultado, cancelando a consulta se ela não terminar no tempo limite.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor da linha
+	 * @param timeout - tempo limite da consulta, zero para não limitar
+	 * @param unit - unidade do tempo limite
+	 *
+	 * @return {@link CompletableFuture} com o objeto da primeira linha ou <code>null</code>
+	 * 		se o resultado for vazio
+	 */
+	public <T> CompletableFuture<T> queryForObject(final BoundSql boundSql, final RowMapper<T> mapper,
+			long timeout, TimeUnit unit) {
+		return submit(new SessionCall<T>() {
+
+			@Override
+			public T call(QuerySession session) {
+				return session.queryForObject(boundSql, mapper);
+			}
+		}, timeout, unit);
+	}
+
+	/**
+	 * Método que finaliza o executor das threads quando ele foi criado por esta classe.
+	 * As consultas em execução terminam normalmente.
+	 */
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			((ExecutorService) executor).shutdown();
+		}
+	}
+
+	/**
+	 * Método que agenda a execução da consulta e o seu tempo limite.
+	 *
+	 * @param call - consulta executada na sessão
+	 * @param timeout - tempo limite da consulta, zero para não limitar
+	 * @param unit - unidade do tempo limite
+	 *
+	 * @return {@link CompletableFuture} do resultado
+	 */
+	private <R> CompletableFuture<R> submit(SessionCall<R> call, final long timeout, final TimeUnit unit) {
+		if (timeout < 0) {
+			throw new IllegalArgumentException("Tempo limite não pode ser negativo");
+		}
+
+		final CompletableFuture<R> future = new CompletableFuture<R>();
+		final QueryTask<R> task = new QueryTask<R>(queryExecutor, call, future);
+
+		final ScheduledFuture<?> timer;
+		if (timeout > 0) {
+			timer = TIMEOUTS.schedule(new Runnable() {
+
+				@Override
+				public void run() {
+					future.completeExceptionally(new TimeoutException("Consulta excedeu o tempo limite de "
+							+ timeout + " " + unit.name().toLowerCase()));
+				}
+			}, timeout, unit);
+		} else {
+			timer = null;
+		}
+
+		future.whenComplete(new BiConsumer<R, Throwable>() {
+
+			@Override
+			public void accept(R result, Throwable error) {
+				if (timer != null) {
+					timer.cancel(false);
+				}
+				if (error instanceof TimeoutException || error instanceof CancellationException) {
+					task.cancel();
+				}
+			}
+		});
+
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * Método que cria a agenda dos tempos limites, com uma thread daemon.
+	 *
+	 * @return {@link ScheduledThreadPoolExecutor}
+	 */
+	private static ScheduledThreadPoolExecutor newTimeoutScheduler() {
+		final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+				new DaemonThreadFactory("sql-builder-timeout-"));
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	/**
+	 * Consulta executada na sessão aberta pela tarefa.
+	 *
+	 * @param <R> - tipo do resultado
+	 */
+	private interface SessionCall<R> {
+
+		/**
+		 * Método que executa a consulta.
+		 *
+		 * @param session - sessão da consulta
+		 *
+		 * @return resultado da consulta
+		 */
+		R call(QuerySession session);
+
+	}
+
+	/**
+	 * Tarefa que abre a sessão, executa a consulta e finaliza o future.
+	 *
+	 * @param <R> - tipo do resultado
+	 */
+	private static final class QueryTask<R> implements Runnable {
+
+		/**
+		 * Executor das consultas.
+		 */
+		private final QueryExecutor queryExecutor;
+
+		/**
+		 * Consulta executada na sessão.
+		 */
+		private final SessionCall<R> call;
+
+		/**
+		 * Future do resultado.
+		 */
+		private final CompletableFuture<R> future;
+
+		/**
+		 * Sessão aberta pela tarefa, enquanto a consulta estiver em execução.
+		 */
+		private volatile QuerySession session;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param queryExecutor - executor das consultas
+		 * @param call - consulta executada na sessão
+		 * @param future - future do resultado
+		 */
+		private QueryTask(QueryExecutor queryExecutor, SessionCall<R> call, CompletableFuture<R> future) {
+			this.queryExecutor = queryExecutor;
+			this.call = call;
+			this.future = future;
+		}
+
+		@Override
+		public void run() {
+			if (future.isDone()) {
+				return;
+			}
+
+			try (QuerySession opened = queryExecutor.openSession()) {
+				session = opened;
+				if (!future.isDone()) {
+					future.complete(call.call(opened));
+				}
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			} finally {
+				session = null;
+			}
+		}
+
+		/**
+		 * Método que cancela a sessão da consulta, se ela estiver em execução.
+		 */
+		private void cancel() {
+			final QuerySession current = session;
+			if (current != null) {
+				current.cancel();
+			}
+		}
+
+	}
+
+	/**
+	 * Criação das threads daemon, para que as threads não impeçam a finalização da jvm.
+	 */
+	private static final class DaemonThreadFactory implements ThreadFactory {
+
+		/**
+		 * Prefixo do nome das threads.
+		 */
+		private final String prefix;
+
+		/**
+		 * Contador das threads criadas.
+		 */
+		private final AtomicInteger count = new AtomicInteger();
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param prefix - prefixo do nome das threads
+		 */
+		private DaemonThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
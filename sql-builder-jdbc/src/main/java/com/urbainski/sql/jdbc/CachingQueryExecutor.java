@@ -0,0 +1,124 @@
+package com.urbainski.sql.jdbc;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.QueryDependencies;
+import com.urbainski.sql.builder.SelectBuilder;
+
+/**
+ * Classe que executa as consultas pelo {@link QueryExecutor} guardando os resultados
+ * em um {@link QueryResultCache}, para as consultas de dados que mudam pouco, como
+ * as listas de cadastros auxiliares.
+ *
+ * <p>As escritas nas tabelas lidas pelas consultas devem invalidar o cache, pelo
+ * {@link #invalidate(Class...)} com as entidades alteradas, o que descarta apenas
+ * os resultados das consultas que leem as tabelas dessas entidades:</p>
+ *
+ * <pre>
+ * List&lt;DtoMidia&gt; list = cachingExecutor.query(sqlBuilder, mapper);
+ * ...
+ * entityManager.persist(midia);
+ * cachingExecutor.invalidate(Midia.class);
+ * </pre>
+ *
+ * <p>O executor pode ser compartilhado entre threads.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class CachingQueryExecutor {
+
+	/**
+	 * Executor das consultas.
+	 */
+	private final QueryExecutor queryExecutor;
+
+	/**
+	 * Cache dos resultados.
+	 */
+	private final QueryResultCache cache;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param cache - cache dos resultados
+	 */
+	public CachingQueryExecutor(QueryExecutor queryExecutor, QueryResultCache cache) {
+		this.queryExecutor = queryExecutor;
+		this.cache = cache;
+	}
+
+	public QueryExecutor getQueryExecutor() {
+		return queryExecutor;
+	}
+
+	public QueryResultCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Método que retorna o resultado guardado da consulta ou executa a consulta e
+	 * guarda o resultado.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem do resultado, em uma lista que não pode ser alterada
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> query(SelectBuilder sqlBuilder, RowMapper<T> mapper) {
+		final BoundSql boundSql = queryExecutor.getTemplates().buildBoundSQL(sqlBuilder);
+
+		final List<T> cached = (List<T>) cache.get(boundSql, mapper, false);
+		if (cached != null) {
+			return cached;
+		}
+
+		final long invalidations = cache.getInvalidations();
+		final List<T> rows = queryExecutor.query(boundSql, mapper);
+		return cache.put(boundSql, mapper, false, QueryDependencies.of(sqlBuilder), rows, invalidations);
+	}
+
+	/**
+	 * Método que retorna a primeira linha guardada da consulta ou executa a consulta e
+	 * guarda a primeira linha.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor da linha
+	 *
+	 * @return objeto da primeira linha ou <code>null</code> se o resultado for vazio
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T queryForObject(SelectBuilder sqlBuilder, RowMapper<T> mapper) {
+		final BoundSql boundSql = queryExecutor.getTemplates().buildBoundSQL(sqlBuilder);
+
+		List<T> rows = (List<T>) cache.get(boundSql, mapper, true);
+		if (rows == null) {
+			final long invalidations = cache.getInvalidations();
+			final T row = queryExecutor.queryForObject(boundSql, mapper);
+			rows = cache.put(boundSql, mapper, true, QueryDependencies.of(sqlBuilder),
+					row == null ? Collections.<T>emptyList() : Collections.singletonList(row), invalidations);
+		}
+		return rows.isEmpty() ? null : rows.get(0);
+	}
+
+	/**
+	 * Método que invalida as tabelas das entidades alteradas, descartando os resultados
+	 * das consultas que leem alguma delas.
+	 *
+	 * @param entityClasses - classes das entidades alteradas
+	 *
+	 * @see QueryResultCache#invalidate(Class)
+	 */
+	public void invalidate(Class<?>... entityClasses) {
+		for (Class<?> entityClass : entityClasses) {
+			cache.invalidate(entityClass);
+		}
+	}
+
+}
@@ -0,0 +1,186 @@
+package com.urbainski.sql.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Leitura tipada de uma coluna do resultado, escolhida uma única vez pelo tipo
+ * java da propriedade que recebe o valor.
+ *
+ * <p>Cada leitor usa o método específico do {@link ResultSet} para o tipo, como
+ * <code>getInt</code> e <code>getString</code>, deixando a conversão do tipo sql
+ * para o driver. Os tipos sem método específico são lidos por <code>getObject</code>
+ * e convertidos pelo {@link ValueConverter}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+enum ColumnReader {
+
+	/**
+	 * Leitura de <code>int</code> e {@link Integer}.
+	 */
+	INT {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			final int value = rs.getInt(index);
+			return rs.wasNull() ? null : Integer.valueOf(value);
+		}
+	},
+
+	/**
+	 * Leitura de <code>long</code> e {@link Long}.
+	 */
+	LONG {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			final long value = rs.getLong(index);
+			return rs.wasNull() ? null : Long.valueOf(value);
+		}
+	},
+
+	/**
+	 * Leitura de <code>double</code> e {@link Double}.
+	 */
+	DOUBLE {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			final double value = rs.getDouble(index);
+			return rs.wasNull() ? null : Double.valueOf(value);
+		}
+	},
+
+	/**
+	 * Leitura de <code>float</code> e {@link Float}.
+	 */
+	FLOAT {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			final float value = rs.getFloat(index);
+			return rs.wasNull() ? null : Float.valueOf(value);
+		}
+	},
+
+	/**
+	 * Leitura de <code>short</code> e {@link Short}.
+	 */
+	SHORT {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			final short value = rs.getShort(index);
+			return rs.wasNull() ? null : Short.valueOf(value);
+		}
+	},
+
+	/**
+	 * Leitura de <code>boolean</code> e {@link Boolean}.
+	 */
+	BOOLEAN {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			final boolean value = rs.getBoolean(index);
+			return rs.wasNull() ? null : Boolean.valueOf(value);
+		}
+	},
+
+	/**
+	 * Leitura de {@link String}.
+	 */
+	STRING {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			return rs.getString(index);
+		}
+	},
+
+	/**
+	 * Leitura de {@link BigDecimal}.
+	 */
+	BIG_DECIMAL {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			return rs.getBigDecimal(index);
+		}
+	},
+
+	/**
+	 * Leitura de {@link java.util.Date} e {@link Timestamp}.
+	 */
+	TIMESTAMP {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			return rs.getTimestamp(index);
+		}
+	},
+
+	/**
+	 * Leitura de {@link java.sql.Date}.
+	 */
+	DATE {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			return rs.getDate(index);
+		}
+	},
+
+	/**
+	 * Leitura dos outros tipos, convertidos pelo {@link ValueConverter}.
+	 */
+	OBJECT {
+		@Override
+		Object read(ResultSet rs, int index, Class<?> type) throws SQLException {
+			return ValueConverter.convert(rs.getObject(index), type);
+		}
+	};
+
+	/**
+	 * Método que le o valor da coluna na linha atual.
+	 *
+	 * @param rs - resultado posicionado na linha
+	 * @param index - posição da coluna, começando em um
+	 * @param type - tipo java da propriedade
+	 *
+	 * @return valor da coluna ou <code>null</code> se a coluna for nula
+	 *
+	 * @throws SQLException erro na leitura da coluna
+	 */
+	abstract Object read(ResultSet rs, int index, Class<?> type) throws SQLException;
+
+	/**
+	 * Método que escolhe a leitura pelo tipo java da propriedade.
+	 *
+	 * @param type - tipo java da propriedade
+	 *
+	 * @return {@link ColumnReader}
+	 */
+	static ColumnReader of(Class<?> type) {
+		final Class<?> wrapped = ValueConverter.wrap(type);
+		if (Integer.class.equals(wrapped)) {
+			return INT;
+		} else if (Long.class.equals(wrapped)) {
+			return LONG;
+		} else if (Double.class.equals(wrapped)) {
+			return DOUBLE;
+		} else if (Float.class.equals(wrapped)) {
+			return FLOAT;
+		} else if (Short.class.equals(wrapped)) {
+			return SHORT;
+		} else if (Boolean.class.equals(wrapped)) {
+			return BOOLEAN;
+		} else if (String.class.equals(wrapped)) {
+			return STRING;
+		} else if (BigDecimal.class.equals(wrapped)) {
+			return BIG_DECIMAL;
+		} else if (java.sql.Date.class.equals(wrapped)) {
+			return DATE;
+		} else if (Timestamp.class.equals(wrapped) || java.util.Date.class.equals(wrapped)) {
+			return TIMESTAMP;
+		}
+		return OBJECT;
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.urbainski.sql.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Conversor gerado que cria o dto pelo construtor, informando cada coluna no
+ * parametro relacionado a ela.
+ *
+ * <p>A leitura de cada parametro é escolhida na criação do conversor. Parametros
+ * primitivos recebem o valor padrão do tipo quando a coluna é nula.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ * @param <T> - classe do dto
+ */
+final class ConstructorRowMapper<T> implements RowMapper<T> {
+
+	/**
+	 * Construtor do dto, do tipo <code>(Object[])Object</code>.
+	 */
+	private final MethodHandle constructor;
+
+	/**
+	 * Posição da coluna de cada parametro, começando em um.
+	 */
+	private final int[] columns;
+
+	/**
+	 * Tipo de cada parametro.
+	 */
+	private final Class<?>[] types;
+
+	/**
+	 * Leitura de cada parametro.
+	 */
+	private final ColumnReader[] readers;
+
+	/**
+	 * Valor usado quando a coluna de cada parametro é nula.
+	 */
+	private final Object[] defaults;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param constructor - construtor do dto
+	 * @param columns - posição da coluna de cada parametro, começando em um
+	 */
+	ConstructorRowMapper(Constructor<T> constructor, int[] columns) {
+		this.constructor = Accessors.spreadConstructor(constructor);
+		this.columns = columns;
+		this.types = constructor.getParameterTypes();
+		this.readers = new ColumnReader[types.length];
+		this.defaults = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			readers[i] = ColumnReader.of(types[i]);
+			if (types[i].isPrimitive()) {
+				defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		final Object[] args = new Object[types.length];
+		for (int i = 0; i < args.length; i++) {
+			final Object value = readers[i].read(rs, columns[i], types[i]);
+			args[i] = value == null ? defaults[i] : value;
+		}
+
+		try {
+			return (T) constructor.invokeExact(args);
+		} catch (Throwable e) {
+			throw Accessors.rethrow(e);
+		}
+	}
+
+}
@@ -0,0 +1,346 @@
+package com.urbainski.sql.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.field.impl.SimpleField;
+import com.urbainski.sql.reflection.ColumnDescriptor;
+import com.urbainski.sql.reflection.EntityMetadata;
+
+/**
+ * Fábrica dos conversores de linhas em dtos, relacionando o nome de cada coluna
+ * do select com uma propriedade do dto.
+ *
+ * <p>O nome de cada coluna é o alias do {@link Field} ou, sem alias, o nome da
+ * propriedade da entidade lido do {@link EntityMetadata}. Quando o dto possui construtor público sem parametros
+ * e um setter para cada coluna, as colunas são informadas pelos setters; caso
+ * contrário é usado o construtor público com um parametro para cada coluna,
+ * relacionados pelo nome quando a classe foi compilada com <code>-parameters</code>
+ * ou pela ordem do select. Como a ordem dos construtores lida por reflection não é
+ * definida, o dto com mais de um construtor que possa receber as colunas é rejeitado.</p>
+ *
+ * <p>O relacionamento é feito uma única vez e o conversor gerado, que lê cada
+ * coluna pelo método tipado do {@link java.sql.ResultSet}, fica guardado para a
+ * classe do dto e os nomes das colunas, sendo reaproveitado por todas as consultas
+ * com a mesma projeção. A fábrica pode ser compartilhada entre threads.</p>
+ *
+ * <pre>
+ * SelectBuilder sqlBuilder = new SelectBuilder(Midia.class);
+ * sqlBuilder.select().addField("idMidia", "quantidade", AggregateDBTypes.COUNT);
+ * ...
+ * executor.query(sqlBuilder, factory.forSelect(DtoMidia.class, sqlBuilder));
+ * </pre>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class DtoRowMapperFactory {
+
+	/**
+	 * Conversores gerados de cada dto e nomes das colunas.
+	 */
+	private final ConcurrentMap<MapperKey, RowMapper<?>> mappers = new ConcurrentHashMap<MapperKey, RowMapper<?>>();
+
+	/**
+	 * Método que retorna o conversor das linhas da consulta no dto.
+	 *
+	 * @param dtoClass - classe do dto
+	 * @param query - consulta com os campos do select
+	 *
+	 * @return {@link RowMapper}
+	 */
+	public <T> RowMapper<T> forSelect(Class<T> dtoClass, SelectBuilder query) {
+		final List<Field> fields = query.select().getFields();
+		if (fields == null || fields.isEmpty()) {
+			throw new IllegalArgumentException("Consulta sem campos no select, use o EntityRowMapper para as "
+					+ "consultas com todas as colunas da entidade");
+		}
+
+		final List<String> columns = new ArrayList<String>(fields.size());
+		for (final Field field : fields) {
+			columns.add(columnName(field));
+		}
+		return forColumns(dtoClass, columns);
+	}
+
+	/**
+	 * Método que retorna o conversor das linhas com as colunas informadas, na ordem do resultado.
+	 *
+	 * @param dtoClass - classe do dto
+	 * @param columns - nome das colunas, na ordem do resultado
+	 *
+	 * @return {@link RowMapper}
+	 */
+	public <T> RowMapper<T> forColumns(Class<T> dtoClass, String... columns) {
+		return forColumns(dtoClass, Arrays.asList(columns));
+	}
+
+	/**
+	 * Método que retorna o conversor das linhas com as colunas informadas, na ordem do resultado.
+	 *
+	 * @param dtoClass - classe do dto
+	 * @param columns - nome das colunas, na ordem do resultado
+	 *
+	 * @return {@link RowMapper}
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> RowMapper<T> forColumns(Class<T> dtoClass, List<String> columns) {
+		final MapperKey key = new MapperKey(dtoClass, columns);
+
+		RowMapper<?> mapper = mappers.get(key);
+		if (mapper == null) {
+			mapper = newMapper(dtoClass, key.columns);
+			final RowMapper<?> existing = mappers.putIfAbsent(key, mapper);
+			if (existing != null) {
+				mapper = existing;
+			}
+		}
+		return (RowMapper<T>) mapper;
+	}
+
+	/**
+	 * Método que retorna a quantidade de conversores gerados.
+	 *
+	 * @return quantidade de conversores
+	 */
+	public int size() {
+		return mappers.size();
+	}
+
+	/**
+	 * Método que gera o conversor, usando os setters ou o construtor do dto.
+	 *
+	 * @param dtoClass - classe do dto
+	 * @param columns - nome das colunas, na ordem do resultado
+	 *
+	 * @return {@link RowMapper}
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> RowMapper<T> newMapper(Class<T> dtoClass, List<String> columns) {
+		if (!Modifier.isPublic(dtoClass.getModifiers())) {
+			throw new IllegalArgumentException("Classe do dto deve ser pública: " + dtoClass.getName());
+		}
+
+		final Constructor<T> noArgs = findNoArgsConstructor(dtoClass);
+		if (noArgs != null) {
+			final Method[] setters = findSetters(dtoClass, columns);
+			if (setters != null) {
+				return new SetterRowMapper<T>(noArgs, setters);
+			}
+		}
+
+		Constructor<?> found = null;
+		int[] foundPositions = null;
+		for (final Constructor<?> constructor : dtoClass.getConstructors()) {
+			if (constructor.getParameterTypes().length != columns.size()) {
+				continue;
+			}
+
+			final int[] positions = relateParameters(constructor, columns);
+			if (positions == null) {
+				continue;
+			} else if (found != null) {
+				throw new IllegalArgumentException("Classe do dto: " + dtoClass.getName()
+						+ " possui mais de um construtor para as colunas: " + columns
+						+ ", use setters ou apenas um construtor com " + columns.size() + " parametros");
+			}
+			found = constructor;
+			foundPositions = positions;
+		}
+
+		if (found == null) {
+			throw new IllegalArgumentException("Classe do dto: " + dtoClass.getName()
+					+ " não possui setters nem construtor para as colunas: " + columns);
+		}
+		return new ConstructorRowMapper<T>((Constructor<T>) found, foundPositions);
+	}
+
+	/**
+	 * Método que retorna o construtor público sem parametros do dto.
+	 *
+	 * @param dtoClass - classe do dto
+	 *
+	 * @return construtor ou <code>null</code> se não existir
+	 */
+	private static <T> Constructor<T> findNoArgsConstructor(Class<T> dtoClass) {
+		try {
+			return dtoClass.getConstructor();
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Método que retorna o setter de cada coluna, comparando o nome sem diferenciar maiúsculas.
+	 *
+	 * @param dtoClass - classe do dto
+	 * @param columns - nome das colunas, na ordem do resultado
+	 *
+	 * @return setter de cada coluna ou <code>null</code> se alguma coluna não possuir setter
+	 */
+	private static Method[] findSetters(Class<?> dtoClass, List<String> columns) {
+		final Map<String, Method> setters = new HashMap<String, Method>();
+		for (final Method method : dtoClass.getMethods()) {
+			if (method.getName().startsWith("set") && method.getName().length() > 3
+					&& method.getParameterTypes().length == 1 && !Modifier.isStatic(method.getModifiers())) {
+				setters.put(method.getName().substring(3).toUpperCase(Locale.ROOT), method);
+			}
+		}
+
+		final Method[] result = new Method[columns.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = setters.get(columns.get(i).toUpperCase(Locale.ROOT));
+			if (result[i] == null) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Método que relaciona cada parametro do construtor com uma coluna, pelo nome
+	 * do parametro quando disponível ou pela ordem.
+	 *
+	 * @param constructor - construtor com um parametro para cada coluna
+	 * @param columns - nome das colunas, na ordem do resultado
+	 *
+	 * @return posição da coluna de cada parametro, começando em um, ou <code>null</code>
+	 * 		se algum parametro não possuir coluna
+	 */
+	private static int[] relateParameters(Constructor<?> constructor, List<String> columns) {
+		final Parameter[] parameters = constructor.getParameters();
+		final int[] positions = new int[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			if (!parameters[i].isNamePresent()) {
+				positions[i] = i + 1;
+				continue;
+			}
+
+			positions[i] = indexOfIgnoreCase(columns, parameters[i].getName()) + 1;
+			if (positions[i] == 0) {
+				return null;
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Método que retorna a posição do nome na lista sem diferenciar maiúsculas.
+	 *
+	 * @param names - lista de nomes
+	 * @param name - nome procurado
+	 *
+	 * @return posição do nome ou <code>-1</code> se não existir
+	 */
+	private static int indexOfIgnoreCase(List<String> names, String name) {
+		for (int i = 0; i < names.size(); i++) {
+			if (names.get(i).equalsIgnoreCase(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Método que retorna o nome da coluna de um campo do select.
+	 *
+	 * @param field - campo do select
+	 *
+	 * @return alias do campo ou o nome da propriedade
+	 */
+	private static String columnName(Field field) {
+		if (field.getAlias() != null && !field.getAlias().isEmpty()) {
+			return field.getAlias();
+		} else if (field instanceof SimpleField) {
+			return propertyName((SimpleField) field);
+		}
+		throw new IllegalArgumentException("Campo do select sem alias: " + field.buildSQL());
+	}
+
+	/**
+	 * Método que retorna o nome da propriedade da entidade de um campo sem alias,
+	 * que guarda apenas o nome da coluna.
+	 *
+	 * @param field - campo do select
+	 *
+	 * @return nome da propriedade ou o nome da coluna se a propriedade não for encontrada
+	 */
+	private static String propertyName(SimpleField field) {
+		if (field.getEntityClass() != null) {
+			for (final ColumnDescriptor descriptor : EntityMetadata.of(field.getEntityClass()).getColumns().values()) {
+				if (descriptor.getColumnName().equals(field.getFieldName())) {
+					return descriptor.getPropertyName();
+				}
+			}
+		}
+		return field.getFieldName();
+	}
+
+	/**
+	 * Chave do conversor gerado: classe do dto e nomes das colunas.
+	 */
+	private static final class MapperKey {
+
+		/**
+		 * Classe do dto.
+		 */
+		private final Class<?> dtoClass;
+
+		/**
+		 * Nome das colunas, na ordem do resultado.
+		 */
+		private final List<String> columns;
+
+		/**
+		 * Hash calculado na criação.
+		 */
+		private final int hash;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param dtoClass - classe do dto
+		 * @param columns - nome das colunas, na ordem do resultado
+		 */
+		private MapperKey(Class<?> dtoClass, List<String> columns) {
+			this.dtoClass = dtoClass;
+			this.columns = Collections.unmodifiableList(new ArrayList<String>(columns));
+			this.hash = 31 * dtoClass.hashCode() + this.columns.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MapperKey)) {
+				return false;
+			}
+
+			final MapperKey other = (MapperKey) obj;
+			return dtoClass.equals(other.dtoClass) && columns.equals(other.columns);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+	}
+
+}
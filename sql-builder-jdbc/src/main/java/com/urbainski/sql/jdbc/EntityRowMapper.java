@@ -0,0 +1,213 @@
+package com.urbainski.sql.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.urbainski.sql.reflection.ColumnDescriptor;
+import com.urbainski.sql.reflection.EntityMetadata;
+
+/**
+ * Classe que converte cada linha do resultado em uma instância da classe de entidade,
+ * informando as propriedades cujo nome da coluna, lido do {@link EntityMetadata},
+ * é igual ao nome da coluna do resultado.
+ *
+ * <p>As colunas do resultado são relacionadas com as propriedades apenas uma vez
+ * por {@link ResultSet}. Quando o mesmo nome de coluna aparece mais de uma vez,
+ * como nos joins, apenas a primeira é usada. As propriedades com join não são
+ * informadas.</p>
+ *
+ * <p>A classe pode ser compartilhada entre threads. Conversores da mesma classe
+ * de entidade são iguais, podendo ser usados na chave do {@link QueryResultCache}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ * @param <T> - classe de entidade
+ */
+public class EntityRowMapper<T> implements RowMapper<T> {
+
+	/**
+	 * Construtor sem parametros da entidade.
+	 */
+	private final Constructor<T> constructor;
+
+	/**
+	 * Atributo da entidade de cada nome de coluna, em maiúsculo.
+	 */
+	private final Map<String, Field> fields;
+
+	/**
+	 * Relação das colunas do último resultado lido.
+	 */
+	private volatile Plan plan;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param entityClass - classe de entidade
+	 */
+	public EntityRowMapper(Class<T> entityClass) {
+		try {
+			this.constructor = entityClass.getDeclaredConstructor();
+			this.constructor.setAccessible(true);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Classe de entidade: " + entityClass
+					+ " não possui construtor sem parametros", e);
+		}
+
+		this.fields = new HashMap<String, Field>();
+		for (final ColumnDescriptor descriptor : EntityMetadata.of(entityClass).getColumns().values()) {
+			if (descriptor.isJoin()) {
+				continue;
+			}
+
+			final Field field = findField(descriptor);
+			field.setAccessible(true);
+			fields.put(descriptor.getColumnName().toUpperCase(Locale.ROOT), field);
+		}
+	}
+
+	@Override
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		Plan current = plan;
+		if (current == null || current.resultSet != rs) {
+			current = new Plan(rs, relate(rs.getMetaData()));
+			plan = current;
+		}
+
+		final T entity = newInstance();
+		final Field[] columns = current.columns;
+		for (int i = 0; i < columns.length; i++) {
+			final Field field = columns[i];
+			if (field == null) {
+				continue;
+			}
+
+			final Object value = ValueConverter.convert(rs.getObject(i + 1), field.getType());
+			if (value != null || !field.getType().isPrimitive()) {
+				set(field, entity, value);
+			}
+		}
+		return entity;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof EntityRowMapper)) {
+			return false;
+		}
+
+		return constructor.getDeclaringClass().equals(((EntityRowMapper<?>) obj).constructor.getDeclaringClass());
+	}
+
+	@Override
+	public int hashCode() {
+		return constructor.getDeclaringClass().hashCode();
+	}
+
+	/**
+	 * Método que relaciona cada coluna do resultado com o atributo da entidade.
+	 *
+	 * @param metaData - metadados do resultado
+	 *
+	 * @return atributo de cada coluna, <code>null</code> nas colunas sem atributo
+	 *
+	 * @throws SQLException erro ao ler os metadados
+	 */
+	private Field[] relate(ResultSetMetaData metaData) throws SQLException {
+		final Field[] columns = new Field[metaData.getColumnCount()];
+		final Set<Field> used = new HashSet<Field>();
+		for (int i = 0; i < columns.length; i++) {
+			final Field field = fields.get(metaData.getColumnLabel(i + 1).toUpperCase(Locale.ROOT));
+			if (field != null && used.add(field)) {
+				columns[i] = field;
+			}
+		}
+		return columns;
+	}
+
+	/**
+	 * Método que cria uma nova instância da entidade.
+	 *
+	 * @return entidade
+	 */
+	private T newInstance() {
+		try {
+			return constructor.newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Erro ao criar a entidade: " + constructor.getDeclaringClass(), e);
+		}
+	}
+
+	/**
+	 * Método que informa o valor de um atributo da entidade.
+	 *
+	 * @param field - atributo
+	 * @param entity - entidade
+	 * @param value - valor
+	 */
+	private static void set(Field field, Object entity, Object value) {
+		try {
+			field.set(entity, value);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Erro ao informar o valor do atributo: " + field, e);
+		}
+	}
+
+	/**
+	 * Método que retorna o atributo da classe que declara a propriedade.
+	 *
+	 * @param descriptor - descrição da coluna
+	 *
+	 * @return {@link Field}
+	 */
+	private static Field findField(ColumnDescriptor descriptor) {
+		try {
+			return descriptor.getDeclaringClass().getDeclaredField(descriptor.getPropertyName());
+		} catch (NoSuchFieldException e) {
+			throw new IllegalStateException("Classe de entidade: " + descriptor.getDeclaringClass()
+					+ " não contem o campo: " + descriptor.getPropertyName(), e);
+		}
+	}
+
+	/**
+	 * Relação das colunas de um resultado com os atributos da entidade.
+	 */
+	private static final class Plan {
+
+		/**
+		 * Resultado lido.
+		 */
+		private final ResultSet resultSet;
+
+		/**
+		 * Atributo de cada coluna do resultado.
+		 */
+		private final Field[] columns;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param resultSet - resultado lido
+		 * @param columns - atributo de cada coluna do resultado
+		 */
+		private Plan(ResultSet resultSet, Field[] columns) {
+			this.resultSet = resultSet;
+			this.columns = columns;
+		}
+
+	}
+
+}
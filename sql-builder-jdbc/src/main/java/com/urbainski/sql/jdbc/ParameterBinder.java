@@ -0,0 +1,141 @@
+package com.urbainski.sql.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.List;
+
+import com.urbainski.sql.builder.BoundParameter;
+
+/**
+ * Classe que informa os valores dos parametros de um {@link PreparedStatement}.
+ *
+ * <p>Os tipos mais comuns são informados pelos métodos específicos do statement,
+ * evitando a descoberta do tipo feita pelo driver no <code>setObject</code>. Valores
+ * nulos usam o tipo java registrado no parametro para escolher o tipo sql.</p>
+ *
+ * <p>Os enums das condições chegam convertidos pela anotação
+ * {@link javax.persistence.Enumerated} da propriedade, como a posição ou o nome da
+ * constante. Os enums informados sem uma propriedade são gravados pelo nome.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+final class ParameterBinder {
+
+	/**
+	 * Construtor privado, classe apenas com métodos estáticos.
+	 */
+	private ParameterBinder() {
+	}
+
+	/**
+	 * Método que informa os valores dos parametros no statement.
+	 *
+	 * @param statement - statement preparado
+	 * @param parameters - parametros na ordem do sql
+	 *
+	 * @throws SQLException erro ao informar os valores
+	 */
+	static void bind(PreparedStatement statement, List<BoundParameter> parameters) throws SQLException {
+		for (int i = 0; i < parameters.size(); i++) {
+			final BoundParameter parameter = parameters.get(i);
+			bind(statement, i + 1, parameter.getValue(), parameter.getType());
+		}
+	}
+
+	/**
+	 * Método que informa o valor de um parametro no statement.
+	 *
+	 * @param statement - statement preparado
+	 * @param index - posição do parametro, começando em um
+	 * @param value - valor do parametro
+	 * @param type - tipo java registrado para o parametro
+	 *
+	 * @throws SQLException erro ao informar o valor
+	 */
+	static void bind(PreparedStatement statement, int index, Object value, Class<?> type) throws SQLException {
+		if (value == null) {
+			statement.setNull(index, sqlTypeOf(statement, index, type));
+		} else if (value instanceof String) {
+			statement.setString(index, (String) value);
+		} else if (value instanceof Integer) {
+			statement.setInt(index, ((Integer) value).intValue());
+		} else if (value instanceof Long) {
+			statement.setLong(index, ((Long) value).longValue());
+		} else if (value instanceof BigDecimal) {
+			statement.setBigDecimal(index, (BigDecimal) value);
+		} else if (value instanceof Boolean) {
+			statement.setBoolean(index, ((Boolean) value).booleanValue());
+		} else if (value instanceof java.sql.Date) {
+			statement.setDate(index, (java.sql.Date) value);
+		} else if (value instanceof java.sql.Time) {
+			statement.setTime(index, (java.sql.Time) value);
+		} else if (value instanceof Timestamp) {
+			statement.setTimestamp(index, (Timestamp) value);
+		} else if (value instanceof java.util.Date) {
+			statement.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+		} else if (value instanceof Calendar) {
+			statement.setTimestamp(index, new Timestamp(((Calendar) value).getTimeInMillis()));
+		} else if (value instanceof Enum) {
+			statement.setString(index, ((Enum<?>) value).name());
+		} else if (value instanceof Character) {
+			statement.setString(index, value.toString());
+		} else if (value instanceof BigInteger) {
+			statement.setBigDecimal(index, new BigDecimal((BigInteger) value));
+		} else {
+			statement.setObject(index, value);
+		}
+	}
+
+	/**
+	 * Método que retorna o tipo sql de um parametro nulo pelo tipo java registrado.
+	 * Quando o tipo java não é conhecido, o tipo é lido dos metadados do statement.
+	 *
+	 * @param statement - statement preparado
+	 * @param index - posição do parametro, começando em um
+	 * @param type - tipo java registrado para o parametro
+	 *
+	 * @return tipo sql de {@link Types}
+	 *
+	 * @throws SQLException erro ao ler os metadados do statement
+	 */
+	private static int sqlTypeOf(PreparedStatement statement, int index, Class<?> type) throws SQLException {
+		if (type == null) {
+			return statement.getParameterMetaData().getParameterType(index);
+		} else if (String.class.equals(type) || Character.class.equals(type) || type.isEnum()) {
+			return Types.VARCHAR;
+		} else if (Integer.class.equals(type) || int.class.equals(type)) {
+			return Types.INTEGER;
+		} else if (Long.class.equals(type) || long.class.equals(type) || BigInteger.class.equals(type)) {
+			return Types.BIGINT;
+		} else if (Short.class.equals(type) || short.class.equals(type)
+				|| Byte.class.equals(type) || byte.class.equals(type)) {
+			return Types.SMALLINT;
+		} else if (Double.class.equals(type) || double.class.equals(type)) {
+			return Types.DOUBLE;
+		} else if (Float.class.equals(type) || float.class.equals(type)) {
+			return Types.REAL;
+		} else if (BigDecimal.class.equals(type)) {
+			return Types.DECIMAL;
+		} else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+			return Types.BOOLEAN;
+		} else if (java.sql.Date.class.equals(type)) {
+			return Types.DATE;
+		} else if (java.sql.Time.class.equals(type)) {
+			return Types.TIME;
+		} else if (java.util.Date.class.isAssignableFrom(type) || Calendar.class.isAssignableFrom(type)) {
+			return Types.TIMESTAMP;
+		} else if (byte[].class.equals(type)) {
+			return Types.VARBINARY;
+		}
+		return statement.getParameterMetaData().getParameterType(index);
+	}
+
+}
@@ -0,0 +1,612 @@
+package com.urbainski.sql.jdbc;
+
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.persistence.Id;
+
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.field.impl.AggregateField;
+import com.urbainski.sql.join.Join;
+import com.urbainski.sql.reflection.ColumnDescriptor;
+import com.urbainski.sql.reflection.EntityMetadata;
+
+/**
+ * Classe que lê uma tabela grande em paralelo, dividindo a consulta em faixas de uma
+ * chave numérica inteira, como o {@link Id} da entidade, executadas ao mesmo tempo em
+ * conexões diferentes.
+ *
+ * <p>As faixas são calculadas pelo menor e pelo maior valor da chave, lidos por uma
+ * consulta de <code>min</code> e <code>max</code> com o mesmo from, joins e where, ou
+ * pelos valores de divisão informados. Cada faixa é uma cópia da consulta com a
+ * condição <code>between</code> da faixa adicionada ao where. As linhas incluídas
+ * depois da leitura do menor e do maior valor podem não ser lidas.</p>
+ *
+ * <p>No máximo <code>parallelism</code> faixas são lidas ou aguardam a leitura do
+ * stream ao mesmo tempo, limitando as linhas em memória. No stream ordenado as
+ * faixas são lidas em ordem e cada faixa é ordenada pela chave, o order by da
+ * consulta é ignorado. No stream sem ordem cada faixa é entregue assim que
+ * termina.</p>
+ *
+ * <pre>
+ * try (PartitionedScan scan = new PartitionedScan(executor, 4);
+ *         Stream&lt;Locacao&gt; locacoes = scan.stream(new SelectBuilder(Locacao.class), null, 16, mapper, false)) {
+ *     locacoes.forEach(exportador::exporta);
+ * }
+ * </pre>
+ *
+ * <p>A consulta não pode possuir union, group by, distinct, agregações, offset, limit ou
+ * paginação por chave, e a chave deve ser de um tipo inteiro.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class PartitionedScan implements Closeable {
+
+	/**
+	 * Executor das consultas de cada faixa.
+	 */
+	private final AsyncQueryExecutor asyncExecutor;
+
+	/**
+	 * Quantidade máxima de faixas lidas ao mesmo tempo.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Pool criado por esta classe e finalizado no {@link #close()}, <code>null</code> se informado.
+	 */
+	private final ForkJoinPool ownedPool;
+
+	/**
+	 * Construtor que cria um {@link ForkJoinPool} com a quantidade de threads informada,
+	 * finalizado no {@link #close()}.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param parallelism - quantidade máxima de faixas lidas ao mesmo tempo
+	 */
+	public PartitionedScan(QueryExecutor queryExecutor, int parallelism) {
+		this(queryExecutor, newPool(parallelism), parallelism, true);
+	}
+
+	/**
+	 * Construtor padrão. O executor das threads informado não é finalizado no {@link #close()}.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param executor - executor das threads das consultas
+	 * @param parallelism - quantidade máxima de faixas lidas ao mesmo tempo
+	 */
+	public PartitionedScan(QueryExecutor queryExecutor, Executor executor, int parallelism) {
+		this(queryExecutor, executor, parallelism, false);
+	}
+
+	/**
+	 * Construtor interno.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param executor - executor das threads das consultas
+	 * @param parallelism - quantidade máxima de faixas lidas ao mesmo tempo
+	 * @param ownsPool - se o executor é o pool criado por esta classe
+	 */
+	private PartitionedScan(QueryExecutor queryExecutor, Executor executor, int parallelism, boolean ownsPool) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Quantidade de faixas lidas ao mesmo tempo deve ser maior que zero");
+		}
+
+		this.asyncExecutor = new AsyncQueryExecutor(queryExecutor, executor);
+		this.parallelism = parallelism;
+		this.ownedPool = ownsPool ? (ForkJoinPool) executor : null;
+	}
+
+	public QueryExecutor getQueryExecutor() {
+		return asyncExecutor.getQueryExecutor();
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Método que divide a consulta em faixas de tamanho igual entre o menor e o maior
+	 * valor da chave, lidos do banco de dados.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param keyProperty - propriedade da chave ou <code>null</code> para usar o {@link Id}
+	 * @param partitions - quantidade de faixas
+	 * @param ordered - se cada faixa deve ser ordenada pela chave
+	 *
+	 * @return consulta de cada faixa, em ordem crescente da chave, vazio se a consulta não possuir linhas
+	 */
+	public List<SelectBuilder> split(SelectBuilder sqlBuilder, String keyProperty, int partitions, boolean ordered) {
+		if (partitions <= 0) {
+			throw new IllegalArgumentException("Quantidade de faixas deve ser maior que zero");
+		}
+
+		validate(sqlBuilder);
+		final String key = findKeyProperty(sqlBuilder.getEntityClass(), keyProperty);
+
+		final SelectBuilder bounds = newBuilder(sqlBuilder);
+		bounds.select().addField(key, "min_key", AggregateDBTypes.MIN);
+		bounds.select().addField(key, "max_key", AggregateDBTypes.MAX);
+		bounds.where(sqlBuilder.getWhere());
+
+		final Object[] minMax = getQueryExecutor().queryForObject(bounds, ArrayRowMapper.INSTANCE);
+		if (minMax == null || minMax[0] == null) {
+			return Collections.emptyList();
+		}
+
+		final long min = ((Number) minMax[0]).longValue();
+		final long max = ((Number) minMax[1]).longValue();
+		final BigInteger span = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+		final int count = span.compareTo(BigInteger.valueOf(partitions)) < 0 ? span.intValue() : partitions;
+
+		final List<SelectBuilder> result = new ArrayList<SelectBuilder>(count);
+		long lower = min;
+		for (int i = 1; i <= count; i++) {
+			final long upper = i == count ? max : span.multiply(BigInteger.valueOf(i))
+					.divide(BigInteger.valueOf(count)).longValue() + min - 1;
+			result.add(newPartition(sqlBuilder, key, newBetween(sqlBuilder, key, lower, upper), ordered));
+			lower = upper + 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Método que divide a consulta nas faixas entre os valores de divisão informados: a
+	 * primeira faixa possui as chaves menores que o primeiro valor, a última as chaves
+	 * maiores ou iguais ao último valor.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param keyProperty - propriedade da chave ou <code>null</code> para usar o {@link Id}
+	 * @param splits - valores de divisão, em ordem crescente
+	 * @param ordered - se cada faixa deve ser ordenada pela chave
+	 *
+	 * @return consulta de cada faixa, em ordem crescente da chave
+	 */
+	public List<SelectBuilder> split(SelectBuilder sqlBuilder, String keyProperty, long[] splits, boolean ordered) {
+		if (splits == null || splits.length == 0) {
+			throw new IllegalArgumentException("Valores de divisão devem ser informados");
+		}
+
+		for (int i = 1; i < splits.length; i++) {
+			if (splits[i] <= splits[i - 1]) {
+				throw new IllegalArgumentException("Valores de divisão devem estar em ordem crescente: "
+						+ Arrays.toString(splits));
+			}
+		}
+
+		validate(sqlBuilder);
+		final String key = findKeyProperty(sqlBuilder.getEntityClass(), keyProperty);
+		final String alias = tableAlias(sqlBuilder);
+
+		final List<SelectBuilder> result = new ArrayList<SelectBuilder>(splits.length + 1);
+		result.add(newPartition(sqlBuilder, key, ConditionBuilder.newCondition(sqlBuilder.getEntityClass(),
+				alias, ConditionDBTypes.LESS, key, splits[0]), ordered));
+
+		for (int i = 1; i < splits.length; i++) {
+			result.add(newPartition(sqlBuilder, key, newBetween(sqlBuilder, key, splits[i - 1], splits[i] - 1), ordered));
+		}
+
+		result.add(newPartition(sqlBuilder, key, ConditionBuilder.newCondition(sqlBuilder.getEntityClass(),
+				alias, ConditionDBTypes.GREATER_OR_EQUALS, key, splits[splits.length - 1]), ordered));
+		return result;
+	}
+
+	/**
+	 * Método que divide a consulta em faixas pelo menor e pelo maior valor da chave e
+	 * retorna as linhas de todas as faixas.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param keyProperty - propriedade da chave ou <code>null</code> para usar o {@link Id}
+	 * @param partitions - quantidade de faixas
+	 * @param mapper - conversor de cada linha
+	 * @param ordered - se as linhas devem ser retornadas em ordem crescente da chave
+	 *
+	 * @return {@link Stream} das linhas, que deve ser fechado se não for lido até o final
+	 *
+	 * @see #split(SelectBuilder, String, int, boolean)
+	 */
+	public <T> Stream<T> stream(SelectBuilder sqlBuilder, String keyProperty, int partitions,
+			RowMapper<T> mapper, boolean ordered) {
+		return stream(split(sqlBuilder, keyProperty, partitions, ordered), mapper, ordered);
+	}
+
+	/**
+	 * Método que divide a consulta nas faixas entre os valores de divisão e retorna as
+	 * linhas de todas as faixas.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param keyProperty - propriedade da chave ou <code>null</code> para usar o {@link Id}
+	 * @param splits - valores de divisão, em ordem crescente
+	 * @param mapper - conversor de cada linha
+	 * @param ordered - se as linhas devem ser retornadas em ordem crescente da chave
+	 *
+	 * @return {@link Stream} das linhas, que deve ser fechado se não for lido até o final
+	 *
+	 * @see #split(SelectBuilder, String, long[], boolean)
+	 */
+	public <T> Stream<T> stream(SelectBuilder sqlBuilder, String keyProperty, long[] splits,
+			RowMapper<T> mapper, boolean ordered) {
+		return stream(split(sqlBuilder, keyProperty, splits, ordered), mapper, ordered);
+	}
+
+	/**
+	 * Método que executa as consultas das faixas em paralelo e retorna as linhas de todas
+	 * as faixas. Fechar o stream cancela as faixas que ainda não foram lidas.
+	 *
+	 * @param partitions - consulta de cada faixa
+	 * @param mapper - conversor de cada linha
+	 * @param ordered - se as faixas devem ser entregues na ordem da lista
+	 *
+	 * @return {@link Stream} das linhas
+	 */
+	public <T> Stream<T> stream(List<SelectBuilder> partitions, RowMapper<T> mapper, boolean ordered) {
+		final PartitionIterator<T> iterator = new PartitionIterator<T>(partitions, mapper, ordered);
+		final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(
+				iterator, ordered ? Spliterator.ORDERED : 0);
+		return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+
+			@Override
+			public void run() {
+				iterator.close();
+			}
+		});
+	}
+
+	/**
+	 * Método que finaliza o pool quando ele foi criado por esta classe.
+	 * As consultas em execução terminam normalmente.
+	 */
+	@Override
+	public void close() {
+		if (ownedPool != null) {
+			ownedPool.shutdown();
+		}
+	}
+
+	/**
+	 * Método que cria o pool das consultas.
+	 *
+	 * @param parallelism - quantidade de threads
+	 *
+	 * @return {@link ForkJoinPool}
+	 */
+	private static ForkJoinPool newPool(int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Quantidade de faixas lidas ao mesmo tempo deve ser maior que zero");
+		}
+		return new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Método que verifica se a consulta pode ser dividida em faixas.
+	 *
+	 * @param sqlBuilder - consulta
+	 */
+	private static void validate(SelectBuilder sqlBuilder) {
+		if (sqlBuilder.getUnion() != null || sqlBuilder.getGroupBy() != null || sqlBuilder.isDistinct()
+				|| sqlBuilder.getOffset() >= 0 || sqlBuilder.getLimit() >= 0 || sqlBuilder.getSeek() != null) {
+			throw new IllegalArgumentException("Consulta dividida em faixas não pode possuir union, group by, "
+					+ "distinct, offset, limit ou paginação por chave");
+		}
+
+		for (Field f : sqlBuilder.select().getFields()) {
+			if (f instanceof AggregateField) {
+				throw new IllegalArgumentException("Consulta dividida em faixas não pode possuir agregações");
+			}
+		}
+	}
+
+	/**
+	 * Método que cria uma consulta com o from e os joins da consulta informada.
+	 *
+	 * @param sqlBuilder - consulta
+	 *
+	 * @return {@link SelectBuilder} sem campos e sem condições
+	 */
+	private static SelectBuilder newBuilder(SelectBuilder sqlBuilder) {
+		final SelectBuilder builder = new SelectBuilder(sqlBuilder.getEntityClass());
+		if (sqlBuilder.getFromAlias() != null) {
+			builder.fromAlias(sqlBuilder.getFromAlias());
+		}
+
+		for (Join j : sqlBuilder.getJoins()) {
+			builder.addJoin(j);
+		}
+		return builder;
+	}
+
+	/**
+	 * Método que cria a consulta de uma faixa, com os campos da consulta e a condição da
+	 * faixa adicionada ao where.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param key - propriedade da chave
+	 * @param range - condição da faixa
+	 * @param ordered - se a faixa deve ser ordenada pela chave
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newPartition(SelectBuilder sqlBuilder, String key, Condition range, boolean ordered) {
+		final SelectBuilder partition = newBuilder(sqlBuilder);
+		for (Field f : sqlBuilder.select().getFields()) {
+			partition.select().addField(f);
+		}
+
+		final Condition where = sqlBuilder.getWhere();
+		partition.where(where == null ? range : ConditionBuilder.newCondition(ConditionDBTypes.AND, where, range));
+
+		if (ordered) {
+			partition.orderBy().addField(key);
+		}
+		return partition;
+	}
+
+	/**
+	 * Método que cria a condição <code>between</code> de uma faixa.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param key - propriedade da chave
+	 * @param lower - menor valor da faixa
+	 * @param upper - maior valor da faixa
+	 *
+	 * @return {@link Condition}
+	 */
+	private static Condition newBetween(SelectBuilder sqlBuilder, String key, long lower, long upper) {
+		return ConditionBuilder.newCondition(sqlBuilder.getEntityClass(), tableAlias(sqlBuilder),
+				ConditionDBTypes.BETWEEN, key, lower, upper);
+	}
+
+	/**
+	 * Método que retorna o alias do from usado nas condições das faixas.
+	 *
+	 * @param sqlBuilder - consulta
+	 *
+	 * @return alias do from ou vazio para usar o nome da tabela
+	 */
+	private static String tableAlias(SelectBuilder sqlBuilder) {
+		return sqlBuilder.getFromAlias() == null ? "" : sqlBuilder.getFromAlias();
+	}
+
+	/**
+	 * Método que retorna a propriedade da chave das faixas, verificando se é de um tipo inteiro.
+	 * Chaves com casas decimais teriam valores entre o fim de uma faixa e o início da seguinte,
+	 * que não seriam lidos.
+	 *
+	 * @param entityClass - classe de entidade
+	 * @param keyProperty - propriedade da chave ou <code>null</code> para usar o {@link Id}
+	 *
+	 * @return nome da propriedade
+	 */
+	private static String findKeyProperty(Class<?> entityClass, String keyProperty) {
+		final String key = keyProperty != null ? keyProperty : findIdProperty(entityClass);
+		final ColumnDescriptor column = EntityMetadata.of(entityClass).getColumn(key);
+		if (column == null) {
+			throw new IllegalArgumentException("Classe de entidade: " + entityClass
+					+ " não possui a propriedade da chave: " + key);
+		}
+
+		final Class<?> type = column.getJavaType();
+		if (column.isJoin() || !(Long.class.equals(type) || long.class.equals(type) || Integer.class.equals(type)
+				|| int.class.equals(type) || Short.class.equals(type) || short.class.equals(type)
+				|| Byte.class.equals(type) || byte.class.equals(type) || BigInteger.class.equals(type))) {
+			throw new IllegalArgumentException("Propriedade da chave deve ser de um tipo inteiro: "
+					+ key + " (" + type.getName() + ")");
+		}
+		return key;
+	}
+
+	/**
+	 * Método que retorna a propriedade anotada com {@link Id} na entidade ou nos seus super tipos.
+	 *
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return nome da propriedade
+	 */
+	private static String findIdProperty(Class<?> entityClass) {
+		for (Class<?> c = entityClass; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+			for (java.lang.reflect.Field f : c.getDeclaredFields()) {
+				if (f.isAnnotationPresent(Id.class)) {
+					return f.getName();
+				}
+			}
+		}
+		throw new IllegalArgumentException("Classe de entidade: " + entityClass
+				+ " não possui propriedade com @Id, informe a propriedade da chave");
+	}
+
+	/**
+	 * Método que retorna o resultado de uma faixa, lançando o erro da consulta.
+	 *
+	 * @param future - consulta da faixa
+	 *
+	 * @return linhas da faixa
+	 */
+	private static <T> List<T> join(CompletableFuture<List<T>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Iterador das linhas das faixas, que mantém no máximo <code>parallelism</code> faixas
+	 * em execução ou aguardando a leitura.
+	 *
+	 * @param <T> - tipo do objeto de cada linha
+	 */
+	private final class PartitionIterator<T> implements Iterator<T> {
+
+		/**
+		 * Consultas das faixas ainda não iniciadas.
+		 */
+		private final Iterator<SelectBuilder> pending;
+
+		/**
+		 * Conversor de cada linha.
+		 */
+		private final RowMapper<T> mapper;
+
+		/**
+		 * Se as faixas são entregues na ordem da lista.
+		 */
+		private final boolean ordered;
+
+		/**
+		 * Faixas iniciadas, na ordem em que foram iniciadas.
+		 */
+		private final Deque<CompletableFuture<List<T>>> started;
+
+		/**
+		 * Faixas terminadas, na ordem em que terminaram, usada no stream sem ordem.
+		 */
+		private final BlockingQueue<CompletableFuture<List<T>>> finished;
+
+		/**
+		 * Linhas da faixa atual.
+		 */
+		private Iterator<T> current;
+
+		/**
+		 * Quantidade de faixas iniciadas e ainda não lidas.
+		 */
+		private int inFlight;
+
+		/**
+		 * Se o iterador foi fechado.
+		 */
+		private volatile boolean closed;
+
+		/**
+		 * Construtor padrão, que inicia as primeiras faixas.
+		 *
+		 * @param partitions - consulta de cada faixa
+		 * @param mapper - conversor de cada linha
+		 * @param ordered - se as faixas são entregues na ordem da lista
+		 */
+		private PartitionIterator(List<SelectBuilder> partitions, RowMapper<T> mapper, boolean ordered) {
+			this.pending = new ArrayList<SelectBuilder>(partitions).iterator();
+			this.mapper = mapper;
+			this.ordered = ordered;
+			this.started = new ArrayDeque<CompletableFuture<List<T>>>();
+			this.finished = new LinkedBlockingQueue<CompletableFuture<List<T>>>();
+			this.current = Collections.<T>emptyList().iterator();
+
+			while (inFlight < parallelism && startNext()) {
+				continue;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!current.hasNext()) {
+				if (closed || inFlight == 0) {
+					return false;
+				}
+
+				final CompletableFuture<List<T>> next = ordered ? started.poll() : takeFinished();
+				started.remove(next);
+				inFlight--;
+				startNext();
+				current = join(next).iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("Leitura das faixas somente leitura");
+		}
+
+		/**
+		 * Método que cancela as faixas iniciadas e não inicia as próximas.
+		 */
+		private void close() {
+			closed = true;
+			for (CompletableFuture<List<T>> future : started) {
+				future.cancel(true);
+			}
+			started.clear();
+		}
+
+		/**
+		 * Método que inicia a próxima faixa.
+		 *
+		 * @return <code>true</code> se uma faixa foi iniciada caso contrário <code>false</code>
+		 */
+		private boolean startNext() {
+			if (closed || !pending.hasNext()) {
+				return false;
+			}
+
+			final CompletableFuture<List<T>> future = asyncExecutor.query(pending.next(), mapper);
+			started.add(future);
+			inFlight++;
+
+			if (!ordered) {
+				future.whenComplete(new BiConsumer<List<T>, Throwable>() {
+
+					@Override
+					public void accept(List<T> rows, Throwable error) {
+						finished.add(future);
+					}
+				});
+			}
+			return true;
+		}
+
+		/**
+		 * Método que aguarda a próxima faixa terminada.
+		 *
+		 * @return faixa terminada
+		 */
+		private CompletableFuture<List<T>> takeFinished() {
+			try {
+				return finished.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Leitura das faixas interrompida", e);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.urbainski.sql.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * Exceção lançada quando a execução de uma consulta no banco de dados falha.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class QueryExecutionException extends RuntimeException {
+
+	/**
+	 * SerialVersion.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Sql que estava sendo executado, <code>null</code> se o erro não foi na execução de um sql.
+	 */
+	private final String sql;
+
+	/**
+	 * Construtor para erros fora da execução de um sql.
+	 *
+	 * @param message - mensagem do erro
+	 * @param cause - erro do banco de dados
+	 */
+	public QueryExecutionException(String message, SQLException cause) {
+		this(message, null, cause);
+	}
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param message - mensagem do erro
+	 * @param sql - sql que estava sendo executado
+	 * @param cause - erro do banco de dados
+	 */
+	public QueryExecutionException(String message, String sql, SQLException cause) {
+		super(sql == null ? message : message + ": " + sql, cause);
+		this.sql = sql;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+}
@@ -0,0 +1,307 @@
+package com.urbainski.sql.jdbc;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.CompiledSelect;
+import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.SQLTemplateCache;
+import com.urbainski.sql.dialect.Dialect;
+import com.urbainski.sql.dialect.GenericDialect;
+
+/**
+ * Classe que executa as consultas do sql-builder direto por jdbc, sem passar
+ * pela jpa, usando {@link java.sql.PreparedStatement} com os parametros do
+ * {@link BoundSql}.
+ *
+ * <p>O sql de cada forma de consulta é gerado uma única vez por um
+ * {@link SQLTemplateCache} no dialeto do executor. Os métodos de consulta
+ * usam uma conexão do {@link DataSource} por chamada, em uma {@link QuerySession}
+ * fechada no final da chamada, então o cache de statements preparados da sessão
+ * começa vazio em cada chamada e não é reaproveitado, inclusive nas consultas
+ * feitas pelo {@link CachingQueryExecutor}. O cache de statements só evita
+ * preparar novamente o sql nas consultas feitas por uma sessão aberta pelo
+ * {@link #openSession()}, como nas consultas de uma mesma requisição:</p>
+ *
+ * <pre>
+ * try (QuerySession session = executor.openSession()) {
+ *     List&lt;Livro&gt; livros = session.query(sqlBuilder, new EntityRowMapper&lt;Livro&gt;(Livro.class));
+ * }
+ * </pre>
+ *
+ * <p>O executor pode ser compartilhado entre threads.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class QueryExecutor {
+
+	/**
+	 * Fonte das conexões.
+	 */
+	private final DataSource dataSource;
+
+	/**
+	 * Cache do sql gerado de cada forma de consulta.
+	 */
+	private final SQLTemplateCache templates;
+
+	/**
+	 * Quantidade máxima de statements guardados por conexão.
+	 */
+	private final int statementCacheSize;
+
+	/**
+	 * Construtor com o dialeto padrão.
+	 *
+	 * @param dataSource - fonte das conexões
+	 */
+	public QueryExecutor(DataSource dataSource) {
+		this(dataSource, GenericDialect.INSTANCE);
+	}
+
+	/**
+	 * Construtor com a quantidade máxima padrão de statements por conexão.
+	 *
+	 * @param dataSource - fonte das conexões
+	 * @param dialect - dialeto do sql gerado
+	 */
+	public QueryExecutor(DataSource dataSource, Dialect dialect) {
+		this(dataSource, dialect, StatementCache.DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param dataSource - fonte das conexões
+	 * @param dialect - dialeto do sql gerado
+	 * @param statementCacheSize - quantidade máxima de statements guardados por conexão
+	 */
+	public QueryExecutor(DataSource dataSource, Dialect dialect, int statementCacheSize) {
+		if (statementCacheSize <= 0) {
+			throw new IllegalArgumentException("Tamanho do cache deve ser maior que zero");
+		}
+
+		this.dataSource = dataSource;
+		this.templates = new SQLTemplateCache(dialect);
+		this.statementCacheSize = statementCacheSize;
+	}
+
+	public DataSource getDataSource() {
+		return dataSource;
+	}
+
+	public Dialect getDialect() {
+		return templates.getDialect();
+	}
+
+	public SQLTemplateCache getTemplates() {
+		return templates;
+	}
+
+	/**
+	 * Método que abre uma sessão com uma nova conexão do {@link DataSource}.
+	 *
+	 * @return {@link QuerySession}
+	 */
+	public QuerySession openSession() {
+		try {
+			return new QuerySession(dataSource.getConnection(), templates, statementCacheSize);
+		} catch (SQLException e) {
+			throw new QueryExecutionException("Erro ao abrir a conexão", e);
+		}
+	}
+
+	/**
+	 * Método que executa a consulta e converte todas as linhas do resultado.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem do resultado
+	 */
+	public <T> List<T> query(SQL sql, RowMapper<T> mapper) {
+		return query(templates.buildBoundSQL(sql), mapper);
+	}
+
+	/**
+	 * Método que executa a consulta compilada com os valores informados.
+	 *
+	 * @param select - consulta compilada
+	 * @param mapper - conversor de cada linha
+	 * @param values - valores dos parametros, na ordem do sql
+	 *
+	 * @return objetos das linhas, na ordem do resultado
+	 */
+	public <T> List<T> query(CompiledSelect select, RowMapper<T> mapper, Object... values) {
+		return query(select.bind(values), mapper);
+	}
+
+	/**
+	 * Método que executa o sql com parametros e converte todas as linhas do resultado.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem do resultado
+	 */
+	public <T> List<T> query(BoundSql boundSql, RowMapper<T> mapper) {
+		try (QuerySession session = openSession()) {
+			return session.query(boundSql, mapper);
+		}
+	}
+
+	/**
+	 * Método que executa a consulta e converte apenas a primeira linha do resultado.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor da linha
+	 *
+	 * @return objeto da primeira linha ou <code>null</code> se o resultado for vazio
+	 */
+	public <T> T queryForObject(SQL sql, RowMapper<T> mapper) {
+		return queryForObject(templates.buildBoundSQL(sql), mapper);
+	}
+
+	/**
+	 * Método que executa o sql com parametros e converte apenas a primeira linha do resultado.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor da linha
+	 *
+	 * @return objeto da primeira linha ou <code>null</code> se o resultado for vazio
+	 */
+	public <T> T queryForObject(BoundSql boundSql, RowMapper<T> mapper) {
+		try (QuerySession session = openSession()) {
+			return session.queryForObject(boundSql, mapper);
+		}
+	}
+
+	/**
+	 * Método que executa a consulta e retorna um cursor que converte as linhas
+	 * apenas quando elas são lidas.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link ResultCursor}
+	 *
+	 * @see #cursor(BoundSql, RowMapper, int)
+	 */
+	public <T> ResultCursor<T> cursor(SQL sql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(templates.buildBoundSQL(sql), mapper, fetchSize);
+	}
+
+	/**
+	 * Método que executa o sql com parametros e retorna um cursor que converte as
+	 * linhas apenas quando elas são lidas.
+	 *
+	 * <p>O cursor usa uma conexão própria, devolvida quando o cursor é fechado. A
+	 * conexão fica sem <code>autoCommit</code> enquanto o cursor estiver aberto,
+	 * pois alguns drivers, como o do PostgreSQL, só respeitam o tamanho da busca
+	 * dentro de uma transação.</p>
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link ResultCursor}
+	 */
+	public <T> ResultCursor<T> cursor(BoundSql boundSql, RowMapper<T> mapper, int fetchSize) {
+		final QuerySession session = openSession();
+		final Connection connection = session.getConnection();
+		final boolean autoCommit;
+		try {
+			autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+		} catch (SQLException e) {
+			session.close();
+			throw new QueryExecutionException("Erro ao abrir a transação do cursor", e);
+		}
+
+		try {
+			return session.cursor(boundSql, mapper, fetchSize, new Closeable() {
+
+				@Override
+				public void close() {
+					endTransaction(session, autoCommit);
+				}
+			});
+		} catch (RuntimeException e) {
+			endTransaction(session, autoCommit);
+			throw e;
+		}
+	}
+
+	/**
+	 * Método que executa a consulta e retorna um {@link Stream} que converte as linhas
+	 * apenas quando elas são lidas. O stream deve ser fechado se não for lido até o final,
+	 * o que devolve a conexão:
+	 *
+	 * <pre>
+	 * try (Stream&lt;Locacao&gt; locacoes = executor.stream(sqlBuilder, mapper, 500)) {
+	 *     locacoes.forEach(exportador::exporta);
+	 * }
+	 * </pre>
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link Stream}
+	 *
+	 * @see #cursor(BoundSql, RowMapper, int)
+	 */
+	public <T> Stream<T> stream(SQL sql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(sql, mapper, fetchSize).stream();
+	}
+
+	/**
+	 * Método que executa o sql com parametros e retorna um {@link Stream} que converte
+	 * as linhas apenas quando elas são lidas. O stream deve ser fechado se não for lido
+	 * até o final, o que devolve a conexão.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link Stream}
+	 *
+	 * @see #cursor(BoundSql, RowMapper, int)
+	 */
+	public <T> Stream<T> stream(BoundSql boundSql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(boundSql, mapper, fetchSize).stream();
+	}
+
+	/**
+	 * Método que finaliza a transação somente leitura de um cursor e fecha a sua sessão.
+	 *
+	 * @param session - sessão do cursor
+	 * @param autoCommit - valor original do <code>autoCommit</code> da conexão
+	 */
+	private static void endTransaction(QuerySession session, boolean autoCommit) {
+		final Connection connection = session.getConnection();
+		try {
+			connection.commit();
+			connection.setAutoCommit(autoCommit);
+		} catch (SQLException e) {
+			throw new QueryExecutionException("Erro ao finalizar a transação do cursor", e);
+		} finally {
+			session.close();
+		}
+	}
+
+}
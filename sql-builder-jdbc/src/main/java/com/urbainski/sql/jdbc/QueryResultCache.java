@@ -0,0 +1,413 @@
+package com.urbainski.sql.jdbc;
+
+import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.QueryDependencies;
+
+/**
+ * Cache limitado, com descarte do menos usado recentemente, dos resultados das
+ * consultas, usando como chave o sql gerado, os valores dos parametros e o
+ * conversor das linhas.
+ *
+ * <p>Cada resultado guarda as tabelas lidas pela consulta, encontradas pelo
+ * {@link QueryDependencies}, e é descartado quando alguma dessas tabelas é
+ * invalidada, quando o tempo de vida termina ou quando o cache atinge o tamanho
+ * máximo. Apenas os resultados que leem as tabelas invalidadas são descartados.</p>
+ *
+ * <p>O resultado guardado é uma lista que não pode ser alterada e os objetos da
+ * lista são compartilhados por todas as consultas que encontram o resultado no
+ * cache, portanto não devem ser alterados. Conversores são iguais quando são a
+ * mesma instância, como os do {@link DtoRowMapperFactory} e o {@link ArrayRowMapper},
+ * ou quando implementam o <code>equals</code>, como o {@link EntityRowMapper}.</p>
+ *
+ * <p>O cache pode ser compartilhado entre threads.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class QueryResultCache {
+
+	/**
+	 * Quantidade máxima padrão de resultados guardados.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	/**
+	 * Resultado de cada consulta, em ordem de acesso.
+	 */
+	private final Map<ResultKey, CachedResult> results;
+
+	/**
+	 * Chaves dos resultados que leem cada tabela.
+	 */
+	private final Map<String, Set<ResultKey>> keysByTable;
+
+	/**
+	 * Tempo de vida dos resultados em nanossegundos, zero para não expirar.
+	 */
+	private final long timeToLiveNanos;
+
+	/**
+	 * Quantidade de invalidações, usada para não guardar um resultado lido antes de uma invalidação.
+	 */
+	private long invalidations;
+
+	/**
+	 * Quantidade de resultados encontrados no cache.
+	 */
+	private long hits;
+
+	/**
+	 * Quantidade de resultados que precisaram ser consultados.
+	 */
+	private long misses;
+
+	/**
+	 * Construtor com o tamanho máximo padrão e sem tempo de vida.
+	 */
+	public QueryResultCache() {
+		this(DEFAULT_MAX_SIZE, 0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param maxSize - quantidade máxima de resultados guardados
+	 * @param timeToLive - tempo de vida de cada resultado, zero para não expirar
+	 * @param unit - unidade do tempo de vida
+	 */
+	@SuppressWarnings("serial")
+	public QueryResultCache(final int maxSize, long timeToLive, TimeUnit unit) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Tamanho do cache deve ser maior que zero");
+		}
+		if (timeToLive < 0) {
+			throw new IllegalArgumentException("Tempo de vida não pode ser negativo");
+		}
+
+		this.timeToLiveNanos = unit.toNanos(timeToLive);
+		this.keysByTable = new HashMap<String, Set<ResultKey>>();
+		this.results = new LinkedHashMap<ResultKey, CachedResult>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ResultKey, CachedResult> eldest) {
+				if (size() > maxSize) {
+					unindex(eldest.getKey(), eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Método que invalida as tabelas informadas, descartando os resultados que leem alguma delas.
+	 * O nome das tabelas não diferencia maiúsculas.
+	 *
+	 * @param tables - nomes das tabelas
+	 *
+	 * @return quantidade de resultados descartados
+	 */
+	public synchronized int invalidate(String... tables) {
+		invalidations++;
+
+		int removed = 0;
+		for (String table : tables) {
+			final Set<ResultKey> keys = keysByTable.remove(normalize(table));
+			if (keys == null) {
+				continue;
+			}
+
+			for (ResultKey key : keys) {
+				final CachedResult result = results.remove(key);
+				if (result != null) {
+					unindex(key, result);
+					removed++;
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Método que invalida as tabelas escritas por uma entidade: a tabela da entidade
+	 * e as tabelas de todos os seus super tipos.
+	 *
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return quantidade de resultados descartados
+	 */
+	public int invalidate(Class<?> entityClass) {
+		final List<String> tables = new ArrayList<String>();
+		for (Class<?> c = entityClass; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+			tables.add(getTableName(c));
+		}
+		return invalidate(tables.toArray(new String[tables.size()]));
+	}
+
+	/**
+	 * Método que descarta todos os resultados.
+	 */
+	public synchronized void invalidateAll() {
+		invalidations++;
+		results.clear();
+		keysByTable.clear();
+	}
+
+	/**
+	 * Método que retorna a quantidade de resultados guardados.
+	 *
+	 * @return quantidade de resultados
+	 */
+	public synchronized int size() {
+		return results.size();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Método que retorna o resultado guardado da consulta.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor das linhas
+	 * @param single - se a consulta lê apenas a primeira linha
+	 *
+	 * @return linhas guardadas ou <code>null</code> se o resultado não estiver no cache
+	 */
+	synchronized List<?> get(BoundSql boundSql, RowMapper<?> mapper, boolean single) {
+		final ResultKey key = new ResultKey(boundSql, mapper, single);
+		final CachedResult result = results.get(key);
+		if (result == null) {
+			misses++;
+			return null;
+		}
+
+		if (result.isExpired(System.nanoTime())) {
+			results.remove(key);
+			unindex(key, result);
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return result.rows;
+	}
+
+	/**
+	 * Método que retorna a quantidade de invalidações feitas até o momento, lida antes
+	 * de executar a consulta e informada no {@link #put}.
+	 *
+	 * @return quantidade de invalidações
+	 */
+	synchronized long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * Método que guarda o resultado da consulta. O resultado não é guardado quando
+	 * houve alguma invalidação durante a execução da consulta, pois as linhas podem
+	 * ter sido lidas antes da alteração que causou a invalidação.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor das linhas
+	 * @param single - se a consulta lê apenas a primeira linha
+	 * @param dependencies - tabelas lidas pela consulta
+	 * @param rows - linhas do resultado
+	 * @param invalidationsBefore - quantidade de invalidações lida antes da execução
+	 *
+	 * @return linhas do resultado, que não podem ser alteradas
+	 */
+	synchronized <T> List<T> put(BoundSql boundSql, RowMapper<T> mapper, boolean single,
+			QueryDependencies dependencies, List<T> rows, long invalidationsBefore) {
+		final List<T> unmodifiable = Collections.unmodifiableList(new ArrayList<T>(rows));
+		if (invalidations != invalidationsBefore) {
+			return unmodifiable;
+		}
+
+		final Set<String> tables = new HashSet<String>();
+		for (String table : dependencies.getTables()) {
+			tables.add(normalize(table));
+		}
+
+		final ResultKey key = new ResultKey(boundSql, mapper, single);
+		final long expiresAt = timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos;
+		final CachedResult previous = results.put(key, new CachedResult(unmodifiable, tables, expiresAt));
+		if (previous != null) {
+			unindex(key, previous);
+		}
+
+		for (String table : tables) {
+			Set<ResultKey> keys = keysByTable.get(table);
+			if (keys == null) {
+				keys = new HashSet<ResultKey>();
+				keysByTable.put(table, keys);
+			}
+			keys.add(key);
+		}
+		return unmodifiable;
+	}
+
+	/**
+	 * Método que remove a chave do índice das tabelas do resultado.
+	 *
+	 * @param key - chave do resultado
+	 * @param result - resultado descartado
+	 */
+	private void unindex(ResultKey key, CachedResult result) {
+		for (String table : result.tables) {
+			final Set<ResultKey> keys = keysByTable.get(table);
+			if (keys != null) {
+				keys.remove(key);
+				if (keys.isEmpty()) {
+					keysByTable.remove(table);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Método que normaliza o nome da tabela, que não diferencia maiúsculas.
+	 *
+	 * @param table - nome da tabela
+	 *
+	 * @return nome em minúsculas
+	 */
+	private static String normalize(String table) {
+		return table.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Chave do resultado: sql, valores dos parametros e conversor das linhas.
+	 */
+	private static final class ResultKey {
+
+		/**
+		 * Sql gerado.
+		 */
+		private final String sql;
+
+		/**
+		 * Valores dos parametros, na ordem do sql.
+		 */
+		private final List<Object> values;
+
+		/**
+		 * Conversor das linhas.
+		 */
+		private final RowMapper<?> mapper;
+
+		/**
+		 * Se a consulta lê apenas a primeira linha.
+		 */
+		private final boolean single;
+
+		/**
+		 * Hash calculado na criação.
+		 */
+		private final int hash;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param boundSql - sql com parametros
+		 * @param mapper - conversor das linhas
+		 * @param single - se a consulta lê apenas a primeira linha
+		 */
+		private ResultKey(BoundSql boundSql, RowMapper<?> mapper, boolean single) {
+			this.sql = boundSql.getSql();
+			this.values = Arrays.asList(boundSql.getValues());
+			this.mapper = mapper;
+			this.single = single;
+			this.hash = ((sql.hashCode() * 31 + values.hashCode()) * 31 + mapper.hashCode()) * 31
+					+ (single ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ResultKey)) {
+				return false;
+			}
+
+			final ResultKey other = (ResultKey) obj;
+			return single == other.single && sql.equals(other.sql) && values.equals(other.values)
+					&& mapper.equals(other.mapper);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+	}
+
+	/**
+	 * Resultado guardado de uma consulta.
+	 */
+	private static final class CachedResult {
+
+		/**
+		 * Linhas do resultado, que não podem ser alteradas.
+		 */
+		private final List<?> rows;
+
+		/**
+		 * Tabelas lidas pela consulta, em minúsculas.
+		 */
+		private final Set<String> tables;
+
+		/**
+		 * Momento em que o resultado expira, pelo {@link System#nanoTime()}, zero para não expirar.
+		 */
+		private final long expiresAt;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param rows - linhas do resultado
+		 * @param tables - tabelas lidas pela consulta
+		 * @param expiresAt - momento em que o resultado expira, zero para não expirar
+		 */
+		private CachedResult(List<?> rows, Set<String> tables, long expiresAt) {
+			this.rows = rows;
+			this.tables = tables;
+			this.expiresAt = expiresAt;
+		}
+
+		/**
+		 * Método que verifica se o resultado expirou.
+		 *
+		 * @param now - momento atual, pelo {@link System#nanoTime()}
+		 *
+		 * @return <code>true</code> se o resultado expirou caso contrário <code>false</code>
+		 */
+		private boolean isExpired(long now) {
+			return expiresAt != 0 && now - expiresAt >= 0;
+		}
+
+	}
+
+}
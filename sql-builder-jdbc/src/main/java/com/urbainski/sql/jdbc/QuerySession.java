@@ -0,0 +1,363 @@
+package com.urbainski.sql.jdbc;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.CompiledSelect;
+import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.SQLTemplateCache;
+
+/**
+ * Classe que executa consultas em uma única conexão, reaproveitando os
+ * {@link PreparedStatement} de cada sql pelo {@link StatementCache} da conexão.
+ *
+ * <p>A sessão é criada pelo {@link QueryExecutor#openSession()} e deve ser fechada
+ * ao final do uso, o que fecha os statements e devolve a conexão. A sessão não
+ * deve ser compartilhada entre threads, com exceção do {@link #cancel()}, que pode
+ * ser chamado por outra thread para interromper a consulta em execução.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class QuerySession implements Closeable {
+
+	/**
+	 * Conexão da sessão.
+	 */
+	private final Connection connection;
+
+	/**
+	 * Statements da conexão.
+	 */
+	private final StatementCache statements;
+
+	/**
+	 * Cache do sql gerado de cada forma de consulta.
+	 */
+	private final SQLTemplateCache templates;
+
+	/**
+	 * Statement da consulta em execução.
+	 */
+	private volatile PreparedStatement running;
+
+	/**
+	 * Indica se a sessão foi cancelada.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param connection - conexão da sessão
+	 * @param templates - cache do sql gerado de cada forma de consulta
+	 * @param statementCacheSize - quantidade máxima de statements guardados
+	 */
+	QuerySession(Connection connection, SQLTemplateCache templates, int statementCacheSize) {
+		this.connection = connection;
+		this.templates = templates;
+		this.statements = new StatementCache(connection, statementCacheSize);
+	}
+
+	public Connection getConnection() {
+		return connection;
+	}
+
+	public StatementCache getStatements() {
+		return statements;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Método que executa a consulta e converte todas as linhas do resultado.
+	 * O sql é gerado pelo cache de formas do {@link QueryExecutor}.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem do resultado
+	 */
+	public <T> List<T> query(SQL sql, RowMapper<T> mapper) {
+		return query(templates.buildBoundSQL(sql), mapper);
+	}
+
+	/**
+	 * Método que executa a consulta compilada com os valores informados.
+	 *
+	 * @param select - consulta compilada
+	 * @param mapper - conversor de cada linha
+	 * @param values - valores dos parametros, na ordem do sql
+	 *
+	 * @return objetos das linhas, na ordem do resultado
+	 */
+	public <T> List<T> query(CompiledSelect select, RowMapper<T> mapper, Object... values) {
+		return query(select.bind(values), mapper);
+	}
+
+	/**
+	 * Método que executa o sql com parametros e converte todas as linhas do resultado.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem do resultado
+	 */
+	public <T> List<T> query(BoundSql boundSql, RowMapper<T> mapper) {
+		try {
+			final PreparedStatement statement = prepare(boundSql);
+
+			final List<T> rows = new ArrayList<T>();
+			try (ResultSet rs = statement.executeQuery()) {
+				while (rs.next()) {
+					checkCancelled(boundSql);
+					rows.add(mapper.mapRow(rs, rows.size()));
+				}
+			}
+			return rows;
+		} catch (SQLException e) {
+			throw executionError(boundSql, e);
+		} finally {
+			running = null;
+		}
+	}
+
+	/**
+	 * Método que executa a consulta e converte apenas a primeira linha do resultado.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor da linha
+	 *
+	 * @return objeto da primeira linha ou <code>null</code> se o resultado for vazio
+	 */
+	public <T> T queryForObject(SQL sql, RowMapper<T> mapper) {
+		return queryForObject(templates.buildBoundSQL(sql), mapper);
+	}
+
+	/**
+	 * Método que executa o sql com parametros e converte apenas a primeira linha do resultado.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor da linha
+	 *
+	 * @return objeto da primeira linha ou <code>null</code> se o resultado for vazio
+	 */
+	public <T> T queryForObject(BoundSql boundSql, RowMapper<T> mapper) {
+		try {
+			final PreparedStatement statement = prepare(boundSql);
+
+			try (ResultSet rs = statement.executeQuery()) {
+				return rs.next() ? mapper.mapRow(rs, 0) : null;
+			}
+		} catch (SQLException e) {
+			throw executionError(boundSql, e);
+		} finally {
+			running = null;
+		}
+	}
+
+	/**
+	 * Método que executa a consulta e retorna um cursor que converte as linhas
+	 * apenas quando elas são lidas. O sql é gerado pelo cache de formas do
+	 * {@link QueryExecutor}.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link ResultCursor}
+	 */
+	public <T> ResultCursor<T> cursor(SQL sql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(templates.buildBoundSQL(sql), mapper, fetchSize);
+	}
+
+	/**
+	 * Método que executa o sql com parametros e retorna um cursor que converte
+	 * as linhas apenas quando elas são lidas.
+	 *
+	 * <p>O cursor usa um statement próprio, fora do {@link StatementCache}, para
+	 * que o tamanho da busca não altere as outras consultas e para que a mesma
+	 * forma de consulta possa ser executada com o cursor aberto.</p>
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link ResultCursor}
+	 */
+	public <T> ResultCursor<T> cursor(BoundSql boundSql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(boundSql, mapper, fetchSize, null);
+	}
+
+	/**
+	 * Método que executa a consulta e retorna um {@link Stream} que converte as
+	 * linhas apenas quando elas são lidas. O stream deve ser fechado se não for
+	 * lido até o final.
+	 *
+	 * @param sql - consulta
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link Stream}
+	 */
+	public <T> Stream<T> stream(SQL sql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(sql, mapper, fetchSize).stream();
+	}
+
+	/**
+	 * Método que executa o sql com parametros e retorna um {@link Stream} que converte
+	 * as linhas apenas quando elas são lidas. O stream deve ser fechado se não for
+	 * lido até o final.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez,
+	 * 		zero para usar o padrão do driver
+	 *
+	 * @return {@link Stream}
+	 */
+	public <T> Stream<T> stream(BoundSql boundSql, RowMapper<T> mapper, int fetchSize) {
+		return cursor(boundSql, mapper, fetchSize).stream();
+	}
+
+	/**
+	 * Método que executa o sql com parametros em um statement próprio e retorna o cursor.
+	 *
+	 * @param boundSql - sql com parametros
+	 * @param mapper - conversor de cada linha
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez
+	 * @param owner - recurso fechado junto com o cursor ou <code>null</code>
+	 *
+	 * @return {@link ResultCursor}
+	 */
+	<T> ResultCursor<T> cursor(BoundSql boundSql, RowMapper<T> mapper, int fetchSize, Closeable owner) {
+		if (fetchSize < 0) {
+			throw new IllegalArgumentException("Tamanho da busca não pode ser negativo");
+		}
+
+		PreparedStatement statement = null;
+		try {
+			statement = connection.prepareStatement(boundSql.getSql(),
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			ParameterBinder.bind(statement, boundSql.getParameters());
+			return new ResultCursor<T>(statement, statement.executeQuery(), mapper, boundSql.getSql(), owner);
+		} catch (SQLException e) {
+			closeQuietly(statement);
+			throw new QueryExecutionException("Erro ao executar a consulta", boundSql.getSql(), e);
+		}
+	}
+
+	/**
+	 * Método que cancela a sessão, interrompendo a consulta em execução. Pode ser
+	 * chamado por outra thread.
+	 *
+	 * <p>O cancelamento é pedido ao banco de dados pelo {@link java.sql.Statement#cancel()},
+	 * quando suportado pelo driver, e a conversão das linhas é interrompida na próxima
+	 * linha lida. Depois de cancelada a sessão não executa novas consultas e deve
+	 * apenas ser fechada.</p>
+	 */
+	public void cancel() {
+		cancelled = true;
+
+		final PreparedStatement statement = running;
+		if (statement != null) {
+			try {
+				statement.cancel();
+			} catch (SQLException e) {
+				// driver sem suporte ao cancelamento, a conversão das linhas é interrompida
+			}
+		}
+	}
+
+	/**
+	 * Método que fecha os statements guardados e a conexão da sessão.
+	 */
+	@Override
+	public void close() {
+		statements.clear();
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			throw new QueryExecutionException("Erro ao fechar a conexão", e);
+		}
+	}
+
+	/**
+	 * Método que prepara o statement da consulta e informa os parametros, marcando
+	 * o statement como a consulta em execução.
+	 *
+	 * @param boundSql - sql com parametros
+	 *
+	 * @return {@link PreparedStatement} pronto para executar
+	 *
+	 * @throws SQLException erro ao preparar o statement
+	 */
+	private PreparedStatement prepare(BoundSql boundSql) throws SQLException {
+		checkCancelled(boundSql);
+
+		final PreparedStatement statement = statements.prepare(boundSql.getSql());
+		ParameterBinder.bind(statement, boundSql.getParameters());
+		running = statement;
+		checkCancelled(boundSql);
+		return statement;
+	}
+
+	/**
+	 * Método que verifica se a sessão foi cancelada.
+	 *
+	 * @param boundSql - sql da consulta em execução
+	 */
+	private void checkCancelled(BoundSql boundSql) {
+		if (cancelled) {
+			throw new QueryExecutionException("Consulta cancelada", boundSql.getSql(), null);
+		}
+	}
+
+	/**
+	 * Método que cria o erro de execução da consulta, indicando quando o erro foi
+	 * causado pelo cancelamento da sessão.
+	 *
+	 * @param boundSql - sql da consulta
+	 * @param e - erro do driver
+	 *
+	 * @return {@link QueryExecutionException}
+	 */
+	private QueryExecutionException executionError(BoundSql boundSql, SQLException e) {
+		return new QueryExecutionException(cancelled ? "Consulta cancelada" : "Erro ao executar a consulta",
+				boundSql.getSql(), e);
+	}
+
+	/**
+	 * Método que fecha um statement ignorando o erro, usado quando a execução
+	 * já falhou e o erro da execução é o que deve ser lançado.
+	 *
+	 * @param statement - statement a ser fechado ou <code>null</code>
+	 */
+	private static void closeQuietly(PreparedStatement statement) {
+		if (statement == null) {
+			return;
+		}
+
+		try {
+			statement.close();
+		} catch (SQLException e) {
+			// o erro da execução é lançado
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package com.urbainski.sql.jdbc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Cursor sobre um {@link ResultSet} somente leitura e apenas para frente, que
+ * converte cada linha apenas quando ela é lida.
+ *
+ * <p>Apenas a linha atual e as linhas já buscadas pelo driver, limitadas pelo
+ * <code>fetchSize</code> da consulta, ficam em memória, permitindo ler resultados
+ * de qualquer tamanho. O cursor é fechado automaticamente ao ler a última linha
+ * ou no primeiro erro, e deve ser fechado se a leitura for interrompida antes:</p>
+ *
+ * <pre>
+ * try (ResultCursor&lt;Locacao&gt; cursor = session.cursor(sqlBuilder, mapper, 500)) {
+ *     while (cursor.hasNext()) {
+ *         exporta(cursor.next());
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>O cursor não deve ser compartilhado entre threads.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ * @param <T> - tipo do objeto gerado para cada linha
+ */
+public class ResultCursor<T> implements Iterator<T>, Closeable {
+
+	/**
+	 * Statement da consulta, usado apenas pelo cursor.
+	 */
+	private final PreparedStatement statement;
+
+	/**
+	 * Resultado da consulta.
+	 */
+	private final ResultSet resultSet;
+
+	/**
+	 * Conversor de cada linha.
+	 */
+	private final RowMapper<T> mapper;
+
+	/**
+	 * Sql da consulta, usado nas mensagens de erro.
+	 */
+	private final String sql;
+
+	/**
+	 * Recurso fechado junto com o cursor, <code>null</code> se não existir.
+	 */
+	private final Closeable owner;
+
+	/**
+	 * Número da próxima linha.
+	 */
+	private int rowNum;
+
+	/**
+	 * Indica se o resultado já está posicionado na próxima linha.
+	 */
+	private boolean fetched;
+
+	/**
+	 * Indica se existe próxima linha, válido apenas se {@link #fetched}.
+	 */
+	private boolean hasRow;
+
+	/**
+	 * Indica se o cursor já foi fechado.
+	 */
+	private boolean closed;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param statement - statement da consulta, fechado junto com o cursor
+	 * @param resultSet - resultado da consulta
+	 * @param mapper - conversor de cada linha
+	 * @param sql - sql da consulta
+	 * @param owner - recurso fechado junto com o cursor ou <code>null</code>
+	 */
+	ResultCursor(PreparedStatement statement, ResultSet resultSet, RowMapper<T> mapper,
+			String sql, Closeable owner) {
+		this.statement = statement;
+		this.resultSet = resultSet;
+		this.mapper = mapper;
+		this.sql = sql;
+		this.owner = owner;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (closed) {
+			return false;
+		}
+
+		if (!fetched) {
+			try {
+				hasRow = resultSet.next();
+			} catch (SQLException e) {
+				close();
+				throw new QueryExecutionException("Erro ao ler o resultado da consulta", sql, e);
+			}
+			fetched = true;
+
+			if (!hasRow) {
+				close();
+			}
+		}
+		return hasRow;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		fetched = false;
+		try {
+			return mapper.mapRow(resultSet, rowNum++);
+		} catch (SQLException e) {
+			close();
+			throw new QueryExecutionException("Erro ao ler o resultado da consulta", sql, e);
+		}
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Cursor somente leitura");
+	}
+
+	/**
+	 * Método que retorna um {@link Stream} sequencial das linhas restantes do cursor.
+	 * Fechar o stream fecha o cursor.
+	 *
+	 * @return {@link Stream}
+	 */
+	public Stream<T> stream() {
+		final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+		return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+
+			@Override
+			public void run() {
+				close();
+			}
+		});
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Método que fecha o resultado, o statement e o recurso do cursor.
+	 * Chamadas depois do primeiro fechamento não fazem nada.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+
+		try {
+			try {
+				resultSet.close();
+			} finally {
+				statement.close();
+			}
+		} catch (SQLException e) {
+			throw new QueryExecutionException("Erro ao fechar o cursor", sql, e);
+		} finally {
+			closeOwner();
+		}
+	}
+
+	/**
+	 * Método que fecha o recurso do cursor.
+	 */
+	private void closeOwner() {
+		if (owner == null) {
+			return;
+		}
+
+		try {
+			owner.close();
+		} catch (IOException e) {
+			throw new IllegalStateException("Erro ao fechar o recurso do cursor", e);
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.urbainski.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Interface que converte a linha atual de um {@link ResultSet} em um objeto.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ * @param <T> - tipo do objeto gerado para cada linha
+ */
+public interface RowMapper<T> {
+
+	/**
+	 * Método que converte a linha atual do resultado em um objeto.
+	 * O método não deve mover o cursor do {@link ResultSet}.
+	 *
+	 * @param rs - resultado posicionado na linha
+	 * @param rowNum - número da linha, começando em zero
+	 *
+	 * @return objeto da linha
+	 *
+	 * @throws SQLException erro na leitura das colunas
+	 */
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException;
+
+}
@@ -0,0 +1,229 @@
+package com.urbainski.sql.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Locale;
+
+/**
+ * Resultado em memória com uma linha de cada vez, usado para converter pelos
+ * {@link RowMapper} as linhas calculadas fora do banco de dados, como as
+ * agregações combinadas das partições pelo {@link ShardedQueryExecutor}.
+ *
+ * <p>O {@link ResultSet} criado implementa apenas a leitura da linha atual pela
+ * posição ou pelo nome da coluna, o <code>wasNull</code> e os metadados com a
+ * quantidade e o nome das colunas. Os valores são convertidos para o tipo de cada
+ * método pelo {@link ValueConverter}. Os outros métodos lançam
+ * {@link SQLFeatureNotSupportedException}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+final class RowResultSet implements InvocationHandler {
+
+	/**
+	 * Nome de cada coluna, na ordem das colunas.
+	 */
+	private final String[] labels;
+
+	/**
+	 * Resultado que delega para este objeto.
+	 */
+	private final ResultSet resultSet;
+
+	/**
+	 * Metadados do resultado.
+	 */
+	private final ResultSetMetaData metaData;
+
+	/**
+	 * Valores da linha atual.
+	 */
+	private Object[] row;
+
+	/**
+	 * Se o último valor lido foi nulo.
+	 */
+	private boolean wasNull;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param labels - nome de cada coluna, na ordem das colunas
+	 */
+	RowResultSet(String[] labels) {
+		this.labels = labels.clone();
+		this.resultSet = (ResultSet) Proxy.newProxyInstance(
+				ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, this);
+		this.metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+				ResultSetMetaData.class.getClassLoader(), new Class<?>[] { ResultSetMetaData.class },
+				new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						return invokeMetaData(proxy, method, args);
+					}
+				});
+	}
+
+	/**
+	 * Método que posiciona o resultado na linha informada.
+	 *
+	 * @param row - valores da linha, na ordem das colunas
+	 *
+	 * @return resultado posicionado na linha
+	 */
+	ResultSet at(Object[] row) {
+		this.row = row;
+		this.wasNull = false;
+		return resultSet;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		final String name = method.getName();
+		if (method.getDeclaringClass().equals(Object.class)) {
+			return invokeObject(proxy, method, args);
+		}
+
+		if ("wasNull".equals(name)) {
+			return wasNull;
+		} else if ("getMetaData".equals(name)) {
+			return metaData;
+		} else if ("findColumn".equals(name)) {
+			return findColumn((String) args[0]);
+		} else if ("isClosed".equals(name)) {
+			return false;
+		} else if ("close".equals(name)) {
+			return null;
+		} else if (name.startsWith("get") && args != null && (args.length == 1 || isGetObjectWithType(method))) {
+			final int index = args[0] instanceof String ? findColumn((String) args[0]) : (Integer) args[0];
+			final Class<?> type = args.length == 2 ? (Class<?>) args[1] : method.getReturnType();
+			return read(index, type);
+		}
+		throw new SQLFeatureNotSupportedException("Método não suportado pelo resultado em memória: " + name);
+	}
+
+	/**
+	 * Método que lê o valor de uma coluna da linha atual, convertido para o tipo informado.
+	 *
+	 * @param index - posição da coluna, começando em um
+	 * @param type - tipo de retorno do método chamado
+	 *
+	 * @return valor convertido, o valor padrão do tipo primitivo quando o valor for nulo
+	 *
+	 * @throws SQLException posição da coluna inválida
+	 */
+	private Object read(int index, Class<?> type) throws SQLException {
+		if (index < 1 || index > labels.length) {
+			throw new SQLException("Coluna inválida: " + index);
+		}
+
+		final Object value = row[index - 1];
+		wasNull = value == null;
+		if (value == null) {
+			return type.isPrimitive() ? defaultValue(type) : null;
+		}
+
+		if (String.class.equals(type)) {
+			return value.toString();
+		} else if (Object.class.equals(type)) {
+			return value;
+		}
+		return ValueConverter.convert(value, type);
+	}
+
+	/**
+	 * Método que retorna a posição da coluna pelo nome, sem diferenciar maiúsculas.
+	 *
+	 * @param label - nome da coluna
+	 *
+	 * @return posição da coluna, começando em um
+	 *
+	 * @throws SQLException coluna não encontrada
+	 */
+	private int findColumn(String label) throws SQLException {
+		for (int i = 0; i < labels.length; i++) {
+			if (labels[i].equalsIgnoreCase(label)) {
+				return i + 1;
+			}
+		}
+		throw new SQLException("Coluna não encontrada: " + label);
+	}
+
+	/**
+	 * Método que executa os métodos dos metadados: quantidade e nome das colunas.
+	 *
+	 * @param proxy - metadados
+	 * @param method - método chamado
+	 * @param args - parametros do método
+	 *
+	 * @return retorno do método
+	 *
+	 * @throws SQLException método não suportado
+	 */
+	private Object invokeMetaData(Object proxy, Method method, Object[] args) throws SQLException {
+		final String name = method.getName();
+		if (method.getDeclaringClass().equals(Object.class)) {
+			return invokeObject(proxy, method, args);
+		} else if ("getColumnCount".equals(name)) {
+			return labels.length;
+		} else if ("getColumnLabel".equals(name) || "getColumnName".equals(name)) {
+			return labels[(Integer) args[0] - 1].toUpperCase(Locale.ROOT);
+		}
+		throw new SQLFeatureNotSupportedException("Método não suportado pelos metadados em memória: " + name);
+	}
+
+	/**
+	 * Método que executa os métodos de {@link Object} no proxy.
+	 *
+	 * @param proxy - proxy
+	 * @param method - método chamado
+	 * @param args - parametros do método
+	 *
+	 * @return retorno do método
+	 */
+	private static Object invokeObject(Object proxy, Method method, Object[] args) {
+		if ("equals".equals(method.getName())) {
+			return proxy == args[0];
+		} else if ("hashCode".equals(method.getName())) {
+			return System.identityHashCode(proxy);
+		}
+		return "RowResultSet@" + Integer.toHexString(System.identityHashCode(proxy));
+	}
+
+	/**
+	 * Método que verifica se o método é o <code>getObject</code> com o tipo de retorno.
+	 *
+	 * @param method - método chamado
+	 *
+	 * @return <code>true</code> se for o <code>getObject</code> com tipo caso contrário <code>false</code>
+	 */
+	private static boolean isGetObjectWithType(Method method) {
+		final Class<?>[] parameters = method.getParameterTypes();
+		return "getObject".equals(method.getName()) && parameters.length == 2 && Class.class.equals(parameters[1]);
+	}
+
+	/**
+	 * Método que retorna o valor padrão de um tipo primitivo.
+	 *
+	 * @param type - tipo primitivo
+	 *
+	 * @return valor padrão
+	 */
+	private static Object defaultValue(Class<?> type) {
+		if (boolean.class.equals(type)) {
+			return false;
+		} else if (char.class.equals(type)) {
+			return '\0';
+		}
+		return ValueConverter.convert(0, type);
+	}
+
+}
@@ -0,0 +1,251 @@
+package com.urbainski.sql.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Conversor gerado que cria o dto pelo construtor sem parametros e informa cada
+ * coluna pelo setter da propriedade de mesmo nome.
+ *
+ * <p>A leitura e o setter de cada coluna são escolhidos na criação do conversor;
+ * a conversão de uma linha apenas chama o método tipado do {@link ResultSet} e o
+ * setter de cada coluna. Colunas nulas não chamam o setter.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ * @param <T> - classe do dto
+ */
+final class SetterRowMapper<T> implements RowMapper<T> {
+
+	/**
+	 * Criação de uma nova instância do dto.
+	 */
+	private final Supplier<Object> constructor;
+
+	/**
+	 * Escrita de cada coluna, na ordem do select.
+	 */
+	private final ColumnWriter[] writers;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param constructor - construtor sem parametros do dto
+	 * @param setters - setter de cada coluna, na ordem do select
+	 */
+	SetterRowMapper(Constructor<T> constructor, Method[] setters) {
+		this.constructor = Accessors.constructor(constructor);
+		this.writers = new ColumnWriter[setters.length];
+		for (int i = 0; i < setters.length; i++) {
+			writers[i] = newWriter(i + 1, setters[i]);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		final Object dto = constructor.get();
+		for (final ColumnWriter writer : writers) {
+			writer.write(rs, dto);
+		}
+		return (T) dto;
+	}
+
+	/**
+	 * Método que escolhe a escrita da coluna pelo tipo do parametro do setter.
+	 *
+	 * @param index - posição da coluna, começando em um
+	 * @param setter - setter da propriedade
+	 *
+	 * @return {@link ColumnWriter}
+	 */
+	private static ColumnWriter newWriter(int index, Method setter) {
+		final Class<?> type = setter.getParameterTypes()[0];
+		if (int.class.equals(type)) {
+			return new IntWriter(index, Accessors.intSetter(setter));
+		} else if (long.class.equals(type)) {
+			return new LongWriter(index, Accessors.longSetter(setter));
+		} else if (double.class.equals(type)) {
+			return new DoubleWriter(index, Accessors.doubleSetter(setter));
+		}
+		return new ObjectWriter(index, type, Accessors.setter(setter));
+	}
+
+	/**
+	 * Escrita de uma coluna do resultado na propriedade do dto.
+	 */
+	private abstract static class ColumnWriter {
+
+		/**
+		 * Posição da coluna, começando em um.
+		 */
+		protected final int index;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param index - posição da coluna, começando em um
+		 */
+		protected ColumnWriter(int index) {
+			this.index = index;
+		}
+
+		/**
+		 * Método que le a coluna da linha atual e informa no dto.
+		 *
+		 * @param rs - resultado posicionado na linha
+		 * @param dto - dto da linha
+		 *
+		 * @throws SQLException erro na leitura da coluna
+		 */
+		abstract void write(ResultSet rs, Object dto) throws SQLException;
+
+	}
+
+	/**
+	 * Escrita em setter de <code>int</code>.
+	 */
+	private static final class IntWriter extends ColumnWriter {
+
+		/**
+		 * Setter da propriedade.
+		 */
+		private final ObjIntConsumer<Object> setter;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param index - posição da coluna, começando em um
+		 * @param setter - setter da propriedade
+		 */
+		private IntWriter(int index, ObjIntConsumer<Object> setter) {
+			super(index);
+			this.setter = setter;
+		}
+
+		@Override
+		void write(ResultSet rs, Object dto) throws SQLException {
+			final int value = rs.getInt(index);
+			if (!rs.wasNull()) {
+				setter.accept(dto, value);
+			}
+		}
+
+	}
+
+	/**
+	 * Escrita em setter de <code>long</code>.
+	 */
+	private static final class LongWriter extends ColumnWriter {
+
+		/**
+		 * Setter da propriedade.
+		 */
+		private final ObjLongConsumer<Object> setter;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param index - posição da coluna, começando em um
+		 * @param setter - setter da propriedade
+		 */
+		private LongWriter(int index, ObjLongConsumer<Object> setter) {
+			super(index);
+			this.setter = setter;
+		}
+
+		@Override
+		void write(ResultSet rs, Object dto) throws SQLException {
+			final long value = rs.getLong(index);
+			if (!rs.wasNull()) {
+				setter.accept(dto, value);
+			}
+		}
+
+	}
+
+	/**
+	 * Escrita em setter de <code>double</code>.
+	 */
+	private static final class DoubleWriter extends ColumnWriter {
+
+		/**
+		 * Setter da propriedade.
+		 */
+		private final ObjDoubleConsumer<Object> setter;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param index - posição da coluna, começando em um
+		 * @param setter - setter da propriedade
+		 */
+		private DoubleWriter(int index, ObjDoubleConsumer<Object> setter) {
+			super(index);
+			this.setter = setter;
+		}
+
+		@Override
+		void write(ResultSet rs, Object dto) throws SQLException {
+			final double value = rs.getDouble(index);
+			if (!rs.wasNull()) {
+				setter.accept(dto, value);
+			}
+		}
+
+	}
+
+	/**
+	 * Escrita em setter dos outros tipos, lidos pelo {@link ColumnReader} do tipo.
+	 */
+	private static final class ObjectWriter extends ColumnWriter {
+
+		/**
+		 * Tipo do parametro do setter.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * Leitura da coluna.
+		 */
+		private final ColumnReader reader;
+
+		/**
+		 * Setter da propriedade.
+		 */
+		private final BiConsumer<Object, Object> setter;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param index - posição da coluna, começando em um
+		 * @param type - tipo do parametro do setter
+		 * @param setter - setter da propriedade
+		 */
+		private ObjectWriter(int index, Class<?> type, BiConsumer<Object, Object> setter) {
+			super(index);
+			this.type = type;
+			this.reader = ColumnReader.of(type);
+			this.setter = setter;
+		}
+
+		@Override
+		void write(ResultSet rs, Object dto) throws SQLException {
+			final Object value = reader.read(rs, index, type);
+			if (value != null) {
+				setter.accept(dto, value);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,1002 @@
+package com.urbainski.sql.jdbc;
+
+import static com.urbainski.sql.reflection.TableReflectionReader.getAllFieldsNames;
+import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.by.AbstractClauseBy;
+import com.urbainski.sql.by.OrderBy;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.field.impl.AggregateField;
+import com.urbainski.sql.field.impl.SimpleField;
+import com.urbainski.sql.join.Join;
+import com.urbainski.sql.join.JoinBuilder;
+
+/**
+ * Classe que executa uma consulta em várias partições do banco de dados ao mesmo tempo,
+ * cada uma com o seu {@link QueryExecutor}, e junta os resultados como se a consulta
+ * fosse executada em um único banco de dados.
+ *
+ * <p>Nas consultas de linhas cada partição recebe o limit somado ao offset e nenhum
+ * offset, e os resultados, já ordenados pelo order by em cada partição, são intercalados
+ * mantendo a ordem antes de pular o offset e cortar o limit. Os campos do order by que
+ * não estão no select são adicionados no final do select das partições, com o alias
+ * <code>sort_key_</code> seguido da posição, e aparecem para o conversor das linhas.</p>
+ *
+ * <p>Nas consultas com agregações, group by ou distinct cada partição retorna os seus
+ * grupos, que são combinados pelos campos sem agregação do select: <code>count</code> e
+ * <code>sum</code> são somados e <code>min</code> e <code>max</code> comparados. O
+ * <code>avg</code> é executado nas partições como <code>sum</code> e <code>count</code>
+ * e calculado na combinação, como {@link BigDecimal} quando a soma é decimal e como
+ * <code>Double</code> nos outros tipos. O order by, o offset e o limit são aplicados
+ * depois da combinação e as linhas combinadas são convertidas pelo conversor informado,
+ * com os alias dos campos como nome das colunas. Todos os campos do group by e do
+ * order by devem estar no select.</p>
+ *
+ * <p>Na intercalação os valores nulos são considerados maiores que os outros valores,
+ * como no derby e no postgresql. Consultas com union não são suportadas.</p>
+ *
+ * <pre>
+ * try (ShardedQueryExecutor sharded = new ShardedQueryExecutor(Arrays.asList(loja1, loja2, loja3))) {
+ *     List&lt;Locacao&gt; ultimas = sharded.query(sqlBuilder, new EntityRowMapper&lt;Locacao&gt;(Locacao.class));
+ * }
+ * </pre>
+ *
+ * <p>O executor pode ser compartilhado entre threads.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class ShardedQueryExecutor implements Closeable {
+
+	/**
+	 * Prefixo do alias dos campos do order by adicionados ao select das partições.
+	 */
+	public static final String SORT_KEY_ALIAS = "sort_key_";
+
+	/**
+	 * Executores das consultas de cada partição.
+	 */
+	private final List<QueryExecutor> shards;
+
+	/**
+	 * Executor das threads das consultas.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Indica se o executor das threads foi criado por esta classe e deve ser finalizado no {@link #close()}.
+	 */
+	private final boolean ownsExecutor;
+
+	/**
+	 * Construtor com o executor padrão das threads, finalizado no {@link #close()}.
+	 *
+	 * @param shards - executores das consultas de cada partição
+	 *
+	 * @see AsyncQueryExecutor#newDefaultExecutor()
+	 */
+	public ShardedQueryExecutor(List<QueryExecutor> shards) {
+		this(shards, AsyncQueryExecutor.newDefaultExecutor(), true);
+	}
+
+	/**
+	 * Construtor padrão. O executor das threads informado não é finalizado no {@link #close()}.
+	 *
+	 * @param shards - executores das consultas de cada partição
+	 * @param executor - executor das threads das consultas
+	 */
+	public ShardedQueryExecutor(List<QueryExecutor> shards, Executor executor) {
+		this(shards, executor, false);
+	}
+
+	/**
+	 * Construtor interno.
+	 *
+	 * @param shards - executores das consultas de cada partição
+	 * @param executor - executor das threads das consultas
+	 * @param ownsExecutor - se o executor das threads deve ser finalizado no {@link #close()}
+	 */
+	private ShardedQueryExecutor(List<QueryExecutor> shards, Executor executor, boolean ownsExecutor) {
+		if (shards == null || shards.isEmpty() || executor == null) {
+			throw new IllegalArgumentException("Partições e executor das threads devem ser informados");
+		}
+
+		this.shards = Collections.unmodifiableList(new ArrayList<QueryExecutor>(shards));
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	public List<QueryExecutor> getShards() {
+		return shards;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Método que executa a consulta em todas as partições e junta os resultados.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem do order by
+	 */
+	public <T> List<T> query(SelectBuilder sqlBuilder, RowMapper<T> mapper) {
+		if (sqlBuilder.getUnion() != null) {
+			throw new IllegalArgumentException("Consultas com union não podem ser executadas nas partições");
+		}
+
+		if (sqlBuilder.isDistinct() || sqlBuilder.getGroupBy() != null || hasAggregate(sqlBuilder)) {
+			return queryGroups(sqlBuilder, mapper);
+		}
+		return queryRows(sqlBuilder, mapper);
+	}
+
+	/**
+	 * Método que finaliza o executor das threads quando ele foi criado por esta classe.
+	 * As consultas em execução terminam normalmente.
+	 */
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			((ExecutorService) executor).shutdown();
+		}
+	}
+
+	/**
+	 * Método que executa a consulta de linhas nas partições e intercala os resultados pelo order by.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas da página
+	 */
+	private <T> List<T> queryRows(SelectBuilder sqlBuilder, RowMapper<T> mapper) {
+		final int offset = Math.max(sqlBuilder.getOffset(), 0);
+		final int limit = sqlBuilder.getLimit();
+
+		final SelectBuilder shardQuery = sqlBuilder.copy();
+		shardQuery.offset(SelectBuilder.DEFAULT_LIMIT_AND_OFFSET);
+		if (limit >= 0 && sqlBuilder.isFetchFirst()) {
+			shardQuery.fetchFirst(offset + limit);
+		} else if (limit >= 0) {
+			shardQuery.limit(offset + limit);
+		}
+
+		final int[] sortColumns = sortColumns(shardQuery);
+		final List<List<SortedRow<T>>> results = scatter(shardQuery, new SortKeyMapper<T>(mapper, sortColumns));
+
+		final List<T> rows = new ArrayList<T>();
+		final Comparator<SortedRow<T>> comparator = sortColumns.length == 0 ? null
+				: new SortedRowComparator<T>(descendingColumns(sqlBuilder.getOrderBy()));
+		int skipped = 0;
+		for (SortedRow<T> row : merge(results, comparator)) {
+			if (limit >= 0 && rows.size() == limit) {
+				break;
+			}
+
+			if (skipped < offset) {
+				skipped++;
+			} else {
+				rows.add(row.row);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Método que executa a consulta agrupada nas partições e combina os grupos.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas combinadas da página
+	 */
+	private <T> List<T> queryGroups(SelectBuilder sqlBuilder, RowMapper<T> mapper) {
+		final List<Field> fields = sqlBuilder.select().getFields();
+		if (fields.isEmpty()) {
+			throw new IllegalArgumentException("Consultas agrupadas nas partições devem informar os campos do select");
+		}
+
+		if (sqlBuilder.getGroupBy() != null) {
+			indexesOf(fields, sqlBuilder.getGroupBy());
+		}
+		final int[] sortColumns = sqlBuilder.getOrderBy() == null ? new int[0]
+				: indexesOf(fields, sqlBuilder.getOrderBy());
+
+		final SelectBuilder shardQuery = sqlBuilder.copy();
+		shardQuery.offset(SelectBuilder.DEFAULT_LIMIT_AND_OFFSET);
+		shardQuery.limit(SelectBuilder.DEFAULT_LIMIT_AND_OFFSET);
+
+		final GroupMerger merger = new GroupMerger(fields, shardQuery.select().getFields());
+		for (List<Object[]> partial : scatter(shardQuery, ArrayRowMapper.INSTANCE)) {
+			for (Object[] row : partial) {
+				merger.add(row);
+			}
+		}
+
+		final List<Object[]> groups = merger.getRows();
+		if (sortColumns.length > 0) {
+			Collections.sort(groups, new ValuesComparator(sortColumns, descendingColumns(sqlBuilder.getOrderBy())));
+		}
+
+		final int offset = Math.max(sqlBuilder.getOffset(), 0);
+		final int limit = sqlBuilder.getLimit();
+		final int end = limit >= 0 ? Math.min(groups.size(), offset + limit) : groups.size();
+
+		final RowResultSet resultSet = new RowResultSet(merger.getLabels());
+		final List<T> rows = new ArrayList<T>();
+		try {
+			for (int i = offset; i < end; i++) {
+				rows.add(mapper.mapRow(resultSet.at(groups.get(i)), i - offset));
+			}
+		} catch (SQLException e) {
+			throw new QueryExecutionException("Erro ao converter as linhas combinadas das partições", e);
+		}
+		return rows;
+	}
+
+	/**
+	 * Método que executa a consulta em todas as partições ao mesmo tempo e aguarda os resultados.
+	 * Se alguma partição falhar as outras consultas são canceladas e o erro é lançado.
+	 *
+	 * @param shardQuery - consulta das partições
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return resultado de cada partição, na ordem das partições
+	 */
+	private <T> List<List<T>> scatter(final SelectBuilder shardQuery, final RowMapper<T> mapper) {
+		final List<CompletableFuture<List<T>>> futures = new ArrayList<CompletableFuture<List<T>>>(shards.size());
+		for (final QueryExecutor shard : shards) {
+			futures.add(CompletableFuture.supplyAsync(new Supplier<List<T>>() {
+
+				@Override
+				public List<T> get() {
+					return shard.query(shardQuery, mapper);
+				}
+			}, executor));
+		}
+
+		final List<List<T>> results = new ArrayList<List<T>>(futures.size());
+		try {
+			for (CompletableFuture<List<T>> future : futures) {
+				results.add(future.join());
+			}
+		} catch (CompletionException e) {
+			for (CompletableFuture<List<T>> future : futures) {
+				future.cancel(true);
+			}
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+		return results;
+	}
+
+	/**
+	 * Método que intercala os resultados ordenados das partições, sempre retirando a menor
+	 * linha entre as primeiras linhas de cada partição. Sem comparador os resultados são
+	 * concatenados na ordem das partições.
+	 *
+	 * @param results - resultado ordenado de cada partição
+	 * @param comparator - comparador das linhas ou <code>null</code> para concatenar
+	 *
+	 * @return linhas intercaladas, lidas sob demanda
+	 */
+	private static <E> Iterable<E> merge(final List<List<E>> results, final Comparator<E> comparator) {
+		final List<E> merged = new ArrayList<E>();
+		if (comparator == null) {
+			for (List<E> result : results) {
+				merged.addAll(result);
+			}
+			return merged;
+		}
+
+		final PriorityQueue<Cursor<E>> heads = new PriorityQueue<Cursor<E>>(results.size(), new Comparator<Cursor<E>>() {
+
+			@Override
+			public int compare(Cursor<E> c1, Cursor<E> c2) {
+				final int result = comparator.compare(c1.current(), c2.current());
+				return result != 0 ? result : Integer.compare(c1.shard, c2.shard);
+			}
+		});
+
+		for (int i = 0; i < results.size(); i++) {
+			if (!results.get(i).isEmpty()) {
+				heads.add(new Cursor<E>(i, results.get(i)));
+			}
+		}
+
+		return new Iterable<E>() {
+
+			@Override
+			public Iterator<E> iterator() {
+				return new Iterator<E>() {
+
+					@Override
+					public boolean hasNext() {
+						return !heads.isEmpty();
+					}
+
+					@Override
+					public E next() {
+						final Cursor<E> head = heads.poll();
+						final E row = head.current();
+						if (head.advance()) {
+							heads.add(head);
+						}
+						return row;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * Método que retorna a posição no resultado das partições de cada campo do order by.
+	 * Os campos que não estão no select são adicionados no final do select da consulta das
+	 * partições. Quando o select não possui campos as posições são as das colunas de todas
+	 * as entidades, na ordem em que são geradas.
+	 *
+	 * @param shardQuery - consulta das partições, que pode ter o select alterado
+	 *
+	 * @return posição de cada campo, começando em um, vazio se a consulta não possuir order by
+	 */
+	private static int[] sortColumns(SelectBuilder shardQuery) {
+		final OrderBy orderBy = shardQuery.getOrderBy();
+		if (orderBy == null || orderBy.getFields().isEmpty()) {
+			return new int[0];
+		}
+
+		final List<Field> fields = shardQuery.select().getFields();
+		final List<String[]> columns = fields.isEmpty() ? allColumns(shardQuery) : null;
+		final int[] indexes = new int[orderBy.getFields().size()];
+		for (int i = 0; i < indexes.length; i++) {
+			final SimpleField sortField = toSimpleField(orderBy.getFields().get(i));
+			if (columns != null) {
+				indexes[i] = indexOfColumn(columns, sortField) + 1;
+				continue;
+			}
+
+			int index = indexOfField(fields, sortField);
+			if (index < 0) {
+				fields.add(new SimpleField(sortField.getEntityClass(), sortField.getTableNameOrAlias(),
+						sortField.getFieldName(), SORT_KEY_ALIAS + i));
+				index = fields.size() - 1;
+			}
+			indexes[i] = index + 1;
+		}
+		return indexes;
+	}
+
+	/**
+	 * Método que retorna a tabela e o nome de todas as colunas do select sem campos, na
+	 * ordem em que são geradas: as da entidade, as de cada join e as do super tipo.
+	 *
+	 * @param sqlBuilder - consulta
+	 *
+	 * @return nome ou alias da tabela e nome de cada coluna
+	 */
+	private static List<String[]> allColumns(SelectBuilder sqlBuilder) {
+		final List<String[]> columns = new ArrayList<String[]>();
+		addColumns(columns, sqlBuilder.getEntityClass(), sqlBuilder.getFromAlias());
+
+		for (Join j : sqlBuilder.getJoins()) {
+			addColumns(columns, j.getClazzJoined(), j.getJoinedAlias());
+		}
+
+		if (!(Object.class.equals(sqlBuilder.getEntityClass().getSuperclass()))) {
+			final Join superTypeJoin = JoinBuilder.newJoin(sqlBuilder.getEntityClass(), sqlBuilder.getFromAlias());
+			addColumns(columns, superTypeJoin.getClazzJoined(), superTypeJoin.getJoinedAlias());
+		}
+		return columns;
+	}
+
+	/**
+	 * Método que adiciona todas as colunas de uma entidade.
+	 *
+	 * @param columns - colunas
+	 * @param entityClass - classe de entidade
+	 * @param alias - alias da tabela ou <code>null</code> para usar o nome da tabela
+	 */
+	private static void addColumns(List<String[]> columns, Class<?> entityClass, String alias) {
+		final String table = alias == null || alias.isEmpty() ? getTableName(entityClass) : alias;
+		for (String name : getAllFieldsNames(entityClass)) {
+			columns.add(new String[] { table, name });
+		}
+	}
+
+	/**
+	 * Método que retorna a posição da coluna do campo entre todas as colunas do select.
+	 *
+	 * @param columns - nome ou alias da tabela e nome de cada coluna
+	 * @param field - campo
+	 *
+	 * @return posição da coluna, começando em zero
+	 */
+	private static int indexOfColumn(List<String[]> columns, SimpleField field) {
+		for (int i = 0; i < columns.size(); i++) {
+			final String[] column = columns.get(i);
+			if (column[0].equalsIgnoreCase(field.getTableNameOrAlias())
+					&& column[1].equalsIgnoreCase(field.getFieldName())) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Campo do order by não encontrado no select: "
+				+ field.getTableNameOrAlias() + "." + field.getFieldName());
+	}
+
+	/**
+	 * Método que retorna a posição no select de cada campo do group by ou do order by.
+	 *
+	 * @param fields - campos do select
+	 * @param clauseBy - group by ou order by
+	 *
+	 * @return posição de cada campo, começando em zero
+	 */
+	private static int[] indexesOf(List<Field> fields, AbstractClauseBy clauseBy) {
+		final int[] indexes = new int[clauseBy.getFields().size()];
+		for (int i = 0; i < indexes.length; i++) {
+			final SimpleField field = toSimpleField(clauseBy.getFields().get(i));
+			indexes[i] = indexOfField(fields, field);
+			if (indexes[i] < 0) {
+				throw new IllegalArgumentException("Campo do " + clauseBy.getType()
+						+ " deve estar no select para combinar as partições: " + field.getFieldName());
+			}
+		}
+		return indexes;
+	}
+
+	/**
+	 * Método que retorna a posição no select do mesmo campo: o campo sem agregação da mesma
+	 * coluna ou, para as agregações, o próprio campo, a agregação com o mesmo alias ou a
+	 * agregação do mesmo tipo na mesma coluna.
+	 *
+	 * @param fields - campos do select
+	 * @param field - campo procurado
+	 *
+	 * @return posição do campo, começando em zero, ou <code>-1</code> se não encontrado
+	 */
+	private static int indexOfField(List<Field> fields, SimpleField field) {
+		final boolean aggregate = field instanceof AggregateField;
+		for (int i = 0; i < fields.size(); i++) {
+			final Field f = fields.get(i);
+			if (f == field) {
+				return i;
+			} else if (aggregate != (f instanceof AggregateField) || !(f instanceof SimpleField)) {
+				continue;
+			}
+
+			final SimpleField selected = (SimpleField) f;
+			if (aggregate && hasAlias(field)) {
+				if (field.getAlias().equalsIgnoreCase(selected.getAlias())) {
+					return i;
+				}
+				continue;
+			}
+
+			if (aggregate && !(((AggregateField) field).getAggregateType().equals(
+					((AggregateField) selected).getAggregateType()))) {
+				continue;
+			}
+
+			if (selected.getFieldName().equalsIgnoreCase(field.getFieldName())
+					&& String.valueOf(selected.getTableNameOrAlias()).equalsIgnoreCase(
+							String.valueOf(field.getTableNameOrAlias()))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Método que verifica se o campo possui alias.
+	 *
+	 * @param field - campo
+	 *
+	 * @return <code>true</code> se o campo possuir alias caso contrário <code>false</code>
+	 */
+	private static boolean hasAlias(Field field) {
+		return field.getAlias() != null && !(field.getAlias().isEmpty());
+	}
+
+	/**
+	 * Método que converte o campo do group by ou do order by para {@link SimpleField}.
+	 *
+	 * @param field - campo
+	 *
+	 * @return {@link SimpleField}
+	 */
+	private static SimpleField toSimpleField(Field field) {
+		if (!(field instanceof SimpleField)) {
+			throw new IllegalArgumentException("Apenas colunas podem ser usadas no group by e no order by "
+					+ "das consultas nas partições");
+		}
+		return (SimpleField) field;
+	}
+
+	/**
+	 * Método que retorna a direção de cada campo do order by, na mesma ordem em que é escrita
+	 * no sql das partições.
+	 *
+	 * @param orderBy - order by
+	 *
+	 * @return <code>true</code> na posição dos campos ordenados de forma decrescente
+	 */
+	private static boolean[] descendingColumns(OrderBy orderBy) {
+		final boolean[] descending = new boolean[orderBy.getFields().size()];
+		for (int i = 0; i < descending.length; i++) {
+			descending[i] = orderBy.isDescending(i);
+		}
+		return descending;
+	}
+
+	/**
+	 * Método que verifica se o select possui algum campo de agregação.
+	 *
+	 * @param sqlBuilder - consulta
+	 *
+	 * @return <code>true</code> se possuir agregação caso contrário <code>false</code>
+	 */
+	private static boolean hasAggregate(SelectBuilder sqlBuilder) {
+		for (Field f : sqlBuilder.select().getFields()) {
+			if (f instanceof AggregateField) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Método que compara dois valores de colunas, com os nulos maiores que os outros valores.
+	 *
+	 * @param v1 - primeiro valor
+	 * @param v2 - segundo valor
+	 *
+	 * @return resultado da comparação
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compareValues(Object v1, Object v2) {
+		if (v1 == null || v2 == null) {
+			return v1 == v2 ? 0 : (v1 == null ? 1 : -1);
+		}
+		return ((Comparable) v1).compareTo(v2);
+	}
+
+	/**
+	 * Linha convertida de uma partição com os valores dos campos do order by.
+	 *
+	 * @param <T> - tipo do objeto da linha
+	 */
+	private static final class SortedRow<T> {
+
+		/**
+		 * Valores dos campos do order by.
+		 */
+		private final Object[] key;
+
+		/**
+		 * Objeto da linha.
+		 */
+		private final T row;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param key - valores dos campos do order by
+		 * @param row - objeto da linha
+		 */
+		private SortedRow(Object[] key, T row) {
+			this.key = key;
+			this.row = row;
+		}
+
+	}
+
+	/**
+	 * Conversor que lê os valores dos campos do order by antes de converter a linha.
+	 *
+	 * @param <T> - tipo do objeto da linha
+	 */
+	private static final class SortKeyMapper<T> implements RowMapper<SortedRow<T>> {
+
+		/**
+		 * Conversor da linha.
+		 */
+		private final RowMapper<T> mapper;
+
+		/**
+		 * Posição de cada campo do order by, começando em um.
+		 */
+		private final int[] sortColumns;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param mapper - conversor da linha
+		 * @param sortColumns - posição de cada campo do order by
+		 */
+		private SortKeyMapper(RowMapper<T> mapper, int[] sortColumns) {
+			this.mapper = mapper;
+			this.sortColumns = sortColumns;
+		}
+
+		@Override
+		public SortedRow<T> mapRow(ResultSet rs, int rowNum) throws SQLException {
+			final Object[] key = new Object[sortColumns.length];
+			for (int i = 0; i < key.length; i++) {
+				key[i] = rs.getObject(sortColumns[i]);
+			}
+			return new SortedRow<T>(key, mapper.mapRow(rs, rowNum));
+		}
+
+	}
+
+	/**
+	 * Comparador das linhas pelos valores dos campos do order by.
+	 *
+	 * @param <T> - tipo do objeto da linha
+	 */
+	private static final class SortedRowComparator<T> implements Comparator<SortedRow<T>> {
+
+		/**
+		 * Se cada campo do order by é ordenado de forma decrescente.
+		 */
+		private final boolean[] descending;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param descending - se cada campo do order by é ordenado de forma decrescente
+		 */
+		private SortedRowComparator(boolean[] descending) {
+			this.descending = descending;
+		}
+
+		@Override
+		public int compare(SortedRow<T> r1, SortedRow<T> r2) {
+			for (int i = 0; i < r1.key.length; i++) {
+				final int result = compareValues(r1.key[i], r2.key[i]);
+				if (result != 0) {
+					return descending[i] ? -result : result;
+				}
+			}
+			return 0;
+		}
+
+	}
+
+	/**
+	 * Comparador das linhas combinadas pelos valores das colunas do order by.
+	 */
+	private static final class ValuesComparator implements Comparator<Object[]> {
+
+		/**
+		 * Posição de cada coluna do order by, começando em zero.
+		 */
+		private final int[] columns;
+
+		/**
+		 * Se cada campo do order by é ordenado de forma decrescente.
+		 */
+		private final boolean[] descending;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param columns - posição de cada coluna do order by
+		 * @param descending - se cada campo do order by é ordenado de forma decrescente
+		 */
+		private ValuesComparator(int[] columns, boolean[] descending) {
+			this.columns = columns;
+			this.descending = descending;
+		}
+
+		@Override
+		public int compare(Object[] r1, Object[] r2) {
+			for (int i = 0; i < columns.length; i++) {
+				final int result = compareValues(r1[columns[i]], r2[columns[i]]);
+				if (result != 0) {
+					return descending[i] ? -result : result;
+				}
+			}
+			return 0;
+		}
+
+	}
+
+	/**
+	 * Posição de leitura do resultado de uma partição na intercalação.
+	 *
+	 * @param <E> - tipo das linhas
+	 */
+	private static final class Cursor<E> {
+
+		/**
+		 * Posição da partição, usada para desempatar as linhas iguais.
+		 */
+		private final int shard;
+
+		/**
+		 * Resultado da partição.
+		 */
+		private final List<E> rows;
+
+		/**
+		 * Posição da linha atual.
+		 */
+		private int position;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param shard - posição da partição
+		 * @param rows - resultado da partição
+		 */
+		private Cursor(int shard, List<E> rows) {
+			this.shard = shard;
+			this.rows = rows;
+		}
+
+		/**
+		 * Método que retorna a linha atual.
+		 *
+		 * @return linha atual
+		 */
+		private E current() {
+			return rows.get(position);
+		}
+
+		/**
+		 * Método que avança para a próxima linha.
+		 *
+		 * @return <code>true</code> se existir próxima linha caso contrário <code>false</code>
+		 */
+		private boolean advance() {
+			return ++position < rows.size();
+		}
+
+	}
+
+	/**
+	 * Classe que troca o <code>avg</code> do select das partições por <code>sum</code> e
+	 * <code>count</code> e combina os grupos lidos das partições.
+	 */
+	private static final class GroupMerger {
+
+		/**
+		 * Agregação de cada campo do select, <code>null</code> nos campos sem agregação.
+		 */
+		private final AggregateDBTypes[] aggregates;
+
+		/**
+		 * Posição da coluna do <code>count</code> de cada <code>avg</code> no resultado das partições.
+		 */
+		private final int[] avgCounts;
+
+		/**
+		 * Nome de cada coluna do resultado combinado.
+		 */
+		private final String[] labels;
+
+		/**
+		 * Grupos combinados, pelos valores dos campos sem agregação.
+		 */
+		private final Map<List<Object>, Object[]> groups;
+
+		/**
+		 * Construtor padrão, que altera os campos do select das partições.
+		 *
+		 * @param fields - campos do select da consulta
+		 * @param shardFields - campos do select das partições, alterados para a combinação
+		 */
+		private GroupMerger(List<Field> fields, List<Field> shardFields) {
+			this.aggregates = new AggregateDBTypes[fields.size()];
+			this.avgCounts = new int[fields.size()];
+			this.labels = new String[fields.size()];
+			this.groups = new LinkedHashMap<List<Object>, Object[]>();
+
+			for (int i = 0; i < fields.size(); i++) {
+				final Field f = fields.get(i);
+				labels[i] = f.getAlias() != null && !(f.getAlias().isEmpty()) ? f.getAlias()
+						: (f instanceof SimpleField ? ((SimpleField) f).getFieldName() : "column" + (i + 1));
+
+				if (!(f instanceof AggregateField)) {
+					continue;
+				}
+
+				final AggregateField field = (AggregateField) f;
+				aggregates[i] = field.getAggregateType();
+				if (AggregateDBTypes.AVG.equals(aggregates[i])) {
+					shardFields.set(i, new AggregateField(field.getEntityClass(), field.getTableNameOrAlias(),
+							field.getFieldName(), field.getAlias(), AggregateDBTypes.SUM));
+					shardFields.add(new AggregateField(field.getEntityClass(), field.getTableNameOrAlias(),
+							field.getFieldName(), "avg_count_" + i, AggregateDBTypes.COUNT));
+					avgCounts[i] = shardFields.size() - 1;
+				}
+			}
+		}
+
+		private String[] getLabels() {
+			return labels;
+		}
+
+		/**
+		 * Método que combina uma linha de uma partição com o grupo dos mesmos valores.
+		 *
+		 * @param row - linha da partição
+		 */
+		private void add(Object[] row) {
+			final List<Object> key = new ArrayList<Object>();
+			for (int i = 0; i < aggregates.length; i++) {
+				if (aggregates[i] == null) {
+					key.add(row[i]);
+				}
+			}
+
+			final Object[] group = groups.get(key);
+			if (group == null) {
+				groups.put(key, row);
+				return;
+			}
+
+			for (int i = 0; i < aggregates.length; i++) {
+				if (aggregates[i] == null) {
+					continue;
+				}
+
+				switch (aggregates[i]) {
+					case MIN:
+						group[i] = row[i] == null || (group[i] != null && compareValues(group[i], row[i]) <= 0)
+								? group[i] : row[i];
+						break;
+					case MAX:
+						group[i] = row[i] == null || (group[i] != null && compareValues(group[i], row[i]) >= 0)
+								? group[i] : row[i];
+						break;
+					case AVG:
+						group[avgCounts[i]] = add(group[avgCounts[i]], row[avgCounts[i]]);
+						group[i] = add(group[i], row[i]);
+						break;
+					default:
+						group[i] = add(group[i], row[i]);
+						break;
+				}
+			}
+		}
+
+		/**
+		 * Método que retorna as linhas combinadas, com o <code>avg</code> calculado
+		 * e sem as colunas adicionadas para a combinação.
+		 *
+		 * @return linhas combinadas, na ordem em que os grupos foram encontrados
+		 */
+		private List<Object[]> getRows() {
+			final List<Object[]> rows = new ArrayList<Object[]>(groups.size());
+			for (Object[] group : groups.values()) {
+				final Object[] row = Arrays.copyOf(group, aggregates.length);
+				for (int i = 0; i < aggregates.length; i++) {
+					if (AggregateDBTypes.AVG.equals(aggregates[i])) {
+						row[i] = average(group[i], group[avgCounts[i]]);
+					}
+				}
+				rows.add(row);
+			}
+			return rows;
+		}
+
+		/**
+		 * Método que soma dois valores numéricos, ignorando os nulos. A soma mantém o tipo
+		 * retornado pelo driver, para que a coluna tenha o mesmo tipo em todos os grupos,
+		 * encontrados em uma ou em várias partições.
+		 *
+		 * @param v1 - primeiro valor
+		 * @param v2 - segundo valor
+		 *
+		 * @return soma no tipo do primeiro valor
+		 */
+		private static Object add(Object v1, Object v2) {
+			if (v1 == null || v2 == null) {
+				return v1 == null ? v2 : v1;
+			}
+
+			final Number n1 = (Number) v1;
+			final Number n2 = (Number) v2;
+			if (v1 instanceof BigDecimal || v2 instanceof BigDecimal || v1 instanceof BigInteger
+					|| v2 instanceof BigInteger) {
+				return toType(new BigDecimal(n1.toString()).add(new BigDecimal(n2.toString())), v1);
+			} else if (v1 instanceof Double || v1 instanceof Float || v2 instanceof Double || v2 instanceof Float) {
+				return toType(n1.doubleValue() + n2.doubleValue(), v1);
+			}
+			return toType(Math.addExact(n1.longValue(), n2.longValue()), v1);
+		}
+
+		/**
+		 * Método que converte a soma para o tipo do valor retornado pelo driver.
+		 *
+		 * @param sum - soma
+		 * @param sample - valor com o tipo da coluna
+		 *
+		 * @return soma no tipo do valor
+		 */
+		private static Object toType(Number sum, Object sample) {
+			if (sample instanceof Integer || sample instanceof Short || sample instanceof Byte) {
+				final long value = sum.longValue();
+				final long min = sample instanceof Integer ? Integer.MIN_VALUE
+						: (sample instanceof Short ? Short.MIN_VALUE : Byte.MIN_VALUE);
+				final long max = sample instanceof Integer ? Integer.MAX_VALUE
+						: (sample instanceof Short ? Short.MAX_VALUE : Byte.MAX_VALUE);
+				if (value < min || value > max) {
+					throw new IllegalStateException("A soma das partições excede o tipo da coluna: " + sum);
+				}
+				return sample instanceof Integer ? Integer.valueOf((int) value)
+						: (sample instanceof Short ? (Object) Short.valueOf((short) value) : Byte.valueOf((byte) value));
+			} else if (sample instanceof Long) {
+				return sum.longValue();
+			} else if (sample instanceof Float) {
+				return sum.floatValue();
+			} else if (sample instanceof Double) {
+				return sum.doubleValue();
+			} else if (sample instanceof BigInteger) {
+				return new BigDecimal(sum.toString()).toBigInteger();
+			} else if (sample instanceof BigDecimal) {
+				return sum instanceof BigDecimal ? sum : new BigDecimal(sum.toString());
+			}
+			return sum;
+		}
+
+		/**
+		 * Método que calcula a média pela soma e pela quantidade de valores.
+		 *
+		 * @param sum - soma dos valores
+		 * @param count - quantidade de valores
+		 *
+		 * @return média ou <code>null</code> se não houver valores
+		 */
+		private static Object average(Object sum, Object count) {
+			if (sum == null || count == null || ((Number) count).longValue() == 0) {
+				return null;
+			}
+
+			if (sum instanceof BigDecimal) {
+				return ((BigDecimal) sum).divide(new BigDecimal(count.toString()), MathContext.DECIMAL64);
+			}
+			return ((Number) sum).doubleValue() / ((Number) count).longValue();
+		}
+
+	}
+
+}
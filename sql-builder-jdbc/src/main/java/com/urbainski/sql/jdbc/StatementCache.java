@@ -0,0 +1,144 @@
+package com.urbainski.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache limitado, com descarte do menos usado recentemente, dos {@link PreparedStatement}
+ * de uma conexão, usando o sql gerado como chave.
+ *
+ * <p>Como o sql com parametros de uma mesma forma de consulta é sempre o mesmo,
+ * as próximas execuções da forma reaproveitam o statement já preparado pelo
+ * banco de dados. Os statements descartados são fechados.</p>
+ *
+ * <p>O cache pertence a uma única conexão e não deve ser compartilhado entre threads.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class StatementCache {
+
+	/**
+	 * Quantidade máxima padrão de statements guardados.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 64;
+
+	/**
+	 * Conexão dos statements.
+	 */
+	private final Connection connection;
+
+	/**
+	 * Statement de cada sql, em ordem de acesso.
+	 */
+	private final Map<String, PreparedStatement> statements;
+
+	/**
+	 * Quantidade de statements encontrados no cache.
+	 */
+	private long hits;
+
+	/**
+	 * Quantidade de statements que precisaram ser preparados.
+	 */
+	private long misses;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param connection - conexão dos statements
+	 * @param maxSize - quantidade máxima de statements guardados
+	 */
+	@SuppressWarnings("serial")
+	public StatementCache(Connection connection, final int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Tamanho do cache deve ser maior que zero");
+		}
+
+		this.connection = connection;
+		this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+				if (size() > maxSize) {
+					closeQuietly(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public Connection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * Método que retorna o statement do sql, preparando apenas se ele ainda não estiver no cache.
+	 *
+	 * @param sql - sql com parametros
+	 *
+	 * @return {@link PreparedStatement}
+	 *
+	 * @throws SQLException erro ao preparar o statement
+	 */
+	public PreparedStatement prepare(String sql) throws SQLException {
+		PreparedStatement statement = statements.get(sql);
+		if (statement != null) {
+			hits++;
+			return statement;
+		}
+
+		misses++;
+		statement = connection.prepareStatement(sql);
+		statements.put(sql, statement);
+		return statement;
+	}
+
+	/**
+	 * Método que retorna a quantidade de statements guardados.
+	 *
+	 * @return quantidade de statements
+	 */
+	public int size() {
+		return statements.size();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Método que fecha e remove todos os statements do cache. A conexão não é fechada.
+	 */
+	public void clear() {
+		for (final PreparedStatement statement : statements.values()) {
+			closeQuietly(statement);
+		}
+		statements.clear();
+	}
+
+	/**
+	 * Método que fecha um statement ignorando o erro, usado no descarte
+	 * onde o erro não pode ser tratado por quem executou a consulta.
+	 *
+	 * @param statement - statement a ser fechado
+	 */
+	private static void closeQuietly(PreparedStatement statement) {
+		try {
+			statement.close();
+		} catch (SQLException e) {
+			// o statement descartado não é mais usado
+		}
+	}
+
+}
@@ -0,0 +1,381 @@
+package com.urbainski.sql.jdbc;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.UnionDBTypes;
+
+/**
+ * Classe que executa cada consulta de um union em uma conexão diferente, ao mesmo
+ * tempo, e junta os resultados fora do banco de dados.
+ *
+ * <p>A consulta é dividida nas consultas ligadas pelo
+ * {@link SelectBuilder#union(SelectBuilder, UnionDBTypes)}, cada uma com o seu where,
+ * order by e paginação. Os resultados são concatenados na ordem das consultas. Como o
+ * union é avaliado da esquerda para a direita, as linhas das consultas até o último
+ * <code>union</code> sem <code>all</code> são lidas como arrays e as repetidas são
+ * removidas pelos valores das colunas, mantendo a primeira ocorrência, antes da
+ * conversão pelo conversor informado, com os nomes das colunas da primeira consulta.
+ * As consultas ligadas por <code>union all</code> depois dele são convertidas
+ * diretamente.</p>
+ *
+ * <p>Como o banco de dados converte os valores das consultas para um tipo comum, na
+ * remoção das linhas repetidas os números de tipos e escalas diferentes, como
+ * <code>Integer 1</code>, <code>Long 1</code> e <code>1.00</code>, são considerados
+ * iguais, e os arrays de bytes são comparados pelo conteúdo.</p>
+ *
+ * <pre>
+ * try (UnionQueryExecutor unions = new UnionQueryExecutor(executor)) {
+ *     List&lt;Object[]&gt; movimentos = unions.query(sqlBuilderEntradas, ArrayRowMapper.INSTANCE);
+ * }
+ * </pre>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class UnionQueryExecutor implements Closeable {
+
+	/**
+	 * Executor das consultas de cada parte do union.
+	 */
+	private final AsyncQueryExecutor asyncExecutor;
+
+	/**
+	 * Construtor com o executor padrão das threads, finalizado no {@link #close()}.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 *
+	 * @see AsyncQueryExecutor#newDefaultExecutor()
+	 */
+	public UnionQueryExecutor(QueryExecutor queryExecutor) {
+		this.asyncExecutor = new AsyncQueryExecutor(queryExecutor);
+	}
+
+	/**
+	 * Construtor padrão. O executor das threads informado não é finalizado no {@link #close()}.
+	 *
+	 * @param queryExecutor - executor das consultas
+	 * @param executor - executor das threads das consultas
+	 */
+	public UnionQueryExecutor(QueryExecutor queryExecutor, Executor executor) {
+		this.asyncExecutor = new AsyncQueryExecutor(queryExecutor, executor);
+	}
+
+	public QueryExecutor getQueryExecutor() {
+		return asyncExecutor.getQueryExecutor();
+	}
+
+	/**
+	 * Método que divide a consulta nas consultas ligadas pelo union. Cada consulta
+	 * retornada é uma cópia sem o union.
+	 *
+	 * @param sqlBuilder - consulta
+	 *
+	 * @return consultas na ordem do union, somente a cópia da consulta informada se ela não possuir union
+	 */
+	public static List<SelectBuilder> branches(SelectBuilder sqlBuilder) {
+		final List<SelectBuilder> branches = new ArrayList<SelectBuilder>();
+		for (SelectBuilder b = sqlBuilder; b != null; b = b.getUnion()) {
+			final SelectBuilder branch = b.copy();
+			branch.union(null, null);
+			branches.add(branch);
+		}
+		return branches;
+	}
+
+	/**
+	 * Método que executa as consultas do union ao mesmo tempo e retorna as linhas de todas elas.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas, na ordem das consultas
+	 */
+	public <T> List<T> query(SelectBuilder sqlBuilder, RowMapper<T> mapper) {
+		try (Stream<T> rows = stream(sqlBuilder, mapper)) {
+			return rows.collect(Collectors.<T>toList());
+		}
+	}
+
+	/**
+	 * Método que executa as consultas do union ao mesmo tempo e retorna as linhas de
+	 * todas elas. Fechar o stream cancela as consultas que ainda não terminaram.
+	 *
+	 * @param sqlBuilder - consulta
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return {@link Stream} das linhas, na ordem das consultas
+	 */
+	public <T> Stream<T> stream(SelectBuilder sqlBuilder, final RowMapper<T> mapper) {
+		final List<SelectBuilder> branches = branches(sqlBuilder);
+
+		int lastDistinct = -1;
+		int i = 1;
+		for (SelectBuilder b = sqlBuilder; b.getUnion() != null; b = b.getUnion(), i++) {
+			if (b.getUnionType() != UnionDBTypes.UNION_ALL) {
+				lastDistinct = i;
+			}
+		}
+
+		final List<CompletableFuture<?>> started = new ArrayList<CompletableFuture<?>>(branches.size());
+		final List<CompletableFuture<List<T>>> parts = new ArrayList<CompletableFuture<List<T>>>();
+
+		if (lastDistinct >= 0) {
+			final List<LabeledRowMapper> rawMappers = new ArrayList<LabeledRowMapper>(lastDistinct + 1);
+			final List<CompletableFuture<List<Object[]>>> rawParts = new ArrayList<CompletableFuture<List<Object[]>>>();
+			for (int b = 0; b <= lastDistinct; b++) {
+				final LabeledRowMapper rawMapper = new LabeledRowMapper();
+				final CompletableFuture<List<Object[]>> future = asyncExecutor.query(branches.get(b), rawMapper);
+				rawMappers.add(rawMapper);
+				rawParts.add(future);
+				started.add(future);
+			}
+
+			parts.add(CompletableFuture.allOf(rawParts.toArray(new CompletableFuture<?>[rawParts.size()]))
+					.thenApply(new Function<Void, List<T>>() {
+
+						@Override
+						public List<T> apply(Void ignored) {
+							return distinct(rawParts, rawMappers, mapper);
+						}
+					}));
+		}
+
+		for (int b = lastDistinct + 1; b < branches.size(); b++) {
+			final CompletableFuture<List<T>> future = asyncExecutor.query(branches.get(b), mapper);
+			parts.add(future);
+			started.add(future);
+		}
+
+		final BranchIterator<T> iterator = new BranchIterator<T>(parts, started);
+		final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+		return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+
+			@Override
+			public void run() {
+				iterator.close();
+			}
+		});
+	}
+
+	/**
+	 * Método que finaliza o executor das threads quando ele foi criado por esta classe.
+	 * As consultas em execução terminam normalmente.
+	 */
+	@Override
+	public void close() {
+		asyncExecutor.close();
+	}
+
+	/**
+	 * Método que remove as linhas repetidas das consultas ligadas por <code>union</code>
+	 * e converte as linhas restantes. As linhas são comparadas pelos valores normalizados
+	 * por {@link #normalize(Object)}, mantendo os valores da primeira linha de cada repetição.
+	 *
+	 * @param rawParts - linhas de cada consulta, como arrays
+	 * @param rawMappers - conversor de cada consulta, com os nomes das colunas
+	 * @param mapper - conversor de cada linha
+	 *
+	 * @return objetos das linhas sem repetição
+	 */
+	private static <T> List<T> distinct(List<CompletableFuture<List<Object[]>>> rawParts,
+			List<LabeledRowMapper> rawMappers, RowMapper<T> mapper) {
+		final Map<List<Object>, Object[]> rows = new LinkedHashMap<List<Object>, Object[]>();
+		String[] labels = null;
+		for (int i = 0; i < rawParts.size(); i++) {
+			for (Object[] row : rawParts.get(i).join()) {
+				final List<Object> key = new ArrayList<Object>(row.length);
+				for (Object value : row) {
+					key.add(normalize(value));
+				}
+
+				if (!rows.containsKey(key)) {
+					rows.put(key, row);
+				}
+			}
+
+			if (labels == null) {
+				labels = rawMappers.get(i).labels;
+			}
+		}
+
+		if (rows.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		final RowResultSet resultSet = new RowResultSet(labels);
+		final List<T> result = new ArrayList<T>(rows.size());
+		try {
+			for (Object[] row : rows.values()) {
+				result.add(mapper.mapRow(resultSet.at(row), result.size()));
+			}
+		} catch (SQLException e) {
+			throw new QueryExecutionException("Erro ao converter as linhas sem repetição do union", e);
+		}
+		return result;
+	}
+
+	/**
+	 * Método que normaliza um valor para a comparação das linhas, como o banco de dados que
+	 * converte os valores das consultas do union para um tipo comum: os números são
+	 * convertidos para {@link BigDecimal} sem os zeros à direita, então <code>Integer 1</code>,
+	 * <code>Long 1</code> e <code>1.00</code> são iguais, e os arrays de bytes são comparados
+	 * pelo conteúdo.
+	 *
+	 * @param value - valor da coluna
+	 *
+	 * @return valor normalizado
+	 */
+	private static Object normalize(Object value) {
+		if (value instanceof BigDecimal) {
+			return ((BigDecimal) value).stripTrailingZeros();
+		} else if (value instanceof BigInteger) {
+			return new BigDecimal((BigInteger) value).stripTrailingZeros();
+		} else if (value instanceof Long || value instanceof Integer
+				|| value instanceof Short || value instanceof Byte) {
+			return BigDecimal.valueOf(((Number) value).longValue()).stripTrailingZeros();
+		} else if (value instanceof Double || value instanceof Float) {
+			final double number = ((Number) value).doubleValue();
+			return Double.isNaN(number) || Double.isInfinite(number) ? value
+					: BigDecimal.valueOf(number).stripTrailingZeros();
+		} else if (value instanceof byte[]) {
+			return ByteBuffer.wrap((byte[]) value);
+		}
+		return value;
+	}
+
+	/**
+	 * Conversor das linhas em arrays que guarda o nome das colunas do resultado.
+	 */
+	private static final class LabeledRowMapper implements RowMapper<Object[]> {
+
+		/**
+		 * Nome das colunas, lido na primeira linha, <code>null</code> se a consulta não retornou linhas.
+		 */
+		private volatile String[] labels;
+
+		@Override
+		public Object[] mapRow(ResultSet rs, int rowNum) throws SQLException {
+			if (rowNum == 0) {
+				final ResultSetMetaData metaData = rs.getMetaData();
+				final String[] columns = new String[metaData.getColumnCount()];
+				for (int i = 0; i < columns.length; i++) {
+					columns[i] = metaData.getColumnLabel(i + 1);
+				}
+				labels = columns;
+			}
+			return ArrayRowMapper.INSTANCE.mapRow(rs, rowNum);
+		}
+
+	}
+
+	/**
+	 * Iterador que concatena os resultados das consultas na ordem das consultas,
+	 * aguardando cada consulta somente quando as linhas anteriores forem lidas.
+	 *
+	 * @param <T> - tipo do objeto de cada linha
+	 */
+	private static final class BranchIterator<T> implements Iterator<T> {
+
+		/**
+		 * Resultados ainda não lidos, na ordem das consultas.
+		 */
+		private final Iterator<CompletableFuture<List<T>>> parts;
+
+		/**
+		 * Todas as consultas iniciadas, canceladas no {@link #close()}.
+		 */
+		private final List<CompletableFuture<?>> started;
+
+		/**
+		 * Linhas do resultado atual.
+		 */
+		private Iterator<T> current;
+
+		/**
+		 * Se o iterador foi fechado.
+		 */
+		private boolean closed;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param parts - resultados na ordem das consultas
+		 * @param started - consultas iniciadas
+		 */
+		private BranchIterator(List<CompletableFuture<List<T>>> parts, List<CompletableFuture<?>> started) {
+			this.parts = parts.iterator();
+			this.started = started;
+			this.current = Collections.<T>emptyList().iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!current.hasNext()) {
+				if (closed || !parts.hasNext()) {
+					return false;
+				}
+
+				try {
+					current = parts.next().join().iterator();
+				} catch (CompletionException e) {
+					close();
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw e;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("Resultado do union somente leitura");
+		}
+
+		/**
+		 * Método que cancela as consultas que ainda não terminaram.
+		 */
+		private void close() {
+			closed = true;
+			for (CompletableFuture<?> future : started) {
+				future.cancel(true);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.urbainski.sql.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+
+/**
+ * Classe que converte o valor lido de uma coluna para o tipo java da propriedade.
+ *
+ * <p>Os drivers retornam o tipo java do tipo sql da coluna, por exemplo {@link BigDecimal}
+ * para <code>decimal</code> e <code>Long</code> para <code>bigint</code>, que nem sempre é
+ * o tipo declarado na propriedade. Os enums são lidos pelo nome quando a coluna
+ * é texto e pela posição quando a coluna é numérica.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+final class ValueConverter {
+
+	/**
+	 * Construtor privado, classe apenas com métodos estáticos.
+	 */
+	private ValueConverter() {
+	}
+
+	/**
+	 * Método que converte um valor para o tipo informado.
+	 *
+	 * @param value - valor lido da coluna
+	 * @param type - tipo java de destino
+	 *
+	 * @return valor convertido, <code>null</code> se o valor for nulo
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Object convert(Object value, Class<?> type) {
+		if (value == null || type.isInstance(value)) {
+			return value;
+		}
+
+		final Class<?> target = wrap(type);
+		if (target.isInstance(value)) {
+			return value;
+		}
+
+		if (value instanceof Number) {
+			final Number number = (Number) value;
+			if (Integer.class.equals(target)) {
+				return number.intValue();
+			} else if (Long.class.equals(target)) {
+				return number.longValue();
+			} else if (Double.class.equals(target)) {
+				return number.doubleValue();
+			} else if (Float.class.equals(target)) {
+				return number.floatValue();
+			} else if (Short.class.equals(target)) {
+				return number.shortValue();
+			} else if (Byte.class.equals(target)) {
+				return number.byteValue();
+			} else if (BigDecimal.class.equals(target)) {
+				return new BigDecimal(number.toString());
+			} else if (BigInteger.class.equals(target)) {
+				return new BigDecimal(number.toString()).toBigInteger();
+			} else if (Boolean.class.equals(target)) {
+				return number.intValue() != 0;
+			} else if (target.isEnum()) {
+				return target.getEnumConstants()[number.intValue()];
+			}
+		} else if (value instanceof String) {
+			final String text = (String) value;
+			if (target.isEnum()) {
+				return Enum.valueOf((Class<? extends Enum>) target, text);
+			} else if (Character.class.equals(target) && text.length() == 1) {
+				return text.charAt(0);
+			}
+		} else if (value instanceof java.util.Date) {
+			final long time = ((java.util.Date) value).getTime();
+			if (java.util.Date.class.equals(target)) {
+				return new java.util.Date(time);
+			} else if (Calendar.class.equals(target)) {
+				final Calendar calendar = Calendar.getInstance();
+				calendar.setTimeInMillis(time);
+				return calendar;
+			}
+		}
+		throw new IllegalStateException("Valor do tipo: " + value.getClass().getName()
+				+ " não pode ser convertido para: " + type.getName());
+	}
+
+	/**
+	 * Método que retorna a classe wrapper de um tipo primitivo.
+	 *
+	 * @param type - tipo java
+	 *
+	 * @return classe wrapper ou o próprio tipo se não for primitivo
+	 */
+	static Class<?> wrap(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return type;
+		} else if (int.class.equals(type)) {
+			return Integer.class;
+		} else if (long.class.equals(type)) {
+			return Long.class;
+		} else if (double.class.equals(type)) {
+			return Double.class;
+		} else if (float.class.equals(type)) {
+			return Float.class;
+		} else if (short.class.equals(type)) {
+			return Short.class;
+		} else if (byte.class.equals(type)) {
+			return Byte.class;
+		} else if (boolean.class.equals(type)) {
+			return Boolean.class;
+		} else if (char.class.equals(type)) {
+			return Character.class;
+		}
+		return Void.class;
+	}
+
+}
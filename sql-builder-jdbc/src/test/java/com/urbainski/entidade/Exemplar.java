@@ -0,0 +1,55 @@
+package com.urbainski.entidade;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Entidade exemplar para teste unitário, com o identificador em uma coluna bigint.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@Entity
+@Table(name = "exemplar")
+public class Exemplar implements Serializable {
+
+	/**
+	 * SerialVersion.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Identificador do exemplar.
+	 */
+	@Id
+	private Long id;
+	
+	/**
+	 * Código do exemplar.
+	 */
+	@Column(name = "ds_codigo")
+	private String codigo;
+	
+	public Long getId() {
+		return id;
+	}
+	
+	public void setId(Long id) {
+		this.id = id;
+	}
+	
+	public String getCodigo() {
+		return codigo;
+	}
+	
+	public void setCodigo(String codigo) {
+		this.codigo = codigo;
+	}
+	
+}
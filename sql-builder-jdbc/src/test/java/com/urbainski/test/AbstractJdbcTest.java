@@ -0,0 +1,102 @@
+package com.urbainski.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.derby.jdbc.EmbeddedDataSource;
+import org.junit.BeforeClass;
+
+/**
+ * Classe base dos testes que executam as consultas em um banco de dados
+ * derby em memória, com as tabelas de autor e livro populadas.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public abstract class AbstractJdbcTest {
+
+	/**
+	 * Quantidade de livros cadastrados.
+	 */
+	protected static final int QUANTIDADE_LIVROS = 20;
+
+	/**
+	 * Nomes dos autores cadastrados, o identificador é a posição mais um.
+	 */
+	protected static final String[] AUTORES = { "Machado de Assis", "Clarice Lispector", "Jorge Amado" };
+
+	/**
+	 * Fonte das conexões do banco de dados dos testes.
+	 */
+	protected static DataSource dataSource;
+
+	@BeforeClass
+	public static void criaBancoDados() throws SQLException {
+		if (dataSource == null) {
+			dataSource = newDataSource("jdbcTest");
+		}
+	}
+
+	/**
+	 * Método que cria um banco de dados em memória com as tabelas populadas.
+	 * O livro de número <code>i</code> se chama "Livro i", foi publicado em
+	 * <code>1980 + i</code> e pertence ao autor <code>i % 3 + 1</code>. Cada livro
+	 * possui um exemplar com o mesmo id, em uma coluna bigint.
+	 *
+	 * @param nome - nome do banco de dados
+	 *
+	 * @return {@link DataSource} do banco de dados
+	 *
+	 * @throws SQLException erro ao criar as tabelas
+	 */
+	protected static DataSource newDataSource(String nome) throws SQLException {
+		final EmbeddedDataSource ds = new EmbeddedDataSource();
+		ds.setDatabaseName("memory:" + nome);
+		ds.setCreateDatabase("create");
+
+		try (Connection connection = ds.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("create table autor (id int primary key, ds_nome varchar(100), "
+					+ "dt_nascimento date)");
+			statement.executeUpdate("create table livro (id int primary key, ds_nome varchar(100), "
+					+ "nr_anopublicacao int, autor_id int)");
+			statement.executeUpdate("create table exemplar (id bigint primary key, ds_codigo varchar(100))");
+
+			try (PreparedStatement autor = connection.prepareStatement(
+					"insert into autor (id, ds_nome) values (?, ?)")) {
+				for (int i = 0; i < AUTORES.length; i++) {
+					autor.setInt(1, i + 1);
+					autor.setString(2, AUTORES[i]);
+					autor.executeUpdate();
+				}
+			}
+
+			try (PreparedStatement livro = connection.prepareStatement(
+					"insert into livro (id, ds_nome, nr_anopublicacao, autor_id) values (?, ?, ?, ?)")) {
+				for (int i = 1; i <= QUANTIDADE_LIVROS; i++) {
+					livro.setInt(1, i);
+					livro.setString(2, "Livro " + i);
+					livro.setInt(3, 1980 + i);
+					livro.setInt(4, i % AUTORES.length + 1);
+					livro.executeUpdate();
+				}
+			}
+
+			try (PreparedStatement exemplar = connection.prepareStatement(
+					"insert into exemplar (id, ds_codigo) values (?, ?)")) {
+				for (int i = 1; i <= QUANTIDADE_LIVROS; i++) {
+					exemplar.setLong(1, i);
+					exemplar.setString(2, "Exemplar " + i);
+					exemplar.executeUpdate();
+				}
+			}
+		}
+		return ds;
+	}
+
+}
@@ -0,0 +1,213 @@
+package com.urbainski.test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.AsyncQueryExecutor;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.RowMapper;
+
+/**
+ * Classe de teste unitário para a execução das consultas em outras threads.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class AsyncQueryExecutorTest extends AbstractJdbcTest {
+
+	@Test
+	public void testConsultasAoMesmoTempo() throws Exception {
+		final CyclicBarrier barreira = new CyclicBarrier(2);
+		final EntityRowMapper<Livro> livroMapper = new EntityRowMapper<Livro>(Livro.class);
+		RowMapper<Livro> mapper = new RowMapper<Livro>() {
+
+			@Override
+			public Livro mapRow(ResultSet rs, int rowNum) throws SQLException {
+				if (rowNum == 0) {
+					try {
+						barreira.await(5, TimeUnit.SECONDS);
+					} catch (Exception e) {
+						throw new IllegalStateException("Consultas não executaram ao mesmo tempo", e);
+					}
+				}
+				return livroMapper.mapRow(rs, rowNum);
+			}
+		};
+
+		ExecutorService threads = Executors.newFixedThreadPool(2);
+		try {
+			AsyncQueryExecutor async = new AsyncQueryExecutor(newQueryExecutor(), threads);
+
+			CompletableFuture<List<Livro>> ateDez = async.query(newLivros(ConditionDBTypes.LESS_OR_EQUALS, 10), mapper);
+			CompletableFuture<List<Livro>> depoisDez = async.query(newLivros(ConditionDBTypes.GREATER, 10), mapper);
+
+			Assert.assertEquals(10, ateDez.get(10, TimeUnit.SECONDS).size());
+			Assert.assertEquals(QUANTIDADE_LIVROS - 10, depoisDez.get(10, TimeUnit.SECONDS).size());
+		} finally {
+			threads.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testTempoLimite() throws Exception {
+		final AtomicInteger convertidas = new AtomicInteger();
+		final EntityRowMapper<Livro> livroMapper = new EntityRowMapper<Livro>(Livro.class);
+		RowMapper<Livro> mapper = new RowMapper<Livro>() {
+
+			@Override
+			public Livro mapRow(ResultSet rs, int rowNum) throws SQLException {
+				convertidas.incrementAndGet();
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return livroMapper.mapRow(rs, rowNum);
+			}
+		};
+
+		ExecutorService threads = Executors.newSingleThreadExecutor();
+		AsyncQueryExecutor async = new AsyncQueryExecutor(newQueryExecutor(), threads);
+		CompletableFuture<List<Livro>> livros = async.query(newLivros(ConditionDBTypes.GREATER, 0), mapper,
+				120, TimeUnit.MILLISECONDS);
+
+		try {
+			livros.get();
+			Assert.fail("Consulta deveria exceder o tempo limite");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof TimeoutException);
+		}
+
+		threads.shutdown();
+		Assert.assertTrue(threads.awaitTermination(5, TimeUnit.SECONDS));
+		Assert.assertTrue(convertidas.get() < QUANTIDADE_LIVROS);
+	}
+
+	@Test
+	public void testCancelamento() throws Exception {
+		final CountDownLatch iniciada = new CountDownLatch(1);
+		final CountDownLatch liberada = new CountDownLatch(1);
+		final AtomicInteger convertidas = new AtomicInteger();
+		final EntityRowMapper<Livro> livroMapper = new EntityRowMapper<Livro>(Livro.class);
+		RowMapper<Livro> mapper = new RowMapper<Livro>() {
+
+			@Override
+			public Livro mapRow(ResultSet rs, int rowNum) throws SQLException {
+				convertidas.incrementAndGet();
+				iniciada.countDown();
+				try {
+					liberada.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return livroMapper.mapRow(rs, rowNum);
+			}
+		};
+
+		ExecutorService threads = Executors.newSingleThreadExecutor();
+		AsyncQueryExecutor async = new AsyncQueryExecutor(newQueryExecutor(), threads);
+		CompletableFuture<List<Livro>> livros = async.query(newLivros(ConditionDBTypes.GREATER, 0), mapper);
+
+		Assert.assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+		Assert.assertTrue(livros.cancel(true));
+		liberada.countDown();
+
+		threads.shutdown();
+		Assert.assertTrue(threads.awaitTermination(5, TimeUnit.SECONDS));
+		Assert.assertTrue(livros.isCancelled());
+		Assert.assertEquals(1, convertidas.get());
+	}
+
+	@Test
+	public void testCancelamentoAntesDaExecucao() {
+		final List<Runnable> agendadas = new ArrayList<Runnable>();
+		Executor fila = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				agendadas.add(command);
+			}
+		};
+
+		final AtomicInteger convertidas = new AtomicInteger();
+		RowMapper<Autor> mapper = new RowMapper<Autor>() {
+
+			@Override
+			public Autor mapRow(ResultSet rs, int rowNum) throws SQLException {
+				convertidas.incrementAndGet();
+				return new Autor();
+			}
+		};
+
+		AsyncQueryExecutor async = new AsyncQueryExecutor(newQueryExecutor(), fila);
+		CompletableFuture<Autor> autor = async.queryForObject(new SelectBuilder(Autor.class), mapper,
+				1, TimeUnit.SECONDS);
+
+		Assert.assertTrue(autor.cancel(true));
+		Assert.assertEquals(1, agendadas.size());
+		agendadas.get(0).run();
+
+		Assert.assertEquals(0, convertidas.get());
+	}
+
+	@Test
+	public void testExecutorPadrao() throws Exception {
+		try (AsyncQueryExecutor async = new AsyncQueryExecutor(newQueryExecutor())) {
+			SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+			sqlBuilder.where(ConditionDBTypes.EQUALS, "id", 2);
+
+			Autor autor = async.queryForObject(sqlBuilder, new EntityRowMapper<Autor>(Autor.class))
+					.get(10, TimeUnit.SECONDS);
+
+			Assert.assertEquals(AUTORES[1], autor.getNome());
+		}
+	}
+
+	/**
+	 * Método que cria o executor das consultas no banco de dados do teste.
+	 *
+	 * @return {@link QueryExecutor}
+	 */
+	private static QueryExecutor newQueryExecutor() {
+		return new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+	}
+
+	/**
+	 * Método que cria a consulta dos livros filtrados pelo código, ordenados pelo código.
+	 *
+	 * @param condition - condição do filtro
+	 * @param id - código comparado
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivros(ConditionDBTypes condition, int id) {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(condition, "id", id);
+		sqlBuilder.orderBy().addField("id");
+		return sqlBuilder;
+	}
+
+}
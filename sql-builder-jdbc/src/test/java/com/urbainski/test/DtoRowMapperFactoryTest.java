@@ -0,0 +1,234 @@
+package com.urbainski.test;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.DtoRowMapperFactory;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.RowMapper;
+
+/**
+ * Classe de teste unitário para os conversores de linhas em dtos.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class DtoRowMapperFactoryTest extends AbstractJdbcTest {
+
+	@Test
+	public void testConversaoPorSetters() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		SelectBuilder sqlBuilder = newLivrosPorAutor();
+
+		List<DtoLivrosAutor> list = executor.query(sqlBuilder, factory.forSelect(DtoLivrosAutor.class, sqlBuilder));
+
+		Assert.assertEquals(3, list.size());
+		Assert.assertEquals("Clarice Lispector", list.get(0).getNomeAutor());
+		Assert.assertEquals(7, list.get(0).getQuantidade());
+		Assert.assertEquals("Jorge Amado", list.get(1).getNomeAutor());
+		Assert.assertEquals(7, list.get(1).getQuantidade());
+		Assert.assertEquals("Machado de Assis", list.get(2).getNomeAutor());
+		Assert.assertEquals(6, list.get(2).getQuantidade());
+	}
+
+	@Test
+	public void testConversaoPeloNomeDaPropriedade() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.select().addField("anoPublicacao");
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "id", 3);
+
+		DtoLivro dto = executor.queryForObject(sqlBuilder, factory.forSelect(DtoLivro.class, sqlBuilder));
+
+		Assert.assertEquals("Livro 3", dto.getNome());
+		Assert.assertEquals(Long.valueOf(1983), dto.getAnoPublicacao());
+	}
+
+	@Test
+	public void testConversaoPeloConstrutor() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome", "titulo");
+		sqlBuilder.select().addField("anoPublicacao", "ano");
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "id", 5);
+
+		DtoLivroImutavel dto = executor.queryForObject(sqlBuilder,
+				factory.forSelect(DtoLivroImutavel.class, sqlBuilder));
+
+		Assert.assertEquals("Livro 5", dto.getTitulo());
+		Assert.assertEquals(1985, dto.getAno());
+	}
+
+	@Test
+	public void testConversorGuardadoPorProjecao() {
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		RowMapper<DtoLivrosAutor> mapper = factory.forSelect(DtoLivrosAutor.class, newLivrosPorAutor());
+
+		Assert.assertSame(mapper, factory.forSelect(DtoLivrosAutor.class, newLivrosPorAutor()));
+		Assert.assertSame(mapper, factory.forColumns(DtoLivrosAutor.class, "quantidade", "nomeAutor"));
+		Assert.assertNotSame(mapper, factory.forColumns(DtoLivrosAutor.class, "nomeAutor", "quantidade"));
+		Assert.assertEquals(2, factory.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testColunaSemPropriedade() {
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		factory.forColumns(DtoLivrosAutor.class, "quantidade", "nomeEditora");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstrutoresAmbiguos() {
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		factory.forColumns(DtoLivroAmbiguo.class, "titulo", "ano");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConsultaSemCampos() {
+		DtoRowMapperFactory factory = new DtoRowMapperFactory();
+
+		factory.forSelect(DtoLivro.class, new SelectBuilder(Livro.class));
+	}
+
+	/**
+	 * Método que cria a consulta da quantidade de livros de cada autor.
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivrosPorAutor() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		sqlBuilder.select().addField(Autor.class, "a0", "nome", "nomeAutor");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor");
+		sqlBuilder.groupBy().addField(Autor.class, "a0", "nome");
+		sqlBuilder.orderBy().addField(Autor.class, "a0", "nome");
+		return sqlBuilder;
+	}
+
+	/**
+	 * Dto da quantidade de livros de um autor, com setter de <code>int</code>.
+	 */
+	public static class DtoLivrosAutor {
+
+		private int quantidade;
+
+		private String nomeAutor;
+
+		public int getQuantidade() {
+			return quantidade;
+		}
+
+		public void setQuantidade(int quantidade) {
+			this.quantidade = quantidade;
+		}
+
+		public String getNomeAutor() {
+			return nomeAutor;
+		}
+
+		public void setNomeAutor(String nomeAutor) {
+			this.nomeAutor = nomeAutor;
+		}
+
+	}
+
+	/**
+	 * Dto com o mesmo nome das propriedades da entidade.
+	 */
+	public static class DtoLivro {
+
+		private String nome;
+
+		private Long anoPublicacao;
+
+		public String getNome() {
+			return nome;
+		}
+
+		public void setNome(String nome) {
+			this.nome = nome;
+		}
+
+		public Long getAnoPublicacao() {
+			return anoPublicacao;
+		}
+
+		public void setAnoPublicacao(Long anoPublicacao) {
+			this.anoPublicacao = anoPublicacao;
+		}
+
+	}
+
+	/**
+	 * Dto imutável, informado pelo construtor.
+	 */
+	public static class DtoLivroImutavel {
+
+		private final String titulo;
+
+		private final int ano;
+
+		public DtoLivroImutavel(String titulo, int ano) {
+			this.titulo = titulo;
+			this.ano = ano;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public int getAno() {
+			return ano;
+		}
+
+	}
+
+	/**
+	 * Dto com dois construtores que podem receber as mesmas colunas.
+	 */
+	public static class DtoLivroAmbiguo {
+
+		private final String titulo;
+
+		private final long ano;
+
+		public DtoLivroAmbiguo(String titulo, int ano) {
+			this.titulo = titulo;
+			this.ano = ano;
+		}
+
+		public DtoLivroAmbiguo(String titulo, long ano) {
+			this.titulo = titulo;
+			this.ano = ano;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public long getAno() {
+			return ano;
+		}
+
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.urbainski.test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.PartitionedScan;
+import com.urbainski.sql.jdbc.QueryExecutor;
+
+/**
+ * Classe de teste unitário para a leitura paralela das consultas divididas em faixas da chave.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class PartitionedScanTest extends AbstractJdbcTest {
+
+	/**
+	 * Colunas da consulta de todos os campos do livro.
+	 */
+	private static final String COLUNAS = "select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ";
+
+	/**
+	 * Leitura paralela com duas faixas ao mesmo tempo.
+	 */
+	private static PartitionedScan scan;
+
+	@BeforeClass
+	public static void criaScan() {
+		scan = new PartitionedScan(new QueryExecutor(dataSource, DerbyDialect.INSTANCE), 2);
+	}
+
+	@AfterClass
+	public static void fechaScan() {
+		scan.close();
+	}
+
+	@Test
+	public void testFaixasPeloMenorEMaiorValor() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+
+		List<SelectBuilder> faixas = scan.split(sqlBuilder, null, 3, false);
+
+		Assert.assertEquals(3, faixas.size());
+		Assert.assertEquals(COLUNAS + "from livro where livro.id between 1 and 6", faixas.get(0).buildSQL());
+		Assert.assertEquals(COLUNAS + "from livro where livro.id between 7 and 13", faixas.get(1).buildSQL());
+		Assert.assertEquals(COLUNAS + "from livro where livro.id between 14 and 20", faixas.get(2).buildSQL());
+		Assert.assertNull(sqlBuilder.getWhere());
+	}
+
+	@Test
+	public void testStreamOrdenado() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+
+		try (Stream<Livro> livros = scan.stream(sqlBuilder, "id", 7, new EntityRowMapper<Livro>(Livro.class), true)) {
+			List<Integer> ids = livros.map(Livro::getId).collect(Collectors.toList());
+
+			Assert.assertEquals(QUANTIDADE_LIVROS, ids.size());
+			for (int i = 0; i < ids.size(); i++) {
+				Assert.assertEquals(Integer.valueOf(i + 1), ids.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testStreamSemOrdem() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+
+		try (Stream<Livro> livros = scan.stream(sqlBuilder, null, 5, new EntityRowMapper<Livro>(Livro.class), false)) {
+			Assert.assertEquals(QUANTIDADE_LIVROS, livros.map(Livro::getId).distinct().count());
+		}
+	}
+
+	@Test
+	public void testValoresDeDivisao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+
+		List<SelectBuilder> faixas = scan.split(sqlBuilder, "anoPublicacao", new long[] { 1985, 1990 }, true);
+
+		Assert.assertEquals(3, faixas.size());
+		Assert.assertEquals(new StringBuilder()
+				.append("select l0.id, l0.ds_nome, l0.nr_anopublicacao, l0.autor_id from livro as l0 ")
+				.append("where l0.nr_anopublicacao < 1985 order by l0.nr_anopublicacao asc")
+				.toString(), faixas.get(0).buildSQL());
+		Assert.assertEquals(new StringBuilder()
+				.append("select l0.id, l0.ds_nome, l0.nr_anopublicacao, l0.autor_id from livro as l0 ")
+				.append("where l0.nr_anopublicacao between 1985 and 1989 ")
+				.append("order by l0.nr_anopublicacao asc")
+				.toString(), faixas.get(1).buildSQL());
+
+		try (Stream<Livro> livros = scan.stream(faixas, new EntityRowMapper<Livro>(Livro.class), true)) {
+			Assert.assertEquals(QUANTIDADE_LIVROS, livros.count());
+		}
+	}
+
+	@Test
+	public void testWhereEJoin() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor");
+		sqlBuilder.where(ConditionDBTypes.EQUALS, Autor.class, "a0", "nome", AUTORES[0]);
+
+		List<SelectBuilder> faixas = scan.split(sqlBuilder, null, 2, true);
+
+		Assert.assertEquals(2, faixas.size());
+		try (Stream<Livro> livros = scan.stream(faixas, new EntityRowMapper<Livro>(Livro.class), true)) {
+			List<Integer> ids = livros.map(Livro::getId).collect(Collectors.toList());
+
+			// livros 3, 6, 9, 12, 15 e 18 do autor 1
+			Assert.assertEquals(6, ids.size());
+			Assert.assertEquals(Integer.valueOf(3), ids.get(0));
+			Assert.assertEquals(Integer.valueOf(18), ids.get(5));
+		}
+	}
+
+	@Test
+	public void testConsultaSemLinhas() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.GREATER, "id", 100);
+
+		Assert.assertTrue(scan.split(sqlBuilder, null, 4, false).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAgregacao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+
+		scan.split(sqlBuilder, null, 4, false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPaginacaoPorChave() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.seekAfter(5);
+
+		scan.split(sqlBuilder, null, 4, false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChaveQueNaoEInteira() {
+		scan.split(new SelectBuilder(Livro.class), "nome", new long[] { 5 }, false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testValoresDeDivisaoForaDeOrdem() {
+		scan.split(new SelectBuilder(Livro.class), null, new long[] { 10, 5 }, false);
+	}
+
+}
@@ -0,0 +1,189 @@
+package com.urbainski.test;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.CompiledSelect;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+import com.urbainski.sql.db.types.OrderByDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.ArrayRowMapper;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutionException;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.QuerySession;
+import com.urbainski.sql.jdbc.RowMapper;
+
+/**
+ * Classe de teste unitário para a execução das consultas por jdbc.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class QueryExecutorTest extends AbstractJdbcTest {
+
+	/**
+	 * Conversor das linhas em livros.
+	 */
+	private static final EntityRowMapper<Livro> LIVRO_MAPPER = new EntityRowMapper<Livro>(Livro.class);
+
+	@Test
+	public void testConsultaComEntidade() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.BETWEEN, "anoPublicacao", 1991, 1993);
+		sqlBuilder.orderBy().addField("id");
+
+		List<Livro> livros = executor.query(sqlBuilder, LIVRO_MAPPER);
+
+		Assert.assertEquals(3, livros.size());
+		Assert.assertEquals(Integer.valueOf(11), livros.get(0).getId());
+		Assert.assertEquals("Livro 11", livros.get(0).getNome());
+		Assert.assertEquals(1991, livros.get(0).getAnoPublicacao());
+		Assert.assertNull(livros.get(0).getAutor());
+		Assert.assertEquals("Livro 13", livros.get(2).getNome());
+	}
+
+	@Test
+	public void testConsultaComJoinUsaPrimeiraColuna() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.INNER);
+		sqlBuilder.where(ConditionBuilder.newCondition(Autor.class, "a0", ConditionDBTypes.EQUALS, "id", 2));
+		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField("id");
+
+		List<Livro> livros = executor.query(sqlBuilder, LIVRO_MAPPER);
+
+		Assert.assertEquals(7, livros.size());
+		Assert.assertEquals(Integer.valueOf(19), livros.get(0).getId());
+		Assert.assertEquals("Livro 19", livros.get(0).getNome());
+	}
+
+	@Test
+	public void testConsultaCompilada() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "nome", "");
+		CompiledSelect porNome = sqlBuilder.compile(DerbyDialect.INSTANCE);
+
+		Assert.assertEquals(Integer.valueOf(5), executor.queryForObject(porNome.bind("Livro 5"), LIVRO_MAPPER).getId());
+		Assert.assertEquals(1, executor.query(porNome, LIVRO_MAPPER, "Livro 7").size());
+		Assert.assertNull(executor.queryForObject(porNome.bind("Livro 50"), LIVRO_MAPPER));
+	}
+
+	@Test
+	public void testSessaoReaproveitaStatement() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		try (QuerySession session = executor.openSession()) {
+			for (int ano = 1981; ano <= 1990; ano++) {
+				SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+				sqlBuilder.where(ConditionDBTypes.EQUALS, "anoPublicacao", ano);
+
+				List<Livro> livros = session.query(sqlBuilder, LIVRO_MAPPER);
+
+				Assert.assertEquals(1, livros.size());
+				Assert.assertEquals(ano, livros.get(0).getAnoPublicacao());
+			}
+
+			Assert.assertEquals(1, session.getStatements().size());
+			Assert.assertEquals(1, session.getStatements().getMisses());
+			Assert.assertEquals(9, session.getStatements().getHits());
+		}
+	}
+
+	@Test
+	public void testDescarteDoStatementMenosUsado() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE, 1);
+
+		try (QuerySession session = executor.openSession()) {
+			SelectBuilder porId = new SelectBuilder(Livro.class);
+			porId.where(ConditionDBTypes.EQUALS, "id", 1);
+
+			SelectBuilder porAno = new SelectBuilder(Livro.class);
+			porAno.where(ConditionDBTypes.EQUALS, "anoPublicacao", 1981);
+
+			Assert.assertEquals(1, session.query(porId, LIVRO_MAPPER).size());
+			Assert.assertEquals(1, session.query(porAno, LIVRO_MAPPER).size());
+			Assert.assertEquals(1, session.query(porId, LIVRO_MAPPER).size());
+
+			Assert.assertEquals(1, session.getStatements().size());
+			Assert.assertEquals(3, session.getStatements().getMisses());
+		}
+	}
+
+	@Test
+	public void testPaginacaoComDialeto() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.offset(5);
+		sqlBuilder.limit(3);
+
+		List<Object[]> linhas = executor.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(3, linhas.size());
+		Assert.assertEquals(4, linhas.get(0).length);
+		Assert.assertEquals(6, linhas.get(0)[0]);
+		Assert.assertEquals("Livro 8", linhas.get(2)[1]);
+	}
+
+	@Test
+	public void testContagemDaConsultaPaginada() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.where(ConditionDBTypes.GREATER, "anoPublicacao", 1990);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.offset(5);
+		sqlBuilder.limit(3);
+
+		RowMapper<Integer> quantidade = (rs, rowNum) -> rs.getInt(1);
+		Assert.assertEquals(Integer.valueOf(QUANTIDADE_LIVROS - 10),
+				executor.queryForObject(sqlBuilder.toCountQuery(), quantidade));
+
+		SelectBuilder porAutor = new SelectBuilder(Livro.class);
+		porAutor.select().addField("autor", "autor");
+		porAutor.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		porAutor.groupBy().addField("autor");
+
+		Assert.assertEquals(Integer.valueOf(AUTORES.length),
+				executor.queryForObject(porAutor.toCountQuery(), quantidade));
+	}
+
+	@Test
+	public void testErroNaExecucao() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "nome", "Jorge Amado");
+		sqlBuilder.limit(1);
+
+		try {
+			executor.query(sqlBuilder.buildBoundSQL(), LIVRO_MAPPER);
+			Assert.fail("Sql gerado sem dialeto não deveria executar no derby");
+		} catch (QueryExecutionException e) {
+			System.out.println(e.getMessage());
+
+			Assert.assertEquals(sqlBuilder.buildBoundSQL().getSql(), e.getSql());
+			Assert.assertNotNull(e.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,219 @@
+package com.urbainski.test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.persistence.Entity;
+import javax.persistence.PrimaryKeyJoinColumn;
+import javax.persistence.Table;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.CachingQueryExecutor;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.QueryResultCache;
+import com.urbainski.sql.jdbc.RowMapper;
+
+/**
+ * Classe de teste unitário para o cache dos resultados das consultas.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class QueryResultCacheTest extends AbstractJdbcTest {
+
+	@Test
+	public void testResultadoGuardado() {
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache());
+
+		List<Livro> primeira = executor.query(newLivrosDoAutor(1), new EntityRowMapper<Livro>(Livro.class));
+		List<Livro> segunda = executor.query(newLivrosDoAutor(1), new EntityRowMapper<Livro>(Livro.class));
+
+		Assert.assertEquals(6, primeira.size());
+		Assert.assertSame(primeira, segunda);
+		Assert.assertEquals(1, executor.getCache().getHits());
+		Assert.assertEquals(1, executor.getCache().getMisses());
+	}
+
+	@Test
+	public void testParametrosDiferentes() {
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache());
+		EntityRowMapper<Livro> mapper = new EntityRowMapper<Livro>(Livro.class);
+
+		Assert.assertEquals(6, executor.query(newLivrosDoAutor(1), mapper).size());
+		Assert.assertEquals(7, executor.query(newLivrosDoAutor(2), mapper).size());
+		Assert.assertEquals(2, executor.getCache().size());
+		Assert.assertEquals(0, executor.getCache().getHits());
+	}
+
+	@Test
+	public void testInvalidacaoPorTabela() {
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache());
+
+		SelectBuilder livrosComAutor = newLivrosDoAutor(1);
+		livrosComAutor.addJoin(Autor.class, "autor");
+
+		executor.query(newLivrosDoAutor(1), new EntityRowMapper<Livro>(Livro.class));
+		executor.query(livrosComAutor, new EntityRowMapper<Livro>(Livro.class));
+		executor.query(new SelectBuilder(Autor.class), new EntityRowMapper<Autor>(Autor.class));
+		Assert.assertEquals(3, executor.getCache().size());
+
+		executor.invalidate(Autor.class);
+
+		Assert.assertEquals(1, executor.getCache().size());
+		executor.query(newLivrosDoAutor(1), new EntityRowMapper<Livro>(Livro.class));
+		Assert.assertEquals(1, executor.getCache().getHits());
+
+		Assert.assertEquals(1, executor.getCache().invalidate("LIVRO"));
+		Assert.assertEquals(0, executor.getCache().size());
+	}
+
+	@Test
+	public void testInvalidacaoPelaHeranca() {
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache());
+
+		executor.query(newLivrosDoAutor(1), new EntityRowMapper<Livro>(Livro.class));
+		executor.query(new SelectBuilder(Autor.class), new EntityRowMapper<Autor>(Autor.class));
+
+		Assert.assertEquals(1, executor.getCache().invalidate(LivroAudio.class));
+		Assert.assertEquals(1, executor.getCache().size());
+	}
+
+	@Test
+	public void testTempoDeVida() throws InterruptedException {
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache(16, 50, TimeUnit.MILLISECONDS));
+		EntityRowMapper<Livro> mapper = new EntityRowMapper<Livro>(Livro.class);
+
+		executor.query(newLivrosDoAutor(1), mapper);
+		Thread.sleep(100);
+		executor.query(newLivrosDoAutor(1), mapper);
+
+		Assert.assertEquals(0, executor.getCache().getHits());
+		Assert.assertEquals(2, executor.getCache().getMisses());
+	}
+
+	@Test
+	public void testTamanhoMaximo() {
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache(2, 0, TimeUnit.SECONDS));
+		EntityRowMapper<Livro> mapper = new EntityRowMapper<Livro>(Livro.class);
+
+		executor.query(newLivrosDoAutor(1), mapper);
+		executor.query(newLivrosDoAutor(2), mapper);
+		executor.query(newLivrosDoAutor(1), mapper);
+		executor.query(newLivrosDoAutor(3), mapper);
+		Assert.assertEquals(2, executor.getCache().size());
+
+		executor.query(newLivrosDoAutor(1), mapper);
+		Assert.assertEquals(2, executor.getCache().getHits());
+
+		executor.query(newLivrosDoAutor(2), mapper);
+		Assert.assertEquals(2, executor.getCache().getHits());
+	}
+
+	@Test
+	public void testInvalidacaoDuranteConsulta() {
+		final QueryResultCache cache = new QueryResultCache();
+		final EntityRowMapper<Livro> livroMapper = new EntityRowMapper<Livro>(Livro.class);
+		RowMapper<Livro> mapper = new RowMapper<Livro>() {
+
+			@Override
+			public Livro mapRow(ResultSet rs, int rowNum) throws SQLException {
+				if (rowNum == 0) {
+					cache.invalidate(Livro.class);
+				}
+				return livroMapper.mapRow(rs, rowNum);
+			}
+		};
+
+		CachingQueryExecutor executor = newCachingExecutor(cache);
+
+		Assert.assertEquals(6, executor.query(newLivrosDoAutor(1), mapper).size());
+		Assert.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testPrimeiraLinha() {
+		final AtomicInteger convertidas = new AtomicInteger();
+		final EntityRowMapper<Autor> autorMapper = new EntityRowMapper<Autor>(Autor.class);
+		RowMapper<Autor> mapper = new RowMapper<Autor>() {
+
+			@Override
+			public Autor mapRow(ResultSet rs, int rowNum) throws SQLException {
+				convertidas.incrementAndGet();
+				return autorMapper.mapRow(rs, rowNum);
+			}
+		};
+
+		CachingQueryExecutor executor = newCachingExecutor(new QueryResultCache());
+		SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+		sqlBuilder.orderBy().addField("id");
+
+		Assert.assertEquals(AUTORES[0], executor.queryForObject(sqlBuilder, mapper).getNome());
+		Assert.assertEquals(AUTORES[0], executor.queryForObject(sqlBuilder, mapper).getNome());
+		Assert.assertEquals(1, convertidas.get());
+
+		Assert.assertEquals(AUTORES.length, executor.query(sqlBuilder, mapper).size());
+		Assert.assertEquals(1 + AUTORES.length, convertidas.get());
+	}
+
+	/**
+	 * Método que cria o executor das consultas com o cache informado.
+	 *
+	 * @param cache - cache dos resultados
+	 *
+	 * @return {@link CachingQueryExecutor}
+	 */
+	private static CachingQueryExecutor newCachingExecutor(QueryResultCache cache) {
+		return new CachingQueryExecutor(new QueryExecutor(dataSource, DerbyDialect.INSTANCE), cache);
+	}
+
+	/**
+	 * Método que cria a consulta dos livros de um autor.
+	 *
+	 * @param autorId - código do autor
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivrosDoAutor(int autorId) {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "autor", autorId);
+		return sqlBuilder;
+	}
+
+	/**
+	 * Entidade com herança em dois níveis a partir de {@link Livro}.
+	 */
+	@Entity
+	@Table(name = "livro_audio")
+	@PrimaryKeyJoinColumn(name = "livro_id")
+	public static class LivroAudio extends LivroDigital {
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+	/**
+	 * Entidade filha de {@link Livro}.
+	 */
+	@Entity
+	@Table(name = "livro_digital")
+	@PrimaryKeyJoinColumn(name = "livro_id")
+	public static class LivroDigital extends Livro {
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.urbainski.test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.QuerySession;
+import com.urbainski.sql.jdbc.ResultCursor;
+import com.urbainski.sql.jdbc.RowMapper;
+
+/**
+ * Classe de teste unitário para a leitura das consultas por cursor.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class ResultCursorTest extends AbstractJdbcTest {
+
+	@Test
+	public void testLinhasConvertidasSobDemanda() {
+		final AtomicInteger convertidas = new AtomicInteger();
+		final EntityRowMapper<Livro> livroMapper = new EntityRowMapper<Livro>(Livro.class);
+		RowMapper<Livro> mapper = new RowMapper<Livro>() {
+
+			@Override
+			public Livro mapRow(ResultSet rs, int rowNum) throws SQLException {
+				convertidas.incrementAndGet();
+				return livroMapper.mapRow(rs, rowNum);
+			}
+		};
+
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		try (ResultCursor<Livro> cursor = executor.cursor(newLivrosOrdenados(), mapper, 5)) {
+			for (int i = 1; i <= 3; i++) {
+				Assert.assertTrue(cursor.hasNext());
+				Assert.assertEquals(Integer.valueOf(i), cursor.next().getId());
+			}
+
+			Assert.assertEquals(3, convertidas.get());
+			Assert.assertFalse(cursor.isClosed());
+		}
+	}
+
+	@Test
+	public void testCursorFechadoNaUltimaLinha() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+
+		ResultCursor<Livro> cursor = executor.cursor(newLivrosOrdenados(),
+				new EntityRowMapper<Livro>(Livro.class), 0);
+
+		int total = 0;
+		while (cursor.hasNext()) {
+			cursor.next();
+			total++;
+		}
+
+		Assert.assertEquals(QUANTIDADE_LIVROS, total);
+		Assert.assertTrue(cursor.isClosed());
+	}
+
+	@Test
+	public void testStreamDevolveConexao() {
+		final AtomicInteger conexoesAbertas = new AtomicInteger();
+		QueryExecutor executor = new QueryExecutor(newContadorConexoes(conexoesAbertas), DerbyDialect.INSTANCE);
+
+		List<String> nomes;
+		try (Stream<Livro> livros = executor.stream(newLivrosOrdenados(), new EntityRowMapper<Livro>(Livro.class), 2)) {
+			Assert.assertEquals(1, conexoesAbertas.get());
+
+			nomes = livros.filter(l -> l.getAnoPublicacao() > 1990).limit(2)
+					.map(Livro::getNome).collect(Collectors.toList());
+		}
+
+		Assert.assertEquals(0, conexoesAbertas.get());
+		Assert.assertEquals("Livro 11", nomes.get(0));
+		Assert.assertEquals("Livro 12", nomes.get(1));
+	}
+
+	@Test
+	public void testMesmaFormaComCursorAberto() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		EntityRowMapper<Livro> mapper = new EntityRowMapper<Livro>(Livro.class);
+
+		try (QuerySession session = executor.openSession();
+				ResultCursor<Livro> cursor = session.cursor(newLivrosOrdenados(), mapper, 1)) {
+			Assert.assertEquals(Integer.valueOf(1), cursor.next().getId());
+			Assert.assertEquals(QUANTIDADE_LIVROS, session.query(newLivrosOrdenados(), mapper).size());
+			Assert.assertEquals(Integer.valueOf(2), cursor.next().getId());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTamanhoDaBuscaNegativo() {
+		QueryExecutor executor = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		executor.cursor(newLivrosOrdenados(), new EntityRowMapper<Livro>(Livro.class), -1);
+	}
+
+	/**
+	 * Método que cria a consulta de todos os livros ordenados pelo id.
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivrosOrdenados() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.GREATER, "id", 0);
+		sqlBuilder.orderBy().addField("id");
+		return sqlBuilder;
+	}
+
+	/**
+	 * Método que cria uma fonte de conexões que conta as conexões abertas.
+	 *
+	 * @param conexoesAbertas - contador das conexões abertas
+	 *
+	 * @return {@link DataSource}
+	 */
+	private static DataSource newContadorConexoes(final AtomicInteger conexoesAbertas) {
+		return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+				new Class<?>[] { DataSource.class }, new InvocationHandler() {
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final Object result = invokeTarget(dataSource, method, args);
+				if (!"getConnection".equals(method.getName())) {
+					return result;
+				}
+
+				conexoesAbertas.incrementAndGet();
+				final Connection connection = (Connection) result;
+				return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+						new Class<?>[] { Connection.class }, new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ("close".equals(method.getName())) {
+							conexoesAbertas.decrementAndGet();
+						}
+						return invokeTarget(connection, method, args);
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Método que chama o método no objeto original, lançando o erro original.
+	 *
+	 * @param target - objeto original
+	 * @param method - método chamado
+	 * @param args - argumentos
+	 *
+	 * @return retorno do método
+	 *
+	 * @throws Throwable erro lançado pelo método
+	 */
+	private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+}
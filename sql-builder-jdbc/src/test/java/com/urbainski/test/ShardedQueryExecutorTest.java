@@ -0,0 +1,289 @@
+package com.urbainski.test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.OrderByDBTypes;
+import com.urbainski.sql.db.types.UnionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.jdbc.ArrayRowMapper;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.ShardedQueryExecutor;
+
+/**
+ * Classe de teste unitário para a execução das consultas em várias partições, cada
+ * uma um banco de dados derby em memória com os livros de <code>id % 3</code> igual
+ * à posição da partição. Os resultados são comparados com os do banco de dados com
+ * todos os livros.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class ShardedQueryExecutorTest extends AbstractJdbcTest {
+
+	/**
+	 * Quantidade de partições.
+	 */
+	private static final int QUANTIDADE_PARTICOES = 3;
+
+	/**
+	 * Executor das consultas nas partições.
+	 */
+	private static ShardedQueryExecutor sharded;
+
+	/**
+	 * Executor das consultas no banco de dados com todos os livros.
+	 */
+	private static QueryExecutor single;
+
+	@BeforeClass
+	public static void criaParticoes() throws SQLException {
+		final List<QueryExecutor> shards = new ArrayList<QueryExecutor>();
+		for (int i = 0; i < QUANTIDADE_PARTICOES; i++) {
+			final DataSource shard = newDataSource("jdbcShard" + i);
+			try (Connection connection = shard.getConnection(); Statement statement = connection.createStatement()) {
+				statement.executeUpdate("delete from livro where mod(id, " + QUANTIDADE_PARTICOES + ") <> " + i);
+			}
+			shards.add(new QueryExecutor(shard, DerbyDialect.INSTANCE));
+		}
+
+		sharded = new ShardedQueryExecutor(shards);
+		single = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+	}
+
+	@AfterClass
+	public static void fechaParticoes() {
+		sharded.close();
+	}
+
+	@Test
+	public void testSemOrdenacao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+
+		List<Livro> livros = sharded.query(sqlBuilder, new EntityRowMapper<Livro>(Livro.class));
+
+		Assert.assertEquals(QUANTIDADE_LIVROS, livros.size());
+	}
+
+	@Test
+	public void testOrdenacaoEPaginacao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.where(ConditionDBTypes.GREATER, "anoPublicacao", 1982);
+		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField("anoPublicacao");
+		sqlBuilder.offset(3);
+		sqlBuilder.limit(5);
+
+		assertMesmasLinhas(sqlBuilder);
+		Assert.assertEquals(Integer.valueOf(17),
+				sharded.query(sqlBuilder, new EntityRowMapper<Livro>(Livro.class)).get(0).getId());
+	}
+
+	@Test
+	public void testOrdenacaoDecrescenteComDoisCampos() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField("autor");
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.offset(2);
+		sqlBuilder.limit(8);
+
+		assertMesmasLinhas(sqlBuilder);
+
+		// apenas o id é decrescente, o autor segue a ordem padrão
+		List<Livro> livros = sharded.query(sqlBuilder, new EntityRowMapper<Livro>(Livro.class));
+		Assert.assertEquals(Integer.valueOf(12), livros.get(0).getId());
+		Assert.assertEquals(Integer.valueOf(19), livros.get(4).getId());
+	}
+
+	@Test
+	public void testOrdenacaoPorCampoForaDoSelect() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome", "nome");
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.fetchFirst(7);
+
+		List<Object[]> linhas = sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(7, linhas.size());
+		for (int i = 0; i < linhas.size(); i++) {
+			Assert.assertEquals("Livro " + (i + 1), linhas.get(i)[0]);
+		}
+	}
+
+	@Test
+	public void testOrdenacaoComJoin() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor");
+		sqlBuilder.orderBy().addField(Autor.class, "a0", "nome");
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.offset(4);
+
+		assertMesmasLinhas(sqlBuilder);
+	}
+
+	@Test
+	public void testAgregacoesPorGrupo() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("autor", "autor");
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		sqlBuilder.select().addField("anoPublicacao", "soma", AggregateDBTypes.SUM);
+		sqlBuilder.select().addField("anoPublicacao", "primeiro", AggregateDBTypes.MIN);
+		sqlBuilder.select().addField("anoPublicacao", "ultimo", AggregateDBTypes.MAX);
+		sqlBuilder.select().addField("id", "media", AggregateDBTypes.AVG);
+		sqlBuilder.groupBy().addField("autor");
+		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField("autor");
+
+		List<Object[]> esperado = single.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+		List<Object[]> linhas = sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(AUTORES.length, linhas.size());
+		for (int i = 0; i < linhas.size(); i++) {
+			for (int c = 0; c < 5; c++) {
+				Assert.assertEquals(((Number) esperado.get(i)[c]).longValue(), ((Number) linhas.get(i)[c]).longValue());
+				Assert.assertEquals(esperado.get(i)[c].getClass(), linhas.get(i)[c].getClass());
+			}
+		}
+
+		// livros 2, 5, 8, 11, 14, 17 e 20 do autor 3
+		Assert.assertEquals(11.0, ((Number) linhas.get(0)[5]).doubleValue(), 0.0001);
+	}
+
+	@Test
+	public void testOrdenacaoPorAgregacao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("autor", "autor");
+		Field soma = sqlBuilder.select().addField("anoPublicacao", "soma", AggregateDBTypes.SUM);
+		sqlBuilder.groupBy().addField("autor");
+		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField(soma);
+
+		List<Object[]> esperado = single.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+		List<Object[]> linhas = sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(AUTORES.length, linhas.size());
+		for (int i = 0; i < linhas.size(); i++) {
+			Assert.assertEquals(((Number) esperado.get(i)[0]).longValue(), ((Number) linhas.get(i)[0]).longValue());
+			Assert.assertEquals(((Number) esperado.get(i)[1]).longValue(), ((Number) linhas.get(i)[1]).longValue());
+			Assert.assertEquals(esperado.get(i)[1].getClass(), linhas.get(i)[1].getClass());
+		}
+
+		// autor 3 com os livros 2, 5, 8, 11, 14, 17 e 20
+		Assert.assertEquals(3, ((Number) linhas.get(0)[0]).intValue());
+	}
+
+	@Test
+	public void testTipoDasAgregacoesComGruposEmUmaParticao() throws SQLException {
+		// livros do autor 1 apenas na primeira partição, dos autores 2 e 3 nas duas
+		final String[] exclusoes = new String[] { "id > 10", "id <= 10 or autor_id = 1" };
+		final List<QueryExecutor> shards = new ArrayList<QueryExecutor>();
+		for (int i = 0; i < exclusoes.length; i++) {
+			final DataSource shard = newDataSource("jdbcShardTipos" + i);
+			try (Connection connection = shard.getConnection(); Statement statement = connection.createStatement()) {
+				statement.executeUpdate("delete from livro where " + exclusoes[i]);
+			}
+			shards.add(new QueryExecutor(shard, DerbyDialect.INSTANCE));
+		}
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("autor", "autor");
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		sqlBuilder.select().addField("anoPublicacao", "soma", AggregateDBTypes.SUM);
+		sqlBuilder.groupBy().addField("autor");
+		sqlBuilder.orderBy().addField("autor");
+
+		final List<Object[]> esperado = single.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+		final List<Object[]> linhas;
+		try (ShardedQueryExecutor executor = new ShardedQueryExecutor(shards)) {
+			linhas = executor.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+		}
+
+		Assert.assertEquals(AUTORES.length, linhas.size());
+		Assert.assertEquals(3, ((Number) linhas.get(0)[1]).intValue());
+		Assert.assertEquals(7, ((Number) linhas.get(1)[1]).intValue());
+		Assert.assertEquals(7, ((Number) linhas.get(2)[1]).intValue());
+		for (Object[] linha : linhas) {
+			Assert.assertEquals(esperado.get(0)[1].getClass(), linha[1].getClass());
+			Assert.assertEquals(esperado.get(0)[2].getClass(), linha[2].getClass());
+		}
+	}
+
+	@Test
+	public void testAgregacaoSemGroupBy() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		sqlBuilder.select().addField("id", "media", AggregateDBTypes.AVG);
+
+		List<Object[]> linhas = sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(1, linhas.size());
+		Assert.assertEquals(QUANTIDADE_LIVROS, ((Number) linhas.get(0)[0]).intValue());
+		Assert.assertEquals(10.5, ((Number) linhas.get(0)[1]).doubleValue(), 0.0001);
+	}
+
+	@Test
+	public void testDistinctComPaginacao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.distinct(true);
+		sqlBuilder.select().addField("autor", "autor");
+		sqlBuilder.orderBy().addField("autor");
+		sqlBuilder.offset(1);
+		sqlBuilder.limit(1);
+
+		List<Object[]> linhas = sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(1, linhas.size());
+		Assert.assertEquals(2, ((Number) linhas.get(0)[0]).intValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGroupByForaDoSelect() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		sqlBuilder.groupBy().addField("autor");
+
+		sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnion() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.union(new SelectBuilder(Livro.class), UnionDBTypes.UNION_ALL);
+
+		sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+	}
+
+	/**
+	 * Método que verifica se as partições retornam as mesmas linhas, na mesma ordem,
+	 * que o banco de dados com todos os livros.
+	 *
+	 * @param sqlBuilder - consulta
+	 */
+	private static void assertMesmasLinhas(SelectBuilder sqlBuilder) {
+		List<Object[]> esperado = single.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+		List<Object[]> linhas = sharded.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(esperado.size(), linhas.size());
+		for (int i = 0; i < esperado.size(); i++) {
+			Assert.assertArrayEquals(esperado.get(i), linhas.get(i));
+		}
+	}
+
+}
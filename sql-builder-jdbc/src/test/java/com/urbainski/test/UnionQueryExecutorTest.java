@@ -0,0 +1,156 @@
+package com.urbainski.test;
+
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Exemplar;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.UnionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.jdbc.ArrayRowMapper;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.UnionQueryExecutor;
+
+/**
+ * Classe de teste unitário para a execução das consultas do union ao mesmo tempo.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class UnionQueryExecutorTest extends AbstractJdbcTest {
+
+	/**
+	 * Executor das consultas no banco de dados.
+	 */
+	private static QueryExecutor single;
+
+	/**
+	 * Executor das consultas do union.
+	 */
+	private static UnionQueryExecutor unions;
+
+	@BeforeClass
+	public static void criaExecutor() {
+		single = new QueryExecutor(dataSource, DerbyDialect.INSTANCE);
+		unions = new UnionQueryExecutor(single);
+	}
+
+	@AfterClass
+	public static void fechaExecutor() {
+		unions.close();
+	}
+
+	@Test
+	public void testUnionAll() {
+		SelectBuilder sqlBuilder = newLivros(ConditionDBTypes.LESS_OR_EQUALS, 10);
+		sqlBuilder.union(newLivros(ConditionDBTypes.GREATER, 10), UnionDBTypes.UNION_ALL);
+
+		List<Livro> livros = unions.query(sqlBuilder, new EntityRowMapper<Livro>(Livro.class));
+
+		Assert.assertEquals(QUANTIDADE_LIVROS, livros.size());
+		for (int i = 0; i < livros.size(); i++) {
+			Assert.assertEquals(Integer.valueOf(i + 1), livros.get(i).getId());
+		}
+	}
+
+	@Test
+	public void testUnionSemRepeticao() {
+		SelectBuilder sqlBuilder = newAutores(ConditionDBTypes.LESS_OR_EQUALS, 10);
+		sqlBuilder.union(newAutores(ConditionDBTypes.GREATER, 5));
+
+		List<Object[]> esperado = single.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+		List<Object[]> linhas = unions.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		Assert.assertEquals(AUTORES.length, esperado.size());
+		Assert.assertEquals(esperado.size(), linhas.size());
+	}
+
+	@Test
+	public void testUnionSemRepeticaoEntreIntEBigint() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id", "id");
+		sqlBuilder.where(ConditionDBTypes.LESS_OR_EQUALS, "id", 5);
+
+		SelectBuilder sqlBuilderExemplar = new SelectBuilder(Exemplar.class);
+		sqlBuilderExemplar.select().addField("id", "id");
+		sqlBuilderExemplar.where(ConditionDBTypes.LESS_OR_EQUALS, "id", 8L);
+		sqlBuilder.union(sqlBuilderExemplar);
+
+		List<Object[]> linhas = unions.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		// o banco de dados converte o int para bigint e considera os ids iguais
+		Assert.assertEquals(8, single.query(sqlBuilder, ArrayRowMapper.INSTANCE).size());
+		Assert.assertEquals(8, linhas.size());
+	}
+
+	@Test
+	public void testUnionSeguidoDeUnionAll() {
+		SelectBuilder sqlBuilderAutor = new SelectBuilder(Autor.class);
+		sqlBuilderAutor.select().addField("id", "autor");
+
+		SelectBuilder sqlBuilder = newAutores(ConditionDBTypes.LESS_OR_EQUALS, 10);
+		SelectBuilder sqlBuilderMaiores = newAutores(ConditionDBTypes.GREATER, 5);
+		sqlBuilder.union(sqlBuilderMaiores);
+		sqlBuilderMaiores.union(sqlBuilderAutor, UnionDBTypes.UNION_ALL);
+
+		List<Object[]> linhas = unions.query(sqlBuilder, ArrayRowMapper.INSTANCE);
+
+		// autores sem repetição dos livros seguidos de todos os autores
+		Assert.assertEquals(AUTORES.length * 2, linhas.size());
+		Assert.assertEquals(single.query(sqlBuilder, ArrayRowMapper.INSTANCE).size(), linhas.size());
+	}
+
+	@Test
+	public void testConsultasDoUnion() {
+		SelectBuilder sqlBuilder = newLivros(ConditionDBTypes.LESS_OR_EQUALS, 10);
+		sqlBuilder.union(newLivros(ConditionDBTypes.GREATER, 10), UnionDBTypes.UNION_ALL);
+		final String sql = sqlBuilder.buildSQL();
+
+		List<SelectBuilder> branches = UnionQueryExecutor.branches(sqlBuilder);
+
+		Assert.assertEquals(2, branches.size());
+		Assert.assertNull(branches.get(0).getUnion());
+		Assert.assertEquals(newLivros(ConditionDBTypes.LESS_OR_EQUALS, 10).buildSQL(), branches.get(0).buildSQL());
+		Assert.assertEquals(sql, sqlBuilder.buildSQL());
+	}
+
+	/**
+	 * Método que cria a consulta dos livros filtrados pelo id.
+	 *
+	 * @param type - tipo da condição
+	 * @param id - id comparado
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivros(ConditionDBTypes type, int id) {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(type, "id", id);
+		return sqlBuilder;
+	}
+
+	/**
+	 * Método que cria a consulta dos autores dos livros filtrados pelo id.
+	 *
+	 * @param type - tipo da condição
+	 * @param id - id comparado
+	 *
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newAutores(ConditionDBTypes type, int id) {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("autor", "autor");
+		sqlBuilder.where(type, "id", id);
+		return sqlBuilder;
+	}
+
+}
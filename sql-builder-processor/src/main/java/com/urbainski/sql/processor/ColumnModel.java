@@ -0,0 +1,98 @@
+package com.urbainski.sql.processor;
+
+/**
+ * Modelo do mapeamento de uma propriedade lido pelo processador de anotações.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+class ColumnModel {
+
+	/**
+	 * Nome da propriedade.
+	 */
+	private final String propertyName;
+
+	/**
+	 * Nome da coluna.
+	 */
+	private final String columnName;
+
+	/**
+	 * Nome da coluna de junção.
+	 */
+	private final String joinColumnName;
+
+	/**
+	 * Nome da coluna referenciada pelo join.
+	 */
+	private final String referencedColumnName;
+
+	/**
+	 * Literal da classe do tipo java da propriedade.
+	 */
+	private final String javaTypeLiteral;
+
+	/**
+	 * Literal da classe que declara a propriedade.
+	 */
+	private final String declaringClassLiteral;
+
+	/**
+	 * Literal do <code>EnumType</code> da propriedade, <code>null</code> se a propriedade não for um enum.
+	 */
+	private final String enumTypeLiteral;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param propertyName - nome da propriedade
+	 * @param columnName - nome da coluna
+	 * @param joinColumnName - nome da coluna de junção
+	 * @param referencedColumnName - nome da coluna referenciada pelo join
+	 * @param javaTypeLiteral - literal da classe do tipo java
+	 * @param declaringClassLiteral - literal da classe que declara a propriedade
+	 * @param enumTypeLiteral - literal do <code>EnumType</code> ou <code>null</code>
+	 */
+	ColumnModel(String propertyName, String columnName, String joinColumnName, String referencedColumnName,
+			String javaTypeLiteral, String declaringClassLiteral, String enumTypeLiteral) {
+		this.propertyName = propertyName;
+		this.columnName = columnName;
+		this.joinColumnName = joinColumnName;
+		this.referencedColumnName = referencedColumnName;
+		this.javaTypeLiteral = javaTypeLiteral;
+		this.declaringClassLiteral = declaringClassLiteral;
+		this.enumTypeLiteral = enumTypeLiteral;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public String getJoinColumnName() {
+		return joinColumnName;
+	}
+
+	public String getReferencedColumnName() {
+		return referencedColumnName;
+	}
+
+	public String getJavaTypeLiteral() {
+		return javaTypeLiteral;
+	}
+
+	public String getDeclaringClassLiteral() {
+		return declaringClassLiteral;
+	}
+
+	public String getEnumTypeLiteral() {
+		return enumTypeLiteral;
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.urbainski.sql.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Modelo de uma entidade lido pelo processador de anotações.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+class EntityModel {
+
+	/**
+	 * Classe de entidade.
+	 */
+	private final TypeElement type;
+
+	/**
+	 * Nome da tabela.
+	 */
+	private final String tableName;
+
+	/**
+	 * Nome das colunas da tabela.
+	 */
+	private final List<String> fieldsNames;
+
+	/**
+	 * Mapeamento das propriedades, incluindo as herdadas.
+	 */
+	private final Map<String, ColumnModel> columns;
+
+	/**
+	 * Join com o super tipo.
+	 */
+	private ColumnModel superTypeJoin;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param type - classe de entidade
+	 * @param tableName - nome da tabela
+	 */
+	EntityModel(TypeElement type, String tableName) {
+		this.type = type;
+		this.tableName = tableName;
+		this.fieldsNames = new ArrayList<String>();
+		this.columns = new LinkedHashMap<String, ColumnModel>();
+	}
+
+	/**
+	 * Método que adiciona o mapeamento de uma propriedade, mantendo o
+	 * primeiro encontrado quando a subclasse redeclara a propriedade.
+	 *
+	 * @param column - mapeamento da propriedade
+	 */
+	void addColumn(ColumnModel column) {
+		if (!columns.containsKey(column.getPropertyName())) {
+			columns.put(column.getPropertyName(), column);
+		}
+	}
+
+	public TypeElement getType() {
+		return type;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public List<String> getFieldsNames() {
+		return fieldsNames;
+	}
+
+	public Map<String, ColumnModel> getColumns() {
+		return columns;
+	}
+
+	public ColumnModel getSuperTypeJoin() {
+		return superTypeJoin;
+	}
+
+	public void setSuperTypeJoin(ColumnModel superTypeJoin) {
+		this.superTypeJoin = superTypeJoin;
+	}
+
+}
@@ -0,0 +1,315 @@
+package com.urbainski.sql.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Processador de anotações que gera uma classe de metamodelo para cada
+ * classe anotada com <code>@Entity</code> ou <code>@Table</code>.
+ *
+ * <p>O metamodelo guarda o nome da tabela, o nome das colunas, os joins e o
+ * join com o super tipo da entidade e os registra no <code>EntityMetadata</code>
+ * do sql-builder, que então não precisa ler as anotações por reflection.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@SupportedAnnotationTypes({ MetamodelProcessor.ENTITY, MetamodelProcessor.TABLE })
+public class MetamodelProcessor extends AbstractProcessor {
+
+	/**
+	 * Anotação de entidade da jpa.
+	 */
+	static final String ENTITY = "javax.persistence.Entity";
+
+	/**
+	 * Anotação de tabela da jpa.
+	 */
+	static final String TABLE = "javax.persistence.Table";
+
+	/**
+	 * Anotação de coluna da jpa.
+	 */
+	static final String COLUMN = "javax.persistence.Column";
+
+	/**
+	 * Anotação de coluna de junção da jpa.
+	 */
+	static final String JOIN_COLUMN = "javax.persistence.JoinColumn";
+
+	/**
+	 * Anotação de enum da jpa.
+	 */
+	static final String ENUMERATED = "javax.persistence.Enumerated";
+
+	/**
+	 * Anotação de junção com o super tipo da jpa.
+	 */
+	static final String PRIMARY_KEY_JOIN_COLUMN = "javax.persistence.PrimaryKeyJoinColumn";
+
+	/**
+	 * Anotação de relacionamento um para muitos da jpa.
+	 */
+	static final String ONE_TO_MANY = "javax.persistence.OneToMany";
+	
+	/**
+	 * Anotação de relacionamento muitos para muitos da jpa.
+	 */
+	static final String MANY_TO_MANY = "javax.persistence.ManyToMany";
+	
+	/**
+	 * Anotação de atributo transiente da jpa.
+	 */
+	static final String TRANSIENT = "javax.persistence.Transient";
+
+	/**
+	 * Sufixo do nome das classes geradas, deve ser igual ao
+	 * <code>EntityMetadata.METAMODEL_SUFFIX</code>.
+	 */
+	static final String METAMODEL_SUFFIX = "Metamodel";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		final Set<TypeElement> entities = new LinkedHashSet<TypeElement>();
+		for (TypeElement annotation : annotations) {
+			for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+				entities.add(type);
+			}
+		}
+
+		for (TypeElement entity : entities) {
+			if (!ElementKind.CLASS.equals(entity.getKind())) {
+				continue;
+			}
+
+			if (!NestingKind.TOP_LEVEL.equals(entity.getNestingKind())) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+						"Metamodelo não é gerado para entidades aninhadas", entity);
+				continue;
+			}
+
+			write(readEntity(entity));
+		}
+		return false;
+	}
+
+	/**
+	 * Método que le as anotações da entidade e monta o seu modelo.
+	 *
+	 * @param type - classe de entidade
+	 *
+	 * @return {@link EntityModel}
+	 */
+	private EntityModel readEntity(TypeElement type) {
+		final EntityModel entity = new EntityModel(type, readTableName(type));
+
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getModifiers().contains(Modifier.STATIC) || findAnnotation(field, TRANSIENT) != null
+					|| findAnnotation(field, ONE_TO_MANY) != null || findAnnotation(field, MANY_TO_MANY) != null) {
+				continue;
+			}
+
+			final ColumnModel column = readColumn(field);
+			if (column.getJoinColumnName() != null && column.getJoinColumnName().isEmpty()
+					&& readAnnotationValue(findAnnotation(field, COLUMN), "name").isEmpty()) {
+				continue;
+			}
+			entity.getFieldsNames().add(column.getColumnName());
+		}
+
+		TypeElement current = type;
+		while (current != null) {
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				if (!field.getModifiers().contains(Modifier.STATIC)) {
+					entity.addColumn(readColumn(field));
+				}
+			}
+			current = getSuperclass(current);
+		}
+
+		final AnnotationMirror primaryKeyJoin = findAnnotation(type, PRIMARY_KEY_JOIN_COLUMN);
+		final TypeElement superclass = getSuperclass(type);
+		if (primaryKeyJoin != null && superclass != null) {
+			final String name = readAnnotationValue(primaryKeyJoin, "name");
+			entity.setSuperTypeJoin(new ColumnModel(null, name, name,
+					readAnnotationValue(primaryKeyJoin, "referencedColumnName"),
+					superclass.getQualifiedName() + ".class", type.getQualifiedName() + ".class", null));
+		}
+		return entity;
+	}
+
+	/**
+	 * Método que le o nome da tabela, seguindo a mesma regra do <code>EntityMetadata</code>.
+	 *
+	 * @param type - classe de entidade
+	 *
+	 * @return nome da tabela
+	 */
+	private String readTableName(TypeElement type) {
+		final String name = readAnnotationValue(findAnnotation(type, TABLE), "name");
+		if (name.isEmpty()) {
+			return processingEnv.getElementUtils().getBinaryName(type).toString().toLowerCase();
+		}
+		return name;
+	}
+
+	/**
+	 * Método que le o mapeamento de um atributo da entidade.
+	 *
+	 * @param field - atributo
+	 *
+	 * @return {@link ColumnModel}
+	 */
+	private ColumnModel readColumn(VariableElement field) {
+		final String property = field.getSimpleName().toString();
+		final AnnotationMirror joinColumn = findAnnotation(field, JOIN_COLUMN);
+		final String joinColumnName = readAnnotationValue(joinColumn, "name");
+
+		String columnName = readAnnotationValue(findAnnotation(field, COLUMN), "name");
+		if (columnName.isEmpty()) {
+			columnName = joinColumnName.isEmpty() ? property.toLowerCase() : joinColumnName;
+		}
+
+		final TypeMirror type = processingEnv.getTypeUtils().erasure(field.asType());
+		final String declaringClass = ((TypeElement) field.getEnclosingElement()).getQualifiedName() + ".class";
+		if (joinColumn == null) {
+			return new ColumnModel(property, columnName, null, null, type + ".class", declaringClass,
+					readEnumType(field, type));
+		}
+		return new ColumnModel(property, columnName, joinColumnName,
+				readAnnotationValue(joinColumn, "referencedColumnName"), type + ".class", declaringClass, null);
+	}
+
+	/**
+	 * Método que le a forma como o enum é gravado, seguindo a mesma regra do <code>EntityMetadata</code>:
+	 * a anotação {@value #ENUMERATED} ou a posição da constante sem a anotação.
+	 *
+	 * @param field - atributo
+	 * @param type - tipo do atributo
+	 *
+	 * @return literal do <code>EnumType</code> ou <code>null</code> se o atributo não for um enum
+	 */
+	private String readEnumType(VariableElement field, TypeMirror type) {
+		final Element element = processingEnv.getTypeUtils().asElement(type);
+		if (element == null || !ElementKind.ENUM.equals(element.getKind())) {
+			return null;
+		}
+
+		final String value = readAnnotationValue(findAnnotation(field, ENUMERATED), "value");
+		return "javax.persistence.EnumType." + (value.isEmpty() ? "ORDINAL" : value);
+	}
+
+	/**
+	 * Método que retorna a super classe de uma classe, ignorando {@link Object}.
+	 *
+	 * @param type - classe
+	 *
+	 * @return super classe ou <code>null</code>
+	 */
+	private TypeElement getSuperclass(TypeElement type) {
+		final TypeMirror superclass = type.getSuperclass();
+		if (!TypeKind.DECLARED.equals(superclass.getKind())) {
+			return null;
+		}
+
+		final TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(superclass);
+		if (element.getQualifiedName().contentEquals(Object.class.getName())) {
+			return null;
+		}
+		return element;
+	}
+
+	/**
+	 * Método que localiza uma anotação em um elemento pelo nome.
+	 *
+	 * @param element - elemento anotado
+	 * @param annotationName - nome completo da anotação
+	 *
+	 * @return {@link AnnotationMirror} ou <code>null</code>
+	 */
+	private AnnotationMirror findAnnotation(Element element, String annotationName) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+			if (annotation.getQualifiedName().contentEquals(annotationName)) {
+				return mirror;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Método que le o valor de um atributo de uma anotação.
+	 *
+	 * @param mirror - anotação
+	 * @param name - nome do atributo
+	 *
+	 * @return valor do atributo ou vazio se a anotação não existir
+	 */
+	private String readAnnotationValue(AnnotationMirror mirror, String name) {
+		if (mirror == null) {
+			return "";
+		}
+
+		final Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+				processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : values.entrySet()) {
+			if (e.getKey().getSimpleName().contentEquals(name)) {
+				return String.valueOf(e.getValue().getValue());
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * Método que grava o código fonte do metamodelo.
+	 *
+	 * @param entity - modelo da entidade
+	 */
+	private void write(EntityModel entity) {
+		final TypeElement type = entity.getType();
+		final String name = type.getQualifiedName() + METAMODEL_SUFFIX;
+
+		try {
+			final JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+			final Writer writer = file.openWriter();
+			try {
+				new MetamodelWriter(processingEnv.getMessager(), entity).write(writer);
+			} finally {
+				writer.close();
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Não foi possível gerar o metamodelo " + name + ": " + e.getMessage(), type);
+		}
+	}
+
+}
@@ -0,0 +1,229 @@
+package com.urbainski.sql.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Classe que escreve o código fonte do metamodelo de uma entidade.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+class MetamodelWriter {
+
+	/**
+	 * Nome da constante com o nome da tabela.
+	 */
+	private static final String TABLE_NAME = "TABLE_NAME";
+
+	/**
+	 * Nome da constante com os metadados da entidade.
+	 */
+	private static final String METADATA = "METADATA";
+
+	/**
+	 * Prefixo das constantes com o nome das colunas.
+	 */
+	private static final String COLUMN_PREFIX = "COLUMN_";
+
+	/**
+	 * Mensageiro do processador de anotações.
+	 */
+	private final Messager messager;
+
+	/**
+	 * Modelo da entidade.
+	 */
+	private final EntityModel entity;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param messager - mensageiro do processador
+	 * @param entity - modelo da entidade
+	 */
+	MetamodelWriter(Messager messager, EntityModel entity) {
+		this.messager = messager;
+		this.entity = entity;
+	}
+
+	/**
+	 * Método que escreve o código fonte do metamodelo.
+	 *
+	 * @param writer - destino do código fonte
+	 *
+	 * @throws IOException se não for possível escrever
+	 */
+	void write(Writer writer) throws IOException {
+		final TypeElement type = entity.getType();
+		final String entityLiteral = type.getQualifiedName() + ".class";
+		final String simpleName = type.getSimpleName() + MetamodelProcessor.METAMODEL_SUFFIX;
+
+		final StringBuilder src = new StringBuilder();
+		final PackageElement pkg = (PackageElement) type.getEnclosingElement();
+		if (!pkg.isUnnamed()) {
+			src.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+		}
+
+		src.append("/**\n");
+		src.append(" * Metamodelo da entidade {@link ").append(type.getQualifiedName()).append("}.\n");
+		src.append(" *\n");
+		src.append(" * <p>Classe gerada pelo ").append(MetamodelProcessor.class.getName());
+		src.append(", não deve ser alterada.</p>\n");
+		src.append(" */\n");
+		src.append("public final class ").append(simpleName).append(" {\n\n");
+
+		constant(src, "Nome da tabela.", TABLE_NAME, entity.getTableName());
+
+		final Set<String> names = new HashSet<String>();
+		names.add(TABLE_NAME);
+		names.add(METADATA);
+		for (ColumnModel column : entity.getColumns().values()) {
+			final String constant = toConstantName(column.getPropertyName());
+			if (!names.add(constant) || !names.add(COLUMN_PREFIX + constant)) {
+				messager.printMessage(Diagnostic.Kind.WARNING, "Constante " + constant
+						+ " da propriedade " + column.getPropertyName() + " já existe no metamodelo", type);
+				continue;
+			}
+
+			constant(src, "Propriedade '" + column.getPropertyName() + "'.", constant, column.getPropertyName());
+			constant(src, "Coluna da propriedade '" + column.getPropertyName() + "'.",
+					COLUMN_PREFIX + constant, column.getColumnName());
+		}
+
+		src.append("\t/**\n\t * Metadados da entidade, registrados no EntityMetadata.\n\t */\n");
+		src.append("\tpublic static final com.urbainski.sql.reflection.EntityMetadata ").append(METADATA);
+		src.append(" =\n\t\t\tcom.urbainski.sql.reflection.EntityMetadata.register(");
+		src.append("new com.urbainski.sql.reflection.EntityMetadata(\n");
+		src.append("\t\t\t\t\t").append(entityLiteral).append(", ").append(TABLE_NAME).append(",\n");
+		src.append("\t\t\t\t\tjava.util.Arrays.<String>asList(");
+		for (int i = 0; i < entity.getFieldsNames().size(); i++) {
+			if (i > 0) {
+				src.append(", ");
+			}
+			literal(src, entity.getFieldsNames().get(i));
+		}
+		src.append("),\n");
+		src.append("\t\t\t\t\tcolumns(),\n");
+		src.append("\t\t\t\t\t");
+		descriptor(src, entity.getSuperTypeJoin());
+		src.append("));\n\n");
+
+		src.append("\t/**\n\t * Construtor privado, classe apenas com constantes.\n\t */\n");
+		src.append("\tprivate ").append(simpleName).append("() {\n\n\t}\n\n");
+
+		src.append("\t/**\n\t * Método que monta a descrição das colunas de cada propriedade.\n");
+		src.append("\t *\n\t * @return descrição das colunas\n\t */\n");
+		src.append("\tprivate static java.util.Map<String, com.urbainski.sql.reflection.ColumnDescriptor> columns() {\n");
+		src.append("\t\tfinal java.util.Map<String, com.urbainski.sql.reflection.ColumnDescriptor> columns =\n");
+		src.append("\t\t\t\tnew java.util.HashMap<String, com.urbainski.sql.reflection.ColumnDescriptor>();\n");
+		for (ColumnModel column : entity.getColumns().values()) {
+			src.append("\t\tcolumns.put(");
+			literal(src, column.getPropertyName());
+			src.append(", ");
+			descriptor(src, column);
+			src.append(");\n");
+		}
+		src.append("\t\treturn columns;\n\t}\n\n");
+		src.append("}\n");
+
+		writer.write(src.toString());
+	}
+
+	/**
+	 * Método que escreve uma constante do tipo {@link String}.
+	 *
+	 * @param src - código fonte
+	 * @param doc - documentação da constante
+	 * @param name - nome da constante
+	 * @param value - valor da constante
+	 */
+	private void constant(StringBuilder src, String doc, String name, String value) {
+		src.append("\t/**\n\t * ").append(doc).append("\n\t */\n");
+		src.append("\tpublic static final String ").append(name).append(" = ");
+		literal(src, value);
+		src.append(";\n\n");
+	}
+
+	/**
+	 * Método que escreve a criação de um <code>ColumnDescriptor</code>.
+	 *
+	 * @param src - código fonte
+	 * @param column - mapeamento da coluna ou <code>null</code>
+	 */
+	private void descriptor(StringBuilder src, ColumnModel column) {
+		if (column == null) {
+			src.append("null");
+			return;
+		}
+
+		src.append("new com.urbainski.sql.reflection.ColumnDescriptor(");
+		literal(src, column.getPropertyName());
+		src.append(", ");
+		literal(src, column.getColumnName());
+		src.append(", ");
+		literal(src, column.getJoinColumnName());
+		src.append(", ");
+		literal(src, column.getReferencedColumnName());
+		src.append(", ");
+		src.append(column.getJavaTypeLiteral());
+		src.append(", ");
+		src.append(column.getDeclaringClassLiteral());
+		src.append(", ");
+		src.append(column.getEnumTypeLiteral() == null ? "null" : column.getEnumTypeLiteral());
+		src.append(")");
+	}
+
+	/**
+	 * Método que escreve um literal {@link String} ou <code>null</code>.
+	 *
+	 * @param src - código fonte
+	 * @param value - valor
+	 */
+	private void literal(StringBuilder src, String value) {
+		if (value == null) {
+			src.append("null");
+			return;
+		}
+
+		src.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				src.append('\\');
+			}
+			src.append(c);
+		}
+		src.append('"');
+	}
+
+	/**
+	 * Método que converte o nome de uma propriedade para o nome de uma constante,
+	 * por exemplo <code>dataNascimento</code> para <code>DATA_NASCIMENTO</code>.
+	 *
+	 * @param propertyName - nome da propriedade
+	 *
+	 * @return nome da constante
+	 */
+	static String toConstantName(String propertyName) {
+		final StringBuilder name = new StringBuilder();
+		for (int i = 0; i < propertyName.length(); i++) {
+			final char c = propertyName.charAt(i);
+			if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(propertyName.charAt(i - 1))) {
+				name.append('_');
+			}
+			name.append(Character.toUpperCase(c));
+		}
+		return name.toString();
+	}
+
+}
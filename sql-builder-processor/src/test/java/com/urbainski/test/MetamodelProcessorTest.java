@@ -0,0 +1,205 @@
+package com.urbainski.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.EnumType;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.processor.MetamodelProcessor;
+import com.urbainski.sql.reflection.EntityMetadata;
+
+/**
+ * Classe de teste unitário para o processador de anotações que gera os metamodelos.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class MetamodelProcessorTest {
+
+	/**
+	 * Código fonte da entidade autor.
+	 */
+	private static final String AUTOR = new StringBuilder()
+		.append("package com.urbainski.gerado;\n")
+		.append("import javax.persistence.*;\n")
+		.append("@Entity @Table(name = \"autor\")\n")
+		.append("public class Autor {\n")
+		.append("  private static final long serialVersionUID = 1L;\n")
+		.append("  @Id private Integer id;\n")
+		.append("  @Column(name = \"ds_nome\") private String nome;\n")
+		.append("  @Transient private String apelido;\n")
+		.append("  @OneToMany(mappedBy = \"autor\") private java.util.List<Livro> livros;\n")
+		.append("}\n")
+		.toString();
+
+	/**
+	 * Código fonte da entidade livro.
+	 */
+	private static final String LIVRO = new StringBuilder()
+		.append("package com.urbainski.gerado;\n")
+		.append("import javax.persistence.*;\n")
+		.append("@Entity @Table(name = \"livro\")\n")
+		.append("public class Livro {\n")
+		.append("  @Id private Integer id;\n")
+		.append("  @Column(name = \"ds_nome\") private String nome;\n")
+		.append("  @Column(name = \"nr_anopublicacao\") private int anoPublicacao;\n")
+		.append("  @ManyToOne @JoinColumn(name = \"autor_id\", referencedColumnName = \"id\") private Autor autor;\n")
+		.append("}\n")
+		.toString();
+
+	/**
+	 * Código fonte da entidade livro digital.
+	 */
+	private static final String LIVRO_DIGITAL = new StringBuilder()
+		.append("package com.urbainski.gerado;\n")
+		.append("import javax.persistence.*;\n")
+		.append("@Entity @Table(name = \"livro_digital\")\n")
+		.append("@PrimaryKeyJoinColumn(name = \"livro_id\", referencedColumnName = \"id\")\n")
+		.append("public class LivroDigital extends Livro {\n")
+		.append("  public enum Formato { PDF, EPUB }\n")
+		.append("  @Column(name = \"nr_tamanho\") private Long tamanhoArquivo;\n")
+		.append("  @Enumerated(EnumType.STRING) @Column(name = \"ds_formato\") private Formato formato;\n")
+		.append("  @Enumerated @Column(name = \"nr_formatooriginal\") private Formato formatoOriginal;\n")
+		.append("}\n")
+		.toString();
+
+	/**
+	 * Diretório com as classes compiladas.
+	 */
+	private File output;
+
+	/**
+	 * Class loader das classes compiladas.
+	 */
+	private ClassLoader classLoader;
+
+	@Before
+	public void compile() throws IOException {
+		output = Files.createTempDirectory("metamodel").toFile();
+
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final List<String> options = Arrays.asList("-d", output.getAbsolutePath(), "-s", output.getAbsolutePath(),
+				"-classpath", System.getProperty("java.class.path"));
+		final List<JavaFileObject> sources = Arrays.asList(source("Autor", AUTOR),
+				source("Livro", LIVRO), source("LivroDigital", LIVRO_DIGITAL));
+
+		final JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, sources);
+		task.setProcessors(Arrays.asList(new MetamodelProcessor()));
+		Assert.assertTrue(task.call());
+
+		classLoader = new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader());
+	}
+
+	@Test
+	public void testConstantesGeradas() throws Exception {
+		final String src = new String(Files.readAllBytes(
+				new File(output, "com/urbainski/gerado/LivroMetamodel.java").toPath()), Charset.forName("UTF-8"));
+
+		System.out.println(src);
+
+		Assert.assertTrue(src.contains("public static final String TABLE_NAME = \"livro\";"));
+		Assert.assertTrue(src.contains("public static final String ANO_PUBLICACAO = \"anoPublicacao\";"));
+		Assert.assertTrue(src.contains("public static final String COLUMN_ANO_PUBLICACAO = \"nr_anopublicacao\";"));
+	}
+
+	@Test
+	public void testMetadadosRegistradosPeloMetamodelo() throws Exception {
+		final Class<?> livro = classLoader.loadClass("com.urbainski.gerado.Livro");
+		final Class<?> metamodel = classLoader.loadClass("com.urbainski.gerado.LivroMetamodel");
+
+		final EntityMetadata metadata = EntityMetadata.of(livro);
+		Assert.assertSame(metamodel.getField("METADATA").get(null), metadata);
+		Assert.assertEquals("livro", metadata.getTableName());
+		Assert.assertEquals(Arrays.asList("id", "ds_nome", "nr_anopublicacao", "autor_id"), metadata.getFieldsNames());
+		Assert.assertEquals(int.class, metadata.getColumn("anoPublicacao").getJavaType());
+		Assert.assertEquals("id", metadata.getColumn("autor").getReferencedColumnName());
+		Assert.assertEquals(classLoader.loadClass("com.urbainski.gerado.Autor"),
+				metadata.getColumn("autor").getJavaType());
+	}
+
+	@Test
+	public void testPropriedadesIgnoradas() throws Exception {
+		final EntityMetadata metadata = EntityMetadata.of(classLoader.loadClass("com.urbainski.gerado.Autor"));
+
+		Assert.assertEquals(Arrays.asList("id", "ds_nome"), metadata.getFieldsNames());
+		Assert.assertNull(metadata.getColumn("serialVersionUID"));
+		Assert.assertEquals("apelido", metadata.getDatabaseName("apelido"));
+	}
+
+	@Test
+	public void testJoinComSuperTipo() throws Exception {
+		final Class<?> livro = classLoader.loadClass("com.urbainski.gerado.Livro");
+		final EntityMetadata metadata = EntityMetadata.of(classLoader.loadClass("com.urbainski.gerado.LivroDigital"));
+
+		Assert.assertEquals(Arrays.asList("nr_tamanho", "ds_formato", "nr_formatooriginal"), metadata.getFieldsNames());
+		Assert.assertEquals("ds_nome", metadata.getDatabaseName("nome"));
+		Assert.assertEquals(livro, metadata.getColumn("nome").getDeclaringClass());
+		Assert.assertEquals("livro_id", metadata.getSuperTypeJoin().getJoinColumnName());
+		Assert.assertEquals(livro, metadata.getSuperTypeJoin().getJavaType());
+	}
+
+	@Test
+	public void testEnums() throws Exception {
+		final EntityMetadata metadata = EntityMetadata.of(classLoader.loadClass("com.urbainski.gerado.LivroDigital"));
+
+		Assert.assertEquals(EnumType.STRING, metadata.getColumn("formato").getEnumType());
+		Assert.assertEquals(EnumType.ORDINAL, metadata.getColumn("formatoOriginal").getEnumType());
+		Assert.assertNull(metadata.getColumn("tamanhoArquivo").getEnumType());
+	}
+
+	@Test
+	public void testSelectComMetamodelo() throws Exception {
+		final String sqlCerto = new StringBuilder()
+			.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+			.append("from livro where livro.nr_anopublicacao = 2014")
+			.toString();
+
+		SelectBuilder sqlBuilder = new SelectBuilder(classLoader.loadClass("com.urbainski.gerado.Livro"));
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "anoPublicacao", 2014);
+
+		final String sqlGerado = sqlBuilder.buildSQL();
+
+		System.out.println(sqlGerado);
+
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+
+	/**
+	 * Método que cria um código fonte em memória.
+	 *
+	 * @param name - nome da classe
+	 * @param code - código fonte
+	 *
+	 * @return {@link JavaFileObject}
+	 */
+	private static JavaFileObject source(String name, final String code) {
+		final URI uri = URI.create("string:///com/urbainski/gerado/" + name + JavaFileObject.Kind.SOURCE.extension);
+		return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return code;
+			}
+		};
+	}
+
+}
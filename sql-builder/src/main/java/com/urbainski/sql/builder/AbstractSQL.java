@@ -0,0 +1,63 @@
+package com.urbainski.sql.builder;
+
+import com.urbainski.sql.dialect.Dialect;
+import com.urbainski.sql.dialect.GenericDialect;
+
+/**
+ * Classe abstrata que implementa o {@link #buildSQL()} e o {@link #buildBoundSQL()} 
+ * com base no {@link #appendTo(SQLContext)}, escrevendo toda a consulta em um único buffer.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public abstract class AbstractSQL implements SQL {
+	
+	/**
+	 * Tamanho estimado padrão de um trecho de SQL.
+	 */
+	protected static final int DEFAULT_SIZE_HINT = 16;
+
+	@Override
+	public String buildSQL() {
+		return buildSQL(GenericDialect.INSTANCE);
+	}
+	
+	@Override
+	public String buildSQL(Dialect dialect) {
+		final SQLContext context = new SQLContext(new StringBuilder(sizeHint()), false, dialect);
+		appendTo(context);
+		return context.getSql().toString();
+	}
+	
+	@Override
+	public BoundSql buildBoundSQL() {
+		return buildBoundSQL(GenericDialect.INSTANCE);
+	}
+	
+	@Override
+	public BoundSql buildBoundSQL(Dialect dialect) {
+		final SQLContext context = new SQLContext(new StringBuilder(sizeHint()), true, dialect);
+		appendTo(context);
+		return context.toBoundSql();
+	}
+	
+	@Override
+	public void appendTo(StringBuilder sql) {
+		appendTo(new SQLContext(sql));
+	}
+	
+	@Override
+	public ShapeKey shapeKey() {
+		final ShapeContext shape = new ShapeContext();
+		appendShape(shape);
+		return shape.toShapeKey();
+	}
+	
+	@Override
+	public int sizeHint() {
+		return DEFAULT_SIZE_HINT;
+	}
+	
+}
@@ -0,0 +1,66 @@
+package com.urbainski.sql.builder;
+
+/**
+ * Classe que representa um parametro de uma consulta gerada com <code>?</code>.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class BoundParameter {
+
+	/**
+	 * Valor do parametro.
+	 */
+	private final Object value;
+	
+	/**
+	 * Tipo java do parametro.
+	 */
+	private final Class<?> type;
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param value - valor do parametro
+	 * @param type - tipo java do parametro
+	 */
+	public BoundParameter(Object value, Class<?> type) {
+		this.value = value;
+		this.type = type;
+	}
+	
+	public Object getValue() {
+		return value;
+	}
+	
+	public Class<?> getType() {
+		return type;
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof BoundParameter)) {
+			return false;
+		}
+		
+		final BoundParameter other = (BoundParameter) obj;
+		return (value == null ? other.value == null : value.equals(other.value))
+				&& (type == null ? other.type == null : type.equals(other.type));
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * (value == null ? 0 : value.hashCode()) + (type == null ? 0 : type.hashCode());
+	}
+	
+	@Override
+	public String toString() {
+		return value + (type == null ? "" : " (" + type.getSimpleName() + ")");
+	}
+	
+}
@@ -0,0 +1,68 @@
+package com.urbainski.sql.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe que representa um sql gerado com <code>?</code> no lugar dos valores
+ * e a lista dos parametros na ordem em que aparecem no sql.
+ * 
+ * <p>Como o texto do sql não depende dos valores, o mesmo plano preparado pelo 
+ * banco de dados pode ser reutilizado em todas as execuções.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class BoundSql {
+
+	/**
+	 * Sql com os parametros.
+	 */
+	private final String sql;
+	
+	/**
+	 * Parametros na ordem do sql.
+	 */
+	private final List<BoundParameter> parameters;
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param sql - sql com os parametros
+	 * @param parameters - parametros na ordem do sql
+	 */
+	public BoundSql(String sql, List<BoundParameter> parameters) {
+		this.sql = sql;
+		this.parameters = Collections.unmodifiableList(new ArrayList<BoundParameter>(parameters));
+	}
+	
+	public String getSql() {
+		return sql;
+	}
+	
+	public List<BoundParameter> getParameters() {
+		return parameters;
+	}
+	
+	/**
+	 * Método que retorna apenas os valores dos parametros, na ordem do sql.
+	 * 
+	 * @return valores dos parametros
+	 */
+	public Object[] getValues() {
+		final Object[] values = new Object[parameters.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = parameters.get(i).getValue();
+		}
+		return values;
+	}
+	
+	@Override
+	public String toString() {
+		return sql + " " + parameters;
+	}
+	
+}
@@ -0,0 +1,159 @@
+package com.urbainski.sql.builder;
+
+import com.urbainski.sql.dialect.Dialect;
+
+/**
+ * Classe que escreve o sql de um {@link CompiledSelect} com os valores como literais.
+ *
+ * <p>O tipo de escrita de cada parametro é escolhido uma única vez, na compilação,
+ * a partir do tipo java registrado para ele. A escrita apenas copia os trechos fixos
+ * do sql e escreve cada valor direto no buffer, sem percorrer os objetos do builder
+ * e sem criar um {@link SQLContext}. Quando o valor informado não é do tipo
+ * registrado, é escrito pela regra geral de {@link Dialect#appendLiteral(StringBuilder, Object)}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+final class CompiledRenderer {
+
+	/**
+	 * Escrita pela regra geral.
+	 */
+	private static final byte GENERIC = 0;
+
+	/**
+	 * Escrita de texto entre aspas simples.
+	 */
+	private static final byte TEXT = 1;
+
+	/**
+	 * Escrita de {@link Integer}.
+	 */
+	private static final byte INT = 2;
+
+	/**
+	 * Escrita de {@link Long}.
+	 */
+	private static final byte LONG = 3;
+
+	/**
+	 * Tamanho estimado de cada valor escrito.
+	 */
+	private static final int VALUE_SIZE_HINT = 8;
+
+	/**
+	 * Trechos fixos do sql, antes de cada parametro e depois do último.
+	 */
+	private final char[][] chunks;
+
+	/**
+	 * Dialeto que escreve os literais.
+	 */
+	private final Dialect dialect;
+	
+	/**
+	 * Tipo de escrita de cada parametro.
+	 */
+	private final byte[] kinds;
+
+	/**
+	 * Tamanho estimado do sql gerado.
+	 */
+	private final int sizeHint;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param fragments - trechos fixos do sql
+	 * @param types - tipo java de cada parametro
+	 * @param dialect - dialeto que escreve os literais
+	 */
+	CompiledRenderer(String[] fragments, Class<?>[] types, Dialect dialect) {
+		this.dialect = dialect;
+		this.chunks = new char[fragments.length][];
+
+		int length = 0;
+		for (int i = 0; i < fragments.length; i++) {
+			chunks[i] = fragments[i].toCharArray();
+			length += chunks[i].length;
+		}
+
+		this.kinds = new byte[types.length];
+		for (int i = 0; i < types.length; i++) {
+			kinds[i] = kindOf(types[i]);
+		}
+		this.sizeHint = length + types.length * VALUE_SIZE_HINT;
+	}
+
+	/**
+	 * Método que gera o sql com os valores escritos como literais.
+	 *
+	 * @param values - valores dos parametros, na ordem do sql
+	 *
+	 * @return sql gerado
+	 */
+	String render(Object[] values) {
+		final StringBuilder sql = new StringBuilder(sizeHint);
+		appendTo(sql, values);
+		return sql.toString();
+	}
+
+	/**
+	 * Método que escreve o sql com os valores escritos como literais em um buffer.
+	 *
+	 * @param sql - buffer do sql
+	 * @param values - valores dos parametros, na ordem do sql
+	 */
+	void appendTo(StringBuilder sql, Object[] values) {
+		for (int i = 0; i < kinds.length; i++) {
+			sql.append(chunks[i]);
+
+			final Object value = values[i];
+			switch (kinds[i]) {
+				case TEXT:
+					if (value instanceof String) {
+						dialect.appendStringLiteral(sql, (String) value);
+						continue;
+					}
+					break;
+				case INT:
+					if (value instanceof Integer) {
+						sql.append(((Integer) value).intValue());
+						continue;
+					}
+					break;
+				case LONG:
+					if (value instanceof Long) {
+						sql.append(((Long) value).longValue());
+						continue;
+					}
+					break;
+				default:
+					break;
+			}
+			dialect.appendLiteral(sql, value);
+		}
+		sql.append(chunks[kinds.length]);
+	}
+
+	/**
+	 * Método que escolhe o tipo de escrita de um parametro pelo seu tipo java.
+	 *
+	 * @param type - tipo java do parametro
+	 *
+	 * @return tipo de escrita
+	 */
+	private static byte kindOf(Class<?> type) {
+		if (String.class.equals(type)) {
+			return TEXT;
+		} else if (Integer.class.equals(type) || int.class.equals(type)) {
+			return INT;
+		} else if (Long.class.equals(type) || long.class.equals(type)) {
+			return LONG;
+		}
+		return GENERIC;
+	}
+
+}
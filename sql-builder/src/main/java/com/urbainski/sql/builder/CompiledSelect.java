@@ -0,0 +1,168 @@
+package com.urbainski.sql.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.urbainski.sql.dialect.Dialect;
+
+/**
+ * Classe imutável que representa uma consulta já gerada por {@link SelectBuilder#compile()}.
+ * 
+ * <p>Guarda os trechos fixos do sql e a posição e o tipo de cada parametro, de modo
+ * que informar novos valores gera o sql final e os parametros sem percorrer os
+ * objetos do builder. A quantidade de parametros é fixa, inclusive a quantidade
+ * de valores de cada <code>in</code>, e nos <code>like</code> o valor do parametro
+ * é o padrão completo, com os coringas.</p>
+ * 
+ * <p>Pode ser guardada em um campo <code>static final</code> e usada por várias
+ * threads ao mesmo tempo.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class CompiledSelect {
+	
+	/**
+	 * Sql com os parametros.
+	 */
+	private final String sql;
+
+	/**
+	 * Tipo java de cada parametro.
+	 */
+	private final Class<?>[] types;
+	
+	/**
+	 * Parametros com os valores usados na compilação.
+	 */
+	private final BoundSql boundSql;
+	
+	/**
+	 * Escrita do sql com os valores como literais.
+	 */
+	private final CompiledRenderer renderer;
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param sql - sql com os parametros
+	 * @param fragments - trechos fixos do sql
+	 * @param parameters - parametros com os valores usados na compilação
+	 * @param dialect - dialeto do banco de dados
+	 */
+	CompiledSelect(String sql, String[] fragments, List<BoundParameter> parameters, Dialect dialect) {
+		this.sql = sql;
+		this.boundSql = new BoundSql(sql, parameters);
+		this.types = new Class<?>[parameters.size()];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = parameters.get(i).getType();
+		}
+		this.renderer = new CompiledRenderer(fragments, types, dialect);
+	}
+	
+	public String getSql() {
+		return sql;
+	}
+	
+	/**
+	 * Método que retorna a quantidade de parametros da consulta.
+	 * 
+	 * @return quantidade de parametros
+	 */
+	public int getParameterCount() {
+		return types.length;
+	}
+	
+	/**
+	 * Método que retorna o tipo java de cada parametro, na ordem do sql.
+	 * 
+	 * @return tipos dos parametros
+	 */
+	public List<Class<?>> getParameterTypes() {
+		return Collections.unmodifiableList(Arrays.<Class<?>>asList(types.clone()));
+	}
+	
+	/**
+	 * Método que retorna o sql e os parametros com os valores usados na compilação.
+	 * 
+	 * @return {@link BoundSql}
+	 */
+	public BoundSql getBoundSql() {
+		return boundSql;
+	}
+	
+	/**
+	 * Método que informa novos valores para os parametros, na ordem do sql.
+	 * 
+	 * @param values - valores dos parametros
+	 * 
+	 * @return {@link BoundSql}
+	 */
+	public BoundSql bind(Object... values) {
+		checkValues(values);
+		
+		final List<BoundParameter> parameters = new ArrayList<BoundParameter>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			parameters.add(new BoundParameter(values[i], getType(i, values[i])));
+		}
+		return new BoundSql(sql, parameters);
+	}
+	
+	/**
+	 * Método que gera o sql com os valores escritos como literais.
+	 * 
+	 * @param values - valores dos parametros, na ordem do sql
+	 * 
+	 * @return sql gerado
+	 */
+	public String render(Object... values) {
+		checkValues(values);
+		return renderer.render(values);
+	}
+	
+	/**
+	 * Método que escreve o sql com os valores como literais no final de um buffer.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param values - valores dos parametros, na ordem do sql
+	 */
+	public void appendTo(StringBuilder sql, Object... values) {
+		checkValues(values);
+		renderer.appendTo(sql, values);
+	}
+	
+	@Override
+	public String toString() {
+		return sql;
+	}
+	
+	/**
+	 * Método que retorna o tipo de um parametro, usando o tipo do valor quando
+	 * informado ou o tipo registrado na compilação quando o valor é nulo.
+	 * 
+	 * @param index - posição do parametro
+	 * @param value - valor do parametro
+	 * 
+	 * @return tipo do parametro
+	 */
+	private Class<?> getType(int index, Object value) {
+		return value == null ? types[index] : value.getClass();
+	}
+	
+	/**
+	 * Método que valida a quantidade de valores informados.
+	 * 
+	 * @param values - valores dos parametros
+	 */
+	private void checkValues(Object[] values) {
+		if (values == null || values.length != types.length) {
+			throw new IllegalArgumentException("Consulta possui " + types.length + " parametros, foram informados " 
+					+ (values == null ? 0 : values.length) + " valores");
+		}
+	}
+	
+}
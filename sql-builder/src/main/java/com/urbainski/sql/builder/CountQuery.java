@@ -0,0 +1,318 @@
+package com.urbainski.sql.builder;
+
+import static com.urbainski.sql.db.types.SQLSelectDBTypes.AS;
+import static com.urbainski.sql.db.types.SQLSelectDBTypes.FROM;
+import static com.urbainski.sql.db.types.SQLSelectDBTypes.SELECT;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.BooleanCondition;
+import com.urbainski.sql.condititon.impl.ConstantCondition;
+import com.urbainski.sql.condititon.impl.JoinCondition;
+import com.urbainski.sql.condititon.impl.SimpleCondition;
+import com.urbainski.sql.condititon.impl.SubselectCondition;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.field.impl.AggregateField;
+import com.urbainski.sql.field.impl.SimpleField;
+import com.urbainski.sql.join.Join;
+import com.urbainski.sql.reflection.ColumnDescriptor;
+import com.urbainski.sql.reflection.EntityMetadata;
+import com.urbainski.sql.select.Select;
+
+/**
+ * Classe que representa a consulta da quantidade de linhas de um {@link SelectBuilder},
+ * criada pelo {@link SelectBuilder#toCountQuery()}.
+ *
+ * <p>A contagem ignora o order by, o offset, o limit e a paginação por chave da consulta,
+ * retornando a quantidade de linhas de todas as páginas. Quando a consulta não possui
+ * distinct, group by, union ou agregações no select o select é trocado por <code>count(*)</code> e os left joins
+ * para uma única linha, pela propriedade com {@link javax.persistence.JoinColumn}, que não
+ * são usados no where nem pelos outros joins são removidos, pois não alteram a quantidade
+ * de linhas. Quando a consulta não possui campos no select o join com o super tipo da
+ * entidade é mantido, pois o where pode usar os campos do super tipo:</p>
+ *
+ * <pre>
+ * select count(*) from locacao as l where l.cliente_id = ?
+ * </pre>
+ *
+ * <p>Nas consultas com distinct, group by, union ou agregações no select a quantidade de
+ * linhas depende do select, então a consulta é contada como uma tabela derivada. Sem group by
+ * as agregações retornam uma única linha. No group by sem distinct
+ * e com campos no select o select é trocado pelos campos do group by:</p>
+ *
+ * <pre>
+ * select count(*) from (select l.cliente_id as c0 from locacao as l group by l.cliente_id) as count_query
+ * </pre>
+ *
+ * <p>A contagem usa o select, o where e os joins da consulta no momento em que foi criada,
+ * que não devem ser alterados enquanto a contagem for usada.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class CountQuery extends AbstractSQL {
+
+	/**
+	 * Alias da tabela derivada das consultas contadas pelo select.
+	 */
+	public static final String DERIVED_TABLE_ALIAS = "count_query";
+
+	/**
+	 * Consulta contada, sem order by e sem paginação.
+	 */
+	private final SelectBuilder query;
+
+	/**
+	 * Se a consulta é contada como uma tabela derivada.
+	 */
+	private final boolean wrapped;
+
+	/**
+	 * Se o join com o super tipo da entidade é escrito na contagem sem tabela derivada.
+	 */
+	private final boolean superTypeJoin;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param source - consulta contada
+	 */
+	CountQuery(SelectBuilder source) {
+		this.wrapped = source.distinct || source.groupBy != null || source.union != null
+				|| hasAggregate(source.select);
+		this.superTypeJoin = source.select.getFields().isEmpty();
+		this.query = new SelectBuilder(source.entityClass);
+		this.query.fromAlias = source.fromAlias;
+		this.query.where = source.where;
+		this.query.joins.addAll(source.joins);
+
+		if (wrapped) {
+			this.query.select = source.select;
+			this.query.distinct = source.distinct;
+			this.query.groupBy = source.groupBy;
+			this.query.union = source.union;
+			this.query.unionType = source.unionType;
+
+			if (!source.distinct && source.groupBy != null && source.union == null && !superTypeJoin) {
+				final Select groupBySelect = newGroupBySelect(source);
+				if (groupBySelect != null) {
+					this.query.select = groupBySelect;
+				}
+			}
+		} else {
+			removeLeftJoins(this.query.joins, source.where);
+		}
+	}
+
+	public SelectBuilder getQuery() {
+		return query;
+	}
+
+	public boolean isWrapped() {
+		return wrapped;
+	}
+
+	@Override
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		sql.append(SELECT.getSQLSelectType());
+		sql.append(' ');
+		sql.append(AggregateDBTypes.COUNT.getAggregateType());
+		sql.append("(*)");
+
+		if (!wrapped) {
+			query.appendFrom(context, superTypeJoin ? query.newSuperTypeJoin() : null);
+			query.appendWhere(context);
+			return;
+		}
+
+		sql.append(' ');
+		sql.append(FROM.getSQLSelectType());
+		sql.append(" (");
+		query.appendTo(context);
+		sql.append(") ");
+		sql.append(AS.getSQLSelectType());
+		sql.append(' ');
+		context.appendIdentifier(DERIVED_TABLE_ALIAS);
+	}
+
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(wrapped).add(superTypeJoin).add(query);
+	}
+
+	@Override
+	public int sizeHint() {
+		return query.sizeHint() + DEFAULT_SIZE_HINT * 2;
+	}
+
+	/**
+	 * Método que verifica se o select possui algum campo de agregação.
+	 *
+	 * @param select - select da consulta
+	 *
+	 * @return <code>true</code> se possuir agregação caso contrário <code>false</code>
+	 */
+	private static boolean hasAggregate(Select select) {
+		for (Field f : select.getFields()) {
+			if (f instanceof AggregateField) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Método que cria o select com os campos do group by, usado para contar os grupos
+	 * sem calcular as agregações do select.
+	 *
+	 * @param source - consulta contada
+	 *
+	 * @return {@link Select} ou <code>null</code> se algum campo do group by não for uma coluna
+	 */
+	private static Select newGroupBySelect(SelectBuilder source) {
+		final List<Field> fields = source.groupBy.getFields();
+		if (fields.isEmpty()) {
+			return null;
+		}
+
+		final Select select = new Select(source.entityClass);
+		for (int i = 0; i < fields.size(); i++) {
+			final Field f = fields.get(i);
+			if (!(SimpleField.class.equals(f.getClass()))) {
+				return null;
+			}
+
+			final SimpleField field = (SimpleField) f;
+			select.addField(new SimpleField(
+					field.getEntityClass(), field.getTableNameOrAlias(), field.getFieldName(), "c" + i));
+		}
+		return select;
+	}
+
+	/**
+	 * Método que remove os left joins que não alteram a quantidade de linhas da consulta.
+	 * Os joins são percorridos do último para o primeiro, para que um join usado apenas
+	 * por joins removidos também seja removido.
+	 *
+	 * @param joins - joins da consulta
+	 * @param where - condição where da consulta
+	 */
+	private static void removeLeftJoins(List<Join> joins, Condition where) {
+		for (int i = joins.size() - 1; i >= 0; i--) {
+			final Join join = joins.get(i);
+			if (isToOneLeftJoin(join) && !references(where, join.getClazzJoined())
+					&& !isUsedByOtherJoin(joins, join)) {
+				joins.remove(i);
+			}
+		}
+	}
+
+	/**
+	 * Método que verifica se o join é um left join para no máximo uma linha, feito pela
+	 * propriedade da entidade com {@link javax.persistence.JoinColumn}.
+	 *
+	 * @param join - join
+	 *
+	 * @return <code>true</code> se o join for para no máximo uma linha caso contrário <code>false</code>
+	 */
+	private static boolean isToOneLeftJoin(Join join) {
+		if (!(JoinDBType.LEFT.equals(join.getJoinType()))
+				|| join.getProperty() == null || join.getProperty().isEmpty()) {
+			return false;
+		}
+
+		for (Condition c : join.getConditions()) {
+			if (c instanceof JoinCondition) {
+				return false;
+			}
+		}
+
+		final ColumnDescriptor column = EntityMetadata.of(join.getClazzFrom()).getColumn(join.getProperty());
+		return column != null && column.isJoin() && join.getClazzJoined().equals(column.getJavaType());
+	}
+
+	/**
+	 * Método que verifica se outro join parte da entidade unida ou usa ela nas suas condições.
+	 *
+	 * @param joins - joins da consulta
+	 * @param join - join verificado
+	 *
+	 * @return <code>true</code> se a entidade unida for usada por outro join caso contrário <code>false</code>
+	 */
+	private static boolean isUsedByOtherJoin(List<Join> joins, Join join) {
+		final Class<?> joined = join.getClazzJoined();
+		for (Join other : joins) {
+			if (other == join) {
+				continue;
+			}
+
+			if (joined.equals(other.getClazzFrom()) || joined.equals(other.getClazzJoined())) {
+				return true;
+			}
+
+			for (Condition c : other.getConditions()) {
+				if (references(c, joined)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Método que verifica se a condição, as condições agrupadas nela ou os seus subselects
+	 * usam a entidade. Condições de tipos desconhecidos são consideradas como usando a entidade.
+	 *
+	 * @param condition - condição, pode ser <code>null</code>
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return <code>true</code> se a condição usar a entidade caso contrário <code>false</code>
+	 */
+	private static boolean references(Condition condition, Class<?> entityClass) {
+		final Deque<Condition> work = new ArrayDeque<Condition>();
+		if (condition != null) {
+			work.push(condition);
+		}
+
+		while (!work.isEmpty()) {
+			final Condition c = work.pop();
+			if (c instanceof SimpleCondition) {
+				if (entityClass.equals(((SimpleCondition) c).getEntityClass())) {
+					return true;
+				}
+
+				if (c instanceof SubselectCondition) {
+					final SelectBuilder subselect = ((SubselectCondition) c).getSubselect();
+					if (entityClass.equals(subselect.getEntityClass())) {
+						return true;
+					} else if (subselect.getWhere() != null) {
+						work.push(subselect.getWhere());
+					}
+				}
+			} else if (c instanceof JoinCondition) {
+				final JoinCondition join = (JoinCondition) c;
+				if (entityClass.equals(join.getEntityFrom()) || entityClass.equals(join.getJoinedClass())) {
+					return true;
+				}
+			} else if (c instanceof BooleanCondition) {
+				for (Condition child : ((BooleanCondition) c).getConditions()) {
+					if (child != null) {
+						work.push(child);
+					}
+				}
+			} else if (!(c instanceof ConstantCondition)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.urbainski.sql.builder;
+
+/**
+ * Classe imutável que representa uma página da paginação por chave (keyset),
+ * guardando a quantidade de registros da página e a última chave lida na
+ * página anterior.
+ * 
+ * <p>A primeira página é criada com {@link #first(int)} e as seguintes com
+ * {@link #next(Object...)}, informando os valores dos campos do order by do
+ * último registro lido. Usada com {@link SelectBuilder#page(Page)}.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class Page {
+	
+	/**
+	 * Quantidade de registros da página.
+	 */
+	private final int size;
+	
+	/**
+	 * Última chave lida ou <code>null</code> na primeira página.
+	 */
+	private final Object[] lastKey;
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param size - quantidade de registros da página
+	 * @param lastKey - última chave lida
+	 */
+	private Page(int size, Object[] lastKey) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Quantidade de registros da página deve ser maior que zero");
+		}
+		this.size = size;
+		this.lastKey = lastKey;
+	}
+	
+	/**
+	 * Método que cria a primeira página.
+	 * 
+	 * @param size - quantidade de registros da página
+	 * 
+	 * @return {@link Page}
+	 */
+	public static Page first(int size) {
+		return new Page(size, null);
+	}
+	
+	/**
+	 * Método que cria a página seguinte a esta.
+	 * 
+	 * @param lastKey - valores dos campos do order by do último registro lido
+	 * 
+	 * @return {@link Page}
+	 */
+	public Page next(Object... lastKey) {
+		if (lastKey == null || lastKey.length == 0) {
+			throw new IllegalArgumentException("Última chave deve ser informada");
+		}
+		return new Page(size, lastKey.clone());
+	}
+	
+	public int getSize() {
+		return size;
+	}
+	
+	/**
+	 * Método que retorna a última chave lida.
+	 * 
+	 * @return valores da chave ou <code>null</code> na primeira página
+	 */
+	public Object[] getLastKey() {
+		return lastKey == null ? null : lastKey.clone();
+	}
+	
+	/**
+	 * Método que retorna se é a primeira página.
+	 * 
+	 * @return <code>true</code> se não possui última chave
+	 */
+	public boolean isFirst() {
+		return lastKey == null;
+	}
+	
+}
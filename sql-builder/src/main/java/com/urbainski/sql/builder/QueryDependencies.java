@@ -0,0 +1,301 @@
+package com.urbainski.sql.builder;
+
+import static com.urbainski.sql.reflection.TableReflectionReader.getAllFieldsNames;
+import static com.urbainski.sql.reflection.TableReflectionReader.getDatabaseNameField;
+import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.urbainski.sql.by.AbstractClauseBy;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.BooleanCondition;
+import com.urbainski.sql.condititon.impl.JoinCondition;
+import com.urbainski.sql.condititon.impl.SimpleCondition;
+import com.urbainski.sql.condititon.impl.SubselectCondition;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.field.impl.SimpleField;
+import com.urbainski.sql.field.impl.SubselectField;
+import com.urbainski.sql.join.Join;
+import com.urbainski.sql.join.JoinBuilder;
+import com.urbainski.sql.select.Select;
+
+/**
+ * Classe com as tabelas e colunas lidas por uma consulta, encontradas percorrendo
+ * a estrutura do {@link SelectBuilder} sem gerar o sql.
+ *
+ * <p>São consideradas a tabela do from, a tabela do super tipo da entidade quando
+ * o select lê todas as colunas, as tabelas dos joins, as tabelas dos subselects
+ * do select, dos joins, do where, do group by e do order by e as tabelas das
+ * consultas unidas pelo union. As colunas são as do select, incluindo todas as
+ * colunas das entidades quando nenhum campo foi adicionado, as das condições dos
+ * joins, inclusive as criadas pelo relacionamento entre as entidades, as do where,
+ * do group by e do order by.</p>
+ *
+ * <p>Os nomes das tabelas e colunas são os do banco de dados, lidos do
+ * {@link com.urbainski.sql.reflection.EntityMetadata}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class QueryDependencies {
+
+	/**
+	 * Tabelas lidas pela consulta, na ordem em que aparecem.
+	 */
+	private final Set<String> tables;
+
+	/**
+	 * Colunas lidas de cada tabela, na ordem em que aparecem.
+	 */
+	private final Map<String, Set<String>> columns;
+
+	/**
+	 * Construtor padrão.
+	 */
+	private QueryDependencies() {
+		this.tables = new LinkedHashSet<String>();
+		this.columns = new LinkedHashMap<String, Set<String>>();
+	}
+
+	public Set<String> getTables() {
+		return Collections.unmodifiableSet(tables);
+	}
+
+	public Map<String, Set<String>> getColumns() {
+		return Collections.unmodifiableMap(columns);
+	}
+
+	/**
+	 * Método que percorre a consulta e retorna as tabelas e colunas lidas por ela.
+	 *
+	 * @param sqlBuilder - consulta
+	 *
+	 * @return {@link QueryDependencies}
+	 */
+	public static QueryDependencies of(SelectBuilder sqlBuilder) {
+		final QueryDependencies dependencies = new QueryDependencies();
+		dependencies.addSelect(sqlBuilder);
+		return dependencies;
+	}
+
+	/**
+	 * Método que retorna as colunas lidas de uma tabela, sem diferenciar maiúsculas.
+	 *
+	 * @param table - nome da tabela
+	 *
+	 * @return colunas lidas, vazio se nenhuma coluna da tabela for lida
+	 */
+	public Set<String> getColumns(String table) {
+		for (Map.Entry<String, Set<String>> entry : columns.entrySet()) {
+			if (entry.getKey().equalsIgnoreCase(table)) {
+				return Collections.unmodifiableSet(entry.getValue());
+			}
+		}
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Método que verifica se a consulta lê a tabela, sem diferenciar maiúsculas.
+	 *
+	 * @param table - nome da tabela
+	 *
+	 * @return <code>true</code> se a consulta ler a tabela caso contrário <code>false</code>
+	 */
+	public boolean dependsOn(String table) {
+		for (String t : tables) {
+			if (t.equalsIgnoreCase(table)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Método que verifica se a consulta lê a coluna da tabela, sem diferenciar maiúsculas.
+	 *
+	 * @param table - nome da tabela
+	 * @param column - nome da coluna
+	 *
+	 * @return <code>true</code> se a consulta ler a coluna caso contrário <code>false</code>
+	 */
+	public boolean dependsOn(String table, String column) {
+		for (String c : getColumns(table)) {
+			if (c.equalsIgnoreCase(column)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "QueryDependencies" + columns;
+	}
+
+	/**
+	 * Método que adiciona as tabelas e colunas de uma consulta e das consultas unidas a ela.
+	 *
+	 * @param sqlBuilder - consulta
+	 */
+	private void addSelect(SelectBuilder sqlBuilder) {
+		for (SelectBuilder current = sqlBuilder; current != null; current = current.getUnion()) {
+			final Class<?> entityClass = current.getEntityClass();
+			addTable(entityClass);
+
+			final Select select = current.select();
+			final boolean readFieldsOfJoins = select.getFields().isEmpty();
+			if (readFieldsOfJoins) {
+				addAllColumns(entityClass);
+			} else {
+				addFields(select.getFields());
+			}
+
+			for (Join j : current.getJoins()) {
+				addJoin(j, readFieldsOfJoins);
+			}
+
+			if (readFieldsOfJoins && !(Object.class.equals(entityClass.getSuperclass()))) {
+				addJoin(JoinBuilder.newJoin(entityClass, current.getFromAlias()), true);
+			}
+
+			addCondition(current.getWhere());
+			addClauseBy(current.getGroupBy());
+			addClauseBy(current.getOrderBy());
+		}
+	}
+
+	/**
+	 * Método que adiciona a tabela unida, as colunas das condições do join e as
+	 * colunas da entidade unida quando o select lê todas as colunas.
+	 *
+	 * @param join - join
+	 * @param readFields - se o select lê todas as colunas da entidade unida
+	 */
+	private void addJoin(Join join, boolean readFields) {
+		addTable(join.getClazzJoined());
+		if (readFields) {
+			addAllColumns(join.getClazzJoined());
+		}
+
+		addCondition(join.buildJoinCondition());
+		for (Condition c : join.getConditions()) {
+			addCondition(c);
+		}
+	}
+
+	/**
+	 * Método que adiciona as colunas de uma lista de campos e as tabelas e colunas dos subselects.
+	 *
+	 * @param fields - campos
+	 */
+	private void addFields(List<Field> fields) {
+		for (Field f : fields) {
+			if (f instanceof SubselectField) {
+				addSelect(((SubselectField) f).getSubselect());
+			} else if (f instanceof SimpleField) {
+				final SimpleField field = (SimpleField) f;
+				if (field.getEntityClass() != null) {
+					addColumn(getTableName(field.getEntityClass()), field.getFieldName());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Método que adiciona as colunas de um group by ou order by.
+	 *
+	 * @param clauseBy - group by ou order by, pode ser <code>null</code>
+	 */
+	private void addClauseBy(AbstractClauseBy clauseBy) {
+		if (clauseBy != null) {
+			addFields(clauseBy.getFields());
+		}
+	}
+
+	/**
+	 * Método que adiciona as colunas de uma condição, das condições agrupadas nela
+	 * e as tabelas e colunas dos subselects.
+	 *
+	 * @param condition - condição, pode ser <code>null</code>
+	 */
+	private void addCondition(Condition condition) {
+		if (condition == null) {
+			return;
+		}
+
+		final Deque<Condition> work = new ArrayDeque<Condition>();
+		work.push(condition);
+
+		while (!work.isEmpty()) {
+			final Condition c = work.pop();
+			if (c instanceof SimpleCondition) {
+				final SimpleCondition simple = (SimpleCondition) c;
+				addColumn(getTableName(simple.getEntityClass()),
+						getDatabaseNameField(simple.getEntityClass(), simple.getFieldName()));
+
+				if (c instanceof SubselectCondition) {
+					addSelect(((SubselectCondition) c).getSubselect());
+				}
+			} else if (c instanceof JoinCondition) {
+				final JoinCondition join = (JoinCondition) c;
+				addColumn(getTableName(join.getEntityFrom()), join.getProp1());
+				addColumn(getTableName(join.getJoinedClass()), join.getProp2());
+			} else if (c instanceof BooleanCondition) {
+				final List<Condition> children = ((BooleanCondition) c).getConditions();
+				for (int i = children.size() - 1; i >= 0; i--) {
+					if (children.get(i) != null) {
+						work.push(children.get(i));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Método que adiciona a tabela da entidade.
+	 *
+	 * @param entityClass - classe de entidade
+	 */
+	private void addTable(Class<?> entityClass) {
+		tables.add(getTableName(entityClass));
+	}
+
+	/**
+	 * Método que adiciona todas as colunas da tabela da entidade.
+	 *
+	 * @param entityClass - classe de entidade
+	 */
+	private void addAllColumns(Class<?> entityClass) {
+		final String table = getTableName(entityClass);
+		for (String column : getAllFieldsNames(entityClass)) {
+			addColumn(table, column);
+		}
+	}
+
+	/**
+	 * Método que adiciona uma coluna lida da tabela.
+	 *
+	 * @param table - nome da tabela
+	 * @param column - nome da coluna
+	 */
+	private void addColumn(String table, String column) {
+		tables.add(table);
+
+		Set<String> tableColumns = columns.get(table);
+		if (tableColumns == null) {
+			tableColumns = new LinkedHashSet<String>();
+			columns.put(table, tableColumns);
+		}
+		tableColumns.add(column);
+	}
+
+}
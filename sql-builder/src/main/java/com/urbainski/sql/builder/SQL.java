@@ -1,5 +1,7 @@
 package com.urbainski.sql.builder;
 
+import com.urbainski.sql.dialect.Dialect;
+
 /**
  * Interface para definição de métodos comuns ao objetos builder.
  * 
@@ -11,10 +13,74 @@ package com.urbainski.sql.builder;
 public interface SQL {
 
 	/**
-	 * Método responsável por construir a consulta SQL.
+	 * Método responsável por construir a consulta SQL, sem alterar o estado do objeto.
 	 * 
 	 * @return SQL gerado
 	 */
 	public String buildSQL();
 	
+	/**
+	 * Método responsável por construir a consulta SQL no dialeto informado.
+	 * 
+	 * @param dialect - dialeto do banco de dados
+	 * 
+	 * @return SQL gerado
+	 */
+	public String buildSQL(Dialect dialect);
+	
+	/**
+	 * Método responsável por construir a consulta SQL com <code>?</code> no lugar 
+	 * dos valores, retornando também os parametros na ordem do SQL.
+	 * 
+	 * @return {@link BoundSql}
+	 */
+	public BoundSql buildBoundSQL();
+	
+	/**
+	 * Método responsável por construir a consulta SQL com parametros no dialeto informado.
+	 * 
+	 * @param dialect - dialeto do banco de dados
+	 * 
+	 * @return {@link BoundSql}
+	 */
+	public BoundSql buildBoundSQL(Dialect dialect);
+	
+	/**
+	 * Método responsável por escrever o SQL no final do buffer informado,
+	 * sem criar {@link String} intermediárias.
+	 * 
+	 * @param sql - buffer onde o SQL é escrito
+	 */
+	public void appendTo(StringBuilder sql);
+	
+	/**
+	 * Método responsável por escrever o SQL no contexto informado.
+	 * 
+	 * @param context - contexto de geração do SQL
+	 */
+	public void appendTo(SQLContext context);
+	
+	/**
+	 * Método responsável por escrever a forma estrutural do SQL e os seus parametros,
+	 * sem gerar o texto do SQL.
+	 * 
+	 * @param shape - contexto de leitura da forma
+	 */
+	public void appendShape(ShapeContext shape);
+	
+	/**
+	 * Método que retorna a forma estrutural do SQL, que ignora os valores dos parametros.
+	 * 
+	 * @return {@link ShapeKey}
+	 */
+	public ShapeKey shapeKey();
+	
+	/**
+	 * Método que estima a quantidade de caracteres do SQL gerado, usado
+	 * para dimensionar o buffer antes de construir a consulta.
+	 * 
+	 * @return quantidade estimada de caracteres
+	 */
+	public int sizeHint();
+	
 }
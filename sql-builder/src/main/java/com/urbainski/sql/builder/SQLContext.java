@@ -0,0 +1,180 @@
+package com.urbainski.sql.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.urbainski.sql.dialect.Dialect;
+import com.urbainski.sql.dialect.GenericDialect;
+
+/**
+ * Classe que guarda o estado da geração de um sql: o buffer onde o sql é 
+ * escrito, o {@link Dialect} do banco de dados e, quando os valores são gerados
+ * como parametros, a lista dos parametros na ordem em que aparecem no sql.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SQLContext {
+	
+	/**
+	 * Marcador de parametro no sql.
+	 */
+	public static final char PARAMETER_MARKER = '?';
+
+	/**
+	 * Buffer do sql.
+	 */
+	private final StringBuilder sql;
+	
+	/**
+	 * Dialeto do banco de dados.
+	 */
+	private final Dialect dialect;
+	
+	/**
+	 * Parametros do sql ou <code>null</code> se os valores são escritos no sql.
+	 */
+	private final List<BoundParameter> parameters;
+	
+	/**
+	 * Posição no sql de cada marcador de parametro.
+	 */
+	private final List<Integer> parameterOffsets;
+	
+	/**
+	 * Construtor que escreve os valores como literais no sql.
+	 * 
+	 * @param sql - buffer do sql
+	 */
+	public SQLContext(StringBuilder sql) {
+		this(sql, false);
+	}
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param bindParameters - se <code>true</code> os valores são gerados como <code>?</code>
+	 * 		caso contrário são escritos como literais no sql
+	 */
+	public SQLContext(StringBuilder sql, boolean bindParameters) {
+		this(sql, bindParameters, GenericDialect.INSTANCE);
+	}
+	
+	/**
+	 * Construtor com o dialeto do banco de dados.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param bindParameters - se <code>true</code> os valores são gerados como <code>?</code>
+	 * 		caso contrário são escritos como literais no sql
+	 * @param dialect - dialeto do banco de dados
+	 */
+	public SQLContext(StringBuilder sql, boolean bindParameters, Dialect dialect) {
+		this.sql = sql;
+		this.dialect = dialect;
+		this.parameters = bindParameters ? new ArrayList<BoundParameter>() : null;
+		this.parameterOffsets = bindParameters ? new ArrayList<Integer>() : null;
+	}
+	
+	public StringBuilder getSql() {
+		return sql;
+	}
+	
+	public Dialect getDialect() {
+		return dialect;
+	}
+	
+	/**
+	 * Método que escreve o nome de uma tabela, coluna ou alias conforme o dialeto.
+	 * 
+	 * @param identifier - nome
+	 */
+	public void appendIdentifier(String identifier) {
+		dialect.appendIdentifier(sql, identifier);
+	}
+	
+	/**
+	 * Método que escreve uma coluna precedida do nome ou alias da tabela.
+	 * 
+	 * @param tableNameOrAlias - nome ou alias da tabela
+	 * @param column - nome da coluna
+	 */
+	public void appendColumn(String tableNameOrAlias, String column) {
+		dialect.appendIdentifier(sql, tableNameOrAlias);
+		sql.append('.');
+		dialect.appendIdentifier(sql, column);
+	}
+	
+	/**
+	 * Método que retorna se os valores são gerados como parametros.
+	 * 
+	 * @return <code>true</code> se os valores são gerados como <code>?</code>
+	 */
+	public boolean isBindParameters() {
+		return parameters != null;
+	}
+	
+	/**
+	 * Método que retorna os parametros gerados até o momento.
+	 * 
+	 * @return parametros ou <code>null</code> se os valores são escritos no sql
+	 */
+	public List<BoundParameter> getParameters() {
+		return parameters;
+	}
+	
+	/**
+	 * Método que escreve um valor no sql, como <code>?</code> guardando o parametro
+	 * ou como literal, com as aspas simples do texto escapadas.
+	 * 
+	 * @param value - valor
+	 * @param type - tipo java do valor
+	 */
+	public void appendValue(Object value, Class<?> type) {
+		if (parameters != null) {
+			parameterOffsets.add(sql.length());
+			sql.append(PARAMETER_MARKER);
+			parameters.add(new BoundParameter(value, type));
+		} else {
+			dialect.appendLiteral(sql, value);
+		}
+	}
+	
+	/**
+	 * Método que cria o {@link BoundSql} com o sql e os parametros gerados.
+	 * 
+	 * @return {@link BoundSql}
+	 */
+	public BoundSql toBoundSql() {
+		if (parameters == null) {
+			throw new IllegalStateException("Contexto não gera os valores como parametros");
+		}
+		return new BoundSql(sql.toString(), parameters);
+	}
+	
+	/**
+	 * Método que cria o {@link CompiledSelect} com os trechos fixos do sql
+	 * e os parametros gerados.
+	 * 
+	 * @return {@link CompiledSelect}
+	 */
+	CompiledSelect toCompiledSelect() {
+		if (parameters == null) {
+			throw new IllegalStateException("Contexto não gera os valores como parametros");
+		}
+		
+		final String[] fragments = new String[parameters.size() + 1];
+		int start = 0;
+		for (int i = 0; i < parameterOffsets.size(); i++) {
+			final int offset = parameterOffsets.get(i);
+			fragments[i] = sql.substring(start, offset);
+			start = offset + 1;
+		}
+		fragments[fragments.length - 1] = sql.substring(start);
+		
+		return new CompiledSelect(sql.toString(), fragments, parameters, dialect);
+	}
+	
+}
@@ -0,0 +1,166 @@
+package com.urbainski.sql.builder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.urbainski.sql.dialect.Dialect;
+import com.urbainski.sql.dialect.GenericDialect;
+
+/**
+ * Cache limitado, com descarte do menos usado recentemente, do sql gerado com
+ * parametros para cada forma de consulta ({@link ShapeKey}).
+ * 
+ * <p>Depois que uma forma foi gerada uma vez, as próximas consultas com a mesma 
+ * forma custam apenas a leitura da forma, que também coleta os parametros, e
+ * uma busca no cache. O cache pode ser compartilhado entre threads.</p>
+ * 
+ * <p>Cada cache gera o sql de um único {@link Dialect}.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SQLTemplateCache {
+	
+	/**
+	 * Quantidade máxima padrão de formas guardadas.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	/**
+	 * Sql gerado de cada forma, em ordem de acesso.
+	 */
+	private final Map<ShapeKey, String> templates;
+	
+	/**
+	 * Dialeto do sql gerado.
+	 */
+	private final Dialect dialect;
+	
+	/**
+	 * Quantidade de consultas encontradas no cache.
+	 */
+	private long hits;
+	
+	/**
+	 * Quantidade de consultas que precisaram ser geradas.
+	 */
+	private long misses;
+	
+	/**
+	 * Construtor com a quantidade máxima padrão.
+	 */
+	public SQLTemplateCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+	
+	/**
+	 * Construtor com a quantidade máxima padrão e o dialeto do banco de dados.
+	 * 
+	 * @param dialect - dialeto do sql gerado
+	 */
+	public SQLTemplateCache(Dialect dialect) {
+		this(DEFAULT_MAX_SIZE, dialect);
+	}
+	
+	/**
+	 * Construtor com o dialeto padrão.
+	 * 
+	 * @param maxSize - quantidade máxima de formas guardadas
+	 */
+	public SQLTemplateCache(final int maxSize) {
+		this(maxSize, GenericDialect.INSTANCE);
+	}
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param maxSize - quantidade máxima de formas guardadas
+	 * @param dialect - dialeto do sql gerado
+	 */
+	@SuppressWarnings("serial")
+	public SQLTemplateCache(final int maxSize, Dialect dialect) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Tamanho do cache deve ser maior que zero");
+		}
+		
+		this.dialect = dialect;
+		this.templates = new LinkedHashMap<ShapeKey, String>(16, 0.75f, true) {
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ShapeKey, String> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+	
+	public Dialect getDialect() {
+		return dialect;
+	}
+	
+	/**
+	 * Método que retorna o sql com parametros da consulta, gerando o sql apenas 
+	 * se a sua forma ainda não estiver no cache.
+	 * 
+	 * @param sql - consulta
+	 * 
+	 * @return {@link BoundSql}
+	 */
+	public BoundSql buildBoundSQL(SQL sql) {
+		final ShapeContext shape = new ShapeContext();
+		sql.appendShape(shape);
+		final ShapeKey key = shape.toShapeKey();
+		
+		String template;
+		synchronized (templates) {
+			template = templates.get(key);
+			if (template != null) {
+				hits++;
+			} else {
+				misses++;
+			}
+		}
+		
+		if (template == null) {
+			template = sql.buildBoundSQL(dialect).getSql();
+			synchronized (templates) {
+				templates.put(key, template);
+			}
+		}
+		return new BoundSql(template, shape.getParameters());
+	}
+	
+	/**
+	 * Método que retorna a quantidade de formas guardadas.
+	 * 
+	 * @return quantidade de formas
+	 */
+	public int size() {
+		synchronized (templates) {
+			return templates.size();
+		}
+	}
+	
+	public long getHits() {
+		synchronized (templates) {
+			return hits;
+		}
+	}
+	
+	public long getMisses() {
+		synchronized (templates) {
+			return misses;
+		}
+	}
+	
+	/**
+	 * Método que remove todas as formas do cache.
+	 */
+	public void clear() {
+		synchronized (templates) {
+			templates.clear();
+		}
+	}
+	
+}
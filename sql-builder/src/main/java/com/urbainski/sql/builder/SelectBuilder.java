@@ -2,6 +2,7 @@ package com.urbainski.sql.builder;
 
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.AS;
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.DISTINCT;
+import static com.urbainski.sql.db.types.SQLSelectDBTypes.FETCH_FIRST;
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.FROM;
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.LIMIT;
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.OFFSET;
@@ -16,29 +17,41 @@ import com.urbainski.sql.by.GroupBy;
 import com.urbainski.sql.by.OrderBy;
 import com.urbainski.sql.condititon.Condition;
 import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.condititon.impl.SeekCondition;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 import com.urbainski.sql.db.types.ConstainsDBTypes;
 import com.urbainski.sql.db.types.JoinDBType;
 import com.urbainski.sql.db.types.OrderByDBTypes;
 import com.urbainski.sql.db.types.UnionDBTypes;
+import com.urbainski.sql.dialect.Dialect;
+import com.urbainski.sql.dialect.GenericDialect;
+import com.urbainski.sql.field.Field;
 import com.urbainski.sql.join.Join;
 import com.urbainski.sql.join.JoinBuilder;
 import com.urbainski.sql.select.Select;
+import com.urbainski.sql.util.Assert;
 
 /**
  * Classe que representa um sql para consulta no banco de dados.
  * 
+ * <p>A geração do sql ({@link #buildSQL()}, {@link #buildBoundSQL()} e {@link #appendTo(SQLContext)}) apenas
+ * le o estado do builder, podendo ser chamada várias vezes com o mesmo resultado.
+ * Depois de configurado, um builder que não é mais alterado pode ser compartilhado
+ * entre threads, por exemplo guardado em um campo <code>static final</code>, e
+ * ter o seu sql gerado concorrentemente. Os métodos de configuração não são
+ * thread-safe.</p>
+ * 
  * @author Cristian Urbainski <cristianurbainskips@gmail.com>
  * @since 19/09/2014
  * @version 1.0
  *
  */
-public class SelectBuilder implements SQL {
+public class SelectBuilder extends AbstractSQL {
 	
 	/**
-	 * Quantidade padrão do limit e do offset.
+	 * Quantidade padrão do limit e do offset, que não gera a clausula.
 	 */
-	protected static final int DEFAULT_LIMIT_AND_OFFSET = -1;
+	public static final int DEFAULT_LIMIT_AND_OFFSET = -1;
 
 	/**
 	 * Objeto que representa os campos do select.
@@ -100,6 +113,68 @@ public class SelectBuilder implements SQL {
 	 */
 	protected int limit;
 	
+	/**
+	 * Se a quantidade de linhas foi informada pela clausula fetch first.
+	 */
+	protected boolean fetchFirst;
+	
+	/**
+	 * Condição da paginação por chave.
+	 */
+	protected SeekCondition seek;
+	
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+	
+	public String getFromAlias() {
+		return fromAlias;
+	}
+	
+	public Condition getWhere() {
+		return where;
+	}
+	
+	public List<Join> getJoins() {
+		return joins;
+	}
+	
+	public GroupBy getGroupBy() {
+		return groupBy;
+	}
+	
+	public OrderBy getOrderBy() {
+		return orderBy;
+	}
+	
+	public SelectBuilder getUnion() {
+		return union;
+	}
+	
+	public UnionDBTypes getUnionType() {
+		return unionType;
+	}
+	
+	public boolean isDistinct() {
+		return distinct;
+	}
+	
+	public int getOffset() {
+		return offset;
+	}
+	
+	public int getLimit() {
+		return limit;
+	}
+	
+	public boolean isFetchFirst() {
+		return fetchFirst;
+	}
+	
+	public SeekCondition getSeek() {
+		return seek;
+	}
+	
 	/**
 	 * Construtor padrão.
 	 * 
@@ -542,97 +617,355 @@ public class SelectBuilder implements SQL {
 	 */
 	public void limit(int limit) {
 		this.limit = limit;
+		this.fetchFirst = false;
+	}
+	
+	/**
+	 * Método para setar a quantidade de linhas da query pela clausula <code>fetch first</code>,
+	 * substituindo o limit. Nos dialetos sem <code>fetch first</code> é gerado como limit.
+	 * 
+	 * @param rows - quantidade de linhas
+	 */
+	public void fetchFirst(int rows) {
+		this.limit = rows;
+		this.fetchFirst = true;
+	}
+	
+	/**
+	 * Método que retorna apenas os registros posteriores à última chave lida, na
+	 * ordem dos campos do {@link OrderBy}, que devem identificar um único registro.
+	 * Diferente do {@link #offset(int)}, o custo de cada página não depende da 
+	 * quantidade de páginas anteriores.
+	 * 
+	 * @param lastKey - valores dos campos do order by do último registro lido
+	 */
+	public void seekAfter(Object... lastKey) {
+		if (orderBy == null || orderBy.getFields().isEmpty()) {
+			throw new IllegalStateException("Paginação por chave necessita de campos no order by");
+		}
+		this.seek = new SeekCondition(orderBy, lastKey);
+	}
+	
+	/**
+	 * Método que configura a consulta para retornar uma página da paginação por chave.
+	 * 
+	 * @param page - página
+	 */
+	public void page(Page page) {
+		Assert.parameterNotNull(page, "Página deve ser informada");
+		
+		if (page.isFirst()) {
+			this.seek = null;
+		} else {
+			seekAfter(page.getLastKey());
+		}
+		fetchFirst(page.getSize());
+	}
+
+	/**
+	 * Método que cria uma cópia da consulta com novas listas de campos do select e de joins,
+	 * que podem ser alteradas sem alterar esta consulta. As condições, os joins, o group by,
+	 * o order by e o union são compartilhados com esta consulta e não devem ser alterados
+	 * pela cópia, apenas substituídos, como pelo {@link #where(Condition)}.
+	 * 
+	 * @return {@link SelectBuilder}
+	 */
+	public SelectBuilder copy() {
+		final SelectBuilder copy = new SelectBuilder(entityClass);
+		copy.fromAlias = fromAlias;
+		if (fromAlias != null) {
+			copy.select.alias(fromAlias);
+		}
+		
+		for (Field f : select.getFields()) {
+			copy.select.addField(f);
+		}
+		
+		copy.joins.addAll(joins);
+		copy.where = where;
+		copy.groupBy = groupBy;
+		copy.orderBy = orderBy;
+		copy.union = union;
+		copy.unionType = unionType;
+		copy.distinct = distinct;
+		copy.offset = offset;
+		copy.limit = limit;
+		copy.fetchFirst = fetchFirst;
+		copy.seek = seek;
+		return copy;
+	}
+	
+	/**
+	 * Método que cria a consulta da quantidade de linhas desta consulta, usada para o 
+	 * total das listas paginadas. A contagem ignora o order by, o offset, o limit e a
+	 * paginação por chave e, quando possível, troca o select por <code>count(*)</code>.
+	 * 
+	 * @return {@link CountQuery}
+	 */
+	public CountQuery toCountQuery() {
+		return new CountQuery(this);
 	}
 
+	/**
+	 * Método que gera o sql da consulta uma única vez e retorna um {@link CompiledSelect}
+	 * imutável, que recebe novos valores para os parametros sem gerar o sql novamente.
+	 * Alterações feitas no builder depois da compilação não afetam o {@link CompiledSelect}.
+	 * 
+	 * @return {@link CompiledSelect}
+	 */
+	public CompiledSelect compile() {
+		return compile(GenericDialect.INSTANCE);
+	}
+	
+	/**
+	 * Método que gera o sql da consulta no dialeto informado uma única vez e retorna
+	 * um {@link CompiledSelect} imutável.
+	 * 
+	 * @param dialect - dialeto do banco de dados
+	 * 
+	 * @return {@link CompiledSelect}
+	 */
+	public CompiledSelect compile(Dialect dialect) {
+		final SQLContext context = new SQLContext(new StringBuilder(sizeHint()), true, dialect);
+		appendTo(context);
+		return context.toCompiledSelect();
+	}
+	
+	/**
+	 * Método que escreve a consulta e as consultas unidas a ela. A lista ligada do union
+	 * é percorrida em um laço, sem recursão, para que listas longas não estourem a pilha
+	 * de chamadas.
+	 * 
+	 * @param context - contexto de geração do sql
+	 */
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		appendQuery(context);
+		
+		for (SelectBuilder current = this; current.union != null; current = current.union) {
+			sql.append(' ');
+			sql.append(current.unionType.getUnionType());
+			sql.append(' ');
+			current.union.appendQuery(context);
+		}
+	}
+	
+	/**
+	 * Método que escreve somente esta consulta, sem as consultas unidas a ela.
+	 * 
+	 * @param context - contexto de geração do sql
+	 */
+	protected void appendQuery(SQLContext context) {
+		final StringBuilder sql = context.getSql();
 		sql.append(SELECT.getSQLSelectType());
-		sql.append(" ");
+		sql.append(' ');
 		
 		if (distinct) {
 			sql.append(DISTINCT.getSQLSelectType());
-			sql.append(" ");
+			sql.append(' ');
 		}
 		
-		boolean readFieldsOfJoins = false;
-		if (select.getFields().isEmpty()) {
-			readFieldsOfJoins = true;
-
-			Class<?> superTypeClass = entityClass.getSuperclass();
-			if (!(Object.class.equals(superTypeClass))) {
-				addJoin(JoinBuilder.newJoin(entityClass, fromAlias));
-			}
-		}
+		final boolean readFieldsOfJoins = select.getFields().isEmpty();
+		final Join superTypeJoin = readFieldsOfJoins ? newSuperTypeJoin() : null;
 		
-		sql.append(select.buildSQL());
+		select.appendTo(context);
 		
 		if (readFieldsOfJoins) {
 			for (Join j : joins) {
-				if (!(sql.toString().endsWith(" "))) {
-					sql.append(", ");
-				}
-				
-				Select selectJoin = j.builSelect();
-				sql.append(selectJoin.buildSQL());
+				appendFieldsOfJoin(context, j);
+			}
+			
+			if (superTypeJoin != null) {
+				appendFieldsOfJoin(context, superTypeJoin);
 			}
 		}
 		
-		sql.append(" ");
-		sql.append(FROM.getSQLSelectType());
-		sql.append(" ");
-		sql.append(getTableName(entityClass));
+		appendFrom(context, superTypeJoin);
+		appendWhere(context);
 		
-		if (fromAlias != null && !(fromAlias.isEmpty())) {
-			sql.append(" " + AS.getSQLSelectType() + " " + fromAlias);
+		if (groupBy != null) {
+			sql.append(' ');
+			groupBy.appendTo(context);
 		}
 		
-		if (!joins.isEmpty()) {
-			for (Join j : joins) {
-				sql.append(" ");
-				sql.append(j.buildSQL());
+		if (orderBy != null) {
+			sql.append(' ');
+			orderBy.appendTo(context);
+		}
+		
+		context.getDialect().appendPagination(context, offset, limit, fetchFirst);
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		for (SelectBuilder current = this; current != null; current = current.union) {
+			current.appendQueryShape(shape);
+			if (current.union != null) {
+				shape.add(current.unionType);
+			}
+		}
+	}
+	
+	/**
+	 * Método que adiciona a forma somente desta consulta, sem as consultas unidas a ela.
+	 * 
+	 * @param shape - forma da consulta
+	 */
+	protected void appendQueryShape(ShapeContext shape) {
+		shape.add(getClass()).add(entityClass).add(distinct).add(fromAlias);
+		shape.add(select);
+		
+		shape.add(joins.size());
+		for (Join j : joins) {
+			shape.add(j);
+		}
+		
+		shape.add(where).add(seek).add(groupBy).add(orderBy);
+		
+		if (offset > DEFAULT_LIMIT_AND_OFFSET) {
+			shape.add(OFFSET).addParameter(offset, Integer.class);
+		}
+		
+		if (limit > DEFAULT_LIMIT_AND_OFFSET) {
+			shape.add(fetchFirst ? FETCH_FIRST : LIMIT).addParameter(limit, Integer.class);
+		}
+	}
+	
+	@Override
+	public int sizeHint() {
+		int size = querySizeHint();
+		for (SelectBuilder current = union; current != null; current = current.union) {
+			size += current.querySizeHint() + 11;
+		}
+		return size;
+	}
+	
+	/**
+	 * Método que retorna o tamanho estimado somente desta consulta, sem as consultas unidas a ela.
+	 * 
+	 * @return tamanho estimado do sql
+	 */
+	protected int querySizeHint() {
+		int size = DEFAULT_SIZE_HINT * 2 + select.sizeHint() + getTableName(entityClass).length();
+		
+		final boolean readFieldsOfJoins = select.getFields().isEmpty();
+		for (Join j : joins) {
+			size += j.sizeHint() + 1;
+			if (readFieldsOfJoins) {
+				size += j.builSelect().sizeHint() + 2;
 			}
 		}
 		
+		if (readFieldsOfJoins && !(Object.class.equals(entityClass.getSuperclass()))) {
+			size += DEFAULT_SIZE_HINT * 16;
+		}
+		
 		if (where != null) {
-			sql.append(" ");
-			sql.append(WHERE.getSQLSelectType());
-			sql.append(" ");
-			sql.append(where.buildSQL());
+			size += where.sizeHint() + 7;
+		}
+		
+		if (seek != null) {
+			size += seek.sizeHint() + 12;
 		}
 		
 		if (groupBy != null) {
-			sql.append(" ");
-			sql.append(groupBy.buildSQL());
+			size += groupBy.sizeHint() + 1;
 		}
 		
 		if (orderBy != null) {
-			sql.append(" ");
-			sql.append(orderBy.buildSQL());
+			size += orderBy.sizeHint() + 1;
 		}
+		return size;
+	}
+
+	/**
+	 * Método que escreve o from da consulta, com os joins e o join com o super tipo.
+	 * 
+	 * @param context - contexto de geração do sql
+	 * @param superTypeJoin - join com o super tipo ou <code>null</code>
+	 */
+	protected void appendFrom(SQLContext context, Join superTypeJoin) {
+		final StringBuilder sql = context.getSql();
+		sql.append(' ');
+		sql.append(FROM.getSQLSelectType());
+		sql.append(' ');
+		context.appendIdentifier(getTableName(entityClass));
 		
-		if (offset > DEFAULT_LIMIT_AND_OFFSET) {
-			sql.append(" ");
-			sql.append(OFFSET.getSQLSelectType());
-			sql.append(" ");
-			sql.append(offset);
+		if (fromAlias != null && !(fromAlias.isEmpty())) {
+			sql.append(' ');
+			sql.append(AS.getSQLSelectType());
+			sql.append(' ');
+			context.appendIdentifier(fromAlias);
 		}
 		
-		if (limit > DEFAULT_LIMIT_AND_OFFSET) {
-			sql.append(" ");
-			sql.append(LIMIT.getSQLSelectType());
-			sql.append(" ");
-			sql.append(limit);
+		for (Join j : joins) {
+			sql.append(' ');
+			j.appendTo(context);
+		}
+		
+		if (superTypeJoin != null) {
+			sql.append(' ');
+			superTypeJoin.appendTo(context);
+		}
+	}
+	
+	/**
+	 * Método que escreve o where da consulta, com a condição da paginação por chave.
+	 * 
+	 * @param context - contexto de geração do sql
+	 */
+	protected void appendWhere(SQLContext context) {
+		if (where == null && seek == null) {
+			return;
 		}
 		
-		if (union != null) {
-			sql.append(" ");
-			sql.append(unionType.getUnionType());
-			sql.append(" ");
-			sql.append(union.buildSQL());
+		final StringBuilder sql = context.getSql();
+		sql.append(' ');
+		sql.append(WHERE.getSQLSelectType());
+		sql.append(' ');
+		
+		if (where != null) {
+			where.appendTo(context);
 		}
 		
-		return sql.toString();
+		if (where != null && seek != null) {
+			sql.append(' ');
+			sql.append(ConditionDBTypes.AND.getConditionType());
+			sql.append(' ');
+		}
+		
+		if (seek != null) {
+			seek.appendTo(context);
+		}
+	}
+
+	/**
+	 * Método que cria o join com o super tipo da entidade, usado quando nenhum 
+	 * campo foi adicionado ao select. O join não é guardado no builder, pois
+	 * a geração do sql não altera o seu estado.
+	 * 
+	 * @return {@link Join} ou <code>null</code> se a entidade não possuir super tipo
+	 */
+	protected Join newSuperTypeJoin() {
+		if (Object.class.equals(entityClass.getSuperclass())) {
+			return null;
+		}
+		return JoinBuilder.newJoin(entityClass, fromAlias);
+	}
+	
+	/**
+	 * Método que escreve os campos da entidade de um join no select.
+	 * 
+	 * @param context - contexto de geração do sql
+	 * @param join - join
+	 */
+	private void appendFieldsOfJoin(SQLContext context, Join join) {
+		final StringBuilder sql = context.getSql();
+		if (sql.charAt(sql.length() - 1) != ' ') {
+			sql.append(", ");
+		}
+		join.builSelect().appendTo(context);
 	}
 
 }
\ No newline at end of file
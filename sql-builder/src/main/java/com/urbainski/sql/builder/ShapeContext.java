@@ -0,0 +1,97 @@
+package com.urbainski.sql.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe que guarda o estado da leitura da forma de uma consulta: os elementos 
+ * estruturais que definem o texto do sql e os parametros, na mesma ordem 
+ * do {@link SQL#buildBoundSQL()}.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class ShapeContext {
+	
+	/**
+	 * Elemento que marca a posição de um parametro na forma.
+	 */
+	private static final String PARAMETER = String.valueOf(SQLContext.PARAMETER_MARKER);
+
+	/**
+	 * Elementos da forma da consulta.
+	 */
+	private final List<Object> tokens;
+	
+	/**
+	 * Parametros da consulta.
+	 */
+	private final List<BoundParameter> parameters;
+	
+	/**
+	 * Construtor padrão.
+	 */
+	public ShapeContext() {
+		this.tokens = new ArrayList<Object>();
+		this.parameters = new ArrayList<BoundParameter>();
+	}
+	
+	/**
+	 * Método que adiciona um elemento estrutural na forma, por exemplo uma
+	 * classe de entidade, um alias, um nome de campo ou um tipo de condição.
+	 * 
+	 * @param token - elemento da forma, deve implementar <code>equals</code> e <code>hashCode</code>
+	 * 
+	 * @return o próprio {@link ShapeContext}
+	 */
+	public ShapeContext add(Object token) {
+		tokens.add(token);
+		return this;
+	}
+	
+	/**
+	 * Método que adiciona a forma de um objeto filho, ou um marcador se ele for nulo.
+	 * 
+	 * @param sql - objeto filho
+	 * 
+	 * @return o próprio {@link ShapeContext}
+	 */
+	public ShapeContext add(SQL sql) {
+		if (sql == null) {
+			tokens.add(null);
+		} else {
+			sql.appendShape(this);
+		}
+		return this;
+	}
+	
+	/**
+	 * Método que adiciona um parametro, guardando apenas a sua posição na forma.
+	 * 
+	 * @param value - valor do parametro
+	 * @param type - tipo java do parametro
+	 * 
+	 * @return o próprio {@link ShapeContext}
+	 */
+	public ShapeContext addParameter(Object value, Class<?> type) {
+		tokens.add(PARAMETER);
+		parameters.add(new BoundParameter(value, type));
+		return this;
+	}
+	
+	public List<BoundParameter> getParameters() {
+		return parameters;
+	}
+	
+	/**
+	 * Método que cria a chave com a forma lida.
+	 * 
+	 * @return {@link ShapeKey}
+	 */
+	public ShapeKey toShapeKey() {
+		return new ShapeKey(tokens.toArray());
+	}
+	
+}
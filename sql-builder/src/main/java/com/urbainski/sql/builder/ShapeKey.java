@@ -0,0 +1,62 @@
+package com.urbainski.sql.builder;
+
+import java.util.Arrays;
+
+/**
+ * Classe que representa a forma estrutural de uma consulta: tudo o que define
+ * o texto do sql gerado com parametros, ignorando os valores dos parametros.
+ * 
+ * <p>Duas consultas com a mesma forma geram o mesmo sql no {@link SQL#buildBoundSQL()},
+ * o que permite usar a forma como chave de cache do sql gerado.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class ShapeKey {
+
+	/**
+	 * Elementos da forma da consulta.
+	 */
+	private final Object[] tokens;
+	
+	/**
+	 * Hash calculado na criação.
+	 */
+	private final int hash;
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param tokens - elementos da forma da consulta
+	 */
+	ShapeKey(Object[] tokens) {
+		this.tokens = tokens;
+		this.hash = Arrays.hashCode(tokens);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ShapeKey)) {
+			return false;
+		}
+		
+		final ShapeKey other = (ShapeKey) obj;
+		return hash == other.hash && Arrays.equals(tokens, other.tokens);
+	}
+	
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+	
+	@Override
+	public String toString() {
+		return Arrays.toString(tokens);
+	}
+	
+}
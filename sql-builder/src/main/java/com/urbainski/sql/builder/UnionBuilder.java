@@ -0,0 +1,121 @@
+package com.urbainski.sql.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.urbainski.sql.db.types.UnionDBTypes;
+
+/**
+ * Classe que representa o union de várias consultas, guardadas em uma lista na ordem
+ * do union, em vez da lista ligada criada pelo {@link SelectBuilder#union(SelectBuilder, UnionDBTypes)}.
+ *
+ * <p>As consultas são escritas em um laço, então a geração do sql tem custo linear e não
+ * depende da pilha de chamadas, mesmo com milhares de consultas:</p>
+ *
+ * <pre>
+ * UnionBuilder union = new UnionBuilder(locacoesJaneiro);
+ * union.union(locacoesFevereiro, UnionDBTypes.UNION_ALL);
+ * union.union(locacoesMarco, UnionDBTypes.UNION_ALL);
+ * union.buildSQL();
+ * </pre>
+ *
+ * <p>As consultas são escritas no momento da geração do sql e não são copiadas.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class UnionBuilder extends AbstractSQL {
+
+	/**
+	 * Consultas do union, na ordem do union.
+	 */
+	private final List<SelectBuilder> branches;
+
+	/**
+	 * Tipo do union antes de cada consulta, a partir da segunda consulta.
+	 */
+	private final List<UnionDBTypes> unionTypes;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param first - primeira consulta do union
+	 */
+	public UnionBuilder(SelectBuilder first) {
+		if (first == null) {
+			throw new IllegalArgumentException("Primeira consulta do union deve ser informada");
+		}
+
+		this.branches = new ArrayList<SelectBuilder>();
+		this.unionTypes = new ArrayList<UnionDBTypes>();
+		this.branches.add(first);
+	}
+
+	public List<SelectBuilder> getBranches() {
+		return Collections.unmodifiableList(branches);
+	}
+
+	public List<UnionDBTypes> getUnionTypes() {
+		return Collections.unmodifiableList(unionTypes);
+	}
+
+	/**
+	 * Método que adiciona uma consulta no final do union.
+	 *
+	 * @param union - consulta
+	 * @param unionType - tipo do union
+	 */
+	public void union(SelectBuilder union, UnionDBTypes unionType) {
+		if (union == null || unionType == null) {
+			throw new IllegalArgumentException("Consulta e tipo do union devem ser informados");
+		}
+
+		branches.add(union);
+		unionTypes.add(unionType);
+	}
+
+	/**
+	 * Método que adiciona uma consulta no final do union, com o tipo {@link UnionDBTypes#UNION}.
+	 *
+	 * @param union - consulta
+	 */
+	public void union(SelectBuilder union) {
+		union(union, UnionDBTypes.UNION);
+	}
+
+	@Override
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		branches.get(0).appendTo(context);
+
+		for (int i = 1; i < branches.size(); i++) {
+			sql.append(' ');
+			sql.append(unionTypes.get(i - 1).getUnionType());
+			sql.append(' ');
+			branches.get(i).appendTo(context);
+		}
+	}
+
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(branches.size());
+		shape.add(branches.get(0));
+
+		for (int i = 1; i < branches.size(); i++) {
+			shape.add(unionTypes.get(i - 1)).add(branches.get(i));
+		}
+	}
+
+	@Override
+	public int sizeHint() {
+		int size = 0;
+		for (SelectBuilder b : branches) {
+			size += b.sizeHint() + 11;
+		}
+		return size;
+	}
+
+}
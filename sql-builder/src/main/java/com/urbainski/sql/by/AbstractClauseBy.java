@@ -5,7 +5,9 @@ import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.field.Field;
 import com.urbainski.sql.field.impl.AggregateField;
 import com.urbainski.sql.field.impl.FieldBuilder;
@@ -19,7 +21,7 @@ import com.urbainski.sql.field.impl.SimpleField;
  * @version 1.0
  *
  */
-public abstract class AbstractClauseBy implements SQL {
+public abstract class AbstractClauseBy extends AbstractSQL {
 	
 	/**
 	 * Lista de campos.
@@ -36,6 +38,10 @@ public abstract class AbstractClauseBy implements SQL {
 	 */
 	protected String fromAlias;
 	
+	public List<Field> getFields() {
+		return fields;
+	}
+	
 	/**
 	 * Método que recebe o alias do from e o replica para seus objetos internos.
 	 * 
@@ -130,36 +136,53 @@ public abstract class AbstractClauseBy implements SQL {
 	public abstract String getType();
 
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
 		sql.append(getType());
-		sql.append(" ");
+		sql.append(' ');
 		
+		boolean first = true;
 		for (Field f : fields) {
+			if (!first) {
+				sql.append(", ");
+			}
+			first = false;
+			
 			if (f instanceof AggregateField) {
 				AggregateField aggregateField = (AggregateField) f;
 				
 				if (aggregateField.getAlias() != null 
 						&& !(aggregateField.getAlias().isEmpty())) {
-					sql.append(aggregateField.getAlias());
+					context.appendIdentifier(aggregateField.getAlias());
 				} else {
 					sql.append(aggregateField.getAggregateType().getAggregateType());
-					sql.append("(");
-					sql.append(aggregateField.getFieldName());
-					sql.append(")");
+					sql.append('(');
+					context.appendIdentifier(aggregateField.getFieldName());
+					sql.append(')');
 				}
 			} else {
 				final SimpleField simpleField = (SimpleField) f;
 				
-				sql.append(simpleField.getTableNameOrAlias() + ".");
-				sql.append(simpleField.getFieldName());
-			}
-
-			if (fields.indexOf(f) < (fields.size() - 1)) {
-				sql.append(", ");
+				context.appendColumn(simpleField.getTableNameOrAlias(), simpleField.getFieldName());
 			}
 		}
-		return sql.toString();
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(fields.size());
+		for (Field f : fields) {
+			shape.add(f);
+		}
+	}
+	
+	@Override
+	public int sizeHint() {
+		int size = getType().length() + 8;
+		for (Field f : fields) {
+			size += f.sizeHint() + 2;
+		}
+		return size;
 	}
 
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.urbainski.sql.by;
 
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.ORDER_BY;
 
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.db.types.OrderByDBTypes;
 
 /**
@@ -19,6 +21,10 @@ public class OrderBy extends AbstractClauseBy {
 	 */
 	protected OrderByDBTypes orderByType;
 	
+	public OrderByDBTypes getOrderByType() {
+		return orderByType;
+	}
+	
 	public void setOrderByType(OrderByDBTypes orderByType) {
 		this.orderByType = orderByType;
 	}
@@ -35,18 +41,36 @@ public class OrderBy extends AbstractClauseBy {
 		this.orderByType = type;
 	}
 	
+	/**
+	 * Método que verifica se o campo da posição informada é ordenado de forma descendente.
+	 * O tipo do order by é escrito apenas depois do último campo, então os campos anteriores
+	 * usam a ordenação padrão do banco de dados, ascendente.
+	 * 
+	 * @param index - posição do campo
+	 * 
+	 * @return <code>true</code> se o campo for ordenado de forma descendente caso contrário <code>false</code>
+	 */
+	public boolean isDescending(int index) {
+		return index == fields.size() - 1 && OrderByDBTypes.DESC.equals(orderByType);
+	}
+	
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
-		sql.append(super.buildSQL());
-		sql.append(" ");
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		super.appendTo(context);
+		sql.append(' ');
 		sql.append(orderByType.getOrderByType());
-		return sql.toString();
 	}
 
 	@Override
 	public String getType() {
 		return ORDER_BY.getSQLSelectType();
 	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		super.appendShape(shape);
+		shape.add(orderByType);
+	}
 
 }
\ No newline at end of file
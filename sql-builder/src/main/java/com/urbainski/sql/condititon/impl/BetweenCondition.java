@@ -1,8 +1,7 @@
 package com.urbainski.sql.condititon.impl;
 
-import static com.urbainski.sql.reflection.TableReflectionReader.getDatabaseNameField;
-import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
-
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 
 /**
@@ -36,25 +35,24 @@ public class BetweenCondition extends SimpleCondition {
 	}
 
 	@Override
-	public String buildSQL() {
-		String tableNameOrAlias = getTableName(entityClass);
-		if (this.aliasTable != null && !(this.aliasTable.isEmpty())) {
-			tableNameOrAlias = this.aliasTable;
-		}
-		
-		final StringBuilder sql = new StringBuilder();
-		sql.append(tableNameOrAlias + ".");
-		sql.append(getDatabaseNameField(entityClass, fieldName));
-		sql.append(" ");
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		appendField(context);
+		sql.append(' ');
 		sql.append(conditionType.getConditionType());
-		sql.append(" ");
-		sql.append(value.toString());
-		sql.append(" ");
+		sql.append(' ');
+		appendParameterValue(context, value);
+		sql.append(' ');
 		sql.append(ConditionDBTypes.AND.getConditionType());
-		sql.append(" ");
-		sql.append(secondValue.toString());
-		
-		return sql.toString();
+		sql.append(' ');
+		appendParameterValue(context, secondValue);
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		appendFieldShape(shape);
+		shape.addParameter(value, getParameterType(value));
+		shape.addParameter(secondValue, getParameterType(secondValue));
 	}
 
-}
+}
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.urbainski.sql.condititon.impl;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.condititon.Condition;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 
@@ -13,7 +18,12 @@ import com.urbainski.sql.db.types.ConditionDBTypes;
  * @since 20/09/2014
  *
  */
-public class BooleanCondition implements Condition {
+public class BooleanCondition extends AbstractSQL implements Condition {
+	
+	/**
+	 * Fecha parênteses escrito depois das condições agrupadas.
+	 */
+	private static final String CLOSE = ")";
 	
 	/**
 	 * Lista de condições.
@@ -25,6 +35,14 @@ public class BooleanCondition implements Condition {
 	 */
 	protected ConditionDBTypes conditionType;
 	
+	public List<Condition> getConditions() {
+		return listConditions;
+	}
+	
+	public ConditionDBTypes getConditionType() {
+		return conditionType;
+	}
+	
 	/**
 	 * Construtor das condições booleanas.
 	 * 
@@ -36,23 +54,83 @@ public class BooleanCondition implements Condition {
 		this.listConditions = Arrays.asList(conditions);
 	}
 
+	/**
+	 * Método que escreve a condição. As condições booleanas agrupadas são percorridas
+	 * com uma pilha, sem recursão, para que árvores profundas não estourem a pilha de
+	 * chamadas. Entre as condições é empilhado o próprio tipo da condição, escrito direto
+	 * no sql sem criar o texto do separador.
+	 * 
+	 * @param context - contexto de geração do sql
+	 */
+	@Override
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		final Deque<Object> work = new ArrayDeque<Object>();
+		work.push(this);
+		
+		while (!work.isEmpty()) {
+			final Object item = work.pop();
+			if (item instanceof String) {
+				sql.append((String) item);
+			} else if (item instanceof ConditionDBTypes) {
+				sql.append(' ');
+				sql.append(((ConditionDBTypes) item).getConditionType());
+				sql.append(' ');
+			} else if (item instanceof BooleanCondition) {
+				final BooleanCondition b = (BooleanCondition) item;
+				
+				sql.append('(');
+				work.push(CLOSE);
+				for (int i = b.listConditions.size() - 1; i >= 0; i--) {
+					work.push(b.listConditions.get(i));
+					if (i > 0) {
+						work.push(b.conditionType);
+					}
+				}
+			} else {
+				((Condition) item).appendTo(context);
+			}
+		}
+	}
+	
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
-		sql.append("(");
+	public void appendShape(ShapeContext shape) {
+		final Deque<Condition> work = new ArrayDeque<Condition>();
+		work.push(this);
 		
-		for (Condition c : listConditions) {
-			sql.append(c.buildSQL());
-			
-			if (listConditions.indexOf(c) < (listConditions.size() - 1)) {
-				sql.append(" ");
-				sql.append(conditionType.getConditionType());
-				sql.append(" ");
+		while (!work.isEmpty()) {
+			final Condition c = work.pop();
+			if (c instanceof BooleanCondition) {
+				final BooleanCondition b = (BooleanCondition) c;
+				shape.add(b.getClass()).add(b.conditionType).add(b.listConditions.size());
+				for (int i = b.listConditions.size() - 1; i >= 0; i--) {
+					work.push(b.listConditions.get(i));
+				}
+			} else {
+				shape.add(c);
 			}
 		}
+	}
+	
+	@Override
+	public int sizeHint() {
+		final Deque<Condition> work = new ArrayDeque<Condition>();
+		work.push(this);
 		
-		sql.append(")");
-		return sql.toString();
+		int size = 0;
+		while (!work.isEmpty()) {
+			final Condition c = work.pop();
+			if (c instanceof BooleanCondition) {
+				final BooleanCondition b = (BooleanCondition) c;
+				size += 2 + b.listConditions.size() * 5;
+				for (Condition child : b.listConditions) {
+					work.push(child);
+				}
+			} else {
+				size += c.sizeHint();
+			}
+		}
+		return size;
 	}
 
 	/**
@@ -62,9 +140,7 @@ public class BooleanCondition implements Condition {
 	 * @param newAlias - novo alias
 	 */
 	public void updateFromAlias(Class<?> entity, String newAlias) {
-		for (Condition c : listConditions) {
-			ConditionBuilder.updateAliasForCondition(c, entity, newAlias);
-		}
+		ConditionBuilder.updateAliasForCondition(this, entity, newAlias);
 	}
 
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.urbainski.sql.condititon.impl;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
 import com.urbainski.sql.builder.SelectBuilder;
@@ -61,6 +63,10 @@ public final class ConditionBuilder {
 		
 		if (ConditionDBTypes.EQUALS.equals(type) 
 				|| ConditionDBTypes.DIFFERENT.equals(type)
+				|| ConditionDBTypes.GREATER.equals(type)
+				|| ConditionDBTypes.GREATER_OR_EQUALS.equals(type)
+				|| ConditionDBTypes.LESS.equals(type)
+				|| ConditionDBTypes.LESS_OR_EQUALS.equals(type)
 				|| ConditionDBTypes.IN.equals(type)
 				|| ConditionDBTypes.NOT_IN.equals(type)) {
 			
@@ -182,18 +188,27 @@ public final class ConditionBuilder {
 	 * @param newAlias - novo alias da entidade
 	 */
 	public static void updateAliasForCondition(Condition condition, Class<?> entity, String newAlias) {
+		if (condition == null) {
+			return;
+		}
 		
-		if (condition instanceof SimpleCondition
-				|| condition instanceof BetweenCondition
-				|| condition instanceof ConstainsCondition
-				|| condition instanceof SubselectCondition) {
-			
-			final SimpleCondition simpleCondition = ((SimpleCondition) condition);
-			if (entity.equals(simpleCondition.entityClass)) {
-				simpleCondition.aliasTable(newAlias);
+		final Deque<Condition> work = new ArrayDeque<Condition>();
+		work.push(condition);
+		
+		while (!work.isEmpty()) {
+			final Condition c = work.pop();
+			if (c instanceof SimpleCondition) {
+				final SimpleCondition simpleCondition = (SimpleCondition) c;
+				if (entity.equals(simpleCondition.entityClass)) {
+					simpleCondition.aliasTable(newAlias);
+				}
+			} else if (c instanceof BooleanCondition) {
+				for (Condition child : ((BooleanCondition) c).getConditions()) {
+					if (child != null) {
+						work.push(child);
+					}
+				}
 			}
-		} else if (condition instanceof BooleanCondition) {
-			((BooleanCondition) condition).updateFromAlias(entity, newAlias);
 		}
 	}
 	
@@ -0,0 +1,345 @@
+package com.urbainski.sql.condititon.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.urbainski.sql.builder.ShapeContext;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+
+/**
+ * Classe que simplifica as condições de um where, gerando um sql menor e com a mesma
+ * forma para filtros equivalentes, o que aumenta o reaproveitamento dos planos e dos
+ * sqls guardados pelo {@link com.urbainski.sql.builder.SQLTemplateCache}.
+ *
+ * <p>As simplificações aplicadas são:</p>
+ * <ul>
+ * <li><code>and</code> dentro de <code>and</code> e <code>or</code> dentro de <code>or</code>
+ * são juntados em uma única condição;</li>
+ * <li>condições booleanas com uma única condição são trocadas pela condição;</li>
+ * <li>condições repetidas na mesma condição booleana são removidas, mantendo a primeira;</li>
+ * <li><code>in</code> e <code>not in</code> com um único valor são trocados por <code>=</code>
+ * e <code>&lt;&gt;</code>, e com a lista vazia pela condição constante falsa e verdadeira;</li>
+ * <li>várias condições <code>=</code> e <code>in</code> do mesmo campo em um <code>or</code>
+ * são trocadas por um único <code>in</code>;</li>
+ * <li>as condições {@link ConstantCondition} são removidas do <code>and</code> quando verdadeiras
+ * e do <code>or</code> quando falsas, e tornam toda a condição booleana constante nos outros
+ * casos.</li>
+ * </ul>
+ *
+ * <pre>
+ * sqlBuilder.where(ConditionOptimizer.optimize(sqlBuilder.getWhere()));
+ * </pre>
+ *
+ * <p>A condição informada não é alterada. As condições que não são simplificadas são
+ * reutilizadas na condição retornada, então mudar o alias do from de uma consulta também
+ * muda as condições da outra. A árvore é percorrida com uma pilha, sem recursão.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class ConditionOptimizer {
+
+	/**
+	 * Construtor privado para que a classe
+	 * não possa ser instanciada.
+	 */
+	private ConditionOptimizer() {
+
+	}
+
+	/**
+	 * Método que simplifica a condição.
+	 *
+	 * @param condition - condição, pode ser <code>null</code>
+	 *
+	 * @return condição simplificada, {@link ConstantCondition} se ela for sempre verdadeira
+	 * ou sempre falsa, <code>null</code> se a condição informada for nula
+	 */
+	public static Condition optimize(Condition condition) {
+		if (condition == null) {
+			return null;
+		}
+
+		final Deque<Frame> stack = new ArrayDeque<Frame>();
+		Condition result = enter(condition, stack);
+
+		while (!stack.isEmpty()) {
+			final Frame frame = stack.peek();
+			if (result != null) {
+				frame.add(result);
+				result = null;
+			}
+
+			if (frame.hasNext()) {
+				result = enter(frame.next(), stack);
+			} else {
+				stack.pop();
+				result = frame.finish();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Método que começa a simplificação de uma condição: as condições booleanas são
+	 * empilhadas e as outras simplificadas.
+	 *
+	 * @param condition - condição
+	 * @param stack - pilha das condições booleanas
+	 *
+	 * @return condição simplificada ou <code>null</code> se a condição foi empilhada
+	 */
+	private static Condition enter(Condition condition, Deque<Frame> stack) {
+		if (condition instanceof BooleanCondition) {
+			stack.push(new Frame((BooleanCondition) condition));
+			return null;
+		}
+		return optimizeSimple(condition);
+	}
+
+	/**
+	 * Método que troca o <code>in</code> e o <code>not in</code> com nenhum ou um único valor.
+	 *
+	 * @param condition - condição que não é booleana
+	 *
+	 * @return condição simplificada
+	 */
+	private static Condition optimizeSimple(Condition condition) {
+		if (!isPlainSimple(condition)) {
+			return condition;
+		}
+
+		final SimpleCondition simple = (SimpleCondition) condition;
+		final boolean in = ConditionDBTypes.IN.equals(simple.conditionType);
+		if (!in && !ConditionDBTypes.NOT_IN.equals(simple.conditionType)) {
+			return condition;
+		}
+
+		final List<?> values = (List<?>) simple.value;
+		if (values.isEmpty()) {
+			return ConstantCondition.of(!in);
+		} else if (values.size() == 1) {
+			return new SimpleCondition(simple.entityClass, simple.aliasTable,
+					in ? ConditionDBTypes.EQUALS : ConditionDBTypes.DIFFERENT, simple.fieldName, values.get(0));
+		}
+		return condition;
+	}
+
+	/**
+	 * Método que verifica se a condição é uma {@link SimpleCondition} e não uma das suas subclasses.
+	 *
+	 * @param condition - condição
+	 *
+	 * @return <code>true</code> se for uma {@link SimpleCondition} caso contrário <code>false</code>
+	 */
+	private static boolean isPlainSimple(Condition condition) {
+		return condition != null && SimpleCondition.class.equals(condition.getClass());
+	}
+
+	/**
+	 * Método que retorna a chave de comparação de uma condição que não é booleana: a
+	 * sua forma e os valores dos parametros.
+	 *
+	 * @param condition - condição
+	 *
+	 * @return chave da condição
+	 */
+	private static List<Object> keyOf(Condition condition) {
+		final ShapeContext shape = new ShapeContext();
+		condition.appendShape(shape);
+		return Arrays.<Object>asList(shape.toShapeKey(), shape.getParameters());
+	}
+
+	/**
+	 * Método que junta as condições <code>=</code> e <code>in</code> do mesmo campo de um
+	 * <code>or</code> em um único <code>in</code>, na posição da primeira condição do campo.
+	 *
+	 * @param conditions - condições do <code>or</code>
+	 *
+	 * @return condições com os campos juntados
+	 */
+	private static List<Condition> mergeEquals(List<Condition> conditions) {
+		final Map<List<Object>, Set<Object>> valuesByColumn = new LinkedHashMap<List<Object>, Set<Object>>();
+		final Map<List<Object>, Integer> countByColumn = new LinkedHashMap<List<Object>, Integer>();
+		for (Condition c : conditions) {
+			final List<Object> column = columnOf(c);
+			if (column != null) {
+				Set<Object> values = valuesByColumn.get(column);
+				if (values == null) {
+					values = new LinkedHashSet<Object>();
+					valuesByColumn.put(column, values);
+					countByColumn.put(column, 0);
+				}
+
+				final SimpleCondition simple = (SimpleCondition) c;
+				if (ConditionDBTypes.IN.equals(simple.conditionType)) {
+					values.addAll((List<?>) simple.value);
+				} else {
+					values.add(simple.value);
+				}
+				countByColumn.put(column, countByColumn.get(column) + 1);
+			}
+		}
+
+		final List<Condition> result = new ArrayList<Condition>(conditions.size());
+		final Set<List<Object>> written = new HashSet<List<Object>>();
+		for (Condition c : conditions) {
+			final List<Object> column = columnOf(c);
+			if (column == null || countByColumn.get(column) < 2) {
+				result.add(c);
+			} else if (written.add(column)) {
+				final SimpleCondition simple = (SimpleCondition) c;
+				final List<Object> values = new ArrayList<Object>(valuesByColumn.get(column));
+				result.add(values.size() == 1
+						? new SimpleCondition(simple.entityClass, simple.aliasTable,
+								ConditionDBTypes.EQUALS, simple.fieldName, values.get(0))
+						: new SimpleCondition(simple.entityClass, simple.aliasTable,
+								ConditionDBTypes.IN, simple.fieldName, values));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Método que retorna o campo de uma condição <code>=</code> ou <code>in</code> que pode
+	 * ser juntada em um <code>in</code>.
+	 *
+	 * @param condition - condição
+	 *
+	 * @return classe de entidade, alias e nome do campo, <code>null</code> se a condição não puder ser juntada
+	 */
+	private static List<Object> columnOf(Condition condition) {
+		if (!isPlainSimple(condition)) {
+			return null;
+		}
+
+		final SimpleCondition simple = (SimpleCondition) condition;
+		final boolean equals = ConditionDBTypes.EQUALS.equals(simple.conditionType) && simple.value != null;
+		if (!equals && !ConditionDBTypes.IN.equals(simple.conditionType)) {
+			return null;
+		}
+		return Arrays.<Object>asList(simple.entityClass, simple.aliasTable, simple.fieldName);
+	}
+
+	/**
+	 * Condição booleana sendo simplificada, com as condições filhas já simplificadas.
+	 */
+	private static final class Frame {
+
+		/**
+		 * Tipo da condição booleana.
+		 */
+		private final ConditionDBTypes type;
+
+		/**
+		 * Condições filhas ainda não simplificadas.
+		 */
+		private final List<Condition> pending;
+
+		/**
+		 * Posição da próxima condição filha.
+		 */
+		private int position;
+
+		/**
+		 * Condições filhas simplificadas.
+		 */
+		private final List<Condition> children;
+
+		/**
+		 * Chaves das condições filhas que não são booleanas, para remover as repetidas.
+		 */
+		private final Set<List<Object>> keys;
+
+		/**
+		 * Se uma condição constante tornou toda a condição booleana constante.
+		 */
+		private boolean absorbed;
+
+		/**
+		 * Construtor padrão.
+		 *
+		 * @param condition - condição booleana
+		 */
+		private Frame(BooleanCondition condition) {
+			this.type = condition.getConditionType();
+			this.pending = condition.getConditions();
+			this.children = new ArrayList<Condition>(pending.size());
+			this.keys = new HashSet<List<Object>>();
+		}
+
+		/**
+		 * Método que verifica se existe uma próxima condição filha a simplificar.
+		 *
+		 * @return <code>true</code> se existir caso contrário <code>false</code>
+		 */
+		private boolean hasNext() {
+			while (!absorbed && position < pending.size() && pending.get(position) == null) {
+				position++;
+			}
+			return !absorbed && position < pending.size();
+		}
+
+		/**
+		 * Método que retorna a próxima condição filha a simplificar.
+		 *
+		 * @return condição filha
+		 */
+		private Condition next() {
+			return pending.get(position++);
+		}
+
+		/**
+		 * Método que adiciona uma condição filha simplificada.
+		 *
+		 * @param condition - condição filha simplificada
+		 */
+		private void add(Condition condition) {
+			if (condition instanceof ConstantCondition) {
+				if (((ConstantCondition) condition).isTrue() == ConditionDBTypes.OR.equals(type)) {
+					absorbed = true;
+				}
+			} else if (condition instanceof BooleanCondition
+					&& type.equals(((BooleanCondition) condition).getConditionType())) {
+				for (Condition c : ((BooleanCondition) condition).getConditions()) {
+					add(c);
+				}
+			} else if (condition instanceof BooleanCondition || keys.add(keyOf(condition))) {
+				children.add(condition);
+			}
+		}
+
+		/**
+		 * Método que cria a condição booleana simplificada.
+		 *
+		 * @return condição simplificada
+		 */
+		private Condition finish() {
+			final boolean or = ConditionDBTypes.OR.equals(type);
+			if (absorbed) {
+				return ConstantCondition.of(or);
+			}
+
+			final List<Condition> result = or ? mergeEquals(children) : children;
+			if (result.isEmpty()) {
+				return ConstantCondition.of(!or);
+			} else if (result.size() == 1) {
+				return result.get(0);
+			}
+			return new BooleanCondition(type, result.toArray(new Condition[result.size()]));
+		}
+
+	}
+
+}
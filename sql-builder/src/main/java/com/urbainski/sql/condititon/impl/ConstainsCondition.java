@@ -1,8 +1,7 @@
 package com.urbainski.sql.condititon.impl;
 
-import static com.urbainski.sql.reflection.TableReflectionReader.getDatabaseNameField;
-import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
-
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 import com.urbainski.sql.db.types.ConstainsDBTypes;
 
@@ -15,6 +14,11 @@ import com.urbainski.sql.db.types.ConstainsDBTypes;
  *
  */
 public class ConstainsCondition extends SimpleCondition {
+	
+	/**
+	 * Função usada para emular o <code>ilike</code> nos dialetos que não o possuem.
+	 */
+	private static final String LOWER = "lower(";
 
 	/**
 	 * Tipo do contains do banco de dados.
@@ -39,34 +43,54 @@ public class ConstainsCondition extends SimpleCondition {
 	}
 
 	@Override
-	public String buildSQL() {
-		String tableNameOrAlias = getTableName(entityClass);
-		if (this.aliasTable != null && !(this.aliasTable.isEmpty())) {
-			tableNameOrAlias = this.aliasTable;
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		if (ConditionDBTypes.ILIKE.equals(conditionType) && !context.getDialect().supportsIlike()) {
+			sql.append(LOWER);
+			appendField(context);
+			sql.append(')');
+			sql.append(' ');
+			sql.append(ConditionDBTypes.LIKE.getConditionType());
+			sql.append(' ');
+			sql.append(LOWER);
+			context.appendValue(getPattern(), String.class);
+			sql.append(')');
+			return;
 		}
 		
-		final StringBuilder sql = new StringBuilder();
-		sql.append(tableNameOrAlias + ".");
-		sql.append(getDatabaseNameField(entityClass, fieldName));
-		sql.append(" ");
+		appendField(context);
+		sql.append(' ');
 		sql.append(conditionType.getConditionType());
-		sql.append(" ");
+		sql.append(' ');
 		
+		context.appendValue(getPattern(), String.class);
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		appendFieldShape(shape);
+		shape.add(containsType).addParameter(getPattern(), String.class);
+	}
+	
+	/**
+	 * Método que monta o padrão do like com o valor e os coringas do tipo do contains.
+	 * 
+	 * @return padrão do like
+	 */
+	protected String getPattern() {
+		final StringBuilder pattern = new StringBuilder();
 		if (ConstainsDBTypes.ANY.equals(containsType)) {
-			sql.append("'%");
-			sql.append(value.toString());
-			sql.append("%'");
+			pattern.append('%');
+			pattern.append(value.toString());
+			pattern.append('%');
 		} else if (ConstainsDBTypes.IN_FINISH.equals(containsType)) {
-			sql.append("'");
-			sql.append(value.toString());
-			sql.append("%'");
+			pattern.append(value.toString());
+			pattern.append('%');
 		} else if (ConstainsDBTypes.IN_START.equals(containsType)) {
-			sql.append("'%");
-			sql.append(value.toString());
-			sql.append("'");
+			pattern.append('%');
+			pattern.append(value.toString());
 		}
-		
-		return sql.toString();
+		return pattern.toString();
 	}
-	
-}
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.urbainski.sql.condititon.impl;
+
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
+import com.urbainski.sql.condititon.Condition;
+
+/**
+ * Classe que representa uma condição sempre verdadeira ou sempre falsa, escrita
+ * como <code>1 = 1</code> ou <code>1 = 0</code>.
+ *
+ * <p>Usada pelos filtros gerados para representar um ramo sem restrição ou sem
+ * resultado, e removida ou propagada pelo {@link ConditionOptimizer}.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class ConstantCondition extends AbstractSQL implements Condition {
+
+	/**
+	 * Condição sempre verdadeira.
+	 */
+	public static final ConstantCondition TRUE = new ConstantCondition(true);
+
+	/**
+	 * Condição sempre falsa.
+	 */
+	public static final ConstantCondition FALSE = new ConstantCondition(false);
+
+	/**
+	 * Valor da condição.
+	 */
+	private final boolean value;
+
+	/**
+	 * Construtor privado, use {@link #TRUE} ou {@link #FALSE}.
+	 *
+	 * @param value - valor da condição
+	 */
+	private ConstantCondition(boolean value) {
+		this.value = value;
+	}
+
+	public boolean isTrue() {
+		return value;
+	}
+
+	/**
+	 * Método que retorna a condição constante do valor informado.
+	 *
+	 * @param value - valor da condição
+	 *
+	 * @return {@link #TRUE} ou {@link #FALSE}
+	 */
+	public static ConstantCondition of(boolean value) {
+		return value ? TRUE : FALSE;
+	}
+
+	@Override
+	public void appendTo(SQLContext context) {
+		context.getSql().append(value ? "1 = 1" : "1 = 0");
+	}
+
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(value);
+	}
+
+	@Override
+	public int sizeHint() {
+		return 5;
+	}
+
+}
@@ -2,6 +2,9 @@ package com.urbainski.sql.condititon.impl;
 
 import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
 
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.condititon.Condition;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 
@@ -13,7 +16,7 @@ import com.urbainski.sql.db.types.ConditionDBTypes;
  * @version 1.0
  *
  */
-public class JoinCondition implements Condition {
+public class JoinCondition extends AbstractSQL implements Condition {
 	
 	/**
 	 * Classe que saiu a união.
@@ -50,6 +53,22 @@ public class JoinCondition implements Condition {
 	 */
 	protected ConditionDBTypes conditionType;
 	
+	public Class<?> getEntityFrom() {
+		return entityFrom;
+	}
+	
+	public Class<?> getJoinedClass() {
+		return joinedClass;
+	}
+	
+	public String getProp1() {
+		return prop1;
+	}
+	
+	public String getProp2() {
+		return prop2;
+	}
+	
 	/**
 	 * Construtor padrão.
 	 * 
@@ -75,7 +94,8 @@ public class JoinCondition implements Condition {
 	}
 
 	@Override
-	public String buildSQL() {
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
 		String tableNameOrAliasFrom = getTableName(entityFrom);
 		if (fromAlias != null && !(fromAlias.isEmpty())) {
 			tableNameOrAliasFrom = fromAlias;
@@ -86,15 +106,22 @@ public class JoinCondition implements Condition {
 			tableNameOrAliasJoin = joinedAlias;
 		}
 		
-		final StringBuilder sql = new StringBuilder();
-		sql.append(tableNameOrAliasFrom + ".");
-		sql.append(prop1);
-		sql.append(" ");
+		context.appendColumn(tableNameOrAliasFrom, prop1);
+		sql.append(' ');
 		sql.append(conditionType.getConditionType());
-		sql.append(" ");
-		sql.append(tableNameOrAliasJoin + ".");
-		sql.append(prop2);
-		return sql.toString();
+		sql.append(' ');
+		context.appendColumn(tableNameOrAliasJoin, prop2);
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(entityFrom).add(fromAlias).add(joinedClass).add(joinedAlias)
+			.add(conditionType).add(prop1).add(prop2);
+	}
+	
+	@Override
+	public int sizeHint() {
+		return DEFAULT_SIZE_HINT * 4;
 	}
 
 }
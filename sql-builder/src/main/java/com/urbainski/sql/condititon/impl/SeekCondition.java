@@ -0,0 +1,187 @@
+package com.urbainski.sql.condititon.impl;
+
+import java.util.List;
+
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
+import com.urbainski.sql.by.OrderBy;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.field.Field;
+import com.urbainski.sql.field.impl.SimpleField;
+import com.urbainski.sql.util.Assert;
+
+/**
+ * Condição da paginação por chave (keyset), que retorna apenas os registros
+ * posteriores à última chave lida, na ordem dos campos do {@link OrderBy}.
+ * 
+ * <p>Com os campos <code>a</code> e <code>b</code> em ordem ascendente gera
+ * <code>(a &gt; ? or (a = ? and b &gt; ?))</code>. O tipo do order by é escrito apenas
+ * depois do último campo, então somente o último campo usa <code>&lt;</code> com ordem
+ * descendente. Diferente do offset, o banco de dados não precisa ler e
+ * descartar as linhas das páginas anteriores.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SeekCondition extends AbstractSQL implements Condition {
+	
+	/**
+	 * Ordenação da consulta, que define os campos da chave.
+	 */
+	protected OrderBy orderBy;
+	
+	/**
+	 * Valores da última chave lida, na ordem dos campos do order by.
+	 */
+	protected Object[] lastKey;
+	
+	/**
+	 * Construtor padrão.
+	 * 
+	 * @param orderBy - ordenação da consulta
+	 * @param lastKey - valores da última chave lida
+	 */
+	public SeekCondition(OrderBy orderBy, Object... lastKey) {
+		Assert.parameterNotNull(orderBy, "Order by deve ser informado");
+		Assert.parameterNotNull(lastKey, "Última chave deve ser informada");
+		for (Object o : lastKey) {
+			Assert.parameterNotNull(o, "Valores da última chave não podem ser nulos");
+		}
+		
+		this.orderBy = orderBy;
+		this.lastKey = lastKey.clone();
+	}
+	
+	public Object[] getLastKey() {
+		return lastKey.clone();
+	}
+	
+	@Override
+	public void appendTo(SQLContext context) {
+		final List<Field> fields = getKeyFields();
+		
+		if (fields.size() > 1) {
+			context.getSql().append('(');
+		}
+		appendKey(context, fields, 0);
+		if (fields.size() > 1) {
+			context.getSql().append(')');
+		}
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		final List<Field> fields = getKeyFields();
+		shape.add(getClass()).add(orderBy.getOrderByType()).add(fields.size());
+		for (Field f : fields) {
+			shape.add(f);
+		}
+		
+		for (int i = 0; i < lastKey.length; i++) {
+			shape.addParameter(lastKey[i], lastKey[i].getClass());
+			if (i < lastKey.length - 1) {
+				shape.addParameter(lastKey[i], lastKey[i].getClass());
+			}
+		}
+	}
+	
+	@Override
+	public int sizeHint() {
+		return DEFAULT_SIZE_HINT * 3 * lastKey.length;
+	}
+	
+	/**
+	 * Método que escreve a condição a partir de um campo da chave, comparando
+	 * os campos seguintes apenas quando os anteriores são iguais.
+	 * 
+	 * @param context - contexto de geração do sql
+	 * @param fields - campos da chave
+	 * @param index - posição do campo
+	 */
+	protected void appendKey(SQLContext context, List<Field> fields, int index) {
+		final StringBuilder sql = context.getSql();
+		final Object value = lastKey[index];
+		
+		appendField(context, fields.get(index));
+		sql.append(' ');
+		sql.append(getOperator(index));
+		sql.append(' ');
+		context.appendValue(value, value.getClass());
+		
+		if (index == fields.size() - 1) {
+			return;
+		}
+		
+		sql.append(' ');
+		sql.append(ConditionDBTypes.OR.getConditionType());
+		sql.append(" (");
+		appendField(context, fields.get(index));
+		sql.append(' ');
+		sql.append(ConditionDBTypes.EQUALS.getConditionType());
+		sql.append(' ');
+		context.appendValue(value, value.getClass());
+		sql.append(' ');
+		sql.append(ConditionDBTypes.AND.getConditionType());
+		sql.append(' ');
+		
+		if (index + 1 < fields.size() - 1) {
+			sql.append('(');
+			appendKey(context, fields, index + 1);
+			sql.append(')');
+		} else {
+			appendKey(context, fields, index + 1);
+		}
+		sql.append(')');
+	}
+	
+	/**
+	 * Método que retorna o operador de comparação de um campo da chave conforme a
+	 * direção em que o campo é ordenado.
+	 * 
+	 * @param index - posição do campo
+	 * 
+	 * @return operador de comparação
+	 */
+	protected String getOperator(int index) {
+		if (orderBy.isDescending(index)) {
+			return ConditionDBTypes.LESS.getConditionType();
+		}
+		return ConditionDBTypes.GREATER.getConditionType();
+	}
+	
+	/**
+	 * Método que retorna os campos da chave, validando se correspondem aos valores informados.
+	 * 
+	 * @return campos da chave
+	 */
+	protected List<Field> getKeyFields() {
+		final List<Field> fields = orderBy.getFields();
+		if (fields.size() != lastKey.length) {
+			throw new IllegalStateException("Order by possui " + fields.size() 
+					+ " campos, a chave possui " + lastKey.length + " valores");
+		}
+		
+		for (Field f : fields) {
+			if (!(f instanceof SimpleField)) {
+				throw new IllegalStateException("Paginação por chave suporta apenas campos simples no order by");
+			}
+		}
+		return fields;
+	}
+	
+	/**
+	 * Método que escreve um campo da chave, com o nome ou alias da tabela.
+	 * 
+	 * @param context - contexto de geração do sql
+	 * @param field - campo
+	 */
+	private void appendField(SQLContext context, Field field) {
+		final SimpleField simpleField = (SimpleField) field;
+		context.appendColumn(simpleField.getTableNameOrAlias(), simpleField.getFieldName());
+	}
+	
+}
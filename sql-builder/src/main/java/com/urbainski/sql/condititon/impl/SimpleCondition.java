@@ -5,8 +5,15 @@ import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
 
 import java.util.List;
 
+import javax.persistence.EnumType;
+
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.condititon.Condition;
 import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.reflection.ColumnDescriptor;
+import com.urbainski.sql.reflection.EntityMetadata;
 
 /**
  * Implementação básica das condições do where.
@@ -16,7 +23,7 @@ import com.urbainski.sql.db.types.ConditionDBTypes;
  * @version 1.0
  *
  */
-public class SimpleCondition implements Condition {
+public class SimpleCondition extends AbstractSQL implements Condition {
 
 	/**
 	 * Classe aonde é aplicado o where.
@@ -43,6 +50,14 @@ public class SimpleCondition implements Condition {
 	 */
 	protected ConditionDBTypes conditionType;
 	
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+	
+	public String getFieldName() {
+		return fieldName;
+	}
+	
 	/**
 	 * Construtor padrão.
 	 * 
@@ -71,44 +86,136 @@ public class SimpleCondition implements Condition {
 	}
 
 	@Override
-	public String buildSQL() {
-		String tableNameOrAlias = getTableName(entityClass);
-		if (this.aliasTable != null && !(this.aliasTable.isEmpty())) {
-			tableNameOrAlias = this.aliasTable;
-		}
-		
-		final StringBuilder sql = new StringBuilder();
-		sql.append(tableNameOrAlias + ".");
-		sql.append(getDatabaseNameField(entityClass, this.fieldName));
-		sql.append(" ");
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		appendField(context);
+		sql.append(' ');
 		sql.append(conditionType.getConditionType());
-		sql.append(" ");
+		sql.append(' ');
 		
 		if (ConditionDBTypes.IN.equals(conditionType)
 				|| ConditionDBTypes.NOT_IN.equals(conditionType)) {
-			sql.append("(");
+			sql.append('(');
 			
-			final List<?> list = (List<?>) value;
-			for (Object o : list) {
-				sql.append(getParameterValue(o));
-				
-				if (list.indexOf(o) < (list.size() - 1)) {
-					sql.append(",");
+			boolean first = true;
+			for (Object o : (List<?>) value) {
+				if (!first) {
+					sql.append(',');
 				}
+				first = false;
+				
+				appendParameterValue(context, o);
 			}
 			
-			sql.append(")");
+			sql.append(')');
+		} else {
+			appendParameterValue(context, value);
+		}
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		appendFieldShape(shape);
+		
+		if (ConditionDBTypes.IN.equals(conditionType)
+				|| ConditionDBTypes.NOT_IN.equals(conditionType)) {
+			final List<?> list = (List<?>) value;
+			shape.add(list.size());
+			for (Object o : list) {
+				final Object parameter = toColumnValue(o);
+				shape.addParameter(parameter, getParameterType(parameter));
+			}
 		} else {
-			sql.append(getParameterValue(value));
+			final Object parameter = toColumnValue(value);
+			shape.addParameter(parameter, getParameterType(parameter));
 		}
-		return sql.toString();
+	}
+	
+	@Override
+	public int sizeHint() {
+		if (value instanceof List) {
+			return DEFAULT_SIZE_HINT * 2 + ((List<?>) value).size() * 8;
+		}
+		return DEFAULT_SIZE_HINT * 3;
 	}
 
 	public String getParameterValue(Object object) {
-		if (object instanceof String) {
-			return "'" + object.toString() + "'";
+		final SQLContext context = new SQLContext(new StringBuilder());
+		appendParameterValue(context, object);
+		return context.getSql().toString();
+	}
+	
+	/**
+	 * Método que escreve o valor de um parametro no sql, como literal ou 
+	 * como parametro <code>?</code> conforme o contexto.
+	 * 
+	 * @param context - contexto de geração do sql
+	 * @param object - valor do parametro
+	 */
+	protected void appendParameterValue(SQLContext context, Object object) {
+		final Object parameter = toColumnValue(object);
+		context.appendValue(parameter, getParameterType(parameter));
+	}
+	
+	/**
+	 * Método que converte os enums para o valor gravado na coluna do campo, conforme a
+	 * anotação {@link javax.persistence.Enumerated} da propriedade.
+	 * 
+	 * @param object - valor do parametro
+	 * 
+	 * @return valor da coluna
+	 */
+	protected Object toColumnValue(Object object) {
+		if (!(object instanceof Enum)) {
+			return object;
+		}
+		
+		final ColumnDescriptor column = EntityMetadata.of(entityClass).getColumn(fieldName);
+		return column == null ? object : column.toColumnValue(object);
+	}
+	
+	/**
+	 * Método que retorna o tipo java de um parametro, usando o tipo da 
+	 * propriedade da entidade quando o valor é nulo, ou o tipo gravado na
+	 * coluna quando a propriedade é um enum.
+	 * 
+	 * @param object - valor do parametro
+	 * 
+	 * @return tipo do parametro ou <code>null</code> se não for possível descobrir
+	 */
+	protected Class<?> getParameterType(Object object) {
+		if (object != null) {
+			return object.getClass();
+		}
+		
+		final ColumnDescriptor column = EntityMetadata.of(entityClass).getColumn(fieldName);
+		if (column == null) {
+			return null;
+		} else if (column.getEnumType() != null) {
+			return EnumType.STRING.equals(column.getEnumType()) ? String.class : Integer.class;
+		}
+		return column.getJavaType();
+	}
+	
+	/**
+	 * Método que escreve a forma do campo e do tipo da condição.
+	 * 
+	 * @param shape - contexto de leitura da forma
+	 */
+	protected void appendFieldShape(ShapeContext shape) {
+		shape.add(getClass()).add(entityClass).add(aliasTable).add(fieldName).add(conditionType);
+	}
+	
+	/**
+	 * Método que escreve o campo da condição, com o nome ou alias da tabela.
+	 * 
+	 * @param context - contexto de geração do sql
+	 */
+	protected void appendField(SQLContext context) {
+		if (this.aliasTable != null && !(this.aliasTable.isEmpty())) {
+			context.appendColumn(this.aliasTable, getDatabaseNameField(entityClass, this.fieldName));
 		} else {
-			return object.toString();
+			context.appendColumn(getTableName(entityClass), getDatabaseNameField(entityClass, this.fieldName));
 		}
 	}
 }
\ No newline at end of file
@@ -1,9 +1,8 @@
 package com.urbainski.sql.condititon.impl;
 
-import static com.urbainski.sql.reflection.TableReflectionReader.getDatabaseNameField;
-import static com.urbainski.sql.reflection.TableReflectionReader.getTableName;
-
+import com.urbainski.sql.builder.SQLContext;
 import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 
 /**
@@ -21,6 +20,10 @@ public class SubselectCondition extends SimpleCondition {
 	 */
 	protected SelectBuilder subselect;
 	
+	public SelectBuilder getSubselect() {
+		return subselect;
+	}
+	
 	/**
 	 * Construtor da classe.
 	 * 
@@ -38,22 +41,25 @@ public class SubselectCondition extends SimpleCondition {
 	}
 	
 	@Override
-	public String buildSQL() {
-		String tableNameOrAlias = getTableName(entityClass);
-		if (this.aliasTable != null && !(this.aliasTable.isEmpty())) {
-			tableNameOrAlias = this.aliasTable;
-		}
-		
-		final StringBuilder sql = new StringBuilder();
-		sql.append(tableNameOrAlias + ".");
-		sql.append(getDatabaseNameField(entityClass, this.fieldName));
-		sql.append(" ");
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		appendField(context);
+		sql.append(' ');
 		sql.append(conditionType.getConditionType());
 		sql.append(" (");
-		sql.append(subselect.buildSQL());
-		sql.append(")");
-		
-		return sql.toString();
+		subselect.appendTo(context);
+		sql.append(')');
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		appendFieldShape(shape);
+		shape.add(subselect);
+	}
+	
+	@Override
+	public int sizeHint() {
+		return DEFAULT_SIZE_HINT * 2 + subselect.sizeHint();
 	}
 
 }
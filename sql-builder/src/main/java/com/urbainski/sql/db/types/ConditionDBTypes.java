@@ -40,6 +40,26 @@ public enum ConditionDBTypes {
 	 */
 	DIFFERENT("<>"),
 	
+	/**
+	 * Condição valor maior que.
+	 */
+	GREATER(">"),
+	
+	/**
+	 * Condição valor maior ou igual a.
+	 */
+	GREATER_OR_EQUALS(">="),
+	
+	/**
+	 * Condição valor menor que.
+	 */
+	LESS("<"),
+	
+	/**
+	 * Condição valor menor ou igual a.
+	 */
+	LESS_OR_EQUALS("<="),
+	
 	/**
 	 * Valor está entre.
 	 */
@@ -52,7 +52,12 @@ public enum SQLSelectDBTypes {
 	/**
 	 * Clausula 'limit' do SQL.
 	 */
-	LIMIT("limit");
+	LIMIT("limit"),
+	
+	/**
+	 * Clausula 'fetch first' do SQL.
+	 */
+	FETCH_FIRST("fetch first");
 
 	/**
 	 * Nome da clausula de sql.
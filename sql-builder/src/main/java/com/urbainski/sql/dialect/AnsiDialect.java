@@ -0,0 +1,63 @@
+package com.urbainski.sql.dialect;
+
+import com.urbainski.sql.builder.SQLContext;
+
+/**
+ * Dialeto base dos bancos de dados com a paginação do padrão sql
+ * (<code>offset ? rows fetch next ? rows only</code>), que guardam os
+ * nomes sem aspas em caixa alta.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public abstract class AnsiDialect extends GenericDialect {
+	
+	/**
+	 * Trecho do offset.
+	 */
+	private static final String OFFSET = " offset ";
+	
+	/**
+	 * Trecho do final do offset.
+	 */
+	private static final String ROWS = " rows";
+	
+	/**
+	 * Trecho do fetch depois do offset.
+	 */
+	private static final String FETCH_NEXT = " fetch next ";
+	
+	/**
+	 * Trecho do fetch sem offset.
+	 */
+	private static final String FETCH_FIRST = " fetch first ";
+	
+	/**
+	 * Trecho do final do fetch.
+	 */
+	private static final String ROWS_ONLY = " rows only";
+	
+	@Override
+	public void appendIdentifier(StringBuilder sql, String identifier) {
+		appendQuotedIfNeeded(sql, identifier, true);
+	}
+	
+	@Override
+	public void appendPagination(SQLContext context, int offset, int limit, boolean fetchFirst) {
+		final StringBuilder sql = context.getSql();
+		if (offset >= 0) {
+			sql.append(OFFSET);
+			context.appendValue(offset, Integer.class);
+			sql.append(ROWS);
+		}
+		
+		if (limit >= 0) {
+			sql.append(offset >= 0 ? FETCH_NEXT : FETCH_FIRST);
+			context.appendValue(limit, Integer.class);
+			sql.append(ROWS_ONLY);
+		}
+	}
+	
+}
@@ -0,0 +1,23 @@
+package com.urbainski.sql.dialect;
+
+/**
+ * Dialeto do Apache Derby, que não possui <code>ilike</code> nem <code>limit</code>.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class DerbyDialect extends AnsiDialect {
+	
+	/**
+	 * Instância do dialeto.
+	 */
+	public static final DerbyDialect INSTANCE = new DerbyDialect();
+
+	@Override
+	public boolean supportsIlike() {
+		return false;
+	}
+	
+}
@@ -0,0 +1,72 @@
+package com.urbainski.sql.dialect;
+
+import com.urbainski.sql.builder.SQLContext;
+
+/**
+ * Interface que representa as diferenças de sintaxe entre os bancos de dados,
+ * consultada durante a geração do sql através do {@link SQLContext}.
+ * 
+ * <p>As implementações não devem guardar estado e devem escrever trechos fixos
+ * já prontos, sem criar objetos durante a geração do sql.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public interface Dialect {
+	
+	/**
+	 * Método que escreve o nome de uma tabela, coluna ou alias, entre aspas
+	 * quando o banco de dados exigir.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param identifier - nome
+	 */
+	public void appendIdentifier(StringBuilder sql, String identifier);
+	
+	/**
+	 * Método que escreve um valor como literal.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param value - valor
+	 */
+	public void appendLiteral(StringBuilder sql, Object value);
+	
+	/**
+	 * Método que escreve um texto como literal, com as aspas escapadas.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param value - texto
+	 */
+	public void appendStringLiteral(StringBuilder sql, String value);
+	
+	/**
+	 * Método que escreve um valor booleano como literal.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param value - valor
+	 */
+	public void appendBooleanLiteral(StringBuilder sql, boolean value);
+	
+	/**
+	 * Método que retorna se o banco de dados possui o operador <code>ilike</code>.
+	 * Quando não possui, a condição é gerada com <code>lower(campo) like lower(?)</code>.
+	 * 
+	 * @return <code>true</code> se possui o operador
+	 */
+	public boolean supportsIlike();
+	
+	/**
+	 * Método que escreve a paginação da consulta, com um espaço antes de cada clausula.
+	 * Os valores são escritos com {@link SQLContext#appendValue(Object, Class)}, 
+	 * sempre o offset antes da quantidade de linhas.
+	 * 
+	 * @param context - contexto de geração do sql
+	 * @param offset - quantidade de linhas ignoradas ou negativo se não informado
+	 * @param limit - quantidade de linhas retornadas ou negativo se não informado
+	 * @param fetchFirst - se a quantidade de linhas foi informada pelo <code>fetch first</code>
+	 */
+	public void appendPagination(SQLContext context, int offset, int limit, boolean fetchFirst);
+	
+}
@@ -0,0 +1,198 @@
+package com.urbainski.sql.dialect;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.urbainski.sql.builder.SQLContext;
+
+/**
+ * Dialeto padrão, que gera o sql sem nenhuma adaptação: nomes sem aspas,
+ * <code>ilike</code> e paginação com <code>offset ? limit ?</code>.
+ * 
+ * <p>Serve de base para os demais dialetos, que sobrescrevem apenas o que é diferente.</p>
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class GenericDialect implements Dialect {
+	
+	/**
+	 * Instância do dialeto.
+	 */
+	public static final GenericDialect INSTANCE = new GenericDialect();
+	
+	/**
+	 * Palavras reservadas do sql que precisam de aspas quando usadas como nome.
+	 */
+	protected static final Set<String> RESERVED_WORDS;
+	
+	static {
+		final Set<String> words = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+		words.addAll(Arrays.asList("all", "and", "as", "between", "by", "case", "check", "column",
+				"constraint", "create", "cross", "current", "default", "delete", "distinct", "else", 
+				"end", "exists", "false", "fetch", "for", "foreign", "from", "full", "group", "having",
+				"in", "inner", "insert", "intersect", "into", "is", "join", "left", "like", "natural",
+				"not", "null", "offset", "on", "or", "order", "outer", "primary", "references", "right",
+				"rows", "select", "set", "table", "then", "to", "true", "union", "unique", "update", 
+				"user", "using", "values", "when", "where", "with"));
+		RESERVED_WORDS = Collections.unmodifiableSet(words);
+	}
+	
+	/**
+	 * Coluna que representa todas as colunas, nunca escrita entre aspas.
+	 */
+	private static final String ALL_COLUMNS = "*";
+	
+	/**
+	 * Trecho do offset.
+	 */
+	private static final String OFFSET = " offset ";
+	
+	/**
+	 * Trecho do limit.
+	 */
+	private static final String LIMIT = " limit ";
+	
+	/**
+	 * Trecho do fetch first.
+	 */
+	private static final String FETCH_FIRST = " fetch first ";
+	
+	/**
+	 * Trecho do final do fetch first.
+	 */
+	private static final String ROWS_ONLY = " rows only";
+	
+	/**
+	 * Literal verdadeiro.
+	 */
+	private static final String TRUE = "true";
+	
+	/**
+	 * Literal falso.
+	 */
+	private static final String FALSE = "false";
+
+	@Override
+	public void appendIdentifier(StringBuilder sql, String identifier) {
+		sql.append(identifier);
+	}
+	
+	@Override
+	public void appendLiteral(StringBuilder sql, Object value) {
+		if (value instanceof String) {
+			appendStringLiteral(sql, (String) value);
+		} else if (value instanceof Boolean) {
+			appendBooleanLiteral(sql, ((Boolean) value).booleanValue());
+		} else {
+			sql.append(value);
+		}
+	}
+	
+	@Override
+	public void appendStringLiteral(StringBuilder sql, String value) {
+		sql.append('\'');
+		int start = 0;
+		for (int i = value.indexOf('\''); i >= 0; i = value.indexOf('\'', i + 1)) {
+			sql.append(value, start, i + 1).append('\'');
+			start = i + 1;
+		}
+		sql.append(value, start, value.length());
+		sql.append('\'');
+	}
+	
+	@Override
+	public void appendBooleanLiteral(StringBuilder sql, boolean value) {
+		sql.append(value ? TRUE : FALSE);
+	}
+	
+	@Override
+	public boolean supportsIlike() {
+		return true;
+	}
+	
+	@Override
+	public void appendPagination(SQLContext context, int offset, int limit, boolean fetchFirst) {
+		final StringBuilder sql = context.getSql();
+		if (offset >= 0) {
+			sql.append(OFFSET);
+			context.appendValue(offset, Integer.class);
+		}
+		
+		if (limit >= 0) {
+			sql.append(fetchFirst ? FETCH_FIRST : LIMIT);
+			context.appendValue(limit, Integer.class);
+			if (fetchFirst) {
+				sql.append(ROWS_ONLY);
+			}
+		}
+	}
+	
+	/**
+	 * Método que escreve um nome entre aspas duplas quando ele é uma palavra reservada 
+	 * ou possui caracteres que não são letras, números ou <code>_</code>. As palavras 
+	 * reservadas são convertidas para a caixa em que o banco de dados guarda os nomes
+	 * sem aspas, para continuarem se referindo ao mesmo objeto.
+	 * 
+	 * @param sql - buffer do sql
+	 * @param identifier - nome
+	 * @param upperCase - se o banco de dados guarda os nomes sem aspas em caixa alta
+	 */
+	protected void appendQuotedIfNeeded(StringBuilder sql, String identifier, boolean upperCase) {
+		if (ALL_COLUMNS.equals(identifier)) {
+			sql.append(identifier);
+			return;
+		}
+		
+		if (isSimpleIdentifier(identifier)) {
+			if (!RESERVED_WORDS.contains(identifier)) {
+				sql.append(identifier);
+				return;
+			}
+			
+			sql.append('"');
+			for (int i = 0; i < identifier.length(); i++) {
+				final char c = identifier.charAt(i);
+				sql.append(upperCase ? Character.toUpperCase(c) : Character.toLowerCase(c));
+			}
+			sql.append('"');
+			return;
+		}
+		
+		sql.append('"');
+		int start = 0;
+		for (int i = identifier.indexOf('"'); i >= 0; i = identifier.indexOf('"', i + 1)) {
+			sql.append(identifier, start, i + 1).append('"');
+			start = i + 1;
+		}
+		sql.append(identifier, start, identifier.length());
+		sql.append('"');
+	}
+	
+	/**
+	 * Método que verifica se um nome possui apenas letras, números e <code>_</code>
+	 * e não começa com número.
+	 * 
+	 * @param identifier - nome
+	 * 
+	 * @return <code>true</code> se o nome não precisa de aspas pelos seus caracteres
+	 */
+	protected static boolean isSimpleIdentifier(String identifier) {
+		if (identifier.isEmpty() || Character.isDigit(identifier.charAt(0))) {
+			return false;
+		}
+		
+		for (int i = 0; i < identifier.length(); i++) {
+			final char c = identifier.charAt(i);
+			if (!(Character.isLetterOrDigit(c) || c == '_')) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+}
@@ -0,0 +1,18 @@
+package com.urbainski.sql.dialect;
+
+/**
+ * Dialeto do H2, com a paginação do padrão sql e o <code>ilike</code>.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class H2Dialect extends AnsiDialect {
+	
+	/**
+	 * Instância do dialeto.
+	 */
+	public static final H2Dialect INSTANCE = new H2Dialect();
+	
+}
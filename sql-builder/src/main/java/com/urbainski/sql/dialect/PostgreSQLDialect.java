@@ -0,0 +1,31 @@
+package com.urbainski.sql.dialect;
+
+import com.urbainski.sql.builder.SQLContext;
+
+/**
+ * Dialeto do PostgreSQL, que guarda os nomes sem aspas em caixa baixa e 
+ * pagina com <code>offset ? limit ?</code>.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class PostgreSQLDialect extends GenericDialect {
+	
+	/**
+	 * Instância do dialeto.
+	 */
+	public static final PostgreSQLDialect INSTANCE = new PostgreSQLDialect();
+	
+	@Override
+	public void appendIdentifier(StringBuilder sql, String identifier) {
+		appendQuotedIfNeeded(sql, identifier, false);
+	}
+	
+	@Override
+	public void appendPagination(SQLContext context, int offset, int limit, boolean fetchFirst) {
+		super.appendPagination(context, offset, limit, false);
+	}
+	
+}
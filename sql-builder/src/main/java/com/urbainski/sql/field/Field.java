@@ -2,7 +2,8 @@ package com.urbainski.sql.field;
 
 import static com.urbainski.sql.db.types.SQLSelectDBTypes.AS;
 
-import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
 
 /**
  * Interface que representa um campo de um select.
@@ -12,7 +13,7 @@ import com.urbainski.sql.builder.SQL;
  * @version 1.0
  *
  */
-public abstract class Field implements SQL {
+public abstract class Field extends AbstractSQL {
 	
 	/**
 	 * Alias do campo.
@@ -47,20 +48,28 @@ public abstract class Field implements SQL {
 	}
 	
 	/**
-	 * Método que monta o sql do alias do campo.
+	 * Método que escreve o sql do alias do campo.
 	 * 
-	 * @return sql do alias
+	 * @param sql - buffer do sql
 	 */
-	protected String mountAlias() {
+	protected void appendAlias(SQLContext context) {
 		if (!hasAlias()) {
-			return "";
+			return;
 		}
 		
-		final StringBuilder sql = new StringBuilder();
-		sql.append(" ");
+		final StringBuilder sql = context.getSql();
+		sql.append(' ');
 		sql.append(AS.getSQLSelectType());
-		sql.append(" ");
-		sql.append(alias);
-		return sql.toString();
+		sql.append(' ');
+		context.appendIdentifier(alias);
+	}
+	
+	/**
+	 * Método que estima a quantidade de caracteres do alias do campo.
+	 * 
+	 * @return quantidade estimada de caracteres
+	 */
+	protected int aliasSizeHint() {
+		return hasAlias() ? alias.length() + 4 : 0;
 	}
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.urbainski.sql.field.impl;
 
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.db.types.AggregateDBTypes;
 
 /**
@@ -41,15 +43,24 @@ public class AggregateField extends SimpleField {
 	}
 
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
 		sql.append(aggregateType.getAggregateType());
-		sql.append("(");
-		sql.append(tableNameOrAlias + ".");
-		sql.append(fieldName);
-		sql.append(")");
-		sql.append(mountAlias());
-		return sql.toString();
+		sql.append('(');
+		context.appendColumn(tableNameOrAlias, fieldName);
+		sql.append(')');
+		appendAlias(context);
+	}
+	
+	@Override
+	public int sizeHint() {
+		return super.sizeHint() + aggregateType.getAggregateType().length() + 2;
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		super.appendShape(shape);
+		shape.add(aggregateType);
 	}
 
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.urbainski.sql.field.impl;
 
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.field.Field;
 
 
@@ -70,12 +72,30 @@ public class SimpleField extends Field {
 	}
 	
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
-		sql.append(tableNameOrAlias + ".");
-		sql.append(fieldName);
-		sql.append(mountAlias());
-		return sql.toString();
+	public void appendTo(SQLContext context) {
+		context.appendColumn(tableNameOrAlias, fieldName);
+		appendAlias(context);
+	}
+	
+	@Override
+	public int sizeHint() {
+		return length(tableNameOrAlias) + length(fieldName) + 1 + aliasSizeHint();
+	}
+	
+	/**
+	 * Método que retorna o tamanho de um texto que pode ser nulo.
+	 * 
+	 * @param text - texto
+	 * 
+	 * @return tamanho do texto
+	 */
+	protected static int length(String text) {
+		return text == null ? 4 : text.length();
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(tableNameOrAlias).add(fieldName).add(alias);
 	}
 
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.urbainski.sql.field.impl;
 
+import com.urbainski.sql.builder.SQLContext;
 import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.field.Field;
 
 /**
@@ -38,13 +40,22 @@ public class SubselectField extends Field {
 	}
 
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
-		sql.append("(");
-		sql.append(subselect.buildSQL());
-		sql.append(")");
-		sql.append(mountAlias());
-		return sql.toString();
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		sql.append('(');
+		subselect.appendTo(context);
+		sql.append(')');
+		appendAlias(context);
+	}
+	
+	@Override
+	public int sizeHint() {
+		return subselect.sizeHint() + 2 + aliasSizeHint();
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(subselect).add(alias);
 	}
 
 }
\ No newline at end of file
@@ -7,7 +7,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.condititon.Condition;
 import com.urbainski.sql.condititon.impl.ConditionBuilder;
 import com.urbainski.sql.condititon.impl.JoinCondition;
@@ -23,7 +25,7 @@ import com.urbainski.sql.select.Select;
  * @version 1.0
  *
  */
-public class Join implements SQL {
+public class Join extends AbstractSQL {
 
 	/**
 	 * Lista de condições do join.
@@ -76,6 +78,18 @@ public class Join implements SQL {
 		return joinedAlias;
 	}
 	
+	public JoinDBType getJoinType() {
+		return joinType;
+	}
+	
+	public List<Condition> getConditions() {
+		return conditions;
+	}
+	
+	public String getProperty() {
+		return property;
+	}
+	
 	/**
 	 * Construtor da classe.
 	 * 
@@ -166,45 +180,77 @@ public class Join implements SQL {
 	}
 	
 	@Override
-	public String buildSQL() {
-		final StringBuilder sql = new StringBuilder();
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
 		sql.append(joinType.getJoinType());
-		sql.append(" ");
-		sql.append(getTableName(clazzJoined));
+		sql.append(' ');
+		context.appendIdentifier(getTableName(clazzJoined));
 		
 		if (joinedAlias != null && !(joinedAlias.isEmpty())) {
-			sql.append(" " + joinedAlias);
+			sql.append(' ');
+			context.appendIdentifier(joinedAlias);
 		}
 			
 		sql.append(" on ");
 		
-		if (conditions.isEmpty() || !(hasJoinCondition())) {
-			JoinCondition joinCondition = null;
-			if (property == null || property.isEmpty()) {
-				joinCondition = getJoinInformation(clazzFrom, fromAlias, joinedAlias);
-			} else {
-				joinCondition = getJoinInformation(clazzFrom, fromAlias, joinedAlias, property);
-			}
-			sql.append(joinCondition.buildSQL());
+		final JoinCondition joinCondition = buildJoinCondition();
+		if (joinCondition != null) {
+			joinCondition.appendTo(context);
 			
 			if (!(conditions.isEmpty())) {
-				sql.append(" ");
+				sql.append(' ');
 				sql.append(ConditionDBTypes.AND.getConditionType());
-				sql.append(" ");
+				sql.append(' ');
 			}
  		} 
 		
+		boolean first = true;
 		for (Condition c : conditions) {
-			if (conditions.indexOf(c) > 0) {
-				sql.append(" ");
+			if (!first) {
+				sql.append(' ');
 				sql.append(ConditionDBTypes.AND.getConditionType());
-				sql.append(" ");
+				sql.append(' ');
 			}
+			first = false;
 
-			sql.append(c.buildSQL());
+			c.appendTo(context);
+		}
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(joinType).add(clazzFrom).add(clazzJoined)
+			.add(fromAlias).add(joinedAlias).add(property).add(conditions.size());
+		for (Condition c : conditions) {
+			shape.add(c);
+		}
+	}
+	
+	@Override
+	public int sizeHint() {
+		int size = DEFAULT_SIZE_HINT * 8;
+		for (Condition c : conditions) {
+			size += c.sizeHint() + 5;
+		}
+		return size;
+	}
+
+	/**
+	 * Método que cria a condição do join pelo relacionamento entre as entidades,
+	 * usada quando nenhum {@link JoinCondition} foi adicionado ao join.
+	 * 
+	 * @return {@link JoinCondition} ou <code>null</code> se a lista de condições
+	 * 	já possuir {@link JoinCondition}
+	 */
+	public JoinCondition buildJoinCondition() {
+		if (!(conditions.isEmpty()) && hasJoinCondition()) {
+			return null;
 		}
 		
-		return sql.toString();
+		if (property == null || property.isEmpty()) {
+			return getJoinInformation(clazzFrom, fromAlias, joinedAlias);
+		}
+		return getJoinInformation(clazzFrom, fromAlias, joinedAlias, property);
 	}
 
 	/**
@@ -0,0 +1,132 @@
+package com.urbainski.sql.reflection;
+
+import javax.persistence.EnumType;
+
+/**
+ * Classe imutável que descreve o mapeamento de uma propriedade da entidade
+ * para a sua coluna no banco de dados.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class ColumnDescriptor {
+
+	/**
+	 * Nome da propriedade na classe de entidade.
+	 */
+	private final String propertyName;
+
+	/**
+	 * Nome da coluna no banco de dados.
+	 */
+	private final String columnName;
+
+	/**
+	 * Nome da coluna de junção, <code>null</code> se a propriedade não possuir join.
+	 */
+	private final String joinColumnName;
+
+	/**
+	 * Nome da coluna referenciada pelo join, <code>null</code> se a propriedade não possuir join.
+	 */
+	private final String referencedColumnName;
+
+	/**
+	 * Tipo java da propriedade.
+	 */
+	private final Class<?> javaType;
+
+	/**
+	 * Classe que declara a propriedade.
+	 */
+	private final Class<?> declaringClass;
+
+	/**
+	 * Forma como o enum é gravado na coluna, <code>null</code> se a propriedade não for um enum.
+	 */
+	private final EnumType enumType;
+
+	/**
+	 * Construtor padrão.
+	 *
+	 * @param propertyName - nome da propriedade
+	 * @param columnName - nome da coluna
+	 * @param joinColumnName - nome da coluna de junção
+	 * @param referencedColumnName - nome da coluna referenciada pelo join
+	 * @param javaType - tipo java da propriedade
+	 * @param declaringClass - classe que declara a propriedade
+	 * @param enumType - forma como o enum é gravado na coluna ou <code>null</code>
+	 */
+	public ColumnDescriptor(String propertyName, String columnName, String joinColumnName,
+			String referencedColumnName, Class<?> javaType, Class<?> declaringClass, EnumType enumType) {
+		this.propertyName = propertyName;
+		this.columnName = columnName;
+		this.joinColumnName = joinColumnName;
+		this.referencedColumnName = referencedColumnName;
+		this.javaType = javaType;
+		this.declaringClass = declaringClass;
+		this.enumType = enumType;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public String getJoinColumnName() {
+		return joinColumnName;
+	}
+
+	public String getReferencedColumnName() {
+		return referencedColumnName;
+	}
+
+	public Class<?> getJavaType() {
+		return javaType;
+	}
+
+	public Class<?> getDeclaringClass() {
+		return declaringClass;
+	}
+
+	public EnumType getEnumType() {
+		return enumType;
+	}
+
+	/**
+	 * Método que retorna se a propriedade é mapeada com join.
+	 *
+	 * @return <code>true</code> se a propriedade possuir join caso contrário <code>false</code>
+	 */
+	public boolean isJoin() {
+		return joinColumnName != null;
+	}
+
+	/**
+	 * Método que converte um enum para o valor gravado na coluna: a posição da constante
+	 * com {@link EnumType#ORDINAL} ou o nome com {@link EnumType#STRING}.
+	 *
+	 * @param value - valor
+	 *
+	 * @return valor da coluna, o próprio valor se não for um enum ou a propriedade não for um enum
+	 */
+	public Object toColumnValue(Object value) {
+		if (!(value instanceof Enum) || enumType == null) {
+			return value;
+		}
+
+		final Enum<?> constant = (Enum<?>) value;
+		return EnumType.STRING.equals(enumType) ? constant.name() : Integer.valueOf(constant.ordinal());
+	}
+
+	@Override
+	public String toString() {
+		return declaringClass.getSimpleName() + "." + propertyName + " -> " + columnName;
+	}
+
+}
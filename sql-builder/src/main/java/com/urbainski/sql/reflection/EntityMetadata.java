@@ -0,0 +1,329 @@
+package com.urbainski.sql.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.persistence.Column;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToMany;
+import javax.persistence.OneToMany;
+import javax.persistence.PrimaryKeyJoinColumn;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+/**
+ * Classe que guarda as informações das anotações da jpa de uma classe de entidade.
+ *
+ * <p>As informações são lidas por reflection apenas uma vez por classe e
+ * ficam guardadas em um {@link ClassValue}, podendo ser compartilhadas
+ * entre threads sem sincronização adicional.</p>
+ *
+ * <p>Se existir a classe de metamodelo gerada pelo processador de anotações
+ * do <code>sql-builder-processor</code> (nome da entidade seguido de
+ * {@value #METAMODEL_SUFFIX}), os metadados registrados por ela são usados
+ * e as anotações da entidade não são lidas.</p>
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public final class EntityMetadata {
+
+	/**
+	 * Sufixo do nome das classes de metamodelo geradas.
+	 */
+	public static final String METAMODEL_SUFFIX = "Metamodel";
+
+	/**
+	 * Metadados registrados pelas classes de metamodelo geradas.
+	 */
+	private static final ConcurrentMap<Class<?>, EntityMetadata> REGISTERED =
+			new ConcurrentHashMap<Class<?>, EntityMetadata>();
+
+	/**
+	 * Registro dos metadados já lidos de cada classe de entidade.
+	 */
+	private static final ClassValue<EntityMetadata> METADATA = new ClassValue<EntityMetadata>() {
+
+		@Override
+		protected EntityMetadata computeValue(Class<?> entityClass) {
+			final EntityMetadata generated = loadMetamodel(entityClass);
+			if (generated != null) {
+				return generated;
+			}
+			return new EntityMetadata(entityClass);
+		}
+	};
+
+	/**
+	 * Classe de entidade.
+	 */
+	private final Class<?> entityClass;
+
+	/**
+	 * Nome da tabela no banco de dados.
+	 */
+	private final String tableName;
+
+	/**
+	 * Nome de todas as colunas da tabela.
+	 */
+	private final List<String> fieldsNames;
+
+	/**
+	 * Descrição da coluna de cada propriedade, incluindo as herdadas.
+	 */
+	private final Map<String, ColumnDescriptor> columns;
+
+	/**
+	 * Join da entidade com o seu super tipo lido da anotação {@link PrimaryKeyJoinColumn}.
+	 */
+	private final ColumnDescriptor superTypeJoin;
+
+	/**
+	 * Construtor usado pelas classes de metamodelo geradas, que já
+	 * conhecem todas as informações da entidade.
+	 *
+	 * @param entityClass - classe de entidade
+	 * @param tableName - nome da tabela
+	 * @param fieldsNames - nome de todas as colunas da tabela
+	 * @param columns - descrição da coluna de cada propriedade
+	 * @param superTypeJoin - join com o super tipo ou <code>null</code>
+	 */
+	public EntityMetadata(Class<?> entityClass, String tableName, List<String> fieldsNames,
+			Map<String, ColumnDescriptor> columns, ColumnDescriptor superTypeJoin) {
+		this.entityClass = entityClass;
+		this.tableName = tableName;
+		this.fieldsNames = Collections.unmodifiableList(new ArrayList<String>(fieldsNames));
+		this.columns = Collections.unmodifiableMap(new HashMap<String, ColumnDescriptor>(columns));
+		this.superTypeJoin = superTypeJoin;
+	}
+
+	/**
+	 * Construtor que le as anotações da classe de entidade por reflection.
+	 *
+	 * @param entityClass - classe de entidade
+	 */
+	private EntityMetadata(Class<?> entityClass) {
+		this.entityClass = entityClass;
+		this.tableName = readTableName(entityClass);
+		this.superTypeJoin = readSuperTypeJoin(entityClass);
+
+		final List<String> names = new ArrayList<String>();
+		for (final Field f : entityClass.getDeclaredFields()) {
+			if (Modifier.isStatic(f.getModifiers()) || f.isAnnotationPresent(Transient.class)
+					|| f.isAnnotationPresent(OneToMany.class) || f.isAnnotationPresent(ManyToMany.class)) {
+				continue;
+			}
+
+			final ColumnDescriptor descriptor = readColumnDescriptor(f);
+			if (descriptor.isJoin() && descriptor.getJoinColumnName().isEmpty() 
+					&& !hasColumnName(f.getAnnotation(Column.class))) {
+				continue;
+			}
+			names.add(descriptor.getColumnName());
+		}
+
+		final Map<String, ColumnDescriptor> descriptors = new HashMap<String, ColumnDescriptor>();
+		for (Class<?> c = entityClass; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+			for (final Field f : c.getDeclaredFields()) {
+				if (!Modifier.isStatic(f.getModifiers()) && !descriptors.containsKey(f.getName())) {
+					descriptors.put(f.getName(), readColumnDescriptor(f));
+				}
+			}
+		}
+
+		this.fieldsNames = Collections.unmodifiableList(names);
+		this.columns = Collections.unmodifiableMap(descriptors);
+	}
+
+	/**
+	 * Método que retorna os metadados de uma classe de entidade.
+	 *
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return {@link EntityMetadata}
+	 */
+	public static EntityMetadata of(Class<?> entityClass) {
+		return METADATA.get(entityClass);
+	}
+
+	/**
+	 * Método chamado pelas classes de metamodelo geradas para registrar os metadados da entidade.
+	 *
+	 * @param metadata - metadados da entidade
+	 *
+	 * @return os próprios metadados registrados
+	 */
+	public static EntityMetadata register(EntityMetadata metadata) {
+		REGISTERED.put(metadata.getEntityClass(), metadata);
+		return metadata;
+	}
+
+	public Class<?> getEntityClass() {
+		return entityClass;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public List<String> getFieldsNames() {
+		return fieldsNames;
+	}
+
+	public ColumnDescriptor getSuperTypeJoin() {
+		return superTypeJoin;
+	}
+
+	public Map<String, ColumnDescriptor> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Método que verifica se a entidade possui a propriedade.
+	 *
+	 * @param nameProperty - nome da propriedade
+	 *
+	 * @return <code>true</code> se a propriedade existir caso contrário <code>false</code>
+	 */
+	public boolean hasProperty(String nameProperty) {
+		return columns.containsKey(nameProperty);
+	}
+
+	/**
+	 * Método que retorna a descrição da coluna de uma propriedade.
+	 *
+	 * @param nameProperty - nome da propriedade
+	 *
+	 * @return {@link ColumnDescriptor} ou <code>null</code> se a propriedade não existir
+	 */
+	public ColumnDescriptor getColumn(String nameProperty) {
+		return columns.get(nameProperty);
+	}
+
+	/**
+	 * Método que retorna o nome da coluna no banco de dados de uma propriedade.
+	 *
+	 * @param nameProperty - nome da propriedade
+	 *
+	 * @return nome da coluna ou <code>null</code> se a propriedade não existir
+	 */
+	public String getDatabaseName(String nameProperty) {
+		final ColumnDescriptor descriptor = columns.get(nameProperty);
+		return descriptor == null ? null : descriptor.getColumnName();
+	}
+
+	/**
+	 * Método que carrega a classe de metamodelo gerada para a entidade,
+	 * que registra os seus metadados na inicialização.
+	 *
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return metadados registrados ou <code>null</code> se não existir metamodelo
+	 */
+	private static EntityMetadata loadMetamodel(Class<?> entityClass) {
+		try {
+			Class.forName(entityClass.getName() + METAMODEL_SUFFIX, true, entityClass.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+		return REGISTERED.get(entityClass);
+	}
+
+	/**
+	 * Método que le o join com o super tipo da anotação {@link PrimaryKeyJoinColumn}.
+	 *
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return {@link ColumnDescriptor} do join ou <code>null</code> se a entidade não possuir a anotação
+	 */
+	private static ColumnDescriptor readSuperTypeJoin(Class<?> entityClass) {
+		final PrimaryKeyJoinColumn joinColumn = entityClass.getAnnotation(PrimaryKeyJoinColumn.class);
+		if (joinColumn == null) {
+			return null;
+		}
+		return new ColumnDescriptor(null, joinColumn.name(), joinColumn.name(),
+				joinColumn.referencedColumnName(), entityClass.getSuperclass(), entityClass, null);
+	}
+
+	/**
+	 * Método que le o nome da tabela da anotação {@link Table}.
+	 *
+	 * @param entityClass - classe de entidade
+	 *
+	 * @return nome da tabela
+	 */
+	private static String readTableName(Class<?> entityClass) {
+		final Table table = entityClass.getAnnotation(Table.class);
+		if (table == null || table.name() == null || table.name().isEmpty()) {
+			return entityClass.getName().toLowerCase();
+		}
+		return table.name();
+	}
+
+	/**
+	 * Método que le a descrição da coluna de um atributo.
+	 *
+	 * @param field - atributo da classe de entidade
+	 *
+	 * @return {@link ColumnDescriptor}
+	 */
+	private static ColumnDescriptor readColumnDescriptor(Field field) {
+		final JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+
+		String columnName = field.getName().toLowerCase();
+		final Column column = field.getAnnotation(Column.class);
+		if (hasColumnName(column)) {
+			columnName = column.name();
+		} else if (joinColumn != null && joinColumn.name() != null && !joinColumn.name().isEmpty()) {
+			columnName = joinColumn.name();
+		}
+
+		if (joinColumn == null) {
+			return new ColumnDescriptor(field.getName(), columnName, null, null,
+					field.getType(), field.getDeclaringClass(), readEnumType(field));
+		}
+		return new ColumnDescriptor(field.getName(), columnName, joinColumn.name(), 
+				joinColumn.referencedColumnName(), field.getType(), field.getDeclaringClass(), null);
+	}
+
+	/**
+	 * Método que le a forma como o enum é gravado da anotação {@link Enumerated}, que
+	 * sem a anotação é a posição da constante.
+	 *
+	 * @param field - atributo da classe de entidade
+	 *
+	 * @return {@link EnumType} ou <code>null</code> se o atributo não for um enum
+	 */
+	private static EnumType readEnumType(Field field) {
+		if (!field.getType().isEnum()) {
+			return null;
+		}
+
+		final Enumerated enumerated = field.getAnnotation(Enumerated.class);
+		return enumerated == null ? EnumType.ORDINAL : enumerated.value();
+	}
+
+	/**
+	 * Método que verifica se a anotação {@link Column} informa o nome da coluna.
+	 *
+	 * @param column - anotação da coluna
+	 *
+	 * @return <code>true</code> se o nome foi informado caso contrário <code>false</code>
+	 */
+	private static boolean hasColumnName(Column column) {
+		return column != null && column.name() != null && !column.name().isEmpty();
+	}
+
+}
@@ -1,17 +1,7 @@
 package com.urbainski.sql.reflection;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.Column;
-import javax.persistence.JoinColumn;
-import javax.persistence.PrimaryKeyJoinColumn;
-import javax.persistence.Table;
-import javax.persistence.Transient;
-
 import com.urbainski.sql.condititon.impl.ConditionBuilder;
 import com.urbainski.sql.condititon.impl.JoinCondition;
 import com.urbainski.sql.db.types.ConditionDBTypes;
@@ -43,18 +33,7 @@ public final class TableReflectionReader {
 	 * @return nome da tabela
 	 */
 	public static String getTableName(Class<?> entityClass) {
-		final Annotation[] annotations = entityClass.getAnnotations();
-		for (Annotation a : annotations) {
-			if (a instanceof Table) {
-				final Table table = (Table) a;
-				if (table.name() == null || table.name().isEmpty()) {
-					return entityClass.getName().toLowerCase();
-				} else {
-					return ((Table) a).name();
-				}
-			}
-		}
-		return entityClass.getName().toLowerCase();
+		return EntityMetadata.of(entityClass).getTableName();
 	}
 	
 	/**
@@ -65,34 +44,7 @@ public final class TableReflectionReader {
 	 * @return {@link List} de {@link String} que são os nomes dos atributos da tabela no banco de dados
 	 */
 	public static List<String> getAllFieldsNames(Class<?> entityClass) {
-		final List<String> nameFields = new ArrayList<String>();
-		final Field[] fields = entityClass.getDeclaredFields();
-		for (final Field f : fields) {
-			if (Modifier.isStatic(f.getModifiers())) {
-				continue;
-			}
-			
-			if (f.isAnnotationPresent(Transient.class)) {
-				continue;
-			}
-			
-			final Column column = (Column) f.getAnnotation(Column.class);
-			if (column != null && column.name() != null && !column.name().isEmpty()) {
-				nameFields.add(column.name());
-			} else {
-				
-				final JoinColumn joinColumn = (JoinColumn) f.getAnnotation(JoinColumn.class);
-				if (joinColumn != null) {
-					if (joinColumn.name() != null && !(joinColumn.name().isEmpty())) {
-						nameFields.add(joinColumn.name());
-					}
-					continue;
-				}
-				
-				nameFields.add(f.getName().toLowerCase());
-			}
-		}
-		return nameFields;
+		return EntityMetadata.of(entityClass).getFieldsNames();
 	}
 	
 	/**
@@ -104,19 +56,10 @@ public final class TableReflectionReader {
 	 * @return nome da propriedade no banco de dados
 	 */
 	public static String getDatabaseNameField(Class<?> entityClass, String nameProperty) {
-		final Field field = getField(entityClass, nameProperty);
+		final String databaseName = EntityMetadata.of(entityClass).getDatabaseName(nameProperty);
 
-		if (field != null) {
-			final Column column = (Column) field.getAnnotation(Column.class);
-			if (column != null && column.name() != null && !column.name().isEmpty()) {
-				return column.name();
-			} else {
-				final JoinColumn joinColumn = (JoinColumn) field.getAnnotation(JoinColumn.class);
-				if (joinColumn != null && joinColumn.name() != null && !joinColumn.name().isEmpty()) {
-					return joinColumn.name();
-				}
-				return field.getName().toLowerCase();
-			}
+		if (databaseName != null) {
+			return databaseName;
 		}
 		
 		throw new IllegalStateException("Classe de entidade: " + entityClass + " não contem o campo: " + nameProperty);
@@ -134,14 +77,13 @@ public final class TableReflectionReader {
 	 */
 	public static JoinCondition getJoinInformation(
 			Class<?> entityClass, String aliasFrom, String aliasJoined, String nameProperty) {
-		final Field field = getField(entityClass, nameProperty);
+		final ColumnDescriptor column = EntityMetadata.of(entityClass).getColumn(nameProperty);
 		
-		if (field != null) {
-			final JoinColumn joinColumn = (JoinColumn) field.getAnnotation(JoinColumn.class);
-			if (joinColumn != null) {
+		if (column != null) {
+			if (column.isJoin()) {
 				return ConditionBuilder.newJoinCondition(
-						entityClass, aliasFrom, field.getType(), aliasJoined, ConditionDBTypes.EQUALS, 
-						joinColumn.name(), joinColumn.referencedColumnName());
+						entityClass, aliasFrom, column.getJavaType(), aliasJoined, ConditionDBTypes.EQUALS, 
+						column.getJoinColumnName(), column.getReferencedColumnName());
 			}
 			
 			throw new IllegalStateException("Propriedade: " + nameProperty + " na classe: " 
@@ -161,33 +103,14 @@ public final class TableReflectionReader {
 	 * @return {@link JoinCondition}
 	 */
 	public static JoinCondition getJoinInformation(Class<?> entityClass, String aliasFrom, String aliasJoined) {
-		if (entityClass.isAnnotationPresent(PrimaryKeyJoinColumn.class)) {
-			final PrimaryKeyJoinColumn joinColumn = entityClass.getAnnotation(PrimaryKeyJoinColumn.class);
-			
+		final ColumnDescriptor superTypeJoin = EntityMetadata.of(entityClass).getSuperTypeJoin();
+		if (superTypeJoin != null) {
 			return ConditionBuilder.newJoinCondition(
-					entityClass, aliasFrom, entityClass.getSuperclass(), aliasJoined, ConditionDBTypes.EQUALS,
-					joinColumn.name(), joinColumn.referencedColumnName());
+					entityClass, aliasFrom, superTypeJoin.getJavaType(), aliasJoined, ConditionDBTypes.EQUALS,
+					superTypeJoin.getJoinColumnName(), superTypeJoin.getReferencedColumnName());
 		} 
 		
 		throw new IllegalStateException("Classe de entidade: " + entityClass 
 				+ " não contem a anotação @PrimaryKeyJoinColumn para especificar colunas de junção");
 	}
-	
-	/**
-	 * Método que localiza um campo dentro da entidade.
-	 * 
-	 * @param entityClass - classe 
-	 * @param nameProperty - nome da propriedade
-	 * 
-	 * @return {@link Field}
-	 */
-	private static Field getField(Class<?> entityClass, String nameProperty) {
-		final Field[] fields = entityClass.getDeclaredFields();
-		for (final Field f : fields) {
-			if (f.getName().equals(nameProperty)) {
-				return f;
-			}
-		}
-		return null;
-	}
 }
\ No newline at end of file
@@ -7,8 +7,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.AbstractSQL;
+import com.urbainski.sql.builder.SQLContext;
 import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.builder.ShapeContext;
 import com.urbainski.sql.db.types.AggregateDBTypes;
 import com.urbainski.sql.field.Field;
 import com.urbainski.sql.field.impl.AggregateField;
@@ -24,7 +26,7 @@ import com.urbainski.sql.field.impl.SubselectField;
  * @version 1.0
  *
  */
-public class Select implements SQL {
+public class Select extends AbstractSQL {
 	
 	/**
 	 * Lista de campos da query.
@@ -286,23 +288,47 @@ public class Select implements SQL {
 	}
 	
 	@Override
-	public String buildSQL() {
-		String tableNameOrAlias = getTableNameOrTableAlias();
-		
-		final StringBuilder str = new StringBuilder("");
+	public void appendTo(SQLContext context) {
+		final StringBuilder sql = context.getSql();
 		if (this.fields.isEmpty()) {
-			final List<String> nameFields = getAllFieldsNames(entityClass);
-			populateFields(tableNameOrAlias, nameFields);
+			appendAllFields(context);
+			return;
 		} 
 		
+		boolean first = true;
 		for (Field f : fields) {
-			str.append(f.buildSQL());
-			if (fields.indexOf(f) < (fields.size() - 1)) {
-				str.append(", ");
-			} 
+			if (!first) {
+				sql.append(", ");
+			}
+			first = false;
+			
+			f.appendTo(context);
+		}
+	}
+	
+	@Override
+	public void appendShape(ShapeContext shape) {
+		shape.add(getClass()).add(entityClass).add(alias).add(fields.size());
+		for (Field f : fields) {
+			shape.add(f);
+		}
+	}
+	
+	@Override
+	public int sizeHint() {
+		int size = 0;
+		if (this.fields.isEmpty()) {
+			final int prefix = getTableNameOrTableAlias().length() + 3;
+			for (String name : getAllFieldsNames(entityClass)) {
+				size += prefix + name.length();
+			}
+			return size;
 		}
 		
-		return str.toString();
+		for (Field f : fields) {
+			size += f.sizeHint() + 2;
+		}
+		return size;
 	}
 
 	/**
@@ -319,14 +345,23 @@ public class Select implements SQL {
 	}
 
 	/**
-	 * Método responsável por popular a lista de campos.
+	 * Método responsável por escrever todas as colunas da entidade quando 
+	 * nenhum campo foi adicionado, sem alterar a lista de campos.
 	 * 
-	 * @param tableNameOrAlias - nome da tabela ou seu alias
-	 * @param nameFields - lista de nome dos campos.
+	 * @param context - contexto de geração do sql
 	 */
-	private void populateFields(String tableNameOrAlias, List<String> nameFields) {
-		for (String name : nameFields) {
-			this.fields.add(FieldBuilder.newField(entityClass, tableNameOrAlias, name, false));
+	private void appendAllFields(SQLContext context) {
+		final StringBuilder sql = context.getSql();
+		final String tableNameOrAlias = getTableNameOrTableAlias();
+		
+		boolean first = true;
+		for (String name : getAllFieldsNames(entityClass)) {
+			if (!first) {
+				sql.append(", ");
+			}
+			first = false;
+			
+			context.appendColumn(tableNameOrAlias, name);
 		}
 	}
 
@@ -0,0 +1,83 @@
+package com.urbainski.entidade;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Entidade emprestimo para teste unitário dos enums.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@Entity
+@Table(name = "emprestimo")
+public class Emprestimo implements Serializable {
+
+	/**
+	 * SerialVersion.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Situação do emprestimo.
+	 */
+	public enum Situacao {
+		ABERTO, DEVOLVIDO, ATRASADO
+	}
+	
+	/**
+	 * Identificador do emprestimo.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+	
+	/**
+	 * Situação, gravada pela posição da constante.
+	 */
+	@Enumerated
+	@Column(name = "st_emprestimo")
+	private Situacao situacao;
+	
+	/**
+	 * Situação anterior, gravada pelo nome da constante.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "ds_situacaoanterior")
+	private Situacao situacaoAnterior;
+	
+	public Integer getId() {
+		return id;
+	}
+	
+	public void setId(Integer id) {
+		this.id = id;
+	}
+	
+	public Situacao getSituacao() {
+		return situacao;
+	}
+	
+	public void setSituacao(Situacao situacao) {
+		this.situacao = situacao;
+	}
+	
+	public Situacao getSituacaoAnterior() {
+		return situacaoAnterior;
+	}
+	
+	public void setSituacaoAnterior(Situacao situacaoAnterior) {
+		this.situacaoAnterior = situacaoAnterior;
+	}
+	
+}
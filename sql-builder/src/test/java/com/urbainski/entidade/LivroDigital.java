@@ -0,0 +1,40 @@
+package com.urbainski.entidade;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.PrimaryKeyJoinColumn;
+import javax.persistence.Table;
+
+/**
+ * Entidade livro digital para teste unitário de herança.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@consisanet.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+@Entity
+@Table(name = "livro_digital")
+@PrimaryKeyJoinColumn(name = "livro_id", referencedColumnName = "id")
+public class LivroDigital extends Livro {
+
+	/**
+	 * SerialVersion.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Tamanho do arquivo em bytes.
+	 */
+	@Column(name = "nr_tamanho")
+	private Long tamanhoArquivo;
+	
+	public Long getTamanhoArquivo() {
+		return tamanhoArquivo;
+	}
+	
+	public void setTamanhoArquivo(Long tamanhoArquivo) {
+		this.tamanhoArquivo = tamanhoArquivo;
+	}
+	
+}
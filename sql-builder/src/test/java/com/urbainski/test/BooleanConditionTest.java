@@ -0,0 +1,78 @@
+package com.urbainski.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.QueryDependencies;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+
+/**
+ * Classe de teste unitário para as condições booleanas com muitos níveis.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class BooleanConditionTest {
+
+	/**
+	 * Quantidade de níveis das condições.
+	 */
+	private static final int PROFUNDIDADE = 20000;
+
+	@Test
+	public void testCondicoesProfundas() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(newCondicaoProfunda());
+
+		String sqlGerado = sqlBuilder.buildSQL();
+
+		Assert.assertTrue(sqlGerado.contains("((((livro.id = 0 or livro.id = 1) and livro.id = 2) or livro.id = 3)"));
+		Assert.assertTrue(sqlGerado.endsWith(" or livro.id = " + (PROFUNDIDADE - 1) + ")"));
+		Assert.assertEquals(PROFUNDIDADE, sqlBuilder.buildBoundSQL().getValues().length);
+		Assert.assertEquals(sqlBuilder.shapeKey(), sqlBuilder.shapeKey());
+	}
+
+	@Test
+	public void testAliasMudadoDepoisDoWhere() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(newCondicaoProfunda());
+		sqlBuilder.fromAlias("l0");
+
+		String sqlGerado = sqlBuilder.buildSQL();
+
+		Assert.assertTrue(sqlGerado.contains("((((l0.id = 0 or l0.id = 1) and l0.id = 2) or l0.id = 3)"));
+		Assert.assertFalse(sqlGerado.contains("livro.id ="));
+	}
+
+	@Test
+	public void testDependenciasDasCondicoesProfundas() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.where(newCondicaoProfunda());
+
+		Assert.assertTrue(QueryDependencies.of(sqlBuilder).dependsOn("livro", "id"));
+		Assert.assertTrue(sqlBuilder.toCountQuery().buildSQL().startsWith("select count(*) from livro where "));
+	}
+
+	/**
+	 * Método que cria uma condição com {@link #PROFUNDIDADE} níveis, alternando
+	 * <code>or</code> e <code>and</code>.
+	 *
+	 * @return {@link Condition}
+	 */
+	private static Condition newCondicaoProfunda() {
+		Condition condition = ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, "id", 0);
+		for (int i = 1; i < PROFUNDIDADE; i++) {
+			condition = ConditionBuilder.newCondition(i % 2 == 0 ? ConditionDBTypes.AND : ConditionDBTypes.OR,
+					condition, ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, "id", i));
+		}
+		return condition;
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.urbainski.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.BoundParameter;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.ConstainsDBTypes;
+
+/**
+ * Classe de teste unitário para a geração do sql com parametros.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class BoundSQLTest {
+	
+	@Test
+	public void testEqualsComParametro() {
+		final String sqlCerto = new StringBuilder()
+			.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+			.append("from livro where livro.id = ?")
+			.toString();
+		
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.where(ConditionDBTypes.EQUALS, "id", 5);
+		
+		BoundSql boundSql = builder.buildBoundSQL();
+		System.out.println(boundSql);
+		
+		Assert.assertEquals(sqlCerto, boundSql.getSql());
+		Assert.assertEquals(Arrays.asList(new BoundParameter(5, Integer.class)), boundSql.getParameters());
+	}
+	
+	@Test
+	public void testMesmoSqlParaValoresDiferentes() {
+		SelectBuilder builder1 = new SelectBuilder(Livro.class);
+		builder1.where(ConditionDBTypes.EQUALS, "nome", "Dom Casmurro");
+		
+		SelectBuilder builder2 = new SelectBuilder(Livro.class);
+		builder2.where(ConditionDBTypes.EQUALS, "nome", "Memorias Postumas");
+		
+		Assert.assertEquals(builder1.buildBoundSQL().getSql(), builder2.buildBoundSQL().getSql());
+		Assert.assertArrayEquals(new Object[] { "Memorias Postumas" }, builder2.buildBoundSQL().getValues());
+	}
+	
+	@Test
+	public void testParametrosNaOrdemDoSql() {
+		final String sqlCerto = new StringBuilder()
+			.append("select (select a0.ds_nome from autor as a0 where a0.id = ?) from livro as l0 ")
+			.append("where (l0.id in (?,?,?) and l0.nr_anopublicacao between ? and ? ")
+			.append("and l0.ds_nome like ?) offset ? limit ?")
+			.toString();
+		
+		SelectBuilder subselect = new SelectBuilder(Autor.class);
+		subselect.select().addField("nome");
+		subselect.where(ConditionDBTypes.EQUALS, "id", 9);
+		subselect.fromAlias("a0");
+		
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.select().addField(subselect);
+		builder.where(ConditionBuilder.newCondition(ConditionDBTypes.AND,
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.IN, "id", Arrays.asList(3, 4, 3)),
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.BETWEEN, "anoPublicacao", 1990, 2000),
+				ConditionBuilder.newCondition(Livro.class, "", ConstainsDBTypes.IN_FINISH, 
+						ConditionDBTypes.LIKE, "nome", "Senhor")));
+		builder.fromAlias("l0");
+		builder.offset(20);
+		builder.limit(10);
+		
+		BoundSql boundSql = builder.buildBoundSQL();
+		System.out.println(boundSql);
+		
+		Assert.assertEquals(sqlCerto, boundSql.getSql());
+		Assert.assertArrayEquals(new Object[] { 9, 3, 4, 3, 1990, 2000, "Senhor%", 20, 10 }, boundSql.getValues());
+		Assert.assertEquals(String.class, boundSql.getParameters().get(6).getType());
+	}
+	
+	@Test
+	public void testTipoDoParametroNulo() {
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.where(ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, "anoPublicacao", (Object) null));
+		
+		BoundSql boundSql = builder.buildBoundSQL();
+		
+		Assert.assertNull(boundSql.getParameters().get(0).getValue());
+		Assert.assertEquals(Integer.class, boundSql.getParameters().get(0).getType());
+	}
+	
+	@Test
+	public void testLiteralComAspasEscapadas() {
+		final String sqlCerto = new StringBuilder()
+			.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+			.append("from livro where livro.ds_nome = 'O''Reilly'")
+			.toString();
+		
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.where(ConditionDBTypes.EQUALS, "nome", "O'Reilly");
+		
+		String sqlGerado = builder.buildSQL();
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
+}
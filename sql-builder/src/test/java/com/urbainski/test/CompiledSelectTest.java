@@ -0,0 +1,182 @@
+package com.urbainski.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.CompiledSelect;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.ConstainsDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+
+/**
+ * Classe de teste unitário para as consultas compiladas.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class CompiledSelectTest {
+	
+	/**
+	 * Consulta compilada compartilhada entre as threads.
+	 */
+	private static final CompiledSelect LIVROS_POR_AUTOR = newLivrosPorAutor().compile();
+	
+	@Test
+	public void testCompilacao() {
+		final String sqlCerto = new StringBuilder()
+			.append("select l0.id, l0.ds_nome, l0.nr_anopublicacao, l0.autor_id, ")
+			.append("a0.id, a0.ds_nome, a0.dt_nascimento, a0.endereco_id, a0.editora_id ")
+			.append("from livro as l0 left join autor a0 on l0.autor_id = a0.id ")
+			.append("where (a0.ds_nome like ? and l0.nr_anopublicacao between ? and ?) limit ?")
+			.toString();
+		
+		System.out.println(LIVROS_POR_AUTOR);
+		
+		Assert.assertEquals(sqlCerto, LIVROS_POR_AUTOR.getSql());
+		Assert.assertEquals(4, LIVROS_POR_AUTOR.getParameterCount());
+		Assert.assertEquals(Arrays.<Class<?>>asList(String.class, Integer.class, Integer.class, Integer.class),
+				LIVROS_POR_AUTOR.getParameterTypes());
+		Assert.assertArrayEquals(new Object[] { "Cristian%", 1990, 2000, 10 }, 
+				LIVROS_POR_AUTOR.getBoundSql().getValues());
+	}
+	
+	@Test
+	public void testBindComNovosValores() {
+		BoundSql boundSql = LIVROS_POR_AUTOR.bind("Vinicius%", 1950, 1960, 5);
+		
+		Assert.assertSame(LIVROS_POR_AUTOR.getSql(), boundSql.getSql());
+		Assert.assertArrayEquals(new Object[] { "Vinicius%", 1950, 1960, 5 }, boundSql.getValues());
+	}
+	
+	@Test
+	public void testRenderComLiterais() {
+		final String sqlCerto = new StringBuilder()
+			.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+			.append("from livro where (livro.ds_nome = 'O''Reilly' or livro.id in (1,2))")
+			.toString();
+		
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.where(ConditionBuilder.newCondition(ConditionDBTypes.OR,
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, "nome", ""),
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.IN, "id", Arrays.asList(0, 0))));
+		
+		final String sqlGerado = builder.compile().render("O'Reilly", 1, 2);
+		
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
+	@Test
+	public void testRenderIgualAoBuildSQL() {
+		SelectBuilder builder = newLivrosPorAutor();
+
+		final String sqlGerado = builder.compile().render("Cristian%", 1990, 2000, 10);
+
+		System.out.println(sqlGerado);
+
+		Assert.assertEquals(builder.buildSQL(), sqlGerado);
+	}
+
+	@Test
+	public void testRenderComTipoDiferenteDoCompilado() {
+		final String sqlGerado = LIVROS_POR_AUTOR.render(null, 1990L, "2000", 10);
+
+		System.out.println(sqlGerado);
+
+		Assert.assertTrue(sqlGerado.endsWith("where (a0.ds_nome like null and l0.nr_anopublicacao "
+				+ "between 1990 and '2000') limit 10"));
+	}
+
+	@Test
+	public void testAppendToNoFinalDoBuffer() {
+		StringBuilder sql = new StringBuilder("explain ");
+		LIVROS_POR_AUTOR.appendTo(sql, "Cristian%", 1990, 2000, 10);
+
+		Assert.assertEquals("explain " + LIVROS_POR_AUTOR.render("Cristian%", 1990, 2000, 10), sql.toString());
+	}
+
+	@Test
+	public void testAlteracaoDoBuilderNaoAfetaCompilacao() {
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.where(ConditionDBTypes.EQUALS, "id", 1);
+		
+		CompiledSelect compiled = builder.compile();
+		final String sql = compiled.getSql();
+		
+		builder.fromAlias("l0");
+		builder.limit(10);
+		
+		Assert.assertEquals(sql, compiled.getSql());
+		Assert.assertEquals(1, compiled.getParameterCount());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testQuantidadeDeValoresErrada() {
+		LIVROS_POR_AUTOR.bind("Vinicius%", 1950);
+	}
+	
+	@Test
+	public void testBindConcorrente() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<Boolean>> resultados = new ArrayList<Future<Boolean>>();
+			for (int i = 0; i < 8; i++) {
+				final int ano = 1900 + i;
+				resultados.add(executor.submit(new Callable<Boolean>() {
+					
+					@Override
+					public Boolean call() {
+						for (int j = 0; j < 1000; j++) {
+							BoundSql boundSql = LIVROS_POR_AUTOR.bind("A%", ano, ano + j, j);
+							if (!Arrays.equals(new Object[] { "A%", ano, ano + j, j }, boundSql.getValues())) {
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			
+			for (Future<Boolean> resultado : resultados) {
+				Assert.assertTrue(resultado.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Método que cria a consulta de livros por autor usada nos testes.
+	 * 
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivrosPorAutor() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.where(ConditionBuilder.newCondition(ConditionDBTypes.AND,
+				ConditionBuilder.newCondition(Autor.class, "a0", ConstainsDBTypes.IN_FINISH, 
+						ConditionDBTypes.LIKE, "nome", "Cristian"),
+				ConditionBuilder.newCondition(Livro.class, "l0", ConditionDBTypes.BETWEEN, 
+						"anoPublicacao", 1990, 2000)));
+		sqlBuilder.limit(10);
+		return sqlBuilder;
+	}
+	
+}
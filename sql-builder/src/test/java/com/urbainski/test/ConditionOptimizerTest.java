@@ -0,0 +1,156 @@
+package com.urbainski.test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.condititon.impl.ConditionOptimizer;
+import com.urbainski.sql.condititon.impl.ConstantCondition;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+
+/**
+ * Classe de teste unitário para a simplificação das condições do where.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class ConditionOptimizerTest {
+
+	@Test
+	public void testAndDentroDeAnd() {
+		Condition and = and(
+				and(eq("id", 1), eq("anoPublicacao", 1990)),
+				and(eq("nome", "Livro")));
+
+		Assert.assertEquals("(livro.id = 1 and livro.nr_anopublicacao = 1990 and livro.ds_nome = 'Livro')",
+				sql(ConditionOptimizer.optimize(and)));
+	}
+
+	@Test
+	public void testCondicoesRepetidas() {
+		Condition and = and(eq("id", 1), eq("anoPublicacao", 1990), and(eq("id", 1)));
+
+		Assert.assertEquals("(livro.id = 1 and livro.nr_anopublicacao = 1990)", sql(ConditionOptimizer.optimize(and)));
+	}
+
+	@Test
+	public void testInComUmValor() {
+		Condition in = ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.IN, "id", Arrays.asList(5));
+		Condition notIn = ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.NOT_IN, "id", Arrays.asList(6));
+
+		Assert.assertEquals("livro.id = 5", sql(ConditionOptimizer.optimize(in)));
+		Assert.assertEquals("livro.id <> 6", sql(ConditionOptimizer.optimize(notIn)));
+	}
+
+	@Test
+	public void testOrDeIgualdadesNoMesmoCampo() {
+		Condition or = or(
+				eq("id", 1),
+				eq("nome", "Livro"),
+				or(eq("id", 2), ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.IN, "id", Arrays.asList(3, 1))));
+
+		Assert.assertEquals("(livro.id in (1,2,3) or livro.ds_nome = 'Livro')", sql(ConditionOptimizer.optimize(or)));
+	}
+
+	@Test
+	public void testOrDeIgualdadesEmTabelasDiferentes() {
+		Condition or = or(eq("id", 1),
+				ConditionBuilder.newCondition(Autor.class, ConditionDBTypes.EQUALS, "id", 2));
+
+		Assert.assertEquals("(livro.id = 1 or autor.id = 2)", sql(ConditionOptimizer.optimize(or)));
+	}
+
+	@Test
+	public void testConstantes() {
+		Assert.assertEquals("livro.id = 1", sql(ConditionOptimizer.optimize(and(eq("id", 1), ConstantCondition.TRUE))));
+		Assert.assertSame(ConstantCondition.FALSE,
+				ConditionOptimizer.optimize(and(eq("id", 1), or(ConstantCondition.FALSE, ConstantCondition.FALSE))));
+		Assert.assertSame(ConstantCondition.TRUE,
+				ConditionOptimizer.optimize(or(eq("id", 1), and(ConstantCondition.TRUE))));
+		Assert.assertSame(ConstantCondition.FALSE, ConditionOptimizer.optimize(
+				ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.IN, "id", Collections.emptyList())));
+	}
+
+	@Test
+	public void testConsultaComWhereSimplificado() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(or(eq("id", 1), eq("id", 2), eq("id", 1)));
+		final String sql = sqlBuilder.buildSQL();
+
+		sqlBuilder.where(ConditionOptimizer.optimize(sqlBuilder.getWhere()));
+		sqlBuilder.fromAlias("l0");
+
+		Assert.assertEquals("select l0.id, l0.ds_nome, l0.nr_anopublicacao, l0.autor_id from livro as l0 "
+				+ "where l0.id in (1,2)", sqlBuilder.buildSQL());
+		Assert.assertTrue(sql.endsWith("where (livro.id = 1 or livro.id = 2 or livro.id = 1)"));
+	}
+
+	@Test
+	public void testCondicoesProfundas() {
+		Condition condition = eq("id", 0);
+		for (int i = 1; i < 20000; i++) {
+			condition = and(condition, eq("id", i % 100));
+		}
+
+		Condition optimized = ConditionOptimizer.optimize(condition);
+
+		// and dentro de and juntados e somente os 100 ids diferentes mantidos
+		Assert.assertEquals(100, sql(optimized).split(" and ").length);
+		Assert.assertTrue(sql(optimized).startsWith("(livro.id = 0 and livro.id = 1 and "));
+	}
+
+	/**
+	 * Método que escreve a condição.
+	 *
+	 * @param condition - condição
+	 *
+	 * @return sql da condição
+	 */
+	private static String sql(Condition condition) {
+		return condition.buildSQL();
+	}
+
+	/**
+	 * Método que cria uma condição de igualdade em um campo do livro.
+	 *
+	 * @param fieldName - nome do campo
+	 * @param value - valor
+	 *
+	 * @return {@link Condition}
+	 */
+	private static Condition eq(String fieldName, Object value) {
+		return ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, fieldName, value);
+	}
+
+	/**
+	 * Método que cria um <code>and</code> das condições.
+	 *
+	 * @param conditions - condições
+	 *
+	 * @return {@link Condition}
+	 */
+	private static Condition and(Condition... conditions) {
+		return ConditionBuilder.newCondition(ConditionDBTypes.AND, conditions);
+	}
+
+	/**
+	 * Método que cria um <code>or</code> das condições.
+	 *
+	 * @param conditions - condições
+	 *
+	 * @return {@link Condition}
+	 */
+	private static Condition or(Condition... conditions) {
+		return ConditionBuilder.newCondition(ConditionDBTypes.OR, conditions);
+	}
+
+}
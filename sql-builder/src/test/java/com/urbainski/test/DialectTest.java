@@ -0,0 +1,125 @@
+package com.urbainski.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.SQLTemplateCache;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.ConstainsDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.dialect.GenericDialect;
+import com.urbainski.sql.dialect.H2Dialect;
+import com.urbainski.sql.dialect.PostgreSQLDialect;
+
+/**
+ * Classe de teste unitário para os dialetos dos bancos de dados.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class DialectTest {
+	
+	@Test
+	public void testPaginacaoDerby() {
+		final String sqlCerto = new StringBuilder()
+		.append("select autor.id, autor.ds_nome, autor.dt_nascimento, autor.endereco_id, ")
+		.append("autor.editora_id from autor offset 10 rows fetch next 5 rows only")
+		.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+		sqlBuilder.offset(10);
+		sqlBuilder.limit(5);
+		
+		String sqlGerado = sqlBuilder.buildSQL(DerbyDialect.INSTANCE);
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
+	@Test
+	public void testPaginacaoSemOffsetH2() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+		sqlBuilder.limit(5);
+		
+		String sqlGerado = sqlBuilder.buildSQL(H2Dialect.INSTANCE);
+		System.out.println(sqlGerado);
+		
+		Assert.assertTrue(sqlGerado.endsWith("from autor fetch first 5 rows only"));
+	}
+	
+	@Test
+	public void testPaginacaoPostgreSQL() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+		sqlBuilder.offset(10);
+		sqlBuilder.fetchFirst(5);
+		
+		BoundSql boundSql = sqlBuilder.buildBoundSQL(PostgreSQLDialect.INSTANCE);
+		System.out.println(boundSql.getSql());
+		
+		Assert.assertTrue(boundSql.getSql().endsWith("from autor offset ? limit ?"));
+		Assert.assertArrayEquals(new Object[] { 10, 5 }, boundSql.getValues());
+	}
+	
+	@Test
+	public void testIlikeEmuladoNoDerby() {
+		final String sqlCerto = new StringBuilder()
+		.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+		.append("from livro where lower(livro.ds_nome) like lower('%senhor%')")
+		.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConstainsDBTypes.ANY, ConditionDBTypes.ILIKE, "nome", "senhor");
+		
+		String sqlGerado = sqlBuilder.buildSQL(DerbyDialect.INSTANCE);
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+		Assert.assertTrue(sqlBuilder.buildSQL(H2Dialect.INSTANCE).endsWith("where livro.ds_nome ilike '%senhor%'"));
+	}
+	
+	@Test
+	public void testNomesEntreAspas() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome", "nome do livro");
+		sqlBuilder.fromAlias("user");
+		
+		Assert.assertEquals("select \"USER\".ds_nome as \"nome do livro\" from livro as \"USER\"", 
+				sqlBuilder.buildSQL(DerbyDialect.INSTANCE));
+		Assert.assertEquals("select \"user\".ds_nome as \"nome do livro\" from livro as \"user\"", 
+				sqlBuilder.buildSQL(PostgreSQLDialect.INSTANCE));
+		Assert.assertEquals("select user.ds_nome as nome do livro from livro as user", 
+				sqlBuilder.buildSQL(GenericDialect.INSTANCE));
+	}
+	
+	@Test
+	public void testLiteralBooleano() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "nome", Boolean.TRUE);
+		
+		Assert.assertTrue(sqlBuilder.buildSQL(DerbyDialect.INSTANCE).endsWith("where livro.ds_nome = true"));
+	}
+	
+	@Test
+	public void testCacheECompilacaoComDialeto() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Autor.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "nome", "Cristian");
+		sqlBuilder.offset(0);
+		sqlBuilder.limit(10);
+		
+		final String sqlCerto = sqlBuilder.buildBoundSQL(DerbyDialect.INSTANCE).getSql();
+		System.out.println(sqlCerto);
+		
+		Assert.assertTrue(sqlCerto.endsWith("where autor.ds_nome = ? offset ? rows fetch next ? rows only"));
+		Assert.assertEquals(sqlCerto, new SQLTemplateCache(DerbyDialect.INSTANCE).buildBoundSQL(sqlBuilder).getSql());
+		Assert.assertEquals(sqlCerto, sqlBuilder.compile(DerbyDialect.INSTANCE).getSql());
+		Assert.assertEquals(sqlBuilder.buildSQL(DerbyDialect.INSTANCE), 
+				sqlBuilder.compile(DerbyDialect.INSTANCE).render("Cristian", 0, 10));
+	}
+	
+}
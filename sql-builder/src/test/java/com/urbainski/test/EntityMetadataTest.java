@@ -0,0 +1,84 @@
+package com.urbainski.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.entidade.LivroDigital;
+import com.urbainski.sql.reflection.ColumnDescriptor;
+import com.urbainski.sql.reflection.EntityMetadata;
+
+/**
+ * Classe de teste unitário para os metadados das entidades.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class EntityMetadataTest {
+
+	@Test
+	public void testMetadadosLidosUmaVez() {
+		Assert.assertSame(EntityMetadata.of(Livro.class), EntityMetadata.of(Livro.class));
+	}
+
+	@Test
+	public void testNomeTabelaECampos() {
+		EntityMetadata metadata = EntityMetadata.of(Livro.class);
+
+		Assert.assertEquals("livro", metadata.getTableName());
+		Assert.assertEquals(Arrays.asList("id", "ds_nome", "nr_anopublicacao", "autor_id"),
+				metadata.getFieldsNames());
+	}
+
+	@Test
+	public void testColunasDasPropriedades() {
+		EntityMetadata metadata = EntityMetadata.of(Livro.class);
+
+		Assert.assertEquals("ds_nome", metadata.getDatabaseName("nome"));
+		Assert.assertEquals("autor_id", metadata.getDatabaseName("autor"));
+		Assert.assertNull(metadata.getDatabaseName("naoExiste"));
+	}
+
+	@Test
+	public void testDescricaoDaColunaDeJoin() {
+		ColumnDescriptor autor = EntityMetadata.of(Livro.class).getColumn("autor");
+
+		Assert.assertTrue(autor.isJoin());
+		Assert.assertEquals("autor_id", autor.getJoinColumnName());
+		Assert.assertEquals("id", autor.getReferencedColumnName());
+		Assert.assertEquals(Autor.class, autor.getJavaType());
+		Assert.assertFalse(EntityMetadata.of(Livro.class).getColumn("nome").isJoin());
+	}
+
+	@Test
+	public void testPropriedadesHerdadas() {
+		EntityMetadata metadata = EntityMetadata.of(LivroDigital.class);
+
+		Assert.assertEquals("livro_digital", metadata.getTableName());
+		Assert.assertEquals(Arrays.asList("nr_tamanho"), metadata.getFieldsNames());
+		Assert.assertEquals("nr_tamanho", metadata.getDatabaseName("tamanhoArquivo"));
+
+		ColumnDescriptor nome = metadata.getColumn("nome");
+		Assert.assertEquals("ds_nome", nome.getColumnName());
+		Assert.assertEquals(String.class, nome.getJavaType());
+		Assert.assertEquals(Livro.class, nome.getDeclaringClass());
+		Assert.assertEquals("livro_id", metadata.getSuperTypeJoin().getJoinColumnName());
+		Assert.assertEquals(Livro.class, metadata.getSuperTypeJoin().getJavaType());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testColunasImutaveis() {
+		EntityMetadata.of(Livro.class).getColumns().clear();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testCamposImutaveis() {
+		EntityMetadata.of(Autor.class).getFieldsNames().add("outro");
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.urbainski.test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Endereco;
+import com.urbainski.entidade.Livro;
+import com.urbainski.entidade.LivroDigital;
+import com.urbainski.sql.builder.QueryDependencies;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.Condition;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.UnionDBTypes;
+import com.urbainski.sql.reflection.EntityMetadata;
+
+/**
+ * Classe de teste unitário para as tabelas e colunas lidas por uma consulta.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class QueryDependenciesTest {
+
+	@Test
+	public void testTabelaDoFrom() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "id", 1);
+
+		Assert.assertEquals(names("livro"), QueryDependencies.of(sqlBuilder).getTables());
+	}
+
+	@Test
+	public void testTabelasDosJoins() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor");
+		sqlBuilder.addJoin(Autor.class, Endereco.class, "a0", "e0", "endereco");
+
+		QueryDependencies deps = QueryDependencies.of(sqlBuilder);
+
+		Assert.assertEquals(names("livro", "autor", "endereco"), deps.getTables());
+		Assert.assertTrue(deps.dependsOn("AUTOR"));
+		Assert.assertFalse(deps.dependsOn("editora"));
+	}
+
+	@Test
+	public void testTabelaDoSuperTipo() {
+		Assert.assertEquals(names("livro_digital", "livro"),
+				QueryDependencies.of(new SelectBuilder(LivroDigital.class)).getTables());
+
+		SelectBuilder sqlBuilder = new SelectBuilder(LivroDigital.class);
+		sqlBuilder.select().addField("tamanhoArquivo");
+
+		Assert.assertEquals(names("livro_digital"), QueryDependencies.of(sqlBuilder).getTables());
+	}
+
+	@Test
+	public void testTabelasDosSubselects() {
+		SelectBuilder subselectCampo = new SelectBuilder(Endereco.class);
+		subselectCampo.select().addField("id");
+		subselectCampo.fromAlias("e0");
+
+		SelectBuilder subselectWhere = new SelectBuilder(Autor.class);
+		subselectWhere.select().addField("id");
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.select().addField(subselectCampo, "endereco");
+
+		Condition porAutor = ConditionBuilder.newSubselectCondition(Livro.class, null, "autor",
+				ConditionDBTypes.IN, subselectWhere);
+		Condition porId = ConditionBuilder.newCondition(Livro.class, ConditionDBTypes.EQUALS, "id", 1);
+		sqlBuilder.where(ConditionBuilder.newCondition(ConditionDBTypes.OR, porId, porAutor));
+
+		Assert.assertEquals(names("livro", "endereco", "autor"), QueryDependencies.of(sqlBuilder).getTables());
+	}
+
+	@Test
+	public void testTabelasDoUnion() {
+		SelectBuilder sqlBuilderAutor = new SelectBuilder(Autor.class);
+		sqlBuilderAutor.select().addField("id", "id");
+
+		SelectBuilder sqlBuilderLivro = new SelectBuilder(Livro.class);
+		sqlBuilderLivro.select().addField("id", "id");
+		sqlBuilderLivro.union(sqlBuilderAutor, UnionDBTypes.UNION_ALL);
+
+		Assert.assertEquals(names("livro", "autor"), QueryDependencies.of(sqlBuilderLivro).getTables());
+	}
+
+	@Test
+	public void testColunasDoSelectEDasCondicoes() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "anoPublicacao", 1990);
+		sqlBuilder.groupBy().addField("nome");
+		sqlBuilder.orderBy().addField("id");
+
+		QueryDependencies deps = QueryDependencies.of(sqlBuilder);
+
+		Assert.assertEquals(names("ds_nome", "nr_anopublicacao", "id"), deps.getColumns("livro"));
+		Assert.assertTrue(deps.dependsOn("LIVRO", "DS_NOME"));
+		Assert.assertFalse(deps.dependsOn("livro", "autor_id"));
+	}
+
+	@Test
+	public void testColunasDoJoin() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id");
+		sqlBuilder.select().addField(Autor.class, "a0", "nome", "nomeAutor");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor");
+
+		QueryDependencies deps = QueryDependencies.of(sqlBuilder);
+
+		Assert.assertEquals(names("id", "autor_id"), deps.getColumns("livro"));
+		Assert.assertEquals(names("ds_nome", "id"), deps.getColumns("autor"));
+	}
+
+	@Test
+	public void testTodasAsColunas() {
+		SelectBuilder sqlBuilder = new SelectBuilder(LivroDigital.class);
+
+		QueryDependencies deps = QueryDependencies.of(sqlBuilder);
+
+		Assert.assertTrue(deps.getColumns("livro_digital")
+				.containsAll(EntityMetadata.of(LivroDigital.class).getFieldsNames()));
+		Assert.assertTrue(deps.getColumns("livro").containsAll(EntityMetadata.of(Livro.class).getFieldsNames()));
+		Assert.assertTrue(deps.dependsOn("livro_digital", "livro_id"));
+	}
+
+	@Test
+	public void testColunasDoSubselect() {
+		SelectBuilder subselect = new SelectBuilder(Autor.class);
+		subselect.select().addField("id");
+		subselect.where(ConditionDBTypes.EQUALS, "nome", "Vinicius de Moraes");
+
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.where(ConditionDBTypes.IN, "autor", subselect);
+
+		QueryDependencies deps = QueryDependencies.of(sqlBuilder);
+
+		Assert.assertEquals(names("ds_nome", "autor_id"), deps.getColumns("livro"));
+		Assert.assertEquals(names("id", "ds_nome"), deps.getColumns("autor"));
+		Assert.assertTrue(deps.getColumns("editora").isEmpty());
+	}
+
+	/**
+	 * Método que cria o conjunto de nomes esperado, de tabelas ou colunas.
+	 *
+	 * @param names - nomes das tabelas ou colunas
+	 *
+	 * @return conjunto dos nomes
+	 */
+	private static LinkedHashSet<String> names(String... names) {
+		return new LinkedHashSet<String>(Arrays.asList(names));
+	}
+
+}
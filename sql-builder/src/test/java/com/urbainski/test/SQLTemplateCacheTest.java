@@ -0,0 +1,125 @@
+package com.urbainski.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.SQLTemplateCache;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.condititon.impl.ConditionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.ConstainsDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+
+/**
+ * Classe de teste unitário para a forma das consultas e o cache do sql gerado.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SQLTemplateCacheTest {
+	
+	@Test
+	public void testMesmaFormaComValoresDiferentes() {
+		SelectBuilder builder1 = newLivrosPorAutor("Cristian", 1990);
+		SelectBuilder builder2 = newLivrosPorAutor("Vinicius", 2014);
+		
+		Assert.assertEquals(builder1.shapeKey(), builder2.shapeKey());
+		Assert.assertEquals(builder1.shapeKey().hashCode(), builder2.shapeKey().hashCode());
+	}
+	
+	@Test
+	public void testFormasDiferentes() {
+		SelectBuilder comAlias = new SelectBuilder(Livro.class);
+		comAlias.fromAlias("l0");
+		comAlias.where(ConditionDBTypes.EQUALS, "id", 1);
+		
+		SelectBuilder semAlias = new SelectBuilder(Livro.class);
+		semAlias.where(ConditionDBTypes.EQUALS, "id", 1);
+		
+		SelectBuilder outroCampo = new SelectBuilder(Livro.class);
+		outroCampo.where(ConditionDBTypes.EQUALS, "anoPublicacao", 1);
+		
+		SelectBuilder in2 = new SelectBuilder(Livro.class);
+		in2.where(ConditionDBTypes.IN, "id", Arrays.asList(1, 2));
+		
+		SelectBuilder in3 = new SelectBuilder(Livro.class);
+		in3.where(ConditionDBTypes.IN, "id", Arrays.asList(1, 2, 3));
+		
+		Assert.assertNotEquals(comAlias.shapeKey(), semAlias.shapeKey());
+		Assert.assertNotEquals(semAlias.shapeKey(), outroCampo.shapeKey());
+		Assert.assertNotEquals(in2.shapeKey(), in3.shapeKey());
+	}
+	
+	@Test
+	public void testCacheRetornaMesmoSqlComNovosParametros() {
+		final SQLTemplateCache cache = new SQLTemplateCache();
+		
+		final BoundSql primeiro = cache.buildBoundSQL(newLivrosPorAutor("Cristian", 1990));
+		
+		SelectBuilder builder = newLivrosPorAutor("Vinicius", 2014);
+		final BoundSql segundo = cache.buildBoundSQL(builder);
+		
+		System.out.println(segundo);
+		
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertSame(primeiro.getSql(), segundo.getSql());
+		Assert.assertEquals(builder.buildBoundSQL().getSql(), segundo.getSql());
+		Assert.assertEquals(builder.buildBoundSQL().getParameters(), segundo.getParameters());
+	}
+	
+	@Test
+	public void testCacheDescartaFormaMenosUsada() {
+		final SQLTemplateCache cache = new SQLTemplateCache(2);
+		
+		SelectBuilder porId = new SelectBuilder(Livro.class);
+		porId.where(ConditionDBTypes.EQUALS, "id", 1);
+		
+		SelectBuilder porNome = new SelectBuilder(Livro.class);
+		porNome.where(ConditionDBTypes.EQUALS, "nome", "Dom Casmurro");
+		
+		SelectBuilder porAno = new SelectBuilder(Livro.class);
+		porAno.where(ConditionDBTypes.EQUALS, "anoPublicacao", 1899);
+		
+		cache.buildBoundSQL(porId);
+		cache.buildBoundSQL(porNome);
+		cache.buildBoundSQL(porId);
+		cache.buildBoundSQL(porAno);
+		cache.buildBoundSQL(porId);
+		
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(2, cache.getHits());
+		
+		cache.buildBoundSQL(porNome);
+		Assert.assertEquals(4, cache.getMisses());
+	}
+	
+	/**
+	 * Método que cria a consulta de livros por autor usada nos testes.
+	 * 
+	 * @param nomeAutor - nome do autor
+	 * @param ano - ano mínimo de publicação
+	 * 
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivrosPorAutor(String nomeAutor, int ano) {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.where(ConditionBuilder.newCondition(ConditionDBTypes.AND,
+				ConditionBuilder.newCondition(Autor.class, "a0", ConstainsDBTypes.IN_FINISH, 
+						ConditionDBTypes.LIKE, "nome", nomeAutor),
+				ConditionBuilder.newCondition(Livro.class, "l0", ConditionDBTypes.BETWEEN, 
+						"anoPublicacao", ano, ano + 10)));
+		sqlBuilder.limit(10);
+		return sqlBuilder;
+	}
+	
+}
@@ -0,0 +1,189 @@
+package com.urbainski.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Endereco;
+import com.urbainski.entidade.Livro;
+import com.urbainski.entidade.LivroDigital;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.CountQuery;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.AggregateDBTypes;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+import com.urbainski.sql.db.types.UnionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+
+/**
+ * Classe de teste unitário para a consulta da quantidade de linhas.
+ *
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SelectCountTest {
+
+	@Test
+	public void testSemOrderByESemPaginacao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "anoPublicacao", 1990);
+		sqlBuilder.orderBy().addField("nome");
+		sqlBuilder.offset(20);
+		sqlBuilder.limit(10);
+
+		CountQuery count = sqlBuilder.toCountQuery();
+
+		Assert.assertFalse(count.isWrapped());
+		Assert.assertEquals("select count(*) from livro where livro.nr_anopublicacao = 1990", count.buildSQL());
+
+		BoundSql boundSql = count.buildBoundSQL(DerbyDialect.INSTANCE);
+		Assert.assertEquals("select count(*) from livro where livro.nr_anopublicacao = ?", boundSql.getSql());
+		Assert.assertArrayEquals(new Object[] { 1990 }, boundSql.getValues());
+	}
+
+	@Test
+	public void testSemPaginacaoPorChave() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.seekAfter(10);
+		sqlBuilder.fetchFirst(10);
+
+		Assert.assertEquals("select count(*) from livro", sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testJoinComSuperTipoMantido() {
+		SelectBuilder sqlBuilder = new SelectBuilder(LivroDigital.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, Livro.class, null, "nome", "Senhor dos Aneis");
+
+		Assert.assertTrue(sqlBuilder.buildSQL().endsWith("from livro_digital "
+				+ "inner join livro on livro_digital.livro_id = livro.id where livro.ds_nome = 'Senhor dos Aneis'"));
+		Assert.assertEquals("select count(*) from livro_digital inner join livro on livro_digital.livro_id = livro.id "
+				+ "where livro.ds_nome = 'Senhor dos Aneis'", sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testLeftJoinRemovido() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.select().addField(Autor.class, "a0", "nome", "nomeAutor");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.addJoin(Autor.class, Endereco.class, "a0", "e0", "endereco", JoinDBType.LEFT);
+
+		Assert.assertEquals("select count(*) from livro as l0", sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testInnerJoinMantido() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor");
+
+		Assert.assertEquals("select count(*) from livro inner join autor a0 on livro.autor_id = a0.id",
+				sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testLeftJoinUsadoNoWhere() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.addJoin(Autor.class, Endereco.class, "a0", "e0", "endereco", JoinDBType.LEFT);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, Autor.class, "a0", "nome", "Vinicius de Moraes");
+
+		Assert.assertEquals(new StringBuilder()
+				.append("select count(*) from livro ")
+				.append("left join autor a0 on livro.autor_id = a0.id ")
+				.append("where a0.ds_nome = 'Vinicius de Moraes'")
+				.toString(), sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testLeftJoinUsadoPorOutroJoin() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.addJoin(Autor.class, Endereco.class, "a0", "e0", "endereco");
+
+		Assert.assertEquals(new StringBuilder()
+				.append("select count(*) from livro ")
+				.append("left join autor a0 on livro.autor_id = a0.id ")
+				.append("inner join endereco e0 on a0.endereco_id = e0.id")
+				.toString(), sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testDistinct() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.distinct(true);
+		sqlBuilder.select().addField("anoPublicacao");
+		sqlBuilder.orderBy().addField("anoPublicacao");
+		sqlBuilder.limit(5);
+
+		CountQuery count = sqlBuilder.toCountQuery();
+
+		Assert.assertTrue(count.isWrapped());
+		Assert.assertEquals("select count(*) from (select distinct livro.nr_anopublicacao from livro) as count_query",
+				count.buildSQL());
+	}
+
+	@Test
+	public void testGroupBy() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("autor", "autor");
+		sqlBuilder.select().addField("id", "quantidade", AggregateDBTypes.COUNT);
+		sqlBuilder.groupBy().addField("autor");
+		sqlBuilder.orderBy().addField("autor");
+
+		Assert.assertEquals(new StringBuilder()
+				.append("select count(*) from (select livro.autor_id as c0 from livro ")
+				.append("group by livro.autor_id) as count_query")
+				.toString(), sqlBuilder.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testAgregacaoSemGroupBy() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("anoPublicacao", "soma", AggregateDBTypes.SUM);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "nome", "Senhor dos Aneis");
+
+		CountQuery count = sqlBuilder.toCountQuery();
+
+		Assert.assertTrue(count.isWrapped());
+		Assert.assertEquals(new StringBuilder()
+				.append("select count(*) from (select sum(livro.nr_anopublicacao) as soma from livro ")
+				.append("where livro.ds_nome = 'Senhor dos Aneis') as count_query")
+				.toString(), count.buildSQL());
+	}
+
+	@Test
+	public void testUnion() {
+		SelectBuilder sqlBuilderAutor = new SelectBuilder(Autor.class);
+		sqlBuilderAutor.select().addField("id", "id");
+
+		SelectBuilder sqlBuilderLivro = new SelectBuilder(Livro.class);
+		sqlBuilderLivro.select().addField("id", "id");
+		sqlBuilderLivro.union(sqlBuilderAutor, UnionDBTypes.UNION_ALL);
+		sqlBuilderLivro.limit(10);
+
+		Assert.assertEquals(new StringBuilder()
+				.append("select count(*) from (select livro.id as id from livro ")
+				.append("union all select autor.id as id from autor) as count_query")
+				.toString(), sqlBuilderLivro.toCountQuery().buildSQL());
+	}
+
+	@Test
+	public void testConsultaOriginalNaoAlterada() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.limit(10);
+		final String sql = sqlBuilder.buildSQL();
+
+		sqlBuilder.toCountQuery().buildSQL();
+
+		Assert.assertEquals(sql, sqlBuilder.buildSQL());
+		Assert.assertEquals(1, sqlBuilder.getJoins().size());
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.urbainski.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Emprestimo;
+import com.urbainski.entidade.Emprestimo.Situacao;
+import com.urbainski.sql.builder.BoundParameter;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.SQLTemplateCache;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+
+/**
+ * Classe de teste unitário para os enums no where, escritos conforme a anotação
+ * {@link javax.persistence.Enumerated} da propriedade.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SelectEnumTest {
+
+	@Test
+	public void testEnumPelaPosicao() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Emprestimo.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "situacao", Situacao.ATRASADO);
+		
+		Assert.assertTrue(sqlBuilder.buildSQL().endsWith("where emprestimo.st_emprestimo = 2"));
+		
+		BoundSql boundSql = sqlBuilder.buildBoundSQL();
+		Assert.assertEquals(Arrays.asList(new BoundParameter(2, Integer.class)), boundSql.getParameters());
+	}
+	
+	@Test
+	public void testEnumPeloNome() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Emprestimo.class);
+		sqlBuilder.where(ConditionDBTypes.IN, "situacaoAnterior", Arrays.asList(Situacao.ABERTO, Situacao.DEVOLVIDO));
+		
+		Assert.assertTrue(sqlBuilder.buildSQL().endsWith("where emprestimo.ds_situacaoanterior in ('ABERTO','DEVOLVIDO')"));
+		
+		SQLTemplateCache cache = new SQLTemplateCache();
+		cache.buildBoundSQL(sqlBuilder);
+		BoundSql boundSql = cache.buildBoundSQL(sqlBuilder);
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertArrayEquals(new Object[] { "ABERTO", "DEVOLVIDO" }, boundSql.getValues());
+	}
+	
+	@Test
+	public void testEnumNulo() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Emprestimo.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "situacao", (Object) null);
+		
+		Assert.assertEquals(Integer.class, sqlBuilder.buildBoundSQL().getParameters().get(0).getType());
+	}
+	
+}
@@ -0,0 +1,128 @@
+package com.urbainski.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Autor;
+import com.urbainski.entidade.Livro;
+import com.urbainski.entidade.LivroDigital;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.JoinDBType;
+
+/**
+ * Classe de teste unitário para a reutilização de um mesmo builder.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SelectReuseTest {
+	
+	/**
+	 * Builder compartilhado entre as threads.
+	 */
+	private static final SelectBuilder LIVROS_POR_AUTOR = newLivrosPorAutor();
+	
+	@Test
+	public void testSuperTipoGeradoDuasVezes() {
+		final String sqlCerto = new StringBuilder()
+			.append("select livro_digital.nr_tamanho, livro.id, livro.ds_nome, ")
+			.append("livro.nr_anopublicacao, livro.autor_id from livro_digital ")
+			.append("inner join livro on livro_digital.livro_id = livro.id")
+			.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(LivroDigital.class);
+		
+		final String sqlGerado = sqlBuilder.buildSQL();
+		
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+		Assert.assertEquals(sqlCerto, sqlBuilder.buildSQL());
+	}
+	
+	@Test
+	public void testGeracaoNaoAlteraOsCampos() {
+		SelectBuilder sqlBuilder = newLivrosPorAutor();
+		
+		final String sqlGerado = sqlBuilder.buildSQL();
+		
+		System.out.println(sqlGerado);
+		
+		Assert.assertTrue(sqlBuilder.select().getFields().isEmpty());
+		Assert.assertEquals(sqlGerado, sqlBuilder.buildSQL());
+	}
+	
+	@Test
+	public void testCopiaNaoAlteraOriginal() {
+		SelectBuilder sqlBuilder = newLivrosPorAutor();
+		sqlBuilder.select().addField("nome");
+		sqlBuilder.limit(10);
+		final String sqlOriginal = sqlBuilder.buildSQL();
+		
+		SelectBuilder copia = sqlBuilder.copy();
+		Assert.assertEquals(sqlOriginal, copia.buildSQL());
+		
+		copia.select().addField("anoPublicacao");
+		copia.addJoin(Autor.class, "a1", "autor");
+		copia.where(ConditionDBTypes.EQUALS, "id", 1);
+		copia.limit(SelectBuilder.DEFAULT_LIMIT_AND_OFFSET);
+		
+		Assert.assertEquals(sqlOriginal, sqlBuilder.buildSQL());
+		Assert.assertEquals(10, sqlBuilder.getLimit());
+		Assert.assertNotEquals(sqlOriginal, copia.buildSQL());
+	}
+	
+	@Test
+	public void testGeracaoConcorrente() throws Exception {
+		final String sqlCerto = newLivrosPorAutor().buildSQL();
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<Boolean>> resultados = new ArrayList<Future<Boolean>>();
+			for (int i = 0; i < 8; i++) {
+				resultados.add(executor.submit(new Callable<Boolean>() {
+					
+					@Override
+					public Boolean call() {
+						for (int j = 0; j < 1000; j++) {
+							if (!sqlCerto.equals(LIVROS_POR_AUTOR.buildSQL())) {
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			
+			for (Future<Boolean> resultado : resultados) {
+				Assert.assertTrue(resultado.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Método que cria a consulta de livros por autor usada nos testes.
+	 * 
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivrosPorAutor() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.addJoin(Autor.class, "a0", "autor", JoinDBType.LEFT);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, Autor.class, "a0", "nome", "Cristian");
+		return sqlBuilder;
+	}
+	
+}
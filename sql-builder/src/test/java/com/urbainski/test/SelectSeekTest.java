@@ -0,0 +1,129 @@
+package com.urbainski.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.urbainski.entidade.Livro;
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.Page;
+import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.db.types.OrderByDBTypes;
+
+/**
+ * Classe de teste unitário para a paginação por chave.
+ * 
+ * @author Cristian Urbainski <cristianurbainskips@gmail.com>
+ * @since 18/10/2026
+ * @version 1.0
+ *
+ */
+public class SelectSeekTest {
+
+	@Test
+	public void testPrimeiraPagina() {
+		final String sqlCerto = new StringBuilder()
+		.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+		.append("from livro order by livro.id asc fetch first 20 rows only")
+		.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.page(Page.first(20));
+		
+		String sqlGerado = sqlBuilder.buildSQL();
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
+	@Test
+	public void testSeekComUmCampo() {
+		final String sqlCerto = new StringBuilder()
+		.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+		.append("from livro where livro.id > 40 order by livro.id asc fetch first 20 rows only")
+		.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.page(Page.first(20).next(40));
+		
+		String sqlGerado = sqlBuilder.buildSQL();
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
+	@Test
+	public void testSeekComDoisCamposDescendenteEWhere() {
+		final String sqlCerto = new StringBuilder()
+		.append("select l0.id, l0.ds_nome, l0.nr_anopublicacao, l0.autor_id ")
+		.append("from livro as l0 where l0.ds_nome <> 'Teste' and ")
+		.append("(l0.nr_anopublicacao > 2000 or (l0.nr_anopublicacao = 2000 and l0.id < 7)) ")
+		.append("order by l0.nr_anopublicacao, l0.id desc fetch first 10 rows only")
+		.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l0");
+		sqlBuilder.where(ConditionDBTypes.DIFFERENT, "nome", "Teste");
+		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField("anoPublicacao");
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.seekAfter(2000, 7);
+		sqlBuilder.fetchFirst(10);
+		
+		String sqlGerado = sqlBuilder.buildSQL();
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
+	@Test
+	public void testSeekComTresCamposComParametros() {
+		final String sqlCerto = new StringBuilder()
+		.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+		.append("from livro where (livro.autor_id > ? or (livro.autor_id = ? and ")
+		.append("(livro.nr_anopublicacao > ? or (livro.nr_anopublicacao = ? and livro.id > ?)))) ")
+		.append("order by livro.autor_id, livro.nr_anopublicacao, livro.id asc fetch first ? rows only")
+		.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("autor");
+		sqlBuilder.orderBy().addField("anoPublicacao");
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.page(Page.first(5).next(3, 1999, 12));
+		
+		BoundSql boundSql = sqlBuilder.buildBoundSQL();
+		System.out.println(boundSql.getSql());
+		
+		Assert.assertEquals(sqlCerto, boundSql.getSql());
+		Assert.assertArrayEquals(new Object[] { 3, 3, 1999, 1999, 12, 5 }, boundSql.getValues());
+		Assert.assertEquals(sqlCerto, sqlBuilder.compile().getSql());
+	}
+	
+	@Test
+	public void testFormaIgualEntrePaginas() {
+		SelectBuilder primeira = new SelectBuilder(Livro.class);
+		primeira.orderBy().addField("id");
+		primeira.page(Page.first(20).next(40));
+		
+		SelectBuilder segunda = new SelectBuilder(Livro.class);
+		segunda.orderBy().addField("id");
+		segunda.page(Page.first(20).next(60));
+		
+		Assert.assertEquals(primeira.shapeKey(), segunda.shapeKey());
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testSeekSemOrderBy() {
+		new SelectBuilder(Livro.class).seekAfter(1);
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testChaveComQuantidadeDiferenteDoOrderBy() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.orderBy().addField("id");
+		sqlBuilder.seekAfter(1, 2);
+		sqlBuilder.buildSQL();
+	}
+	
+}
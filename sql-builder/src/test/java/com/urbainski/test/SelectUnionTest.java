@@ -6,6 +6,8 @@ import org.junit.Test;
 import com.urbainski.entidade.Autor;
 import com.urbainski.entidade.Livro;
 import com.urbainski.sql.builder.SelectBuilder;
+import com.urbainski.sql.builder.UnionBuilder;
+import com.urbainski.sql.db.types.ConditionDBTypes;
 import com.urbainski.sql.db.types.UnionDBTypes;
 
 /**
@@ -70,4 +72,77 @@ public class SelectUnionTest {
 		Assert.assertEquals(sqlCerto, sqlGerado);
 	}
 	
+	@Test
+	public void testeUnionComMuitasConsultas() {
+		final int quantidade = 20000;
+		
+		SelectBuilder sqlBuilder = newLivroPorId(0);
+		SelectBuilder last = sqlBuilder;
+		for (int i = 1; i < quantidade; i++) {
+			SelectBuilder next = newLivroPorId(i);
+			last.union(next, UnionDBTypes.UNION_ALL);
+			last = next;
+		}
+		
+		String sqlGerado = sqlBuilder.buildSQL();
+		
+		Assert.assertTrue(sqlGerado.startsWith("select livro.id as id from livro where livro.id = 0 union all "));
+		Assert.assertTrue(sqlGerado.endsWith("union all select livro.id as id from livro where livro.id = " + (quantidade - 1)));
+		Assert.assertEquals(quantidade, sqlBuilder.buildBoundSQL().getValues().length);
+		Assert.assertEquals(sqlBuilder.shapeKey(), sqlBuilder.shapeKey());
+	}
+	
+	@Test
+	public void testeUnionBuilder() {
+		final String sqlCerto = new StringBuilder()
+		.append("select livro.id as id from livro where livro.id = 1 union ")
+		.append("select livro.id as id from livro where livro.id = 2 union all ")
+		.append("select livro.id as id from livro where livro.id = 3")
+		.toString();
+		
+		SelectBuilder sqlBuilderLivro = newLivroPorId(1);
+		SelectBuilder sqlBuilderLivro2 = newLivroPorId(2);
+		sqlBuilderLivro.union(sqlBuilderLivro2);
+		sqlBuilderLivro2.union(newLivroPorId(3), UnionDBTypes.UNION_ALL);
+		
+		UnionBuilder union = new UnionBuilder(newLivroPorId(1));
+		union.union(newLivroPorId(2));
+		union.union(newLivroPorId(3), UnionDBTypes.UNION_ALL);
+		
+		String sqlGerado = union.buildSQL();
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+		Assert.assertEquals(sqlBuilderLivro.buildSQL(), sqlGerado);
+		Assert.assertEquals(3, union.getBranches().size());
+		Assert.assertArrayEquals(new Object[] { 1, 2, 3 }, union.buildBoundSQL().getValues());
+	}
+	
+	@Test
+	public void testeUnionBuilderComMuitasConsultas() {
+		final int quantidade = 20000;
+		
+		UnionBuilder union = new UnionBuilder(newLivroPorId(0));
+		for (int i = 1; i < quantidade; i++) {
+			union.union(newLivroPorId(i), UnionDBTypes.UNION_ALL);
+		}
+		
+		Assert.assertEquals(quantidade, union.buildBoundSQL().getValues().length);
+		Assert.assertNotEquals(union.shapeKey(), new UnionBuilder(newLivroPorId(0)).shapeKey());
+	}
+	
+	/**
+	 * Método que cria a consulta do id de um livro.
+	 * 
+	 * @param id - id do livro
+	 * 
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newLivroPorId(int id) {
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.select().addField("id", "id");
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "id", id);
+		return sqlBuilder;
+	}
+	
 }
@@ -97,6 +97,31 @@ public class SelectWhereTeste {
 		Assert.assertEquals(sqlCerto, sqlGerado);
 	}
 	
+	@Test
+	@SuppressWarnings("serial")
+	public void testeInComValoresRepetidos() {
+		final String sqlCerto = new StringBuilder()
+		.append("select livro.id, livro.ds_nome, livro.nr_anopublicacao, livro.autor_id ")
+		.append("from livro where livro.id in (3,4,3)")
+		.toString();
+		
+		final List<Integer> valores = new ArrayList<Integer>() {{
+			
+			add(3);
+			add(4);
+			add(3);
+			
+		}};
+		
+		SelectBuilder builder = new SelectBuilder(Livro.class);
+		builder.where(ConditionDBTypes.IN, "id", valores);
+		
+		String sqlGerado = builder.buildSQL();
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlCerto, sqlGerado);
+	}
+	
 	@Test
 	@SuppressWarnings("serial")
 	public void testeNotIn() {
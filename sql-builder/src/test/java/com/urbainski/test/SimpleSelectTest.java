@@ -125,4 +125,25 @@ public class SimpleSelectTest {
 		Assert.assertEquals(sqlGerado, sqlCerto);
 	}
 	
+	@Test
+	public void testAppendToNoFinalDoBuffer() {
+		final String sqlCerto = new StringBuilder()
+			.append("insert into livro_backup ")
+			.append("select l.id, l.ds_nome, l.nr_anopublicacao, l.autor_id from livro as l")
+			.toString();
+		
+		SelectBuilder sqlBuilder = new SelectBuilder(Livro.class);
+		sqlBuilder.fromAlias("l");
+		
+		final StringBuilder sql = new StringBuilder("insert into livro_backup ");
+		sqlBuilder.appendTo(sql);
+		
+		final String sqlGerado = sql.toString();
+		
+		System.out.println(sqlGerado);
+		
+		Assert.assertEquals(sqlGerado, sqlCerto);
+		Assert.assertTrue(sqlBuilder.sizeHint() >= sqlBuilder.buildSQL().length());
+	}
+	
 }
\ No newline at end of file
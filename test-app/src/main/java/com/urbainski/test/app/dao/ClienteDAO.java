@@ -1,10 +1,7 @@
 package com.urbainski.test.app.dao;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.Query;
-
 import com.urbainski.sql.builder.SelectBuilder;
 import com.urbainski.sql.db.types.AggregateDBTypes;
 import com.urbainski.sql.db.types.OrderByDBTypes;
@@ -27,29 +24,16 @@ import com.urbainski.test.app.entidade.Pessoa;
 public class ClienteDAO extends GenericDAOImpl<Integer, Cliente> 
 	implements GenericDAO<Integer, Cliente> {
 
-	@SuppressWarnings("unchecked")
 	public List<DtoLocacaoCliente> getTopDezClientes() {
 		SelectBuilder sqlBuilder = new SelectBuilder(Locacao.class);
-		Field fieldSum = sqlBuilder.select().addField("nrTotal", "total", AggregateDBTypes.SUM);
+		Field fieldSum = sqlBuilder.select().addField("nrTotal", "valor", AggregateDBTypes.SUM);
 		Field fieldNome = sqlBuilder.select().addField(Pessoa.class, "nmPessoa", "nomeCliente");
 		sqlBuilder.addJoin(Cliente.class, "cliente");
 		sqlBuilder.addJoin(Cliente.class, Pessoa.class, null);
 		sqlBuilder.groupBy().addField(fieldNome);
 		sqlBuilder.orderBy(OrderByDBTypes.DESC).addField(fieldSum);
 		
-		Query q = entityManager.createNativeQuery(sqlBuilder.buildSQL());
-		List<Object[]> list = q.getResultList();
-		
-		List<DtoLocacaoCliente> listRet = new ArrayList<DtoLocacaoCliente>();
-		for (Object[] object : list) {
-			DtoLocacaoCliente dto = new DtoLocacaoCliente();
-			dto.setValor((Double) object[0]);
-			dto.setNomeCliente((String) object[1]);
-			
-			listRet.add(dto);
-		}
-		
-		return listRet;
+		return getCachingQueryExecutor().query(sqlBuilder, DTO_MAPPERS.forSelect(DtoLocacaoCliente.class, sqlBuilder));
 	}
 	
 }
@@ -2,6 +2,7 @@ package com.urbainski.test.app.dao;
 
 import javax.persistence.Query;
 
+import com.urbainski.sql.builder.CompiledSelect;
 import com.urbainski.sql.builder.SelectBuilder;
 import com.urbainski.sql.db.types.ConditionDBTypes;
 import com.urbainski.test.app.dao.generic.GenericDAO;
@@ -18,13 +19,26 @@ import com.urbainski.test.app.entidade.Estado;
  */
 public class EstadoDAO extends GenericDAOImpl<Integer, Estado> implements
 		GenericDAO<Integer, Estado> {
+	
+	/**
+	 * Consulta compilada da busca pela uf.
+	 */
+	private static final CompiledSelect FIND_BY_UF = newFindByUf().compile(DIALECT);
 
 	public Estado findByUf(String uf) {
-		SelectBuilder sqlBuilder = new SelectBuilder(this.entityClass);
-		sqlBuilder.where(ConditionDBTypes.EQUALS, "ufEstado", uf);
-		
-		Query query = entityManager.createNativeQuery(sqlBuilder.buildSQL(), entityClass);
+		Query query = createNativeQuery(FIND_BY_UF.bind(uf), entityClass);
 		return (Estado) query.getSingleResult();
 	}
 	
+	/**
+	 * Método que cria a consulta de estado pela uf.
+	 * 
+	 * @return {@link SelectBuilder}
+	 */
+	private static SelectBuilder newFindByUf() {
+		SelectBuilder sqlBuilder = new SelectBuilder(Estado.class);
+		sqlBuilder.where(ConditionDBTypes.EQUALS, "ufEstado", "");
+		return sqlBuilder;
+	}
+	
 }
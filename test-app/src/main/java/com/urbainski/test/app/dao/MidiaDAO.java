@@ -1,10 +1,7 @@
 package com.urbainski.test.app.dao;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.Query;
-
 import com.urbainski.sql.builder.SelectBuilder;
 import com.urbainski.sql.db.types.AggregateDBTypes;
 import com.urbainski.test.app.dao.generic.GenericDAO;
@@ -24,7 +21,6 @@ import com.urbainski.test.app.entidade.Tipomidia;
 public class MidiaDAO extends GenericDAOImpl<Integer, Midia> 
 	implements GenericDAO<Integer, Midia> {
 
-	@SuppressWarnings("unchecked")
 	public List<DtoMidia> countMidiasPorTipo() {
 		SelectBuilder sqlBuilder = new SelectBuilder(Midia.class);
 		sqlBuilder.select().addField("idMidia", "quantidade", AggregateDBTypes.COUNT);
@@ -32,18 +28,7 @@ public class MidiaDAO extends GenericDAOImpl<Integer, Midia>
 		sqlBuilder.addJoin(Tipomidia.class, "tm", "tipomidia");
 		sqlBuilder.groupBy().addField(Tipomidia.class, "tm", "dsTipomidia");
 		
-		Query q = entityManager.createNativeQuery(sqlBuilder.buildSQL());
-		List<Object[]> list = q.getResultList();
-		
-		List<DtoMidia> listRet = new ArrayList<DtoMidia>();
-		for (Object[] object : list) {
-			DtoMidia dto = new DtoMidia();
-			dto.setQuantidade((Integer) object[0]);
-			dto.setTipomidia((String) object[1]);
-			
-			listRet.add(dto);
-		}
-		return listRet;
+		return getCachingQueryExecutor().query(sqlBuilder, DTO_MAPPERS.forSelect(DtoMidia.class, sqlBuilder));
 	}
 	
 }
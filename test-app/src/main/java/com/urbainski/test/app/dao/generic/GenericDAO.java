@@ -1,6 +1,9 @@
 package com.urbainski.test.app.dao.generic;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import com.urbainski.sql.builder.Page;
 
 /**
  * Interface para o dao.
@@ -47,12 +50,44 @@ public interface GenericDAO<PK, T> {
 	List<T> findAll();
 	
 	/**
-	 * Busca todos os objetos com paginação.
+	 * Busca todos os objetos direto por jdbc, convertendo cada linha apenas quando
+	 * ela é lida. A memória usada não depende da quantidade de linhas da tabela,
+	 * permitindo exportar tabelas grandes. As propriedades com join não são
+	 * informadas e o stream deve ser fechado se não for lido até o final.
+	 * 
+	 * @param fetchSize - quantidade de linhas buscadas do banco de dados por vez
+	 * 
+	 * @return Stream<T>
+	 */
+	Stream<T> streamAll(int fetchSize);
+	
+	/**
+	 * Busca todos os objetos com paginação, ordenados pelo id quando a entidade possui id.
 	 * 
 	 * @return List<T>
 	 */
 	List<T> findAll(int offset, int limit);
 	
+	/**
+	 * Busca os objetos de uma página da paginação por chave, ordenados pelo id.
+	 * O custo de cada página não depende da quantidade de páginas anteriores.
+	 * 
+	 * @param page - página
+	 * 
+	 * @return List<T>
+	 */
+	List<T> findAll(Page page);
+	
+	/**
+	 * Cria a página seguinte a partir do resultado de uma página.
+	 * 
+	 * @param page - página lida
+	 * @param result - resultado da página lida
+	 * 
+	 * @return {@link Page} ou <code>null</code> se não existir próxima página
+	 */
+	Page nextPage(Page page, List<T> result);
+	
 	/**
 	 * Busca pelo id.
 	 * 
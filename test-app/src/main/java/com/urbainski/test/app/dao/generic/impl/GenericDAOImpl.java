@@ -2,14 +2,32 @@ package com.urbainski.test.app.dao.generic.impl;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Id;
 import javax.persistence.Query;
 
+import com.urbainski.sql.builder.BoundSql;
+import com.urbainski.sql.builder.CompiledSelect;
+import com.urbainski.sql.builder.Page;
+import com.urbainski.sql.builder.SQL;
+import com.urbainski.sql.builder.SQLTemplateCache;
 import com.urbainski.sql.builder.SelectBuilder;
 import com.urbainski.sql.db.types.ConditionDBTypes;
+import com.urbainski.sql.dialect.DerbyDialect;
+import com.urbainski.sql.dialect.Dialect;
+import com.urbainski.sql.jdbc.CachingQueryExecutor;
+import com.urbainski.sql.jdbc.DtoRowMapperFactory;
+import com.urbainski.sql.jdbc.EntityRowMapper;
+import com.urbainski.sql.jdbc.QueryExecutor;
+import com.urbainski.sql.jdbc.QueryResultCache;
 import com.urbainski.test.app.dao.generic.GenericDAO;
 import com.urbainski.test.app.util.EntityManagerUtil;
 
@@ -26,6 +44,35 @@ import com.urbainski.test.app.util.EntityManagerUtil;
 @SuppressWarnings("unchecked")
 public class GenericDAOImpl<PK, T> implements GenericDAO<PK, T> {
 	
+	/**
+	 * Dialeto do banco de dados da aplicação.
+	 */
+	protected static final Dialect DIALECT = DerbyDialect.INSTANCE;
+	
+	/**
+	 * Cache do sql gerado de cada forma de consulta, compartilhado por todos os daos.
+	 */
+	protected static final SQLTemplateCache SQL_TEMPLATES = new SQLTemplateCache(DIALECT);
+	
+	/**
+	 * Conversores das linhas das consultas em dtos, compartilhados por todos os daos.
+	 */
+	protected static final DtoRowMapperFactory DTO_MAPPERS = new DtoRowMapperFactory();
+	
+	/**
+	 * Cache dos resultados das consultas por jdbc, compartilhado por todos os daos
+	 * e invalidado pelas escritas de cada dao.
+	 */
+	protected static final QueryResultCache RESULT_CACHE = 
+			new QueryResultCache(QueryResultCache.DEFAULT_MAX_SIZE, 10, TimeUnit.MINUTES);
+	
+	/**
+	 * Entidades escritas na transação atual de cada {@link EntityManager}, para invalidar o
+	 * cache no commit ou no rollback feito por qualquer dao que use o mesmo {@link EntityManager}.
+	 */
+	private static final Map<EntityManager, Set<Class<?>>> WRITTEN_ENTITIES = 
+			new IdentityHashMap<EntityManager, Set<Class<?>>>();
+	
 	/**
 	 * {@link EntityManager}.
 	 */
@@ -36,6 +83,16 @@ public class GenericDAOImpl<PK, T> implements GenericDAO<PK, T> {
 	 */
 	protected Class<?> entityClass;
 	
+	/**
+	 * Propriedade do id da entidade ou <code>null</code> se a entidade não possuir id.
+	 */
+	protected String propertyId;
+	
+	/**
+	 * Consulta compilada da busca pelo id ou <code>null</code> se a entidade não possuir id.
+	 */
+	protected CompiledSelect findByIdSelect;
+	
 	/**
 	 * Construtor padrão da classe.
 	 */
@@ -44,54 +101,89 @@ public class GenericDAOImpl<PK, T> implements GenericDAO<PK, T> {
 		this.entityClass = (Class<T>) 
 				((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[1];
 
+		this.propertyId = getIdOfEntity();
+		if (propertyId != null) {
+			SelectBuilder sqlBuilder = new SelectBuilder(this.entityClass);
+			sqlBuilder.where(ConditionDBTypes.EQUALS, propertyId, (Object) null);
+			this.findByIdSelect = sqlBuilder.compile(DIALECT);
+		}
 	}
 
 	@Override
 	public T save(T obj) {
 		this.entityManager.persist(obj);
+		invalidateResults();
 		return obj;
 	}
 
 	@Override
 	public T update(T obj) {
 		this.entityManager.merge(obj);
+		invalidateResults();
 		return obj;
 	}
 
 	@Override
 	public void delete(PK id) {
 		this.entityManager.remove(this.entityManager.getReference(this.entityClass, id));
+		invalidateResults();
 	}
 
 	@Override
 	public List<T> findAll() {
 		SelectBuilder sqlBuilder = new SelectBuilder(this.entityClass);
 		
-		Query q = this.entityManager.createNativeQuery(sqlBuilder.buildSQL(), this.entityClass);
+		Query q = createNativeQuery(sqlBuilder, this.entityClass);
 		return q.getResultList();
 	}
 
+	@Override
+	public Stream<T> streamAll(int fetchSize) {
+		SelectBuilder sqlBuilder = new SelectBuilder(this.entityClass);
+		
+		return getQueryExecutor().stream(sqlBuilder, new EntityRowMapper<T>((Class<T>) this.entityClass), fetchSize);
+	}
+
 	@Override
 	public List<T> findAll(int offset, int limit) {
 		SelectBuilder sqlBuilder = new SelectBuilder(this.entityClass);
+		if (propertyId != null) {
+			sqlBuilder.orderBy().addField(propertyId);
+		}
 		sqlBuilder.offset(offset);
 		sqlBuilder.limit(limit);
 		
-		Query q = this.entityManager.createNativeQuery(sqlBuilder.buildSQL(), this.entityClass);
+		Query q = createNativeQuery(sqlBuilder, this.entityClass);
 		return q.getResultList();
 	}
 
 	@Override
-	public T findById(PK id) {
-		String propertyId = getIdOfEntity();
-		if (propertyId == null) {
-			throw new IllegalStateException("Entidade " + entityClass.getName() + " não possui id mapeado.");
-		}
+	public List<T> findAll(Page page) {
+		checkId();
 		
 		SelectBuilder sqlBuilder = new SelectBuilder(this.entityClass);
-		sqlBuilder.where(ConditionDBTypes.EQUALS, propertyId, id);
+		sqlBuilder.orderBy().addField(propertyId);
+		sqlBuilder.page(page);
+		
+		Query q = createNativeQuery(sqlBuilder, this.entityClass);
+		return q.getResultList();
+	}
+	
+	@Override
+	public Page nextPage(Page page, List<T> result) {
+		if (result.size() < page.getSize()) {
+			return null;
+		}
+		
+		final T last = result.get(result.size() - 1);
+		return page.next(this.entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(last));
+	}
+
+	@Override
+	public T findById(PK id) {
+		checkId();
 		
-		Query q = this.entityManager.createNativeQuery(sqlBuilder.buildSQL(), this.entityClass);
+		Query q = createNativeQuery(findByIdSelect.bind(id), this.entityClass);
 		return (T) q.getSingleResult();
 	}
 
@@ -102,12 +194,132 @@ public class GenericDAOImpl<PK, T> implements GenericDAO<PK, T> {
 
 	@Override
 	public void commit() {
-		this.entityManager.getTransaction().commit();
+		try {
+			this.entityManager.getTransaction().commit();
+		} finally {
+			invalidateWrittenResults();
+		}
 	}
 
 	@Override
 	public void rollback() {
-		this.entityManager.getTransaction().rollback();
+		try {
+			this.entityManager.getTransaction().rollback();
+		} finally {
+			invalidateWrittenResults();
+		}
+	}
+
+	/**
+	 * Retorna o executor das consultas por jdbc, que não passam pelo contexto de
+	 * persistência.
+	 * 
+	 * @return {@link QueryExecutor}
+	 */
+	protected static QueryExecutor getQueryExecutor() {
+		return ExecutorHolder.QUERY_EXECUTOR;
+	}
+
+	/**
+	 * Retorna o executor das consultas por jdbc que guarda os resultados no
+	 * {@link #RESULT_CACHE}, para as consultas de dados que mudam pouco.
+	 * 
+	 * @return {@link CachingQueryExecutor}
+	 */
+	protected static CachingQueryExecutor getCachingQueryExecutor() {
+		return ExecutorHolder.CACHING_QUERY_EXECUTOR;
+	}
+
+	/**
+	 * Método que descarta os resultados guardados das consultas que leem a tabela
+	 * da entidade. Como as consultas por jdbc usam outras conexões e só enxergam a
+	 * escrita depois do commit, o cache é invalidado de novo no {@link #commit()}.
+	 */
+	protected void invalidateResults() {
+		synchronized (WRITTEN_ENTITIES) {
+			Set<Class<?>> written = WRITTEN_ENTITIES.get(this.entityManager);
+			if (written == null) {
+				written = new HashSet<Class<?>>();
+				WRITTEN_ENTITIES.put(this.entityManager, written);
+			}
+			written.add(this.entityClass);
+		}
+		RESULT_CACHE.invalidate(this.entityClass);
+	}
+
+	/**
+	 * Método que descarta os resultados guardados das entidades escritas na transação
+	 * do {@link EntityManager} por qualquer dao, depois do fim da transação.
+	 */
+	private void invalidateWrittenResults() {
+		final Set<Class<?>> written;
+		synchronized (WRITTEN_ENTITIES) {
+			written = WRITTEN_ENTITIES.remove(this.entityManager);
+		}
+		if (written != null) {
+			for (Class<?> writtenClass : written) {
+				RESULT_CACHE.invalidate(writtenClass);
+			}
+		}
+	}
+
+	/**
+	 * Método que cria uma consulta nativa com os valores do sql como parametros,
+	 * permitindo que o banco de dados reutilize o mesmo plano entre as chamadas.
+	 * 
+	 * @param sql - sql da consulta
+	 * 
+	 * @return {@link Query}
+	 */
+	protected Query createNativeQuery(SQL sql) {
+		return createNativeQuery(sql, null);
+	}
+	
+	/**
+	 * Método que cria uma consulta nativa com os valores do sql como parametros,
+	 * permitindo que o banco de dados reutilize o mesmo plano entre as chamadas.
+	 * O sql de cada forma de consulta é gerado apenas uma vez.
+	 * 
+	 * @param sql - sql da consulta
+	 * @param resultClass - classe do resultado ou <code>null</code>
+	 * 
+	 * @return {@link Query}
+	 */
+	protected Query createNativeQuery(SQL sql, Class<?> resultClass) {
+		return createNativeQuery(SQL_TEMPLATES.buildBoundSQL(sql), resultClass);
+	}
+	
+	/**
+	 * Método que cria uma consulta nativa com o sql e os parametros informados,
+	 * por exemplo os de um {@link CompiledSelect}.
+	 * 
+	 * @param boundSql - sql e parametros da consulta
+	 * @param resultClass - classe do resultado ou <code>null</code>
+	 * 
+	 * @return {@link Query}
+	 */
+	protected Query createNativeQuery(BoundSql boundSql, Class<?> resultClass) {
+		Query q = null;
+		if (resultClass == null) {
+			q = this.entityManager.createNativeQuery(boundSql.getSql());
+		} else {
+			q = this.entityManager.createNativeQuery(boundSql.getSql(), resultClass);
+		}
+		
+		final Object[] values = boundSql.getValues();
+		for (int i = 0; i < values.length; i++) {
+			q.setParameter(i + 1, values[i]);
+		}
+		return q;
+	}
+
+	/**
+	 * Valida se a entidade possui id mapeado.
+	 */
+	private void checkId() {
+		if (propertyId == null) {
+			throw new IllegalStateException("Entidade " + entityClass.getName() + " não possui id mapeado.");
+		}
 	}
 
 	/**
@@ -124,4 +336,24 @@ public class GenericDAOImpl<PK, T> implements GenericDAO<PK, T> {
 		return null;
 	}
 	
-}
\ No newline at end of file
+	/**
+	 * Executores das consultas por jdbc, compartilhados por todos os daos e criados uma única
+	 * vez, na inicialização da classe, no primeiro uso.
+	 */
+	private static final class ExecutorHolder {
+		
+		/**
+		 * Executor das consultas por jdbc.
+		 */
+		private static final QueryExecutor QUERY_EXECUTOR = 
+				new QueryExecutor(EntityManagerUtil.getDefaultInstance().getDataSource(), DIALECT);
+		
+		/**
+		 * Executor das consultas por jdbc com cache dos resultados.
+		 */
+		private static final CachingQueryExecutor CACHING_QUERY_EXECUTOR = 
+				new CachingQueryExecutor(QUERY_EXECUTOR, RESULT_CACHE);
+		
+	}
+	
+}
@@ -1,8 +1,13 @@
 package com.urbainski.test.app.util;
 
+import java.util.Map;
+
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
+import javax.sql.DataSource;
+
+import org.apache.derby.jdbc.EmbeddedDataSource;
 
 /**
  * Classe utilitária para criação de um {@link EntityManager} único.
@@ -29,6 +34,11 @@ public final class EntityManagerUtil {
 	 */
 	private EntityManager entityManager;
 	
+	/**
+	 * Fonte das conexões do mesmo banco de dados da unidade de persistência.
+	 */
+	private DataSource dataSource;
+	
 	/**
 	 * Construtor padrão privado.
 	 */
@@ -76,4 +86,40 @@ public final class EntityManagerUtil {
 		return entityManagerFactory;
 	}
 	
+	/**
+	 * Retorna a fonte das conexões jdbc do mesmo banco de dados da unidade de
+	 * persistência, para as consultas executadas sem passar pela jpa. As consultas
+	 * por esta fonte leem apenas os dados já comitados pelo {@link EntityManager}.
+	 * 
+	 * @return {@link DataSource}
+	 */
+	public DataSource getDataSource() {
+		if (dataSource == null) {
+			createDataSource();
+		}
+		return dataSource;
+	}
+	
+	/**
+	 * Método responsável por criar a fonte das conexões a partir das propriedades
+	 * jdbc da unidade de persistência.
+	 */
+	private void createDataSource() {
+		final Map<String, Object> properties = this.entityManagerFactory.getProperties();
+		final String url = (String) properties.get("javax.persistence.jdbc.url");
+		final String database = url.substring("jdbc:derby:".length());
+		final int attributes = database.indexOf(';');
+		
+		EmbeddedDataSource ds = new EmbeddedDataSource();
+		if (attributes < 0) {
+			ds.setDatabaseName(database);
+		} else {
+			ds.setDatabaseName(database.substring(0, attributes));
+			ds.setConnectionAttributes(database.substring(attributes + 1));
+		}
+		ds.setUser((String) properties.get("javax.persistence.jdbc.user"));
+		ds.setPassword((String) properties.get("javax.persistence.jdbc.password"));
+		this.dataSource = ds;
+	}
+	
 }
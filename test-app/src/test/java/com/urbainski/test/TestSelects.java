@@ -1,13 +1,25 @@
 package com.urbainski.test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.urbainski.sql.builder.Page;
 import com.urbainski.test.app.dao.ClienteDAO;
+import com.urbainski.test.app.dao.GeneroDAO;
+import com.urbainski.test.app.dao.LocacaoDAO;
 import com.urbainski.test.app.dao.MidiaDAO;
+import com.urbainski.test.app.dao.TipolocacoesDAO;
+import com.urbainski.test.app.dao.TipomidiaDAO;
 import com.urbainski.test.app.dto.DtoMidia;
+import com.urbainski.test.app.entidade.Locacao;
+import com.urbainski.test.app.entidade.Midia;
+import com.urbainski.test.app.entidade.Midia.SituacaoMidia;
 import com.urbainski.test.generic.AbstractGenericTest;
 
 /**
@@ -32,6 +44,31 @@ public class TestSelects extends AbstractGenericTest {
 		}
 	}
 	
+	@Test
+	public void testCacheInvalidadoPelaEscrita() {
+		MidiaDAO midiaDAO = new MidiaDAO();
+		
+		List<DtoMidia> antes = midiaDAO.countMidiasPorTipo();
+		Assert.assertSame(antes, midiaDAO.countMidiasPorTipo());
+		
+		Midia midia = new Midia();
+		midia.setDsMidia("Filme novo");
+		midia.setStMidia(SituacaoMidia.DISPONIVEL);
+		midia.setGenero(new GeneroDAO().findAll().get(0));
+		midia.setTipolocacoes(new TipolocacoesDAO().findAll().get(0));
+		midia.setTipomidia(new TipomidiaDAO().findAll().get(0));
+		
+		midiaDAO.begin();
+		midiaDAO.save(midia);
+		midiaDAO.commit();
+		
+		List<DtoMidia> depois = midiaDAO.countMidiasPorTipo();
+		Assert.assertNotSame(antes, depois);
+		
+		final String tipomidia = midia.getTipomidia().getDsTipomidia();
+		Assert.assertEquals(quantidadeDoTipo(antes, tipomidia) + 1, quantidadeDoTipo(depois, tipomidia));
+	}
+	
 	@Test
 	public void testGetTopDezClientes() {
 		try {
@@ -41,4 +78,81 @@ public class TestSelects extends AbstractGenericTest {
 			e.printStackTrace();
 		}
 	}
-}
\ No newline at end of file
+	
+	@Test
+	public void testPaginacaoPorChave() {
+		LocacaoDAO locacaoDAO = new LocacaoDAO();
+		
+		final Set<Integer> ids = new HashSet<Integer>();
+		int total = 0;
+		for (Page page = Page.first(7); page != null; ) {
+			List<Locacao> list = locacaoDAO.findAll(page);
+			for (Locacao l : list) {
+				ids.add(l.getIdLocacao());
+			}
+			total += list.size();
+			page = locacaoDAO.nextPage(page, list);
+		}
+		
+		Assert.assertEquals(locacaoDAO.findAll().size(), total);
+		Assert.assertEquals(total, ids.size());
+	}
+	
+	@Test
+	public void testPaginacaoPorOffset() {
+		LocacaoDAO locacaoDAO = new LocacaoDAO();
+		
+		List<Integer> todas = ids(locacaoDAO.findAll(0, Integer.MAX_VALUE));
+		List<Integer> pagina = ids(locacaoDAO.findAll(10, 5));
+		
+		Assert.assertTrue(todas.size() > 15);
+		Assert.assertEquals(todas.subList(10, 15), pagina);
+	}
+	
+	@Test
+	public void testExportacaoPorStream() {
+		LocacaoDAO locacaoDAO = new LocacaoDAO();
+		
+		final Set<Integer> ids = new HashSet<Integer>();
+		try (Stream<Locacao> locacoes = locacaoDAO.streamAll(10)) {
+			locacoes.forEach(l -> {
+				Assert.assertNotNull(l.getStLocacao());
+				ids.add(l.getIdLocacao());
+			});
+		}
+		
+		Assert.assertEquals(locacaoDAO.findAll().size(), ids.size());
+	}
+	
+	/**
+	 * Método que retorna os ids das locações, na ordem da lista.
+	 * 
+	 * @param list - locações
+	 * 
+	 * @return ids das locações
+	 */
+	private static List<Integer> ids(List<Locacao> list) {
+		final List<Integer> ids = new ArrayList<Integer>(list.size());
+		for (Locacao l : list) {
+			ids.add(l.getIdLocacao());
+		}
+		return ids;
+	}
+	
+	/**
+	 * Método que retorna a quantidade de mídias do grupo do tipo informado.
+	 * 
+	 * @param list - quantidade de mídias por tipo
+	 * @param tipomidia - descrição do tipo de mídia
+	 * 
+	 * @return quantidade de mídias, zero se o tipo não possuir mídias
+	 */
+	private static int quantidadeDoTipo(List<DtoMidia> list, String tipomidia) {
+		for (DtoMidia dto : list) {
+			if (tipomidia.equals(dto.getTipomidia())) {
+				return dto.getQuantidade();
+			}
+		}
+		return 0;
+	}
+}